@@ -0,0 +1,70 @@
+package grit.stockIt.benchmark;
+
+import grit.stockIt.domain.account.service.AccountValuationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 계좌 평가(AccountValuationService) 벤치마크
+ * - reloadAll: 기동/정합성 보정 시 전체 계좌 재적재 비용
+ * - applyPriceTick: 실시간 체결 1건당 보유 계좌 재평가 비용 (SampleTime으로 p50/p99 확인)
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AccountValuationBenchmark {
+
+    @Param({"1000", "10000"})
+    private int members;
+
+    @Param({"5"})
+    private int contests;
+
+    @Param({"5", "20"})
+    private int holdings;
+
+    private AccountValuationService valuationService;
+    private List<String> stockCodes;
+    private int tick;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        RankingDataset dataset = RankingDataset.generate(members, contests, holdings);
+        valuationService = new AccountValuationService(
+                dataset.accountRepository(),
+                dataset.accountStockRepository(),
+                new InMemoryMarketDataRepository(dataset.prices()),
+                null);
+        dataset.prices().forEach(valuationService::applyPrice);
+        valuationService.reloadAll();
+        stockCodes = dataset.stocks().stream().map(stock -> stock.getCode()).toList();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public int reloadAll() {
+        valuationService.reloadAll();
+        return valuationService.getAllValuations().size();
+    }
+
+    @Benchmark
+    @BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+    public Set<Long> applyPriceTick() {
+        // 매 호출마다 다른 종목, 다른 가격 (같은 가격이면 재평가를 건너뛰므로)
+        int index = tick++;
+        String stockCode = stockCodes.get(index % stockCodes.size());
+        return valuationService.applyPrice(stockCode, BigDecimal.valueOf(10_000 + index % 9_973));
+    }
+}
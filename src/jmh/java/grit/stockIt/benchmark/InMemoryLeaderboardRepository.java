@@ -0,0 +1,170 @@
+package grit.stockIt.benchmark;
+
+import grit.stockIt.domain.ranking.dto.LeaderboardEntry;
+import grit.stockIt.domain.ranking.repository.RedisLeaderboardRepository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Redis 없이 리더보드 연산을 재현하는 메모리 구현 (벤치마크 전용)
+ * - 정렬 규칙은 ZSET 역순 조회와 동일: 점수 내림차순, 동점은 member 문자열 역순
+ * - 측정 대상은 서비스 계층 비용이며 Redis 왕복 시간은 포함하지 않음
+ * - 순위 계산(headSet 크기)은 O(n)이므로 순위 조회 수치는 Redis(O(log n))보다 보수적으로 나옴
+ */
+public class InMemoryLeaderboardRepository extends RedisLeaderboardRepository {
+
+    private static final Comparator<LeaderboardEntry> ORDER = Comparator
+            .comparingDouble(LeaderboardEntry::score).reversed()
+            .thenComparing(entry -> String.valueOf(entry.accountId()), Comparator.reverseOrder());
+
+    private final Map<String, Board> boards = new HashMap<>();
+
+    public InMemoryLeaderboardRepository() {
+        super(null);
+    }
+
+    @Override
+    public synchronized void upsertAll(Map<String, Map<Long, Double>> scoresByKey) {
+        scoresByKey.forEach((key, scores) -> scores.forEach(board(key)::put));
+    }
+
+    @Override
+    public boolean addDirtyAccounts(Collection<Long> accountIds) {
+        return true;
+    }
+
+    @Override
+    public Set<Long> popDirtyAccounts(long max) {
+        return Set.of();
+    }
+
+    @Override
+    public synchronized void remove(String key, Long accountId) {
+        board(key).remove(accountId);
+    }
+
+    @Override
+    public synchronized List<LeaderboardEntry> range(String key, long start, long end) {
+        List<LeaderboardEntry> entries = new ArrayList<>();
+        Board board = boards.get(key);
+        if (board == null) {
+            return entries;
+        }
+        long last = end < 0 ? board.sorted.size() + end : end;
+        long index = 0;
+        for (Iterator<LeaderboardEntry> iterator = board.sorted.iterator(); iterator.hasNext() && index <= last; index++) {
+            LeaderboardEntry entry = iterator.next();
+            if (index >= start) {
+                entries.add(entry);
+            }
+        }
+        return entries;
+    }
+
+    @Override
+    public synchronized Double score(String key, Long accountId) {
+        Board board = boards.get(key);
+        return board != null ? board.scores.get(accountId) : null;
+    }
+
+    @Override
+    public synchronized Map<Long, Double> scores(String key, List<Long> accountIds) {
+        Map<Long, Double> result = new HashMap<>();
+        for (Long accountId : accountIds) {
+            Double score = score(key, accountId);
+            if (score != null) {
+                result.put(accountId, score);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public synchronized long positionAfter(String key, double score, Long accountId) {
+        Board board = boards.get(key);
+        if (board == null) {
+            return 0L;
+        }
+        return board.sorted.headSet(new LeaderboardEntry(accountId, score), true).size();
+    }
+
+    @Override
+    public synchronized Long rankOf(String key, Long accountId) {
+        Double score = score(key, accountId);
+        if (score == null) {
+            return null;
+        }
+        return countAtLeast(key, Math.nextUp(score)) + 1;
+    }
+
+    @Override
+    public synchronized Map<Long, Long> ranksOf(String key, Map<Long, Double> scores) {
+        Map<Long, Long> result = new HashMap<>();
+        scores.forEach((accountId, score) -> result.put(accountId, countAtLeast(key, Math.nextUp(score)) + 1));
+        return result;
+    }
+
+    @Override
+    public synchronized Long positionOf(String key, Long accountId) {
+        Double score = score(key, accountId);
+        if (score == null) {
+            return null;
+        }
+        return (long) boards.get(key).sorted.headSet(new LeaderboardEntry(accountId, score), false).size();
+    }
+
+    @Override
+    public synchronized long size(String key) {
+        Board board = boards.get(key);
+        return board != null ? board.scores.size() : 0L;
+    }
+
+    @Override
+    public synchronized void replaceAll(String key, Map<Long, Double> scores) {
+        Board board = new Board();
+        scores.forEach(board::put);
+        boards.put(key, board);
+    }
+
+    // 지정 점수 이상인 항목 수
+    private long countAtLeast(String key, double score) {
+        Board board = boards.get(key);
+        if (board == null) {
+            return 0L;
+        }
+        return board.sorted.headSet(new LeaderboardEntry(Long.MIN_VALUE, score), true).size();
+    }
+
+    private Board board(String key) {
+        return boards.computeIfAbsent(key, k -> new Board());
+    }
+
+    private static final class Board {
+        private final Map<Long, Double> scores = new HashMap<>();
+        private final NavigableSet<LeaderboardEntry> sorted = new TreeSet<>(ORDER);
+
+        void put(Long accountId, double score) {
+            Double previous = scores.put(accountId, score);
+            if (previous != null) {
+                sorted.remove(new LeaderboardEntry(accountId, previous));
+            }
+            sorted.add(new LeaderboardEntry(accountId, score));
+        }
+
+        void remove(Long accountId) {
+            Double previous = scores.remove(accountId);
+            if (previous != null) {
+                sorted.remove(new LeaderboardEntry(accountId, previous));
+            }
+        }
+    }
+}
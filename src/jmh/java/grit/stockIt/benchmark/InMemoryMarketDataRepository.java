@@ -0,0 +1,36 @@
+package grit.stockIt.benchmark;
+
+import grit.stockIt.domain.matching.repository.RedisMarketDataRepository;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Redis 없이 마지막 체결가 조회를 재현하는 메모리 구현 (벤치마크 전용)
+ * - reloadAll은 메모리 시세를 모두 오래된 것으로 보고 다시 조회하므로, 데이터셋 시세를 그대로 돌려줌
+ * - KIS 조회까지 내려가지 않도록 데이터셋의 모든 종목 시세를 가지고 있어야 함
+ */
+public class InMemoryMarketDataRepository extends RedisMarketDataRepository {
+
+    private final Map<String, BigDecimal> prices;
+
+    public InMemoryMarketDataRepository(Map<String, BigDecimal> prices) {
+        super(null, null);
+        this.prices = prices;
+    }
+
+    @Override
+    public Mono<Map<String, BigDecimal>> findLastPrices(Collection<String> stockCodes) {
+        Map<String, BigDecimal> found = new HashMap<>();
+        for (String stockCode : stockCodes) {
+            BigDecimal price = prices.get(stockCode);
+            if (price != null) {
+                found.put(stockCode, price);
+            }
+        }
+        return Mono.just(found);
+    }
+}
@@ -0,0 +1,108 @@
+package grit.stockIt.benchmark;
+
+import grit.stockIt.domain.account.service.AccountValuationService;
+import grit.stockIt.domain.mission.service.MissionService;
+import grit.stockIt.domain.ranking.dto.MyRankDto;
+import grit.stockIt.domain.ranking.dto.RankingResponse;
+import grit.stockIt.domain.ranking.service.LeaderboardUpdateService;
+import grit.stockIt.domain.ranking.service.RankingService;
+import grit.stockIt.global.websocket.relay.ClusterLeadership;
+import grit.stockIt.global.websocket.relay.MarketFeedLeaderElector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 리더보드 벤치마크
+ * - rebuildLeaderboard: 전체 계좌 평가 + 모든 랭킹 키 재구성
+ * - myRank: 내 순위 + 앞뒤 참가자 조회 (SampleTime으로 p50/p99 확인)
+ * - mainRankings: Main 전체 랭킹 조회
+ * 리더보드는 InMemoryLeaderboardRepository를 사용하므로 Redis 왕복 시간은 제외된 수치
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LeaderboardBenchmark {
+
+    @Param({"1000", "10000"})
+    private int members;
+
+    @Param({"5"})
+    private int contests;
+
+    @Param({"10"})
+    private int holdings;
+
+    private LeaderboardUpdateService leaderboardUpdateService;
+    private RankingService rankingService;
+    private long memberId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        RankingDataset dataset = RankingDataset.generate(members, contests, holdings);
+        InMemoryLeaderboardRepository leaderboardRepository = new InMemoryLeaderboardRepository();
+
+        AccountValuationService valuationService = new AccountValuationService(
+                dataset.accountRepository(),
+                dataset.accountStockRepository(),
+                new InMemoryMarketDataRepository(dataset.prices()),
+                null);
+        dataset.prices().forEach(valuationService::applyPrice);
+
+        // 단일 노드 모드 (feed 리더 선출 없이 항상 리더)
+        ClusterLeadership clusterLeadership = new ClusterLeadership(
+                new StaticListableBeanFactory().getBeanProvider(MarketFeedLeaderElector.class));
+        leaderboardUpdateService = new LeaderboardUpdateService(valuationService, leaderboardRepository, event -> {
+        }, clusterLeadership);
+        leaderboardUpdateService.rebuildAll();
+
+        // 회원 티어 스냅샷이 채워져 있으므로 MissionService는 스냅샷만 반환 (저장소 사용 없음)
+        MissionService missionService = new MissionService(null, null, null, null, null, null, null, null);
+        rankingService = new RankingService(
+                dataset.accountRepository(),
+                dataset.contestRepository(),
+                missionService,
+                leaderboardRepository,
+                leaderboardUpdateService);
+        setField(rankingService, "neighborCount", 2);
+        setField(rankingService, "maxPageSize", 100);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void rebuildLeaderboard() {
+        leaderboardUpdateService.rebuildAll();
+    }
+
+    @Benchmark
+    @BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+    public MyRankDto myRank() {
+        memberId = memberId % members + 1;
+        return rankingService.getMyRank(memberId, null);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public RankingResponse mainRankings() {
+        return rankingService.getMainRankings();
+    }
+
+    // @Value 기본값 주입 (스프링 컨텍스트 없이 생성하므로)
+    private static void setField(Object target, String name, Object value) {
+        Field field = ReflectionUtils.findField(target.getClass(), name);
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, target, value);
+    }
+}
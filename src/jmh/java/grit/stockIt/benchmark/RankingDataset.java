@@ -0,0 +1,191 @@
+package grit.stockIt.benchmark;
+
+import grit.stockIt.domain.account.entity.Account;
+import grit.stockIt.domain.account.entity.AccountStock;
+import grit.stockIt.domain.account.repository.AccountRepository;
+import grit.stockIt.domain.account.repository.AccountStockRepository;
+import grit.stockIt.domain.contest.entity.Contest;
+import grit.stockIt.domain.contest.repository.ContestRepository;
+import grit.stockIt.domain.member.entity.Member;
+import grit.stockIt.domain.stock.entity.Stock;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * 랭킹 벤치마크용 고정 시드 데이터셋
+ * - 회원마다 Main 계좌 1개 + 대회 계좌 1개 (대회는 회원 ID 기준으로 균등 배분)
+ * - 계좌마다 보유 종목 holdingsPerAccount개
+ * - 같은 파라미터면 항상 같은 계좌/보유 종목/시세가 만들어지므로 실행 간 결과 비교 가능
+ */
+public final class RankingDataset {
+
+    private static final long SEED = 20251019L;
+    private static final long MAIN_CONTEST_ID = 1L;
+    private static final long SEED_MONEY = 10_000_000L;
+    private static final int STOCK_UNIVERSE = 500;
+
+    private final List<Member> members = new ArrayList<>();
+    private final List<Account> accounts = new ArrayList<>();
+    private final List<AccountStock> holdings = new ArrayList<>();
+    private final List<Stock> stocks = new ArrayList<>();
+    private final Map<String, BigDecimal> prices = new HashMap<>();
+
+    private RankingDataset() {
+    }
+
+    public static RankingDataset generate(int memberCount, int contestCount, int holdingsPerAccount) {
+        RankingDataset dataset = new RankingDataset();
+        Random random = new Random(SEED);
+
+        for (int i = 0; i < STOCK_UNIVERSE; i++) {
+            String code = "%06d".formatted(i + 1);
+            dataset.stocks.add(Stock.builder().code(code).name("종목" + code).marketType("KOSPI").build());
+            dataset.prices.put(code, BigDecimal.valueOf(1_000 + random.nextInt(200_000)));
+        }
+
+        Contest mainContest = contest(MAIN_CONTEST_ID, "Main", true);
+        List<Contest> contests = new ArrayList<>();
+        for (int i = 0; i < contestCount; i++) {
+            contests.add(contest(MAIN_CONTEST_ID + i + 1, "대회" + (i + 1), false));
+        }
+
+        long accountId = 1L;
+        for (long memberId = 1; memberId <= memberCount; memberId++) {
+            Member member = Member.builder()
+                    .memberId(memberId)
+                    .name("회원" + memberId)
+                    .email("member" + memberId + "@stockit.test")
+                    .tier("GOLD 1")
+                    .build();
+            dataset.members.add(member);
+
+            dataset.addAccount(random, accountId++, member, mainContest, true, holdingsPerAccount);
+            if (!contests.isEmpty()) {
+                Contest contest = contests.get((int) (memberId % contests.size()));
+                dataset.addAccount(random, accountId++, member, contest, false, holdingsPerAccount);
+            }
+        }
+        return dataset;
+    }
+
+    public List<Member> members() {
+        return members;
+    }
+
+    public List<Account> accounts() {
+        return accounts;
+    }
+
+    public List<Stock> stocks() {
+        return stocks;
+    }
+
+    public Map<String, BigDecimal> prices() {
+        return prices;
+    }
+
+    // ==================== 저장소 대역 ====================
+
+    /**
+     * 평가/랭킹 서비스가 사용하는 조회 메서드만 메모리 데이터로 응답하는 AccountRepository
+     */
+    public AccountRepository accountRepository() {
+        return stub(AccountRepository.class, (name, args) -> switch (name) {
+            case "findAllWithContest" -> accounts;
+            case "findAllWithContestByAccountIdIn", "findAllWithMemberByAccountIdIn" -> {
+                Set<Long> ids = new HashSet<>(asIds(args[0]));
+                yield accounts.stream().filter(account -> ids.contains(account.getAccountId())).toList();
+            }
+            case "findByMemberIdAndIsDefaultTrue" -> accounts.stream()
+                    .filter(account -> account.getMember().getMemberId().equals(args[0]) && account.getIsDefault())
+                    .findFirst();
+            default -> throw new UnsupportedOperationException(name);
+        });
+    }
+
+    public AccountStockRepository accountStockRepository() {
+        return stub(AccountStockRepository.class, (name, args) -> switch (name) {
+            case "findAllHoldingsWithStock" -> holdings;
+            case "findHoldingsWithStockByAccountIdIn" -> {
+                Set<Long> ids = new HashSet<>(asIds(args[0]));
+                yield holdings.stream().filter(holding -> ids.contains(holding.getAccount().getAccountId())).toList();
+            }
+            default -> throw new UnsupportedOperationException(name);
+        });
+    }
+
+    public ContestRepository contestRepository() {
+        return stub(ContestRepository.class, (name, args) -> {
+            throw new UnsupportedOperationException(name);
+        });
+    }
+
+    // ==================== Private 헬퍼 메서드 ====================
+
+    private void addAccount(Random random, long accountId, Member member, Contest contest,
+                            boolean isDefault, int holdingsPerAccount) {
+        Account account = Account.builder()
+                .accountId(accountId)
+                .member(member)
+                .contest(contest)
+                .accountName(contest.getContestName() + "-" + member.getMemberId())
+                .cash(BigDecimal.valueOf(random.nextInt((int) SEED_MONEY)))
+                .isDefault(isDefault)
+                .build();
+        accounts.add(account);
+
+        Set<Integer> picked = new HashSet<>();
+        while (picked.size() < Math.min(holdingsPerAccount, STOCK_UNIVERSE)) {
+            picked.add(random.nextInt(STOCK_UNIVERSE));
+        }
+        for (int index : picked) {
+            Stock stock = stocks.get(index);
+            BigDecimal averagePrice = prices.get(stock.getCode());
+            holdings.add(AccountStock.create(account, stock, 1 + random.nextInt(100), averagePrice));
+        }
+    }
+
+    private static Contest contest(long contestId, String name, boolean isDefault) {
+        return Contest.builder()
+                .contestId(contestId)
+                .contestName(name)
+                .isDefault(isDefault)
+                .seedMoney(SEED_MONEY)
+                .startDate(LocalDateTime.of(2025, 1, 1, 0, 0))
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Collection<Long> asIds(Object arg) {
+        return (Collection<Long>) arg;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(Class<T> type, StubHandler handler) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> type.getSimpleName() + "Stub";
+                };
+            }
+            return handler.handle(method.getName(), args);
+        });
+    }
+
+    @FunctionalInterface
+    private interface StubHandler {
+        Object handle(String methodName, Object[] args);
+    }
+}
@@ -0,0 +1,35 @@
+package grit.stockIt.domain.account.dto;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+// 계좌 평가 스냅샷 (현금 + 보유 종목 + 시세 기준 총자산)
+public record AccountValuation(
+        Long accountId,
+        Long memberId,                       // 계좌 소유 회원 ID
+        Long contestId,                      // 소속 대회 ID
+        Long seedMoney,                      // 대회 시드머니 (수익률 계산용)
+        boolean isDefault,                   // Main 계좌 여부
+        BigDecimal cash,                     // 현금
+        Map<String, Position> positions,     // 종목코드 -> 보유 정보
+        BigDecimal totalAssets               // 총자산 (현금 + Σ 보유수량 × 평가가)
+) {
+    public record Position(
+            int quantity,                    // 보유 수량
+            BigDecimal averagePrice          // 평단가 (시세가 없을 때 평가가로 사용)
+    ) {}
+
+    // 시세 변경 후 총자산 재계산
+    public AccountValuation revalue(Map<String, BigDecimal> markPrices) {
+        BigDecimal stockValue = BigDecimal.ZERO;
+        for (Map.Entry<String, Position> entry : positions.entrySet()) {
+            Position position = entry.getValue();
+            BigDecimal price = markPrices.get(entry.getKey());
+            if (price == null || price.compareTo(BigDecimal.ZERO) <= 0) {
+                price = position.averagePrice() != null ? position.averagePrice() : BigDecimal.ZERO;
+            }
+            stockValue = stockValue.add(price.multiply(BigDecimal.valueOf(position.quantity())));
+        }
+        return new AccountValuation(accountId, memberId, contestId, seedMoney, isDefault, cash, positions, cash.add(stockValue));
+    }
+}
@@ -0,0 +1,13 @@
+package grit.stockIt.domain.account.dto;
+
+import java.math.BigDecimal;
+
+// 대회 단위 집계 쿼리 결과 (계좌별 총자산 + 수익률)
+public interface ContestAccountValuation {
+
+    Long getAccountId();
+
+    BigDecimal getTotalAssets();             // 총자산 (현금 + Σ 보유수량 × 평가가)
+
+    BigDecimal getReturnRate();              // 수익률 (%) - 소수점 2자리
+}
@@ -6,11 +6,13 @@ import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import grit.stockIt.domain.account.dto.ContestAccountValuation;
 import grit.stockIt.domain.account.entity.Account;
 import grit.stockIt.domain.member.entity.Member;
 import grit.stockIt.domain.contest.entity.Contest;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.Optional;
 import java.util.List;
 
@@ -96,4 +98,42 @@ public interface AccountRepository extends JpaRepository<Account, Long> {
            "JOIN FETCH a.contest c " +
            "WHERE a.accountId = :accountId")
     Optional<Account> findByIdWithLock(@Param("accountId") Long accountId);
-}
\ No newline at end of file
+
+    // 랭킹 표시용 계좌 일괄 조회 (Member 함께 조회)
+    @Query("SELECT a FROM Account a " +
+           "JOIN FETCH a.member m " +
+           "WHERE a.accountId IN :accountIds")
+    List<Account> findAllWithMemberByAccountIdIn(@Param("accountIds") Collection<Long> accountIds);
+
+    // 리더보드 재구성/갱신용 계좌 조회 (Contest 함께 조회)
+    @Query("SELECT a FROM Account a " +
+           "JOIN FETCH a.contest c " +
+           "WHERE a.accountId IN :accountIds")
+    List<Account> findAllWithContestByAccountIdIn(@Param("accountIds") Collection<Long> accountIds);
+
+    // 리더보드 전체 재구성용 계좌 조회
+    @Query("SELECT a FROM Account a JOIN FETCH a.contest c")
+    List<Account> findAllWithContest();
+
+    /**
+     * 대회 계좌 평가 집계 (대회 계좌 + 보유 종목 + 시세 목록을 한 번에 조인해 계좌별로 합산)
+     * - 시세는 종목코드/가격 배열을 unnest한 목록으로 전달, 시세가 없는 종목은 평단가로 평가
+     * - 총자산과 수익률을 한 번에 계산하므로 대회 규모에 비례한 비용만 듦
+     */
+    @Query(value = "SELECT a.account_id AS accountId, " +
+           "       a.cash + COALESCE(SUM(ast.quantity * COALESCE(p.price, ast.average_price)), 0) AS totalAssets, " +
+           "       CASE WHEN c.seed_money = 0 THEN 0 " +
+           "            ELSE ROUND((a.cash + COALESCE(SUM(ast.quantity * COALESCE(p.price, ast.average_price)), 0) " +
+           "                        - c.seed_money) * 100.0 / c.seed_money, 2) END AS returnRate " +
+           "FROM account a " +
+           "JOIN contest c ON c.contest_id = a.contest_id " +
+           "LEFT JOIN account_stock ast ON ast.account_id = a.account_id AND ast.quantity > 0 " +
+           "LEFT JOIN unnest(CAST(:stockCodes AS varchar[]), CAST(:prices AS numeric[])) AS p(stock_code, price) " +
+           "       ON p.stock_code = ast.stock_code " +
+           "WHERE a.contest_id = :contestId " +
+           "GROUP BY a.account_id, a.cash, c.seed_money",
+           nativeQuery = true)
+    List<ContestAccountValuation> aggregateContestValuations(@Param("contestId") Long contestId,
+                                                             @Param("stockCodes") String[] stockCodes,
+                                                             @Param("prices") BigDecimal[] prices);
+}
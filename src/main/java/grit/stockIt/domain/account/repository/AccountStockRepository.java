@@ -3,11 +3,13 @@ package grit.stockIt.domain.account.repository;
 import grit.stockIt.domain.account.entity.Account;
 import grit.stockIt.domain.account.entity.AccountStock;
 import grit.stockIt.domain.member.entity.Member;
+import grit.stockIt.domain.stock.dto.StockDemandCount;
 import grit.stockIt.domain.stock.entity.Stock;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -33,4 +35,27 @@ public interface AccountStockRepository extends JpaRepository<AccountStock, Long
     // --- [추가] 모든 보유 주식의 중복 제거된 종목 코드 조회 ---
     @Query("SELECT DISTINCT ast.stock.code FROM AccountStock ast WHERE ast.quantity > 0")
     List<String> findDistinctStockCodes();
-}
\ No newline at end of file
+
+    // 종목별 보유 계좌 수
+    @Query("SELECT ast.stock.code AS stockCode, COUNT(ast) AS total FROM AccountStock ast " +
+           "WHERE ast.quantity > 0 " +
+           "GROUP BY ast.stock.code")
+    List<StockDemandCount> countHoldersGroupByStockCode();
+
+    // 대회 계좌들이 보유한 종목 코드 (중복 제거)
+    @Query("SELECT DISTINCT ast.stock.code FROM AccountStock ast " +
+           "WHERE ast.account.contest.contestId = :contestId " +
+           "AND ast.quantity > 0")
+    List<String> findDistinctStockCodesByContestId(@Param("contestId") Long contestId);
+
+    // 리더보드 재구성용 전체 보유 종목 조회 (Stock JOIN FETCH)
+    @Query("SELECT ast FROM AccountStock ast JOIN FETCH ast.stock s WHERE ast.quantity > 0")
+    List<AccountStock> findAllHoldingsWithStock();
+
+    // 여러 계좌의 보유 종목 일괄 조회 (Stock JOIN FETCH)
+    @Query("SELECT ast FROM AccountStock ast " +
+           "JOIN FETCH ast.stock s " +
+           "WHERE ast.account.accountId IN :accountIds " +
+           "AND ast.quantity > 0")
+    List<AccountStock> findHoldingsWithStockByAccountIdIn(@Param("accountIds") Collection<Long> accountIds);
+}
@@ -0,0 +1,308 @@
+package grit.stockIt.domain.account.service;
+
+import grit.stockIt.domain.account.dto.AccountValuation;
+import grit.stockIt.domain.account.dto.ContestAccountValuation;
+import grit.stockIt.domain.account.entity.Account;
+import grit.stockIt.domain.account.entity.AccountStock;
+import grit.stockIt.domain.account.repository.AccountRepository;
+import grit.stockIt.domain.account.repository.AccountStockRepository;
+import grit.stockIt.domain.contest.entity.Contest;
+import grit.stockIt.domain.matching.repository.RedisMarketDataRepository;
+import grit.stockIt.domain.stock.service.StockDetailService;
+import grit.stockIt.global.kis.KisApiGateway;
+import grit.stockIt.global.kis.KisPriority;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 실시간 계좌 평가(mark-to-market) 서비스
+ * - 계좌별 현금/보유 종목/총자산을 메모리에 유지
+ * - 종목코드 -> 보유 계좌 역색인으로 시세 변동 시 해당 종목 보유 계좌만 재평가
+ * - 보유 수량/현금은 체결·보상 이후 해당 계좌만 DB에서 다시 읽어 반영
+ * - 랭킹, 자산 조회가 같은 시세와 평가 방식을 사용
+ * - 트랜잭션을 걸지 않음: DB 조회는 리포지토리 호출마다 짧게 끝나고,
+ *   시세 조회(Redis/KIS 대기)는 커넥션을 잡지 않은 상태에서 수행
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AccountValuationService {
+
+    private final AccountRepository accountRepository;
+    private final AccountStockRepository accountStockRepository;
+    private final RedisMarketDataRepository redisMarketDataRepository;
+    private final StockDetailService stockDetailService;
+
+    private static final Duration KIS_API_TIMEOUT = Duration.ofSeconds(3);
+    private static final int KIS_FETCH_CONCURRENCY = 8; // 시세 조회 동시 호출 수 (호출 제한은 KisApiGateway)
+
+    // 메모리 시세 유효 시간 (실시간 구독이 없는 종목은 이 시간이 지나면 Redis/KIS에서 다시 조회)
+    @Value("${account.valuation.mark-price-ttl-seconds:60}")
+    private long markPriceTtlSeconds;
+
+    // 계좌 ID -> 평가 스냅샷
+    private final Map<Long, AccountValuation> valuations = new ConcurrentHashMap<>();
+    // 종목코드 -> 보유 계좌 ID (역색인)
+    private final Map<String, Set<Long>> holdersByStock = new ConcurrentHashMap<>();
+    // 회원 ID -> 계좌 ID (Main + 대회 계좌)
+    private final Map<Long, Set<Long>> accountsByMember = new ConcurrentHashMap<>();
+    // 종목코드 -> 평가에 사용할 최근 시세 (Redis TTL 만료 후에도 유지)
+    private final Map<String, BigDecimal> markPrices = new ConcurrentHashMap<>();
+    // 종목코드 -> 시세 갱신 시각 (epoch millis)
+    private final Map<String, Long> markPriceUpdatedAt = new ConcurrentHashMap<>();
+
+    // ==================== 조회 ====================
+
+    /**
+     * 계좌 평가 조회 (메모리에 없으면 DB에서 적재)
+     */
+    public Optional<AccountValuation> getValuation(Long accountId) {
+        AccountValuation valuation = valuations.get(accountId);
+        if (valuation == null) {
+            reload(List.of(accountId));
+            valuation = valuations.get(accountId);
+        }
+        return Optional.ofNullable(valuation);
+    }
+
+    /**
+     * 메모리에 적재된 계좌 평가 조회 (DB 접근 없음)
+     */
+    public Map<Long, AccountValuation> getLoadedValuations(Collection<Long> accountIds) {
+        Map<Long, AccountValuation> result = new HashMap<>();
+        for (Long accountId : accountIds) {
+            AccountValuation valuation = valuations.get(accountId);
+            if (valuation != null) {
+                result.put(accountId, valuation);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 회원이 가진 계좌들의 평가 (메모리에 적재된 것만)
+     */
+    public List<AccountValuation> getValuationsOfMember(Long memberId) {
+        Set<Long> accountIds = accountsByMember.getOrDefault(memberId, Set.of());
+        return new ArrayList<>(getLoadedValuations(accountIds).values());
+    }
+
+    /**
+     * 전체 계좌 평가 스냅샷
+     */
+    public Collection<AccountValuation> getAllValuations() {
+        return Collections.unmodifiableCollection(valuations.values());
+    }
+
+    // ==================== 적재 ====================
+
+    /**
+     * 지정한 계좌들의 현금/보유 종목을 DB에서 다시 읽어 재평가
+     * (체결, 미션 보상 등 현금/수량이 바뀐 계좌)
+     */
+    public void reload(Collection<Long> accountIds) {
+        if (accountIds.isEmpty()) {
+            return;
+        }
+        List<Account> accounts = accountRepository.findAllWithContestByAccountIdIn(accountIds);
+        List<AccountStock> holdings = accountStockRepository.findHoldingsWithStockByAccountIdIn(accountIds);
+        apply(accounts, holdings);
+    }
+
+    /**
+     * 전체 계좌 재적재 (기동 시, 정합성 보정 시)
+     */
+    public void reloadAll() {
+        List<Account> accounts = accountRepository.findAllWithContest();
+        List<AccountStock> holdings = accountStockRepository.findAllHoldingsWithStock();
+
+        Set<Long> loadedIds = accounts.stream().map(Account::getAccountId).collect(Collectors.toSet());
+        valuations.keySet().retainAll(loadedIds);
+        holdersByStock.values().forEach(holders -> holders.retainAll(loadedIds));
+        accountsByMember.values().forEach(accountIds -> accountIds.retainAll(loadedIds));
+
+        // 보유 종목 시세는 모두 다시 조회 (보유하지 않는 종목 시세는 정리)
+        Set<String> heldCodes = holdings.stream().map(holding -> holding.getStock().getCode()).collect(Collectors.toSet());
+        markPrices.keySet().retainAll(heldCodes);
+        markPriceUpdatedAt.clear();
+
+        apply(accounts, holdings);
+        log.info("계좌 평가 전체 적재 완료: 계좌 {}개, 보유 종목 {}개", valuations.size(), holdersByStock.size());
+    }
+
+    /**
+     * 대회 단위 평가 집계 (메모리 평가 상태와 무관하게 DB 집계 쿼리 1회)
+     * - 대회 계좌가 보유한 종목의 시세만 수집하여 쿼리에 전달
+     * - 전체 계좌를 적재하지 않으므로 비용은 해당 대회 규모에 비례
+     */
+    public List<ContestAccountValuation> aggregateContest(Long contestId) {
+        Map<String, BigDecimal> prices = resolvePrices(accountStockRepository.findDistinctStockCodesByContestId(contestId));
+        String[] stockCodes = prices.keySet().toArray(String[]::new);
+        BigDecimal[] stockPrices = Arrays.stream(stockCodes).map(prices::get).toArray(BigDecimal[]::new);
+        return accountRepository.aggregateContestValuations(contestId, stockCodes, stockPrices);
+    }
+
+    // ==================== 시세 반영 ====================
+
+    /**
+     * 종목 시세 변경 반영
+     * - 역색인으로 해당 종목 보유 계좌만 재평가
+     *
+     * @return 재평가된 계좌 ID (시세가 그대로면 빈 집합)
+     */
+    public Set<Long> applyPrice(String stockCode, BigDecimal price) {
+        if (stockCode == null || price == null || price.compareTo(BigDecimal.ZERO) <= 0) {
+            return Set.of();
+        }
+        BigDecimal previous = markPrices.put(stockCode, price);
+        markPriceUpdatedAt.put(stockCode, System.currentTimeMillis());
+        if (previous != null && previous.compareTo(price) == 0) {
+            return Set.of();
+        }
+
+        Set<Long> holders = holdersByStock.get(stockCode);
+        if (holders == null || holders.isEmpty()) {
+            return Set.of();
+        }
+        Set<Long> revalued = new HashSet<>();
+        for (Long accountId : holders) {
+            if (valuations.computeIfPresent(accountId, (id, valuation) -> valuation.revalue(markPrices)) != null) {
+                revalued.add(accountId);
+            }
+        }
+        return revalued;
+    }
+
+    /**
+     * 평가용 현재가 수집
+     * 1. 메모리 시세 (실시간 체결로 갱신, markPriceTtlSeconds 이내)
+     * 2. Redis 마지막 체결가 (MGET 1회)
+     * 3. KIS API (병렬 조회, 호출 제한은 KisApiGateway)
+     * 다시 조회하지 못한 종목은 오래된 메모리 시세, 그것도 없으면 결과에서 빠짐 (호출 측에서 평단가로 평가)
+     */
+    public Map<String, BigDecimal> resolvePrices(Collection<String> stockCodes) {
+        Map<String, BigDecimal> prices = new HashMap<>();
+        List<String> stale = new ArrayList<>();
+
+        for (String stockCode : stockCodes) {
+            BigDecimal price = markPrices.get(stockCode);
+            if (price != null && isFresh(stockCode)) {
+                prices.put(stockCode, price);
+            } else {
+                stale.add(stockCode);
+            }
+        }
+        if (stale.isEmpty()) {
+            return prices;
+        }
+
+        Map<String, BigDecimal> fetched = fetchPrices(stale);
+        for (String stockCode : stale) {
+            BigDecimal price = fetched.get(stockCode);
+            if (price != null) {
+                prices.put(stockCode, price);
+                markPrices.put(stockCode, price);
+                markPriceUpdatedAt.put(stockCode, System.currentTimeMillis());
+            } else if (markPrices.containsKey(stockCode)) {
+                prices.put(stockCode, markPrices.get(stockCode));
+            }
+        }
+        return prices;
+    }
+
+    // ==================== Private 헬퍼 메서드 ====================
+
+    /**
+     * Redis MGET 후 없는 종목만 KIS 병렬 조회 (블로킹은 마지막 1회)
+     */
+    private Map<String, BigDecimal> fetchPrices(List<String> stockCodes) {
+        Map<String, BigDecimal> fetched = redisMarketDataRepository.findLastPrices(stockCodes)
+                .flatMap(cachedPrices -> Flux.fromIterable(stockCodes)
+                        .filter(stockCode -> !cachedPrices.containsKey(stockCode))
+                        .flatMap(stockCode -> fetchCurrentPrice(stockCode)
+                                .map(price -> Map.entry(stockCode, price)), KIS_FETCH_CONCURRENCY)
+                        .collectMap(Map.Entry::getKey, Map.Entry::getValue, () -> new HashMap<>(cachedPrices)))
+                .block();
+        return fetched != null ? fetched : Map.of();
+    }
+
+    private Mono<BigDecimal> fetchCurrentPrice(String stockCode) {
+        // 평가용 조회는 사용자/주문 조회보다 뒤로
+        return stockDetailService.getCurrentPrice(stockCode)
+                .contextWrite(KisApiGateway.withPriority(KisPriority.BACKGROUND))
+                .timeout(KIS_API_TIMEOUT)
+                .filter(price -> price.compareTo(BigDecimal.ZERO) > 0)
+                .onErrorResume(e -> {
+                    log.warn("종목 {} 현재가 조회 실패 (평균 매입가로 평가): {}", stockCode, e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private boolean isFresh(String stockCode) {
+        Long updatedAt = markPriceUpdatedAt.get(stockCode);
+        return updatedAt != null && System.currentTimeMillis() - updatedAt < markPriceTtlSeconds * 1_000;
+    }
+
+    // 계좌/보유 종목은 JOIN FETCH로 읽어 둔 값과 연관 엔티티 ID만 사용 (조회 트랜잭션이 끝난 뒤 호출)
+    private void apply(List<Account> accounts, List<AccountStock> holdings) {
+        Map<Long, List<AccountStock>> holdingsByAccount = holdings.stream()
+                .collect(Collectors.groupingBy(holding -> holding.getAccount().getAccountId()));
+
+        // 처음 보거나 오래된 종목의 시세 확보
+        resolvePrices(holdings.stream()
+                .map(holding -> holding.getStock().getCode())
+                .filter(stockCode -> !isFresh(stockCode))
+                .collect(Collectors.toSet()));
+
+        for (Account account : accounts) {
+            Map<String, AccountValuation.Position> positions = new HashMap<>();
+            for (AccountStock holding : holdingsByAccount.getOrDefault(account.getAccountId(), List.of())) {
+                positions.put(holding.getStock().getCode(),
+                        new AccountValuation.Position(holding.getQuantity(), holding.getAveragePrice()));
+            }
+
+            Contest contest = account.getContest();
+            AccountValuation valuation = new AccountValuation(
+                    account.getAccountId(),
+                    account.getMember().getMemberId(),
+                    contest != null ? contest.getContestId() : null,
+                    contest != null ? contest.getSeedMoney() : null,
+                    Boolean.TRUE.equals(account.getIsDefault()),
+                    account.getCash(),
+                    Map.copyOf(positions),
+                    BigDecimal.ZERO
+            ).revalue(markPrices);
+
+            AccountValuation previous = valuations.put(account.getAccountId(), valuation);
+            accountsByMember.computeIfAbsent(valuation.memberId(), id -> ConcurrentHashMap.newKeySet())
+                    .add(account.getAccountId());
+            updateHolderIndex(account.getAccountId(),
+                    previous != null ? previous.positions().keySet() : Set.of(),
+                    positions.keySet());
+        }
+    }
+
+    private void updateHolderIndex(Long accountId, Set<String> before, Set<String> after) {
+        for (String stockCode : before) {
+            if (!after.contains(stockCode)) {
+                holdersByStock.computeIfPresent(stockCode, (code, holders) -> {
+                    holders.remove(accountId);
+                    return holders.isEmpty() ? null : holders;
+                });
+            }
+        }
+        for (String stockCode : after) {
+            holdersByStock.computeIfAbsent(stockCode, code -> ConcurrentHashMap.newKeySet()).add(accountId);
+        }
+    }
+}
@@ -23,7 +23,6 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
@@ -46,14 +45,16 @@ public class AssetService {
     private final OrderRepository orderRepository;
     private final ExecutionRepository executionRepository;
     private final StockRepository stockRepository;
+    private final AccountValuationService accountValuationService;
 
     private static final Duration KIS_API_TIMEOUT = Duration.ofSeconds(5);
 
     // 사용자 자산 조회
-    @Transactional(readOnly = true)
+    // 시세 조회(Redis/KIS) 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행 (계좌는 Member와 함께 조회)
     public AssetResponse getAssets(Long accountId) {
         // Account 조회 및 권한 확인
-        Account account = accountRepository.findById(accountId)
+        Account account = accountRepository.findAllWithMemberByAccountIdIn(List.of(accountId)).stream()
+                .findFirst()
                 .orElseThrow(() -> new BadRequestException("계좌를 찾을 수 없습니다."));
 
         ensureAccountOwner(account);
@@ -71,25 +72,15 @@ public class AssetService {
             );
         }
 
-        // 각 종목의 현재가 조회 (병렬 처리)
-        List<Mono<AssetResponse.HoldingItem>> holdingMonos = accountStocks.stream()
-                .map(accountStock -> {
-                    String stockCode = accountStock.getStock().getCode();
-                    return stockDetailService.getCurrentPrice(stockCode)
-                            .timeout(KIS_API_TIMEOUT)
-                            .onErrorResume(e -> {
-                                log.warn("KIS API 호출 실패: stockCode={}, error={}", stockCode, e.getMessage());
-                                // 실패 시 평단가 사용
-                                return Mono.just(accountStock.getAveragePrice());
-                            })
-                            .map(currentPrice -> convertToHoldingItem(accountStock, currentPrice));
-                })
-                .toList();
+        // 각 종목의 현재가 조회 (랭킹과 같은 평가 시세 사용, 없으면 평단가)
+        Map<String, BigDecimal> currentPrices = accountValuationService.resolvePrices(accountStocks.stream()
+                .map(accountStock -> accountStock.getStock().getCode())
+                .collect(Collectors.toSet()));
 
-        // 병렬로 모든 Mono를 실행하고 결과 수집
-        List<AssetResponse.HoldingItem> holdings = Flux.merge(holdingMonos)
-                .collectList()
-                .block();
+        List<AssetResponse.HoldingItem> holdings = accountStocks.stream()
+                .map(accountStock -> convertToHoldingItem(accountStock,
+                        currentPrices.getOrDefault(accountStock.getStock().getCode(), accountStock.getAveragePrice())))
+                .toList();
 
         // 총 자산 계산
         BigDecimal totalStockValue = holdings.stream()
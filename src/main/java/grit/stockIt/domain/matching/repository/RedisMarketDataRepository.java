@@ -3,11 +3,17 @@ package grit.stockIt.domain.matching.repository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
 import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Slf4j
@@ -19,6 +25,7 @@ public class RedisMarketDataRepository {
     private static final Duration CACHE_TTL = Duration.ofMinutes(5); // 5분 캐시
 
     private final StringRedisTemplate redisTemplate;
+    private final ReactiveStringRedisTemplate reactiveRedisTemplate;
 
     public void updateLastPrice(String stockCode, BigDecimal price) {
         if (stockCode == null || price == null) {
@@ -54,6 +61,74 @@ public class RedisMarketDataRepository {
         }
     }
 
+    // ==================== Reactive (WebClient/Mono 체인용) ====================
+
+    public Mono<Void> saveLastPrice(String stockCode, BigDecimal price) {
+        if (stockCode == null || price == null) {
+            return Mono.empty();
+        }
+        return reactiveRedisTemplate.opsForValue()
+                .set(buildLastPriceKey(stockCode), price.toPlainString(), CACHE_TTL)
+                .doOnError(e -> log.error("Redis에 마지막 체결가 저장 실패. stockCode={}", stockCode, e))
+                .onErrorResume(e -> Mono.empty())
+                .then();
+    }
+
+    // 값이 없거나 조회 실패 시 empty
+    public Mono<BigDecimal> findLastPrice(String stockCode) {
+        if (stockCode == null) {
+            return Mono.empty();
+        }
+        return reactiveRedisTemplate.opsForValue()
+                .get(buildLastPriceKey(stockCode))
+                .flatMap(value -> {
+                    try {
+                        return Mono.just(new BigDecimal(value));
+                    } catch (NumberFormatException e) {
+                        log.warn("Redis 마지막 체결가 값 파싱 실패. stockCode={}", stockCode, e);
+                        return Mono.empty();
+                    }
+                })
+                .onErrorResume(e -> {
+                    log.error("Redis에서 마지막 체결가 조회 실패. stockCode={}", stockCode, e);
+                    return Mono.empty();
+                });
+    }
+
+    // 여러 종목 마지막 체결가 일괄 조회 (MGET 1회)
+    public Mono<Map<String, BigDecimal>> findLastPrices(Collection<String> stockCodes) {
+        if (stockCodes == null || stockCodes.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+        List<String> codes = List.copyOf(stockCodes);
+        return reactiveRedisTemplate.opsForValue()
+                .multiGet(codes.stream().map(this::buildLastPriceKey).toList())
+                .map(values -> toPriceMap(codes, values))
+                .onErrorResume(e -> {
+                    log.error("Redis에서 마지막 체결가 일괄 조회 실패. count={}", codes.size(), e);
+                    return Mono.just(Map.of());
+                });
+    }
+
+    private Map<String, BigDecimal> toPriceMap(List<String> codes, List<String> values) {
+        Map<String, BigDecimal> prices = new HashMap<>();
+        if (values == null) {
+            return prices;
+        }
+        for (int i = 0; i < codes.size() && i < values.size(); i++) {
+            String value = values.get(i);
+            if (value == null) {
+                continue;
+            }
+            try {
+                prices.put(codes.get(i), new BigDecimal(value));
+            } catch (NumberFormatException e) {
+                log.warn("Redis 마지막 체결가 값 파싱 실패. stockCode={}", codes.get(i), e);
+            }
+        }
+        return prices;
+    }
+
     private String buildLastPriceKey(String stockCode) {
         return LAST_PRICE_KEY_PATTERN.formatted(stockCode);
     }
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import grit.stockIt.domain.matching.dto.LimitOrderFillEvent;
 import grit.stockIt.domain.matching.event.LimitOrderFillEventMessage;
 import grit.stockIt.domain.matching.repository.RedisMarketDataRepository;
+import grit.stockIt.global.metrics.TickLatencyMetrics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
@@ -21,6 +22,7 @@ public class LimitOrderEventPublisher {
     private final ObjectMapper objectMapper;
     private final LimitOrderMatchingService limitOrderMatchingService;
     private final RedisMarketDataRepository redisMarketDataRepository;
+    private final TickLatencyMetrics tickLatencyMetrics;
 
     @EventListener
     public void handleLimitOrderFill(LimitOrderFillEventMessage message) {
@@ -39,7 +41,9 @@ public class LimitOrderEventPublisher {
         try {
             String queueKey = queueKey(stockCode);
             String payload = objectMapper.writeValueAsString(event);
+            long startNanos = System.nanoTime();
             redisTemplate.opsForList().rightPush(queueKey, payload);
+            tickLatencyMetrics.recordSince(TickLatencyMetrics.MATCHING_EVENT_ENQUEUE, stockCode, startNanos);
         } catch (Exception e) {
             log.error("지정가 이벤트 직렬화 실패. stockCode={} event={}", stockCode, event, e);
             return;
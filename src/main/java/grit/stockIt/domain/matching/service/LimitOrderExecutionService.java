@@ -16,6 +16,7 @@ import grit.stockIt.domain.order.repository.OrderRepository;
 import grit.stockIt.domain.order.repository.OrderHoldRepository;
 import grit.stockIt.domain.stock.entity.Stock;
 import grit.stockIt.domain.notification.event.ExecutionFilledEvent;
+import grit.stockIt.global.metrics.TickLatencyMetrics;
 import grit.stockIt.global.websocket.manager.OrderSubscriptionCoordinator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -55,6 +56,7 @@ public class LimitOrderExecutionService {
     private final ApplicationEventPublisher eventPublisher;
     private final StringRedisTemplate redisTemplate;
     private final ObjectMapper objectMapper;
+    private final TickLatencyMetrics tickLatencyMetrics;
 
     @Value("${matching.limit-order-fetch-size:100}")
     private int fetchSize;
@@ -216,6 +218,7 @@ public class LimitOrderExecutionService {
 
         // 트랜잭션 내부 마지막 줄로 DB 업데이트가 성공한 후에만 Redis에서 주문 삭제/수량 감소
         // Redis 실패 시 예외를 던져서 DB 롤백하여 중복 체결 방지
+        long redisUpdateStartNanos = System.nanoTime();
         try {
             for (Long orderId : filledOrderIds) {
                 Order order = orderMap.get(orderId);
@@ -244,6 +247,8 @@ public class LimitOrderExecutionService {
             log.error("Redis 업데이트 실패로 DB 롤백: stockCode={} eventId={}", 
                 stockCode, event.eventId(), e);
             throw e; // 예외를 던져서 DB 롤백
+        } finally {
+            tickLatencyMetrics.recordSince(TickLatencyMetrics.MATCHING_REDIS_UPDATE, stockCode, redisUpdateStartNanos);
         }
 
         if (cancelledQuantity > 0) {
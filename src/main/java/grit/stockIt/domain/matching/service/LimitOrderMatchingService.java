@@ -3,6 +3,7 @@ package grit.stockIt.domain.matching.service;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import grit.stockIt.domain.execution.entity.Execution;
 import grit.stockIt.domain.matching.dto.LimitOrderFillEvent;
+import grit.stockIt.global.metrics.TickLatencyMetrics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -36,6 +37,7 @@ public class LimitOrderMatchingService {
     private final StringRedisTemplate redisTemplate;
     private final ObjectMapper objectMapper;
     private final LimitOrderExecutionService limitOrderExecutionService;
+    private final TickLatencyMetrics tickLatencyMetrics;
 
     @Value("${matching.limit-lock-ttl-seconds:5}")
     private long lockTtlSeconds;
@@ -45,7 +47,10 @@ public class LimitOrderMatchingService {
         String lockKey = buildLockKey(stockCode);
         String lockToken = UUID.randomUUID().toString();
 
-        if (!acquireLock(lockKey, lockToken)) {
+        long lockStartNanos = System.nanoTime();
+        boolean acquired = acquireLock(lockKey, lockToken);
+        tickLatencyMetrics.recordSince(TickLatencyMetrics.MATCHING_LOCK_WAIT, stockCode, lockStartNanos);
+        if (!acquired) {
             log.debug("지정가 매칭 락 획득 실패. stockCode={}", stockCode);
             return List.of();
         }
@@ -56,7 +61,13 @@ public class LimitOrderMatchingService {
                 return List.of();
             }
             // 내부 서비스 호출 (프록시를 통해 @Transactional 동작)
-            return limitOrderExecutionService.distributeEvent(stockCode, event);
+            long distributeStartNanos = System.nanoTime();
+            try {
+                return limitOrderExecutionService.distributeEvent(stockCode, event);
+            } finally {
+                // 트랜잭션 커밋까지 포함한 시간 (Redis 주문장 갱신 구간은 MATCHING_REDIS_UPDATE로 따로 기록)
+                tickLatencyMetrics.recordSince(TickLatencyMetrics.MATCHING_DISTRIBUTE, stockCode, distributeStartNanos);
+            }
         } finally {
             releaseLock(lockKey, lockToken);
         }
@@ -111,6 +111,10 @@ public class Member extends BaseEntity {
     @Builder.Default
     private boolean surveyCompleted = false;
 
+    // 랭킹 표시용 티어 스냅샷 (미션 점수 변경으로 티어가 바뀔 때만 갱신)
+    @Column(name = "tier", length = 32)
+    private String tier;
+
     /**
      * [신규] 사용자가 선택한 대표 칭호 (없을 수도 있음 -> nullable)
      * 여러 멤버가 동일한 Title을 대표 칭호로 설정할 수 있으므로 ManyToOne
@@ -208,6 +212,10 @@ public class Member extends BaseEntity {
         return surveyCompleted;
     }
 
+    public void updateTier(String tier) {
+        this.tier = tier;
+    }
+
     /**
      * [신규] 칭호 추가 (보상 지급 시 호출됨)
      */
@@ -2,8 +2,10 @@ package grit.stockIt.domain.member.repository;
 
 import grit.stockIt.domain.member.entity.FavoriteStock;
 import grit.stockIt.domain.member.entity.Member;
+import grit.stockIt.domain.stock.dto.StockDemandCount;
 import grit.stockIt.domain.stock.entity.Stock;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 import java.util.Optional;
@@ -15,4 +17,8 @@ public interface FavoriteStockRepository extends JpaRepository<FavoriteStock, Lo
     List<FavoriteStock> findAllByMember(Member member);
 
     void deleteByMemberAndStock(Member member, Stock stock);
+
+    // 종목별 관심 등록 회원 수
+    @Query("SELECT f.stock.code AS stockCode, COUNT(f) AS total FROM FavoriteStock f GROUP BY f.stock.code")
+    List<StockDemandCount> countGroupByStockCode();
 }
@@ -3,6 +3,7 @@ package grit.stockIt.domain.member.repository;
 import grit.stockIt.domain.member.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
@@ -12,4 +13,7 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     boolean existsByEmail(String email);
 
     Optional<Member> findByFcmToken(String fcmToken);
+
+    // 티어 스냅샷이 아직 없는 회원 (일괄 채우기용)
+    List<Member> findAllByTierIsNull();
 }
\ No newline at end of file
@@ -3,6 +3,8 @@ package grit.stockIt.domain.mission.scheduler;
 import grit.stockIt.domain.mission.service.MissionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -51,5 +53,28 @@ public class MissionScheduler {
         }
     }
 
+    /**
+     * 서버 기동 시 티어 스냅샷이 없는 회원 채우기
+     * (랭킹 조회 시 회원별 티어 계산 쿼리를 없애기 위함)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillTierSnapshotTask() {
+        try {
+            int count = missionService.backfillTierSnapshots();
+            log.info("티어 스냅샷 채우기 완료: {}명", count);
+        } catch (Exception e) {
+            log.error("티어 스냅샷 채우기 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * 매 시 10분, 스냅샷이 비어 있는 기존 회원 행 보정
+     * (신규 가입 회원은 가입 시 미션 초기화에서 티어가 채워짐)
+     */
+    @Scheduled(cron = "0 10 * * * ?", zone = "Asia/Seoul")
+    public void hourlyTierSnapshotTask() {
+        backfillTierSnapshotTask();
+    }
+
 
 }
\ No newline at end of file
@@ -3,17 +3,23 @@ package grit.stockIt.domain.mission.service;
 import grit.stockIt.domain.mission.event.PortfolioAnalyzedEvent;
 import grit.stockIt.domain.mission.event.StockAnalyzedEvent;
 import grit.stockIt.domain.order.event.TradeCompletionEvent;
+import grit.stockIt.domain.ranking.event.RankThresholdCrossedEvent;
+import grit.stockIt.domain.ranking.repository.RedisLeaderboardRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 import org.springframework.scheduling.annotation.Async;
 
+import java.util.List;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class MissionEventListener {
 
+    private static final int RANKER_THRESHOLD = 10;
+
     private final MissionService missionService;
 
     /**
@@ -52,4 +58,21 @@ public class MissionEventListener {
             log.error("포트폴리오 분석 미션 처리 중 오류 발생", e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Main 랭킹 Top 10 진입 이벤트 수신 (랭커 칭호)
+     * 순위 구간 구성원이 바뀐 경우에만 발행되므로 매 갱신마다 DB를 확인하지 않음
+     */
+    @Async
+    @EventListener
+    public void handleRankThresholdCrossedEvent(RankThresholdCrossedEvent event) {
+        if (!event.entered() || event.threshold() != RANKER_THRESHOLD || !RedisLeaderboardRepository.MAIN_SCOPE.equals(event.scope())) {
+            return;
+        }
+        try {
+            missionService.processRankerAchievement(List.of(event.memberId()));
+        } catch (Exception e) {
+            log.error("랭커 미션 처리 중 오류 발생 (memberId: {})", event.memberId(), e);
+        }
+    }
+}
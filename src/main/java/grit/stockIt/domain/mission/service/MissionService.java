@@ -30,6 +30,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import grit.stockIt.domain.stock.entity.Stock;
 import grit.stockIt.domain.stock.repository.StockRepository;
@@ -151,6 +152,7 @@ public class MissionService {
 
                     // Legend 달성 체크 (현재 총 수익금 기반으로 점수 환산하여 체크)
                     checkLegendTier(member, getActivityScore(member) + calculateScoreFromProfit(newTotalProfit));
+                    refreshTierSnapshot(member);
                 });
     }
 
@@ -195,6 +197,32 @@ public class MissionService {
         int totalProfit = missionProgressRepository.findByMemberAndMissionTypeWithMission(member, MissionTrack.ACHIEVEMENT, MissionConditionType.SKILL_SCORE)
                 .map(MissionProgress::getCurrentValue).orElse(0);
 
+        return buildTierStatus(activityScore, totalProfit);
+    }
+
+    /**
+     * 랭킹 표시용 회원 티어 (REST 랭킹, 실시간 랭킹 푸시 공통)
+     * - Member에 저장된 티어 스냅샷 사용 (계좌 조회 시 함께 로드되므로 추가 쿼리 없음)
+     * - 스냅샷이 아직 없는 회원만 미션 점수로 계산
+     * - 스냅샷이 있으면 DB를 쓰지 않으므로 호출 측 트랜잭션이 없으면 새로 열지 않음
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public String getTierForMember(Member member) {
+        if (member.getTier() != null) {
+            return member.getTier();
+        }
+        try {
+            return getTierInfo(member.getEmail()).getCurrentTier();
+        } catch (Exception e) {
+            log.warn("티어 조회 실패 (memberId: {}): {}", member.getMemberId(), e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 활동 점수 + 누적 수익금으로 티어 상태 계산 (DB 조회 없음)
+     */
+    private UserTierStatusDto buildTierStatus(int activityScore, int totalProfit) {
         int skillScore = calculateScoreFromProfit(totalProfit);
         int totalScore = activityScore + skillScore;
 
@@ -310,6 +338,33 @@ public class MissionService {
                 .progressPercentage(progress)
                 .build();
     }
+    /**
+     * 랭킹 표시용 티어 스냅샷 갱신
+     * - 활동/실력 점수 트래커가 바뀐 직후 호출
+     * - 티어가 실제로 바뀐 경우에만 Member에 반영
+     */
+    private void refreshTierSnapshot(Member member) {
+        int activityScore = getActivityScore(member);
+        int totalProfit = missionProgressRepository.findByMemberAndMissionTypeWithMission(member, MissionTrack.ACHIEVEMENT, MissionConditionType.SKILL_SCORE)
+                .map(MissionProgress::getCurrentValue).orElse(0);
+
+        String tier = buildTierStatus(activityScore, totalProfit).getCurrentTier();
+        if (!tier.equals(member.getTier())) {
+            log.info("티어 변경: Member={}, {} -> {}", member.getName(), member.getTier(), tier);
+            member.updateTier(tier);
+        }
+    }
+
+    /**
+     * 티어 스냅샷이 없는 회원 일괄 채우기
+     * - 신규 가입 회원은 initializeMissionsForNewMember에서 채우므로 대상은 스냅샷 도입 이전 회원 등 기존 행뿐
+     */
+    public int backfillTierSnapshots() {
+        List<Member> members = memberRepository.findAllByTierIsNull();
+        members.forEach(this::refreshTierSnapshot);
+        return members.size();
+    }
+
     /**
      * [신규] 특수 조건 업적 처리
      * - 달콤한 첫입 (FIRST_PROFIT)
@@ -675,6 +730,7 @@ public class MissionService {
                         int newScore = Math.min(currentScore + pointsToAdd, maxScore);
                         tracker.setCurrentValue(newScore);
                         log.info("활동 점수 획득: Member={}, Current={}, Max={}", member.getName(), newScore, maxScore);
+                        refreshTierSnapshot(member);
                     }
                 });
     }
@@ -753,6 +809,7 @@ public class MissionService {
 
         missionProgressRepository.findByMemberAndMissionTypeWithMission(member, MissionTrack.ACHIEVEMENT, MissionConditionType.SKILL_SCORE)
                 .ifPresent(p -> p.setCurrentValue(0));
+        refreshTierSnapshot(member);
 
         log.info("파산 승인 및 티어 초기화 완료: Member={}", member.getName());
         return bankruptcyProgress.getMission().getReward();
@@ -819,8 +876,8 @@ public class MissionService {
     }
 
     /**
-     * [신규] 랭킹 Top 10 달성 처리 (스케줄러 호출용)
-     * - RankingService에서 1분마다 Top 10 유저 ID 리스트를 넘겨줌
+     * [신규] 랭킹 Top 10 달성 처리
+     * - Main 랭킹 Top 10 진입 이벤트(RankThresholdCrossedEvent)를 받은 회원 ID 리스트
      */
     public void processRankerAchievement(List<Long> topRankerIds) {
         if (topRankerIds.isEmpty()) return;
@@ -943,6 +1000,7 @@ public class MissionService {
                 .flatMap(List::stream)
                 .collect(Collectors.toList());
 
+        int initialActivityScore = 0;
         for (Mission mission : allMissions) {
             MissionStatus initialStatus = MissionStatus.INACTIVE;
 
@@ -952,6 +1010,7 @@ public class MissionService {
             // 🚨 [수정] 활동 점수 트래커(ACTIVITY_SCORE)는 1200점부터 시작 (Silver 1티어)
             if (mission.getConditionType() == MissionConditionType.ACTIVITY_SCORE) {
                 initialValue = 1200;
+                initialActivityScore = initialValue;
             }
 
             // 1. 일일 미션 & 업적 미션 -> 기본 진행 중
@@ -971,6 +1030,8 @@ public class MissionService {
                     .build();
             newMember.addMissionProgress(newProgress);
         }
+        // 랭킹 표시용 티어 스냅샷도 가입 시점에 채움 (누적 수익 0, 진행도는 아직 flush 전이라 초기값으로 계산)
+        newMember.updateTier(buildTierStatus(initialActivityScore, 0).getCurrentTier());
         log.info("신규 회원 초기 미션 총 {}건 세팅 완료.", allMissions.size());
     }
 
@@ -2,6 +2,7 @@ package grit.stockIt.domain.order.repository;
 
 import grit.stockIt.domain.order.entity.Order;
 import grit.stockIt.domain.order.entity.OrderStatus;
+import grit.stockIt.domain.stock.dto.StockDemandCount;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -73,6 +74,13 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
             Pageable pageable
     );
 
+    // 종목별 대기 주문 수
+    @Query("SELECT o.stock.code AS stockCode, COUNT(o) AS total FROM Order o " +
+           "WHERE o.status IN :statuses " +
+           "AND (o.quantity - o.filledQuantity) > 0 " +
+           "GROUP BY o.stock.code")
+    List<StockDemandCount> countPendingGroupByStockCode(@Param("statuses") List<OrderStatus> statuses);
+
     // 주문 ID 목록으로 이미 체결된 주문 ID 조회
     @Query("SELECT o.orderId FROM Order o " +
            "WHERE o.orderId IN :orderIds " +
@@ -23,6 +23,8 @@ import grit.stockIt.domain.stock.service.StockDetailService;
 import grit.stockIt.global.exception.BadRequestException;
 import grit.stockIt.global.exception.ForbiddenException;
 import grit.stockIt.global.exception.UntradeableStockException;
+import grit.stockIt.global.kis.KisApiGateway;
+import grit.stockIt.global.kis.KisPriority;
 import grit.stockIt.global.util.TransactionHandler;
 import grit.stockIt.global.websocket.manager.OrderSubscriptionCoordinator;
 import lombok.RequiredArgsConstructor;
@@ -260,6 +262,7 @@ public class OrderService {
                     log.info("캐시에 현재가가 없어 KIS API 호출: stockCode={}", stockCode);
                     try {
                         BigDecimal price = stockDetailService.getCurrentPrice(stockCode)
+                                .contextWrite(KisApiGateway.withPriority(KisPriority.ORDER))
                                 .block(java.time.Duration.ofSeconds(5));
                         if (price == null || price.signum() <= 0) {
                             throw new BadRequestException("KIS API에서 현재가를 가져올 수 없습니다.");
@@ -1,20 +1,29 @@
 package grit.stockIt.domain.ranking.controller;
 
 import grit.stockIt.domain.ranking.dto.MyRankDto;
+import grit.stockIt.domain.ranking.dto.RankHistoryDto;
+import grit.stockIt.domain.ranking.dto.RankingPageResponse;
 import grit.stockIt.domain.ranking.dto.RankingResponse;
+import grit.stockIt.domain.ranking.dto.TopRankingHistoryDto;
 import grit.stockIt.domain.ranking.service.RankingService;
+import grit.stockIt.domain.ranking.service.RankingSnapshotService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
+
 /**
  * 랭킹 API 컨트롤러
  * - Main 계좌 랭킹 조회
  * - 대회 계좌 랭킹 조회 (잔액순/수익률순)
+ * - 페이지/커서/내 주변 구간 조회
+ * - 순위 변화 기록 조회 (스냅샷)
  * - 내 랭킹 조회
  */
 @Slf4j
@@ -24,7 +33,10 @@ import org.springframework.web.bind.annotation.*;
 @Tag(name = "Ranking", description = "랭킹 API")
 public class RankingController {
 
+    private static final long DEFAULT_HISTORY_DAYS = 7;
+
     private final RankingService rankingService;
+    private final RankingSnapshotService rankingSnapshotService;
 
     // ==================== Main 계좌 랭킹 ====================
 
@@ -71,15 +83,106 @@ public class RankingController {
     ) {
         log.info("[API 호출] 대회 [{}] 랭킹 조회 (sortBy: {})", contestId, sortBy);
 
-        // sortBy 유효성 검사
-        if (!sortBy.equalsIgnoreCase("totalAssets") && !sortBy.equalsIgnoreCase("returnRate")) {
-            throw new IllegalArgumentException("sortBy는 'totalAssets' 또는 'returnRate'여야 합니다. (현재: " + sortBy + ")");
-        }
+        validateSortBy(sortBy);
 
         RankingResponse response = rankingService.getContestRankings(contestId, sortBy);
         return ResponseEntity.ok(response);
     }
 
+    // ==================== 페이지/구간 랭킹 ====================
+
+    /**
+     * Main 계좌 랭킹 페이지 조회 (총자산순)
+     * - 상위 N: offset=0&size=N
+     * - 다음 페이지: 응답의 nextCursor를 cursor로 전달
+     *
+     * GET /api/rankings/main/page?size=20
+     * GET /api/rankings/main/page?cursor=1042:25300000.0&size=20
+     */
+    @GetMapping("/main/page")
+    @Operation(
+            summary = "Main 계좌 랭킹 페이지 조회",
+            description = "Main 계좌 랭킹을 offset 또는 커서 기반으로 페이지 단위 조회합니다."
+    )
+    public ResponseEntity<RankingPageResponse> getMainRankingPage(
+            @Parameter(description = "시작 위치 (0부터 시작)", example = "0")
+            @RequestParam(name = "offset", defaultValue = "0") long offset,
+
+            @Parameter(description = "다음 페이지 커서 (offset보다 우선)", example = "1042:25300000.0")
+            @RequestParam(name = "cursor", required = false) String cursor,
+
+            @Parameter(description = "페이지 크기 (최대 100)", example = "20")
+            @RequestParam(name = "size", defaultValue = "20") int size
+    ) {
+        log.info("[API 호출] Main 계좌 랭킹 페이지 조회 (offset: {}, cursor: {}, size: {})", offset, cursor, size);
+        RankingPageResponse response = rankingService.getRankingPage(null, "totalAssets", offset, cursor, size);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 대회 랭킹 페이지 조회
+     *
+     * GET /api/rankings/contest/{contestId}/page?sortBy=returnRate&size=20
+     */
+    @GetMapping("/contest/{contestId}/page")
+    @Operation(
+            summary = "대회 계좌 랭킹 페이지 조회",
+            description = "대회 랭킹을 offset 또는 커서 기반으로 페이지 단위 조회합니다. sortBy로 총자산순/수익률순 선택 가능합니다."
+    )
+    public ResponseEntity<RankingPageResponse> getContestRankingPage(
+            @Parameter(description = "대회 ID", example = "1", required = true)
+            @PathVariable("contestId") Long contestId,
+
+            @Parameter(description = "정렬 기준 (totalAssets: 총자산순, returnRate: 수익률순)", example = "totalAssets")
+            @RequestParam(name = "sortBy", defaultValue = "totalAssets") String sortBy,
+
+            @Parameter(description = "시작 위치 (0부터 시작)", example = "0")
+            @RequestParam(name = "offset", defaultValue = "0") long offset,
+
+            @Parameter(description = "다음 페이지 커서 (offset보다 우선)", example = "1042:25300000.0")
+            @RequestParam(name = "cursor", required = false) String cursor,
+
+            @Parameter(description = "페이지 크기 (최대 100)", example = "20")
+            @RequestParam(name = "size", defaultValue = "20") int size
+    ) {
+        log.info("[API 호출] 대회 [{}] 랭킹 페이지 조회 (sortBy: {}, offset: {}, cursor: {}, size: {})",
+                contestId, sortBy, offset, cursor, size);
+        validateSortBy(sortBy);
+        RankingPageResponse response = rankingService.getRankingPage(contestId, sortBy, offset, cursor, size);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 내 주변 랭킹 조회
+     * - 내 순위를 가운데로 size명 구간 반환
+     *
+     * GET /api/rankings/around-me?memberId=42&size=11
+     * GET /api/rankings/around-me?memberId=42&contestId=1&sortBy=returnRate
+     */
+    @GetMapping("/around-me")
+    @Operation(
+            summary = "내 주변 랭킹 조회",
+            description = "내 순위 앞뒤 참가자를 조회합니다. contestId가 없으면 Main 계좌 랭킹 기준입니다."
+    )
+    public ResponseEntity<RankingPageResponse> getRankingsAroundMe(
+            @Parameter(description = "회원 ID", example = "42", required = true)
+            @RequestParam(name = "memberId") Long memberId,
+
+            @Parameter(description = "대회 ID (없으면 Main 계좌)", example = "1")
+            @RequestParam(name = "contestId", required = false) Long contestId,
+
+            @Parameter(description = "정렬 기준 (totalAssets: 총자산순, returnRate: 수익률순)", example = "totalAssets")
+            @RequestParam(name = "sortBy", defaultValue = "totalAssets") String sortBy,
+
+            @Parameter(description = "구간 크기 (최대 100)", example = "11")
+            @RequestParam(name = "size", defaultValue = "11") int size
+    ) {
+        log.info("[API 호출] 내 주변 랭킹 조회 (memberId: {}, contestId: {}, sortBy: {})", memberId, contestId, sortBy);
+        validateSortBy(sortBy);
+        RankingPageResponse response = rankingService.getRankingsAroundMe(memberId, contestId, sortBy, size);
+        return ResponseEntity.ok(response);
+    }
+
     // ==================== 내 랭킹 조회 ====================
 
     /**
@@ -107,6 +210,86 @@ public class RankingController {
         return ResponseEntity.ok(response);
     }
 
+    // ==================== 순위 기록 ====================
+
+    /**
+     * 내 순위 변화 조회 (스냅샷 기준)
+     * - 기간 미지정 시 최근 7일
+     *
+     * GET /api/rankings/history/me?memberId=42
+     * GET /api/rankings/history/me?memberId=42&contestId=1&from=2025-11-10T00:00:00&to=2025-11-17T00:00:00
+     */
+    @GetMapping("/history/me")
+    @Operation(
+            summary = "내 순위 변화 조회",
+            description = "주기적으로 기록된 스냅샷으로 기간 내 순위/총자산 변화를 조회합니다. contestId가 없으면 Main 계좌 기준입니다."
+    )
+    public ResponseEntity<RankHistoryDto> getMyRankHistory(
+            @Parameter(description = "회원 ID", example = "42", required = true)
+            @RequestParam(name = "memberId") Long memberId,
+
+            @Parameter(description = "대회 ID (없으면 Main 계좌)", example = "1")
+            @RequestParam(name = "contestId", required = false) Long contestId,
+
+            @Parameter(description = "조회 시작 시간 (기본: 7일 전)", example = "2025-11-10T00:00:00")
+            @RequestParam(name = "from", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+
+            @Parameter(description = "조회 종료 시간 (기본: 현재)", example = "2025-11-17T00:00:00")
+            @RequestParam(name = "to", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to
+    ) {
+        log.info("[API 호출] 내 순위 변화 조회 (memberId: {}, contestId: {}, from: {}, to: {})", memberId, contestId, from, to);
+        LocalDateTime end = to != null ? to : LocalDateTime.now();
+        LocalDateTime start = from != null ? from : end.minusDays(DEFAULT_HISTORY_DAYS);
+        RankHistoryDto response = rankingSnapshotService.getMemberHistory(memberId, contestId, start, end);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 시점별 상위 랭킹 조회 (스냅샷 기준)
+     *
+     * GET /api/rankings/history/top?limit=10
+     * GET /api/rankings/history/top?contestId=1&sortBy=returnRate&limit=10
+     */
+    @GetMapping("/history/top")
+    @Operation(
+            summary = "시점별 상위 랭킹 조회",
+            description = "기간 내 스냅샷 시점마다 상위 N명을 조회합니다. contestId가 없으면 Main 계좌 기준입니다."
+    )
+    public ResponseEntity<TopRankingHistoryDto> getTopRankingHistory(
+            @Parameter(description = "대회 ID (없으면 Main 계좌)", example = "1")
+            @RequestParam(name = "contestId", required = false) Long contestId,
+
+            @Parameter(description = "정렬 기준 (totalAssets: 총자산순, returnRate: 수익률순)", example = "totalAssets")
+            @RequestParam(name = "sortBy", defaultValue = "totalAssets") String sortBy,
+
+            @Parameter(description = "시점별 인원 수 (최대 100)", example = "10")
+            @RequestParam(name = "limit", defaultValue = "10") int limit,
+
+            @Parameter(description = "조회 시작 시간 (기본: 7일 전)", example = "2025-11-10T00:00:00")
+            @RequestParam(name = "from", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+
+            @Parameter(description = "조회 종료 시간 (기본: 현재)", example = "2025-11-17T00:00:00")
+            @RequestParam(name = "to", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to
+    ) {
+        log.info("[API 호출] 시점별 상위 랭킹 조회 (contestId: {}, sortBy: {}, limit: {})", contestId, sortBy, limit);
+        validateSortBy(sortBy);
+        LocalDateTime end = to != null ? to : LocalDateTime.now();
+        LocalDateTime start = from != null ? from : end.minusDays(DEFAULT_HISTORY_DAYS);
+        TopRankingHistoryDto response = rankingSnapshotService.getTopHistory(contestId, sortBy, limit, start, end);
+        return ResponseEntity.ok(response);
+    }
+
+    // sortBy 유효성 검사
+    private void validateSortBy(String sortBy) {
+        if (!sortBy.equalsIgnoreCase("totalAssets") && !sortBy.equalsIgnoreCase("returnRate")) {
+            throw new IllegalArgumentException("sortBy는 'totalAssets' 또는 'returnRate'여야 합니다. (현재: " + sortBy + ")");
+        }
+    }
+
     // ==================== 예외 처리 ====================
 
     /**
@@ -0,0 +1,27 @@
+package grit.stockIt.domain.ranking.dto;
+
+import java.util.List;
+
+/**
+ * 리더보드(Redis ZSET)의 한 항목
+ *
+ * @param accountId 계좌 ID (ZSET member)
+ * @param score     정렬 기준 값 (총자산 또는 수익률)
+ */
+public record LeaderboardEntry(
+        Long accountId,
+        double score
+) {
+
+    /**
+     * 점수 내림차순 항목의 동률 공동 순위 (1, 1, 3 ...), entries와 같은 순서
+     */
+    public static int[] competitionRanks(List<LeaderboardEntry> entries) {
+        int[] ranks = new int[entries.size()];
+        for (int i = 0; i < entries.size(); i++) {
+            boolean tie = i > 0 && entries.get(i - 1).score() == entries.get(i).score();
+            ranks[i] = tie ? ranks[i - 1] : i + 1;
+        }
+        return ranks;
+    }
+}
@@ -0,0 +1,11 @@
+package grit.stockIt.domain.ranking.dto;
+
+// 내 순위 변경 푸시 메시지 (/user/queue/rank)
+public record MyRankChangeMessage(
+        String scope,                  // main | contest-{contestId}-{sortBy}
+        Long rank,                     // 현재 순위
+        Long previousRank,             // 직전에 보낸 순위 (첫 메시지면 null)
+        double score,                  // 총자산 또는 수익률
+        Long totalParticipants         // 전체 참가자 수
+) {
+}
@@ -7,6 +7,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 @Getter
 @NoArgsConstructor
@@ -41,5 +42,8 @@ public class MyRankDto {
 
     @Schema(description = "티어", example = "GOLD 2")
     private String tier;
+
+    @Schema(description = "총자산 기준 내 앞뒤 순위 참가자 (나 포함)")
+    private List<RankingDto> neighbors;
 }
 
@@ -0,0 +1,51 @@
+package grit.stockIt.domain.ranking.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "회원 순위 변화 기록")
+public class RankHistoryDto {
+
+    @Schema(description = "회원 ID", example = "42")
+    private Long memberId;
+
+    @Schema(description = "대회 ID (null인 경우 Main 계좌)", example = "1")
+    private Long contestId;
+
+    @Schema(description = "시점별 기록 (시간순)")
+    private List<Point> points;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(description = "특정 시점의 순위")
+    public static class Point {
+
+        @Schema(description = "기록 시간", example = "2025-11-17T14:20:00")
+        private LocalDateTime capturedAt;
+
+        @Schema(description = "총자산 순위", example = "12")
+        private Integer totalAssetsRank;
+
+        @Schema(description = "수익률 순위 (대회만, Main은 null)", example = "9")
+        private Integer returnRateRank;
+
+        @Schema(description = "총자산", example = "25000000.00")
+        private BigDecimal totalAssets;
+
+        @Schema(description = "수익률 (%) - 대회만, Main은 null", example = "25.00")
+        private BigDecimal returnRate;
+    }
+}
@@ -0,0 +1,23 @@
+package grit.stockIt.domain.ranking.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 상위 N 랭킹 변경분 푸시 메시지 (/topic/ranking/{scope})
+public record RankingDiffMessage(
+        String scope,                  // main | contest-{contestId}-{sortBy}
+        int topN,                      // 추적하는 상위 인원 수
+        List<Entry> changed,           // 순위가 바뀌었거나 새로 들어온 항목
+        List<Long> removedMemberIds,   // 상위 N에서 빠진 회원
+        Long totalParticipants,        // 전체 참가자 수
+        LocalDateTime updatedAt
+) {
+    public record Entry(
+            int rank,                  // 순위 (동률은 같은 순위)
+            Long memberId,
+            String nickname,
+            String profileImage,
+            String tier,
+            double score               // 총자산 또는 수익률
+    ) {}
+}
@@ -0,0 +1,39 @@
+package grit.stockIt.domain.ranking.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "랭킹 페이지 응답 (참가자 수와 무관하게 고정 크기)")
+public class RankingPageResponse {
+
+    @Schema(description = "대회 ID (null인 경우 Main 계좌)", example = "1")
+    private Long contestId;
+
+    @Schema(description = "정렬 기준 (totalAssets: 총자산순, returnRate: 수익률순)", example = "totalAssets")
+    private String sortBy;
+
+    @Schema(description = "첫 항목의 위치 (0부터 시작)", example = "0")
+    private Long offset;
+
+    @Schema(description = "랭킹 목록")
+    private List<RankingDto> rankings;
+
+    @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)", example = "1042:25300000.0")
+    private String nextCursor;
+
+    @Schema(description = "전체 참가자 수", example = "850")
+    private Long totalParticipants;
+
+    @Schema(description = "조회 시간", example = "2025-11-17T14:23:00")
+    private LocalDateTime lastUpdated;
+}
@@ -0,0 +1,62 @@
+package grit.stockIt.domain.ranking.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "시점별 상위 랭킹 기록")
+public class TopRankingHistoryDto {
+
+    @Schema(description = "대회 ID (null인 경우 Main 계좌)", example = "1")
+    private Long contestId;
+
+    @Schema(description = "정렬 기준 (totalAssets: 총자산순, returnRate: 수익률순)", example = "totalAssets")
+    private String sortBy;
+
+    @Schema(description = "시점별 상위 N명 (시간순)")
+    private List<Frame> frames;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(description = "특정 시점의 상위 랭킹")
+    public static class Frame {
+
+        @Schema(description = "기록 시간", example = "2025-11-17T14:20:00")
+        private LocalDateTime capturedAt;
+
+        @Schema(description = "상위 랭킹 (순위순)")
+        private List<Entry> entries;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(description = "상위 랭킹 항목")
+    public static class Entry {
+
+        @Schema(description = "순위", example = "1")
+        private Integer rank;
+
+        @Schema(description = "회원 ID", example = "42")
+        private Long memberId;
+
+        @Schema(description = "총자산", example = "25000000.00")
+        private BigDecimal totalAssets;
+
+        @Schema(description = "수익률 (%) - 대회만, Main은 null", example = "25.00")
+        private BigDecimal returnRate;
+    }
+}
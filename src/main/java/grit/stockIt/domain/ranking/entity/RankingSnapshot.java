@@ -0,0 +1,68 @@
+package grit.stockIt.domain.ranking.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 랭킹 스냅샷 (주기적으로 기록한 계좌별 순위/총자산)
+ * - scope: "main" 또는 "contest-{contestId}" (RedisLeaderboardRepository.contestScope)
+ * - 한 행에 총자산 순위와 수익률 순위를 함께 저장 (Main은 수익률 순위 없음)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "ranking_snapshot", indexes = {
+        @Index(name = "idx_ranking_snapshot_scope_time", columnList = "scope, captured_at, total_assets_rank"),
+        @Index(name = "idx_ranking_snapshot_member_time", columnList = "member_id, scope, captured_at")
+})
+public class RankingSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "ranking_snapshot_id")
+    private Long id;
+
+    @Column(name = "scope", nullable = false, length = 32)
+    private String scope;
+
+    @Column(name = "captured_at", nullable = false)
+    private LocalDateTime capturedAt;
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "total_assets", nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalAssets;
+
+    @Column(name = "total_assets_rank", nullable = false)
+    private Integer totalAssetsRank;
+
+    @Column(name = "return_rate", precision = 9, scale = 2)
+    private BigDecimal returnRate;
+
+    @Column(name = "return_rate_rank")
+    private Integer returnRateRank;
+
+    @Builder
+    private RankingSnapshot(String scope, LocalDateTime capturedAt, Long accountId, Long memberId,
+                            BigDecimal totalAssets, Integer totalAssetsRank,
+                            BigDecimal returnRate, Integer returnRateRank) {
+        this.scope = scope;
+        this.capturedAt = capturedAt;
+        this.accountId = accountId;
+        this.memberId = memberId;
+        this.totalAssets = totalAssets;
+        this.totalAssetsRank = totalAssetsRank;
+        this.returnRate = returnRate;
+        this.returnRateRank = returnRateRank;
+    }
+}
@@ -0,0 +1,9 @@
+package grit.stockIt.domain.ranking.event;
+
+import java.util.Set;
+
+// 리더보드 점수 갱신 이벤트 (갱신된 ZSET 키 목록)
+public record LeaderboardChangedEvent(
+        Set<String> keys
+) {
+}
@@ -0,0 +1,13 @@
+package grit.stockIt.domain.ranking.event;
+
+// 순위 구간(Top N) 진입/이탈 이벤트 - 구간 구성원이 실제로 바뀐 경우에만 발행
+public record RankThresholdCrossedEvent(
+        String scope,       // 랭킹 범위 ("main" | "contest-{contestId}-{sortBy}")
+        int threshold,      // 구간 (Top 1/3/10/100 ...)
+        Long accountId,
+        Long memberId,
+        boolean entered,    // true: 진입, false: 이탈
+        Long rank,          // 현재 순위 (리더보드에서 빠진 계좌면 null)
+        boolean initial     // 기동 후 첫 관측 (기존 구성원 복원, 알림 등은 무시해도 됨)
+) {
+}
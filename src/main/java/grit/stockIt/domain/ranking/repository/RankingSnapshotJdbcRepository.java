@@ -0,0 +1,49 @@
+package grit.stockIt.domain.ranking.repository;
+
+import grit.stockIt.domain.ranking.entity.RankingSnapshot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * 랭킹 스냅샷 일괄 저장 (JDBC 배치)
+ * - IDENTITY 키라 Hibernate saveAll은 배치가 되지 않으므로 JDBC로 직접 INSERT
+ * - 호출 1회 = 트랜잭션 1개 (범위(scope) 단위로 저장)
+ */
+@Repository
+@RequiredArgsConstructor
+public class RankingSnapshotJdbcRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO ranking_snapshot (scope, captured_at, account_id, member_id,
+                                          total_assets, total_assets_rank, return_rate, return_rate_rank)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional
+    public void insertAll(List<RankingSnapshot> snapshots) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, snapshots, BATCH_SIZE, (ps, snapshot) -> {
+            ps.setString(1, snapshot.getScope());
+            ps.setTimestamp(2, Timestamp.valueOf(snapshot.getCapturedAt()));
+            ps.setLong(3, snapshot.getAccountId());
+            ps.setLong(4, snapshot.getMemberId());
+            ps.setBigDecimal(5, snapshot.getTotalAssets());
+            ps.setInt(6, snapshot.getTotalAssetsRank());
+            ps.setBigDecimal(7, snapshot.getReturnRate());
+            if (snapshot.getReturnRateRank() != null) {
+                ps.setInt(8, snapshot.getReturnRateRank());
+            } else {
+                ps.setNull(8, Types.INTEGER);
+            }
+        });
+    }
+}
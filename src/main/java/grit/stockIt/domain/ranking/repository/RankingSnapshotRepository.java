@@ -0,0 +1,44 @@
+package grit.stockIt.domain.ranking.repository;
+
+import grit.stockIt.domain.ranking.entity.RankingSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface RankingSnapshotRepository extends JpaRepository<RankingSnapshot, Long> {
+
+    // 회원의 순위 변화 (시간순)
+    List<RankingSnapshot> findByMemberIdAndScopeAndCapturedAtBetweenOrderByCapturedAtAsc(
+            Long memberId, String scope, LocalDateTime from, LocalDateTime to);
+
+    // 구간 내 총자산 상위 N명 (시점별)
+    @Query("SELECT rs FROM RankingSnapshot rs " +
+           "WHERE rs.scope = :scope " +
+           "AND rs.capturedAt BETWEEN :from AND :to " +
+           "AND rs.totalAssetsRank <= :limit " +
+           "ORDER BY rs.capturedAt ASC, rs.totalAssetsRank ASC")
+    List<RankingSnapshot> findTopByTotalAssets(@Param("scope") String scope,
+                                               @Param("from") LocalDateTime from,
+                                               @Param("to") LocalDateTime to,
+                                               @Param("limit") int limit);
+
+    // 구간 내 수익률 상위 N명 (시점별)
+    @Query("SELECT rs FROM RankingSnapshot rs " +
+           "WHERE rs.scope = :scope " +
+           "AND rs.capturedAt BETWEEN :from AND :to " +
+           "AND rs.returnRateRank <= :limit " +
+           "ORDER BY rs.capturedAt ASC, rs.returnRateRank ASC")
+    List<RankingSnapshot> findTopByReturnRate(@Param("scope") String scope,
+                                              @Param("from") LocalDateTime from,
+                                              @Param("to") LocalDateTime to,
+                                              @Param("limit") int limit);
+
+    // 보관 기간이 지난 스냅샷 삭제
+    @Modifying
+    @Query("DELETE FROM RankingSnapshot rs WHERE rs.capturedAt < :threshold")
+    int deleteByCapturedAtBefore(@Param("threshold") LocalDateTime threshold);
+}
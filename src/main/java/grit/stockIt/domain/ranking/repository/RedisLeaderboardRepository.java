@@ -0,0 +1,286 @@
+package grit.stockIt.domain.ranking.repository;
+
+import grit.stockIt.domain.ranking.dto.LeaderboardEntry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.zset.DefaultTuple;
+import org.springframework.data.redis.connection.zset.Tuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 랭킹 범위(scope)별 리더보드 저장소 (Redis Sorted Set)
+ * - member: 계좌 ID, score: 총자산 또는 수익률
+ * - Main 계좌: ranking:zset:main:totalAssets
+ * - 대회 계좌: ranking:zset:contest:{contestId}:totalAssets / returnRate
+ * - 리더 노드에 넘길 재적재 대상 계좌: ranking:dirty-accounts (Set)
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class RedisLeaderboardRepository {
+
+    public static final String SORT_TOTAL_ASSETS = "totalAssets";
+    public static final String SORT_RETURN_RATE = "returnRate";
+    public static final String MAIN_SCOPE = "main";
+
+    private static final String KEY_PREFIX = "ranking:zset:";
+    private static final String MAIN_KEY = KEY_PREFIX + "main:" + SORT_TOTAL_ASSETS;
+    private static final String CONTEST_KEY_PATTERN = KEY_PREFIX + "contest:%d:%s";
+    private static final String REBUILD_SUFFIX = ":rebuild";
+    private static final String DIRTY_ACCOUNTS_KEY = "ranking:dirty-accounts";
+
+    private final StringRedisTemplate redisTemplate;
+
+    public String mainKey() {
+        return MAIN_KEY;
+    }
+
+    public String contestKey(Long contestId, String sortBy) {
+        return CONTEST_KEY_PATTERN.formatted(contestId, sortBy);
+    }
+
+    /**
+     * 대회 범위 이름 "contest-{contestId}" (랭킹 스냅샷 scope, 리더보드 범위 이름의 앞부분)
+     */
+    public static String contestScope(Long contestId) {
+        return "contest-" + contestId;
+    }
+
+    /**
+     * 키를 외부 노출용 범위 이름으로 변환
+     * - Main: "main"
+     * - 대회: "contest-{contestId}-{sortBy}"
+     */
+    public String scopeOf(String key) {
+        if (MAIN_KEY.equals(key)) {
+            return MAIN_SCOPE;
+        }
+        return key.substring(KEY_PREFIX.length()).replace(':', '-');
+    }
+
+    /**
+     * 여러 랭킹 키의 점수 일괄 갱신 (키마다 여러 member ZADD 1회, 전체를 파이프라인 한 번으로)
+     *
+     * @param scoresByKey 랭킹 키 -> (계좌 ID -> 점수)
+     */
+    public void upsertAll(Map<String, Map<Long, Double>> scoresByKey) {
+        if (scoresByKey.isEmpty()) {
+            return;
+        }
+        RedisSerializer<String> serializer = redisTemplate.getStringSerializer();
+        try {
+            redisTemplate.executePipelined((RedisConnection connection) -> {
+                scoresByKey.forEach((key, scores) -> {
+                    Set<Tuple> tuples = new HashSet<>();
+                    scores.forEach((accountId, score) ->
+                            tuples.add(new DefaultTuple(serializer.serialize(String.valueOf(accountId)), score)));
+                    connection.zSetCommands().zAdd(serializer.serialize(key), tuples);
+                });
+                return null;
+            });
+        } catch (DataAccessException e) {
+            log.error("리더보드 점수 갱신 실패. keys={}", scoresByKey.keySet(), e);
+        }
+    }
+
+    public void remove(String key, Long accountId) {
+        try {
+            redisTemplate.opsForZSet().remove(key, String.valueOf(accountId));
+        } catch (DataAccessException e) {
+            log.error("리더보드 항목 삭제 실패. key={} accountId={}", key, accountId, e);
+        }
+    }
+
+    // 점수 내림차순 구간 조회 (start, end 모두 포함, 0부터 시작)
+    public List<LeaderboardEntry> range(String key, long start, long end) {
+        Set<ZSetOperations.TypedTuple<String>> tuples = redisTemplate.opsForZSet()
+                .reverseRangeWithScores(key, start, end);
+        List<LeaderboardEntry> entries = new ArrayList<>();
+        if (tuples == null) {
+            return entries;
+        }
+        for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+            if (tuple.getValue() == null || tuple.getScore() == null) {
+                continue;
+            }
+            entries.add(new LeaderboardEntry(Long.valueOf(tuple.getValue()), tuple.getScore()));
+        }
+        return entries;
+    }
+
+    public Double score(String key, Long accountId) {
+        return redisTemplate.opsForZSet().score(key, String.valueOf(accountId));
+    }
+
+    // 여러 계좌의 점수 일괄 조회 (ZMSCORE), 없는 계좌는 결과에서 빠짐
+    public Map<Long, Double> scores(String key, List<Long> accountIds) {
+        Map<Long, Double> result = new HashMap<>();
+        if (accountIds.isEmpty()) {
+            return result;
+        }
+        List<Double> values = redisTemplate.opsForZSet()
+                .score(key, accountIds.stream().map(String::valueOf).toArray());
+        if (values == null) {
+            return result;
+        }
+        for (int i = 0; i < accountIds.size() && i < values.size(); i++) {
+            if (values.get(i) != null) {
+                result.put(accountIds.get(i), values.get(i));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 커서 (점수, 계좌) 바로 다음 위치 (0부터 시작)
+     * - 점수가 더 큰 항목 수 + 같은 점수 중 커서 계좌 이전(포함)에 정렬되는 항목 수
+     * - 역순 조회에서 동점은 member 문자열 역순이므로 동점 구간에서 member >= 커서 계좌인 항목을 건너뜀
+     * - 커서 계좌가 같은 점수로 남아 있으면 ZREVRANK 한 번, 아니면 동점 구간을 이진 탐색 (O(log^2 n))
+     */
+    public long positionAfter(String key, double score, Long accountId) {
+        Double current = score(key, accountId);
+        if (current != null && current == score) {
+            Long position = positionOf(key, accountId);
+            if (position != null) {
+                return position + 1;
+            }
+        }
+
+        String anchor = String.valueOf(accountId);
+        Long higher = redisTemplate.opsForZSet().count(key, Math.nextUp(score), Double.POSITIVE_INFINITY);
+        Long ties = redisTemplate.opsForZSet().count(key, score, score);
+        long low = higher != null ? higher : 0L;
+        long high = low + (ties != null ? ties : 0L);
+        // 동점 구간 [low, high)에서 member < 커서 계좌인 첫 위치
+        while (low < high) {
+            long mid = (low + high) >>> 1;
+            Set<String> members = redisTemplate.opsForZSet().reverseRange(key, mid, mid);
+            String member = members == null || members.isEmpty() ? null : members.iterator().next();
+            if (member != null && member.compareTo(anchor) >= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * 동률 공동 순위 (1, 1, 3 ...) 조회 - O(log n)
+     * 내 점수보다 큰 점수의 개수 + 1 (ZSCORE + ZCOUNT)
+     *
+     * @return 리더보드에 없으면 null
+     */
+    public Long rankOf(String key, Long accountId) {
+        Double score = score(key, accountId);
+        if (score == null) {
+            return null;
+        }
+        Long higher = redisTemplate.opsForZSet().count(key, Math.nextUp(score), Double.POSITIVE_INFINITY);
+        return (higher != null ? higher : 0L) + 1;
+    }
+
+    /**
+     * 여러 계좌의 동률 공동 순위 일괄 조회 (점수별 ZCOUNT를 파이프라인 한 번으로)
+     *
+     * @param scores 계좌 ID -> 점수 (scores()로 조회한 값)
+     */
+    public Map<Long, Long> ranksOf(String key, Map<Long, Double> scores) {
+        Map<Long, Long> result = new HashMap<>();
+        if (scores.isEmpty()) {
+            return result;
+        }
+        List<Map.Entry<Long, Double>> entries = new ArrayList<>(scores.entrySet());
+        byte[] rawKey = redisTemplate.getStringSerializer().serialize(key);
+        List<Object> counts = redisTemplate.executePipelined((RedisConnection connection) -> {
+            for (Map.Entry<Long, Double> entry : entries) {
+                connection.zSetCommands().zCount(rawKey, Math.nextUp(entry.getValue()), Double.POSITIVE_INFINITY);
+            }
+            return null;
+        });
+        for (int i = 0; i < entries.size() && i < counts.size(); i++) {
+            long higher = counts.get(i) instanceof Long count ? count : 0L;
+            result.put(entries.get(i).getKey(), higher + 1);
+        }
+        return result;
+    }
+
+    /**
+     * 점수 내림차순 위치 (0부터 시작, 동률은 서로 다른 위치) 조회 - O(log n)
+     */
+    public Long positionOf(String key, Long accountId) {
+        return redisTemplate.opsForZSet().reverseRank(key, String.valueOf(accountId));
+    }
+
+    public long size(String key) {
+        Long size = redisTemplate.opsForZSet().zCard(key);
+        return size != null ? size : 0L;
+    }
+
+    // ==================== 리더 노드로 넘기는 재적재 대상 ====================
+
+    /**
+     * 재적재가 필요한 계좌를 리더 노드에 넘김 (SADD)
+     *
+     * @return 저장에 실패하면 false (호출 측에서 다음 주기에 다시 시도)
+     */
+    public boolean addDirtyAccounts(Collection<Long> accountIds) {
+        if (accountIds.isEmpty()) {
+            return true;
+        }
+        try {
+            redisTemplate.opsForSet().add(DIRTY_ACCOUNTS_KEY, accountIds.stream().map(String::valueOf).toArray(String[]::new));
+            return true;
+        } catch (DataAccessException e) {
+            log.error("재적재 대상 계좌 전달 실패. count={}", accountIds.size(), e);
+            return false;
+        }
+    }
+
+    /**
+     * 다른 노드가 넘긴 재적재 대상 계좌를 최대 max개 꺼냄 (SPOP)
+     */
+    public Set<Long> popDirtyAccounts(long max) {
+        Set<Long> accountIds = new HashSet<>();
+        try {
+            List<String> members = redisTemplate.opsForSet().pop(DIRTY_ACCOUNTS_KEY, max);
+            if (members != null) {
+                members.forEach(member -> accountIds.add(Long.valueOf(member)));
+            }
+        } catch (DataAccessException e) {
+            log.error("재적재 대상 계좌 조회 실패", e);
+        }
+        return accountIds;
+    }
+
+    /**
+     * 전체 목록 교체 (임시 키에 적재 후 RENAME으로 원자적 교체)
+     */
+    public void replaceAll(String key, Map<Long, Double> scores) {
+        if (scores.isEmpty()) {
+            redisTemplate.delete(key);
+            return;
+        }
+        String tempKey = key + REBUILD_SUFFIX;
+        Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+        scores.forEach((accountId, score) ->
+                tuples.add(ZSetOperations.TypedTuple.of(String.valueOf(accountId), score)));
+
+        redisTemplate.delete(tempKey);
+        redisTemplate.opsForZSet().add(tempKey, tuples);
+        redisTemplate.rename(tempKey, key);
+    }
+}
@@ -0,0 +1,53 @@
+package grit.stockIt.domain.ranking.service;
+
+import grit.stockIt.domain.account.repository.AccountRepository;
+import grit.stockIt.domain.matching.event.LimitOrderFillEventMessage;
+import grit.stockIt.domain.notification.event.ExecutionFilledEvent;
+import grit.stockIt.domain.notification.event.MissionCompletedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 리더보드에 영향을 주는 이벤트를 수신하여 갱신 대상으로 표시
+ * 실제 재평가는 LeaderboardUpdateService.flushDirty()에서 모아서 처리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LeaderboardEventListener {
+
+    private final LeaderboardUpdateService leaderboardUpdateService;
+    private final AccountRepository accountRepository;
+
+    /**
+     * 체결로 현금/보유 수량이 바뀐 계좌 (커밋 후)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleExecutionFilled(ExecutionFilledEvent event) {
+        leaderboardUpdateService.markAccountDirty(event.accountId());
+    }
+
+    /**
+     * 미션 보상금이 지급된 Main 계좌 (커밋 후)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleMissionCompleted(MissionCompletedEvent event) {
+        if (event.moneyAmount() == null || event.moneyAmount() <= 0) {
+            return;
+        }
+        accountRepository.findByMemberIdAndIsDefaultTrue(event.memberId())
+                .ifPresent(account -> leaderboardUpdateService.markAccountDirty(account.getAccountId()));
+    }
+
+    /**
+     * 실시간 체결가 수신 (보유 계좌 재평가)
+     */
+    @EventListener
+    public void handlePriceTick(LimitOrderFillEventMessage message) {
+        leaderboardUpdateService.markPriceChanged(message.stockCode(), message.price());
+    }
+}
@@ -0,0 +1,241 @@
+package grit.stockIt.domain.ranking.service;
+
+import grit.stockIt.domain.account.dto.AccountValuation;
+import grit.stockIt.domain.account.entity.Account;
+import grit.stockIt.domain.account.repository.AccountRepository;
+import grit.stockIt.domain.account.service.AccountValuationService;
+import grit.stockIt.domain.mission.service.MissionService;
+import grit.stockIt.domain.ranking.dto.LeaderboardEntry;
+import grit.stockIt.domain.ranking.dto.MyRankChangeMessage;
+import grit.stockIt.domain.ranking.dto.RankingDiffMessage;
+import grit.stockIt.domain.ranking.event.LeaderboardChangedEvent;
+import grit.stockIt.domain.ranking.repository.RedisLeaderboardRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.user.SimpUser;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 리더보드 실시간 푸시 서비스 (STOMP)
+ * - /topic/ranking/{scope}: 상위 N 순서가 실제로 바뀐 경우에만 변경분 전송
+ * - /user/queue/rank: 접속 중인 회원의 순위가 바뀐 경우에만 전송
+ *   (갱신된 키에 속한 접속 회원만 대상으로, 키마다 점수/순위를 일괄 조회하여 회원 수와 무관하게 Redis 왕복 3회)
+ * - 범위(scope)별 최소 전송 간격으로 연속 변경을 하나로 합침
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LeaderboardPushService {
+
+    private static final String TOPIC_PREFIX = "/topic/ranking/";
+    private static final String USER_QUEUE = "/queue/rank";
+
+    private final RedisLeaderboardRepository leaderboardRepository;
+    private final AccountRepository accountRepository;
+    private final AccountValuationService accountValuationService;
+    private final MissionService missionService;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final SimpUserRegistry simpUserRegistry;
+
+    @Value("${ranking.push.top-n:20}")
+    private int topN;
+
+    @Value("${ranking.push.min-interval-ms:1000}")
+    private long minIntervalMs;
+
+    // 점수가 갱신되어 푸시 확인이 필요한 리더보드 키
+    private final Set<String> dirtyKeys = ConcurrentHashMap.newKeySet();
+    // 키 -> 마지막으로 보낸 상위 N (계좌 ID 순서)
+    private final Map<String, List<Long>> lastTopOrder = new ConcurrentHashMap<>();
+    // 키 -> 마지막 전송 시각
+    private final Map<String, Long> lastPushAt = new ConcurrentHashMap<>();
+    // 회원 ID -> (키 -> 마지막으로 보낸 내 순위)
+    private final Map<Long, Map<String, Long>> lastPersonalRanks = new ConcurrentHashMap<>();
+
+    @EventListener
+    public void handleLeaderboardChanged(LeaderboardChangedEvent event) {
+        dirtyKeys.addAll(event.keys());
+    }
+
+    /**
+     * 변경된 리더보드 푸시 (범위별 최소 간격 적용)
+     */
+    @Scheduled(fixedDelayString = "${ranking.push.tick-ms:250}")
+    public void pushChanges() {
+        if (dirtyKeys.isEmpty()) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        Set<String> keysToPush = new HashSet<>();
+        for (String key : dirtyKeys) {
+            if (now - lastPushAt.getOrDefault(key, 0L) >= minIntervalMs) {
+                keysToPush.add(key);
+            }
+        }
+        if (keysToPush.isEmpty()) {
+            return;
+        }
+        dirtyKeys.removeAll(keysToPush);
+
+        try {
+            for (String key : keysToPush) {
+                lastPushAt.put(key, now);
+                pushTopDiff(key);
+            }
+            pushPersonalRanks(keysToPush);
+        } catch (Exception e) {
+            log.error("랭킹 푸시 실패", e);
+        }
+    }
+
+    // ==================== 상위 N ====================
+
+    private void pushTopDiff(String key) {
+        List<LeaderboardEntry> top = leaderboardRepository.range(key, 0, topN - 1);
+        List<Long> order = top.stream().map(LeaderboardEntry::accountId).toList();
+        List<Long> previousOrder = lastTopOrder.put(key, order);
+        if (order.equals(previousOrder)) {
+            return; // 순서 변화 없음
+        }
+
+        // 새로 들어왔거나 위치가 바뀐 항목만 전송
+        Map<Long, Integer> previousPositions = new HashMap<>();
+        if (previousOrder != null) {
+            for (int i = 0; i < previousOrder.size(); i++) {
+                previousPositions.put(previousOrder.get(i), i);
+            }
+        }
+        List<Integer> changedPositions = new ArrayList<>();
+        for (int i = 0; i < order.size(); i++) {
+            Integer previousPosition = previousPositions.get(order.get(i));
+            if (previousPosition == null || previousPosition != i) {
+                changedPositions.add(i);
+            }
+        }
+
+        List<Long> removedAccountIds = previousOrder == null ? List.of() : previousOrder.stream()
+                .filter(accountId -> !order.contains(accountId))
+                .toList();
+
+        // 변경/이탈 계좌의 회원 정보를 한 번에 조회 (이탈 계좌는 메모리 평가값에 없을 수 있으므로 DB 기준)
+        List<Long> accountIds = new ArrayList<>(changedPositions.stream().map(order::get).toList());
+        accountIds.addAll(removedAccountIds);
+        Map<Long, Account> accounts = accountRepository.findAllWithMemberByAccountIdIn(accountIds).stream()
+                .collect(Collectors.toMap(Account::getAccountId, Function.identity()));
+        int[] ranks = LeaderboardEntry.competitionRanks(top);
+
+        List<RankingDiffMessage.Entry> changed = new ArrayList<>();
+        for (int position : changedPositions) {
+            LeaderboardEntry entry = top.get(position);
+            Account account = accounts.get(entry.accountId());
+            if (account == null) {
+                continue;
+            }
+            changed.add(new RankingDiffMessage.Entry(
+                    ranks[position],
+                    account.getMember().getMemberId(),
+                    account.getMember().getName(),
+                    account.getMember().getProfileImage(),
+                    missionService.getTierForMember(account.getMember()),
+                    entry.score()));
+        }
+
+        List<Long> removedMemberIds = removedAccountIds.stream()
+                .map(accounts::get)
+                .filter(Objects::nonNull)
+                .map(account -> account.getMember().getMemberId())
+                .toList();
+
+        String scope = leaderboardRepository.scopeOf(key);
+        messagingTemplate.convertAndSend(TOPIC_PREFIX + scope, new RankingDiffMessage(
+                scope, topN, changed, removedMemberIds, leaderboardRepository.size(key), LocalDateTime.now()));
+        log.debug("랭킹 변경분 푸시: {} (변경 {}건, 이탈 {}건)", scope, changed.size(), removedMemberIds.size());
+    }
+
+    // ==================== 내 순위 ====================
+
+    /**
+     * 접속 중인 회원 중 이번에 갱신된 리더보드에 속한 회원에게 순위 변경 전송
+     * - 회원/계좌 소속은 메모리 평가값으로 판단하고, Redis는 갱신된 키마다 일괄 조회
+     */
+    private void pushPersonalRanks(Set<String> keys) {
+        Set<Long> connectedMemberIds = new HashSet<>();
+        // 키 -> (계좌 ID -> 접속 사용자 이름)
+        Map<String, Map<Long, String>> targetsByKey = new HashMap<>();
+        for (SimpUser user : simpUserRegistry.getUsers()) {
+            Long memberId = parseMemberId(user.getName());
+            if (memberId == null) {
+                continue;
+            }
+            connectedMemberIds.add(memberId);
+
+            for (AccountValuation valuation : accountValuationService.getValuationsOfMember(memberId)) {
+                for (String key : keysOf(valuation)) {
+                    if (keys.contains(key)) {
+                        targetsByKey.computeIfAbsent(key, k -> new HashMap<>()).put(valuation.accountId(), user.getName());
+                    }
+                }
+            }
+        }
+        // 접속이 끊긴 회원의 기록 정리
+        lastPersonalRanks.keySet().retainAll(connectedMemberIds);
+
+        targetsByKey.forEach(this::pushPersonalRanks);
+    }
+
+    private void pushPersonalRanks(String key, Map<Long, String> userNameByAccount) {
+        Map<Long, Double> scores = leaderboardRepository.scores(key, new ArrayList<>(userNameByAccount.keySet()));
+        Map<Long, Long> ranks = leaderboardRepository.ranksOf(key, scores);
+        if (ranks.isEmpty()) {
+            return;
+        }
+        String scope = leaderboardRepository.scopeOf(key);
+        long size = leaderboardRepository.size(key);
+
+        ranks.forEach((accountId, rank) -> {
+            String userName = userNameByAccount.get(accountId);
+            Map<String, Long> sentRanks = lastPersonalRanks.computeIfAbsent(
+                    Long.valueOf(userName), id -> new ConcurrentHashMap<>());
+            Long previousRank = sentRanks.put(key, rank);
+            if (rank.equals(previousRank)) {
+                return;
+            }
+            messagingTemplate.convertAndSendToUser(userName, USER_QUEUE, new MyRankChangeMessage(
+                    scope, rank, previousRank, scores.get(accountId), size));
+        });
+    }
+
+    // ==================== Private 헬퍼 메서드 ====================
+
+    private List<String> keysOf(AccountValuation valuation) {
+        List<String> keys = new ArrayList<>();
+        if (valuation.isDefault()) {
+            keys.add(leaderboardRepository.mainKey());
+        }
+        if (valuation.contestId() != null) {
+            keys.add(leaderboardRepository.contestKey(valuation.contestId(), RedisLeaderboardRepository.SORT_TOTAL_ASSETS));
+            keys.add(leaderboardRepository.contestKey(valuation.contestId(), RedisLeaderboardRepository.SORT_RETURN_RATE));
+        }
+        return keys;
+    }
+
+    private Long parseMemberId(String name) {
+        try {
+            return Long.valueOf(name);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,327 @@
+package grit.stockIt.domain.ranking.service;
+
+import grit.stockIt.domain.account.dto.AccountValuation;
+import grit.stockIt.domain.account.dto.ContestAccountValuation;
+import grit.stockIt.domain.account.service.AccountValuationService;
+import grit.stockIt.domain.ranking.event.LeaderboardChangedEvent;
+import grit.stockIt.domain.ranking.repository.RedisLeaderboardRepository;
+import grit.stockIt.global.websocket.relay.ClusterLeadership;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 증분 리더보드 갱신 서비스
+ * - 체결(현금/보유 수량 변경)이 있으면 해당 계좌만 다시 적재하여 ZSET에 반영
+ * - 시세 변동은 AccountValuationService가 보유 계좌만 메모리에서 재평가하고, 여기서는 점수만 반영
+ * - 변경 요청은 dirty 집합에 모았다가 짧은 주기로 한 번에 처리 (같은 계좌의 연속 변경은 합쳐짐)
+ * - 전체 재구성은 기동 시와 하루 한 번(정합성 보정)만 수행하며, 전용 스레드에서 비동기로 실행
+ * - 재구성(임시 키 적재 후 RENAME) 중에 점수를 쓴 계좌는 재구성이 끝난 뒤 다시 써서 덮어쓰기로 잃지 않도록 함
+ * - 증분 점수는 feed 리더 노드만 씀: 실시간 시세는 리더만 받으므로 다른 노드의 메모리 평가는 오래된 시세 기준
+ *   → 다른 노드는 재적재 대상 계좌만 Redis로 넘기고, 리더가 다음 주기에 다시 읽어 반영
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LeaderboardUpdateService {
+
+    // 한 주기에 리더가 꺼내 오는 다른 노드의 재적재 대상 최대 수
+    private static final long FORWARDED_BATCH_SIZE = 10_000;
+
+    private final AccountValuationService accountValuationService;
+    private final RedisLeaderboardRepository leaderboardRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ClusterLeadership clusterLeadership;
+
+    // 현금/보유 수량이 바뀌어 DB 재적재가 필요한 계좌
+    private final Set<Long> dirtyAccounts = ConcurrentHashMap.newKeySet();
+    // 시세 변동으로 메모리에서 재평가된 계좌 (점수만 다시 쓰면 됨)
+    private final Set<Long> revaluedAccounts = ConcurrentHashMap.newKeySet();
+    // 재구성 도중 점수를 쓴 계좌 (재구성 완료 후 다시 반영)
+    private final Set<Long> writtenDuringRebuild = ConcurrentHashMap.newKeySet();
+    // 진행 중인 재구성 수 (전체 재구성 + 대회 재구성)
+    private final AtomicInteger rebuildsInProgress = new AtomicInteger();
+
+    private final AtomicBoolean fullRebuildRunning = new AtomicBoolean(false);
+    private ExecutorService rebuildExecutor;
+
+    // 대회별 마지막 재구성 시각 (참가자 없는 대회가 요청마다 재구성되지 않도록)
+    private final Map<Long, Long> contestRebuiltAt = new ConcurrentHashMap<>();
+    // 대회별 재구성 락 (동시 요청 중 한 건만 재구성)
+    private final Map<Long, Object> contestRebuildLocks = new ConcurrentHashMap<>();
+
+    // 빈 대회 리더보드를 다시 재구성하기까지 최소 간격
+    @Value("${ranking.leaderboard.contest-rebuild-cooldown-ms:30000}")
+    private long contestRebuildCooldownMs;
+
+    @PostConstruct
+    public void start() {
+        rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "leaderboard-rebuild");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void stop() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    // ==================== 변경 통지 ====================
+
+    /**
+     * 계좌의 현금/보유 수량이 바뀌었음을 통지
+     */
+    public void markAccountDirty(Long accountId) {
+        if (accountId != null) {
+            dirtyAccounts.add(accountId);
+        }
+    }
+
+    /**
+     * 종목 시세가 바뀌었음을 통지 (보유 계좌는 즉시 재평가, 점수는 다음 갱신 주기에 반영)
+     */
+    public void markPriceChanged(String stockCode, BigDecimal price) {
+        revaluedAccounts.addAll(accountValuationService.applyPrice(stockCode, price));
+    }
+
+    // ==================== 증분 갱신 ====================
+
+    /**
+     * 모아 둔 변경분 반영
+     * - dirty 계좌는 재적재 후, 재평가된 계좌는 메모리 평가값으로 점수 갱신
+     * - 리더가 아니면 점수를 쓰지 않고 재적재 대상만 리더에 넘김
+     */
+    @Scheduled(fixedDelayString = "${ranking.leaderboard.flush-interval-ms:2000}")
+    public void flushDirty() {
+        if (!clusterLeadership.isLeader()) {
+            forwardToLeader();
+            return;
+        }
+        dirtyAccounts.addAll(leaderboardRepository.popDirtyAccounts(FORWARDED_BATCH_SIZE));
+
+        if (rebuildsInProgress.get() == 0 && !writtenDuringRebuild.isEmpty()) {
+            revaluedAccounts.addAll(drain(writtenDuringRebuild));
+        }
+        if (dirtyAccounts.isEmpty() && revaluedAccounts.isEmpty()) {
+            return;
+        }
+
+        try {
+            Set<Long> reloadIds = drain(dirtyAccounts);
+            Set<Long> accountIds = drain(revaluedAccounts);
+            accountIds.addAll(reloadIds);
+
+            accountValuationService.reload(reloadIds);
+            writeScores(accountValuationService.getLoadedValuations(accountIds).values());
+            log.debug("리더보드 증분 갱신: 계좌 {}개 (재적재 {}개)", accountIds.size(), reloadIds.size());
+        } catch (Exception e) {
+            log.error("리더보드 증분 갱신 실패", e);
+        }
+    }
+
+    /**
+     * 지정한 계좌들을 다시 적재하여 ZSET에 즉시 반영
+     */
+    public void refreshAccounts(Collection<Long> accountIds) {
+        accountValuationService.reload(accountIds);
+        writeScores(accountValuationService.getLoadedValuations(accountIds).values());
+    }
+
+    // ==================== 전체 재구성 ====================
+
+    /**
+     * 리더보드 전체 재구성 요청 (전용 스레드에서 비동기 실행, 이미 진행 중이면 무시)
+     * - 애플리케이션 기동 시 1회
+     * - 매일 04:00 정합성 보정 (이벤트 유실 대비)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "0 0 4 * * *", zone = "Asia/Seoul")
+    public void requestRebuildAll() {
+        if (!fullRebuildRunning.compareAndSet(false, true)) {
+            log.info("리더보드 전체 재구성이 이미 진행 중이라 건너뜀");
+            return;
+        }
+        rebuildExecutor.execute(() -> {
+            try {
+                rebuildAll();
+            } finally {
+                fullRebuildRunning.set(false);
+            }
+        });
+    }
+
+    /**
+     * 리더보드 전체 재구성 (DB 전체 재적재 + 모든 랭킹 키 교체)
+     */
+    public void rebuildAll() {
+        log.info("리더보드 전체 재구성 시작");
+        rebuildsInProgress.incrementAndGet();
+        try {
+            accountValuationService.reloadAll();
+            Collection<AccountValuation> valuations = accountValuationService.getAllValuations();
+
+            Map<String, Map<Long, Double>> scoresByKey = new HashMap<>();
+            for (AccountValuation valuation : valuations) {
+                scoresFor(valuation).forEach((key, score) ->
+                        scoresByKey.computeIfAbsent(key, k -> new HashMap<>()).put(valuation.accountId(), score));
+            }
+
+            scoresByKey.forEach(leaderboardRepository::replaceAll);
+            eventPublisher.publishEvent(new LeaderboardChangedEvent(scoresByKey.keySet()));
+            log.info("리더보드 전체 재구성 완료: 계좌 {}개, 랭킹 {}개", valuations.size(), scoresByKey.size());
+        } catch (Exception e) {
+            log.error("리더보드 전체 재구성 실패", e);
+        } finally {
+            rebuildsInProgress.decrementAndGet();
+        }
+    }
+
+    /**
+     * 대회 하나의 리더보드 재구성
+     * - 대회 단위 집계 쿼리 1회로 총자산/수익률 두 랭킹을 함께 교체
+     * - 리더보드가 비어 있는 대회(Redis 초기화, 기동 직후 신규 대회 등)를 전체 재구성 없이 채울 때 사용
+     */
+    public void rebuildContest(Long contestId) {
+        rebuildsInProgress.incrementAndGet();
+        try {
+            replaceContest(contestId);
+            contestRebuiltAt.put(contestId, System.currentTimeMillis());
+        } finally {
+            rebuildsInProgress.decrementAndGet();
+        }
+    }
+
+    /**
+     * 대회 리더보드가 비어 있으면 재구성 (조회 경로용)
+     * - 같은 대회에 대한 동시 요청은 한 건만 재구성하고 나머지는 그 결과를 사용
+     * - 최근에 재구성했는데도 비어 있으면(참가자 없는 대회) 간격이 지날 때까지 다시 하지 않음
+     */
+    public void rebuildContestIfEmpty(Long contestId) {
+        String totalAssetsKey = leaderboardRepository.contestKey(contestId, RedisLeaderboardRepository.SORT_TOTAL_ASSETS);
+        if (recentlyRebuilt(contestId) || leaderboardRepository.size(totalAssetsKey) > 0) {
+            return;
+        }
+        synchronized (contestRebuildLocks.computeIfAbsent(contestId, id -> new Object())) {
+            // 락을 기다리는 동안 다른 요청이 재구성했으면 생략
+            if (recentlyRebuilt(contestId) || leaderboardRepository.size(totalAssetsKey) > 0) {
+                return;
+            }
+            rebuildContest(contestId);
+        }
+    }
+
+    // ==================== Private 헬퍼 메서드 ====================
+
+    // 이 노드에서 바뀐 계좌를 리더에 넘김 (실패하면 다음 주기에 다시 시도)
+    private void forwardToLeader() {
+        Set<Long> accountIds = drain(dirtyAccounts);
+        accountIds.addAll(drain(revaluedAccounts));
+        if (!accountIds.isEmpty() && !leaderboardRepository.addDirtyAccounts(accountIds)) {
+            dirtyAccounts.addAll(accountIds);
+        }
+    }
+
+    private boolean recentlyRebuilt(Long contestId) {
+        Long rebuiltAt = contestRebuiltAt.get(contestId);
+        return rebuiltAt != null && System.currentTimeMillis() - rebuiltAt < contestRebuildCooldownMs;
+    }
+
+    private void replaceContest(Long contestId) {
+        List<ContestAccountValuation> rows = accountValuationService.aggregateContest(contestId);
+
+        Map<Long, Double> totalAssetsScores = new HashMap<>();
+        Map<Long, Double> returnRateScores = new HashMap<>();
+        for (ContestAccountValuation row : rows) {
+            totalAssetsScores.put(row.getAccountId(), row.getTotalAssets().doubleValue());
+            returnRateScores.put(row.getAccountId(), row.getReturnRate().doubleValue());
+        }
+
+        String totalAssetsKey = leaderboardRepository.contestKey(contestId, RedisLeaderboardRepository.SORT_TOTAL_ASSETS);
+        String returnRateKey = leaderboardRepository.contestKey(contestId, RedisLeaderboardRepository.SORT_RETURN_RATE);
+        leaderboardRepository.replaceAll(totalAssetsKey, totalAssetsScores);
+        leaderboardRepository.replaceAll(returnRateKey, returnRateScores);
+        eventPublisher.publishEvent(new LeaderboardChangedEvent(Set.of(totalAssetsKey, returnRateKey)));
+        log.info("대회 [{}] 리더보드 재구성 완료: 계좌 {}개", contestId, rows.size());
+    }
+
+    private void writeScores(Collection<AccountValuation> valuations) {
+        // 키별로 모아 파이프라인 한 번에 기록 (계좌 x 키마다 왕복하지 않도록)
+        Map<String, Map<Long, Double>> scoresByKey = new HashMap<>();
+        for (AccountValuation valuation : valuations) {
+            scoresFor(valuation).forEach((key, score) ->
+                    scoresByKey.computeIfAbsent(key, k -> new HashMap<>()).put(valuation.accountId(), score));
+        }
+        if (scoresByKey.isEmpty()) {
+            return;
+        }
+        leaderboardRepository.upsertAll(scoresByKey);
+
+        // 재구성 중이면 RENAME으로 덮어써질 수 있으므로 재구성 후 다시 씀 (기록은 upsertAll 이후)
+        if (rebuildsInProgress.get() > 0) {
+            valuations.forEach(valuation -> writtenDuringRebuild.add(valuation.accountId()));
+        }
+        eventPublisher.publishEvent(new LeaderboardChangedEvent(scoresByKey.keySet()));
+    }
+
+    /**
+     * 계좌가 속한 랭킹 키별 점수
+     * - 대회 계좌: 대회 총자산 랭킹 + 대회 수익률 랭킹
+     * - Main 계좌: 위에 더해 Main 총자산 랭킹
+     */
+    private Map<String, Double> scoresFor(AccountValuation valuation) {
+        Map<String, Double> scores = new HashMap<>();
+        BigDecimal totalAssets = valuation.totalAssets();
+        if (valuation.contestId() != null) {
+            scores.put(leaderboardRepository.contestKey(valuation.contestId(), RedisLeaderboardRepository.SORT_TOTAL_ASSETS),
+                    totalAssets.doubleValue());
+            scores.put(leaderboardRepository.contestKey(valuation.contestId(), RedisLeaderboardRepository.SORT_RETURN_RATE),
+                    calculateReturnRate(totalAssets, valuation.seedMoney()).doubleValue());
+        }
+        if (valuation.isDefault()) {
+            scores.put(leaderboardRepository.mainKey(), totalAssets.doubleValue());
+        }
+        return scores;
+    }
+
+    /**
+     * 수익률 = (총자산 - 시드머니) / 시드머니 * 100 (소수점 2자리)
+     */
+    private BigDecimal calculateReturnRate(BigDecimal totalAssets, Long seedMoney) {
+        if (seedMoney == null || seedMoney == 0) {
+            return BigDecimal.ZERO;
+        }
+        BigDecimal seed = BigDecimal.valueOf(seedMoney);
+        return totalAssets.subtract(seed)
+                .divide(seed, 4, RoundingMode.HALF_UP)
+                .multiply(BigDecimal.valueOf(100))
+                .setScale(2, RoundingMode.HALF_UP);
+    }
+
+    private <T> Set<T> drain(Set<T> source) {
+        Set<T> drained = new HashSet<>();
+        Iterator<T> iterator = source.iterator();
+        while (iterator.hasNext()) {
+            drained.add(iterator.next());
+            iterator.remove();
+        }
+        return drained;
+    }
+}
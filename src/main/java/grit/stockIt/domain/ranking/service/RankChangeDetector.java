@@ -0,0 +1,163 @@
+package grit.stockIt.domain.ranking.service;
+
+import grit.stockIt.domain.account.dto.AccountValuation;
+import grit.stockIt.domain.account.service.AccountValuationService;
+import grit.stockIt.domain.ranking.dto.LeaderboardEntry;
+import grit.stockIt.domain.ranking.event.LeaderboardChangedEvent;
+import grit.stockIt.domain.ranking.event.RankThresholdCrossedEvent;
+import grit.stockIt.domain.ranking.repository.RedisLeaderboardRepository;
+import grit.stockIt.global.websocket.relay.ClusterLeadership;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 순위 구간 변화 감지기
+ * - 리더보드가 갱신된 키만 상위 구간(기본 Top 1/3/10/100)을 다시 읽어 이전 구성원과 비교
+ * - 구성원이 바뀐 경우에만 진입/이탈 이벤트(RankThresholdCrossedEvent) 발행
+ * - 업적, 알림 등은 이 이벤트만 구독하면 되므로 순위 변화가 없을 때 DB 작업이 없음
+ * - 이벤트가 노드마다 중복 발행되지 않도록 feed 리더 노드에서만 감지
+ *   (다른 노드에서 갱신된 키도 놓치지 않도록 리더는 fullScanMs 마다 알고 있는 키 전체를 다시 비교)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RankChangeDetector {
+
+    private final RedisLeaderboardRepository leaderboardRepository;
+    private final AccountValuationService accountValuationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ClusterLeadership clusterLeadership;
+
+    @Value("${ranking.rank-change.thresholds:1,3,10,100}")
+    private int[] thresholds;
+
+    @Value("${ranking.rank-change.full-scan-ms:10000}")
+    private long fullScanMs;
+
+    private long lastFullScanAt;
+
+    // 점수가 갱신되어 구간 비교가 필요한 리더보드 키
+    private final Set<String> dirtyKeys = ConcurrentHashMap.newKeySet();
+    // 이 노드에서 한 번이라도 갱신된 리더보드 키 (리더의 주기 전체 비교 대상)
+    private final Set<String> knownKeys = ConcurrentHashMap.newKeySet();
+    // 키 -> (구간 -> 구간 내 계좌 ID)
+    private final Map<String, Map<Integer, Set<Long>>> lastMembers = new ConcurrentHashMap<>();
+
+    @EventListener
+    public void handleLeaderboardChanged(LeaderboardChangedEvent event) {
+        dirtyKeys.addAll(event.keys());
+        knownKeys.addAll(event.keys());
+    }
+
+    /**
+     * 갱신된 리더보드의 구간 구성원 비교
+     */
+    @Scheduled(fixedDelayString = "${ranking.rank-change.tick-ms:1000}")
+    public void detectChanges() {
+        if (!clusterLeadership.isLeader()) {
+            // 리더가 아닌 동안의 기준 구성원은 버림 (리더가 되면 첫 비교를 initial로 처리)
+            dirtyKeys.clear();
+            lastMembers.clear();
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (now - lastFullScanAt >= fullScanMs) {
+            lastFullScanAt = now;
+            dirtyKeys.addAll(knownKeys);
+        }
+        if (dirtyKeys.isEmpty()) {
+            return;
+        }
+        for (String key : new ArrayList<>(dirtyKeys)) {
+            dirtyKeys.remove(key);
+            try {
+                detect(key);
+            } catch (Exception e) {
+                log.error("순위 구간 변화 감지 실패. key={}", key, e);
+            }
+        }
+    }
+
+    // ==================== Private 헬퍼 메서드 ====================
+
+    private void detect(String key) {
+        int maxThreshold = Arrays.stream(thresholds).max().orElse(0);
+        if (maxThreshold <= 0) {
+            return;
+        }
+
+        // 상위 구간 순위 (동률 공동 순위: 1, 1, 3 ...)
+        List<LeaderboardEntry> top = leaderboardRepository.range(key, 0, maxThreshold - 1);
+        int[] topRanks = LeaderboardEntry.competitionRanks(top);
+        Map<Long, Long> ranks = new LinkedHashMap<>();
+        for (int i = 0; i < top.size(); i++) {
+            ranks.put(top.get(i).accountId(), (long) topRanks[i]);
+        }
+
+        Map<Integer, Set<Long>> previous = lastMembers.get(key);
+        boolean initial = previous == null;
+        Map<Integer, Set<Long>> current = new HashMap<>();
+        List<Change> changes = new ArrayList<>();
+
+        for (int threshold : thresholds) {
+            Set<Long> members = new HashSet<>();
+            ranks.forEach((accountId, accountRank) -> {
+                if (accountRank <= threshold) {
+                    members.add(accountId);
+                }
+            });
+            current.put(threshold, members);
+
+            Set<Long> before = initial ? Set.of() : previous.getOrDefault(threshold, Set.of());
+            for (Long accountId : members) {
+                if (!before.contains(accountId)) {
+                    changes.add(new Change(threshold, accountId, true));
+                }
+            }
+            for (Long accountId : before) {
+                if (!members.contains(accountId)) {
+                    changes.add(new Change(threshold, accountId, false));
+                }
+            }
+        }
+        lastMembers.put(key, current);
+
+        if (changes.isEmpty()) {
+            return;
+        }
+        publish(key, changes, ranks, initial);
+    }
+
+    private void publish(String key, List<Change> changes, Map<Long, Long> ranks, boolean initial) {
+        String scope = leaderboardRepository.scopeOf(key);
+        Set<Long> accountIds = new HashSet<>();
+        changes.forEach(change -> accountIds.add(change.accountId()));
+        Map<Long, AccountValuation> valuations = accountValuationService.getLoadedValuations(accountIds);
+
+        for (Change change : changes) {
+            AccountValuation valuation = valuations.get(change.accountId());
+            if (valuation == null) {
+                continue; // 삭제된 계좌
+            }
+            Long rank = ranks.get(change.accountId());
+            if (rank == null && !change.entered()) {
+                rank = leaderboardRepository.rankOf(key, change.accountId());
+            }
+            eventPublisher.publishEvent(new RankThresholdCrossedEvent(
+                    scope, change.threshold(), change.accountId(), valuation.memberId(),
+                    change.entered(), rank, initial));
+        }
+        log.debug("순위 구간 변화 {}건 발행. scope={} initial={}", changes.size(), scope, initial);
+    }
+
+    private record Change(int threshold, Long accountId, boolean entered) {
+    }
+}
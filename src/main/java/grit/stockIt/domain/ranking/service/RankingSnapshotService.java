@@ -0,0 +1,240 @@
+package grit.stockIt.domain.ranking.service;
+
+import grit.stockIt.domain.account.dto.AccountValuation;
+import grit.stockIt.domain.account.service.AccountValuationService;
+import grit.stockIt.domain.contest.entity.Contest;
+import grit.stockIt.domain.contest.repository.ContestRepository;
+import grit.stockIt.domain.ranking.dto.LeaderboardEntry;
+import grit.stockIt.domain.ranking.dto.RankHistoryDto;
+import grit.stockIt.domain.ranking.dto.TopRankingHistoryDto;
+import grit.stockIt.domain.ranking.entity.RankingSnapshot;
+import grit.stockIt.domain.ranking.repository.RankingSnapshotJdbcRepository;
+import grit.stockIt.domain.ranking.repository.RankingSnapshotRepository;
+import grit.stockIt.domain.ranking.repository.RedisLeaderboardRepository;
+import grit.stockIt.global.websocket.relay.ClusterLeadership;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 랭킹 스냅샷 서비스
+ * - 주기적으로 리더보드 순위를 ranking_snapshot 테이블에 기록
+ * - 순위 변화/시점별 상위 랭킹 조회는 스냅샷 테이블만 사용 (계좌/보유 종목 테이블 접근 없음)
+ * - 보관 기간이 지난 스냅샷은 매일 삭제
+ * - 기록/삭제는 클러스터에서 한 노드(feed 리더)만 수행
+ * - 기록은 범위(scope)마다 JDBC 배치 INSERT 1회 (트랜잭션도 범위 단위라 한 범위 실패가 다른 범위에 영향 없음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class RankingSnapshotService {
+
+    private final RankingSnapshotRepository rankingSnapshotRepository;
+    private final RankingSnapshotJdbcRepository rankingSnapshotJdbcRepository;
+    private final RedisLeaderboardRepository leaderboardRepository;
+    private final ContestRepository contestRepository;
+    private final AccountValuationService accountValuationService;
+    private final ClusterLeadership clusterLeadership;
+
+    @Value("${ranking.snapshot.retention-days:30}")
+    private int retentionDays;
+
+    @Value("${ranking.snapshot.max-top:100}")
+    private int maxTop;
+
+    // ==================== 기록 ====================
+
+    /**
+     * 리더보드 스냅샷 기록 (기본 10분 간격)
+     * - Main 계좌 + 진행 중인 대회
+     * - 클래스의 읽기 전용 트랜잭션 밖에서 실행 (INSERT는 범위마다 insertAll의 트랜잭션에서)
+     */
+    @Scheduled(fixedDelayString = "${ranking.snapshot.interval-ms:600000}",
+            initialDelayString = "${ranking.snapshot.interval-ms:600000}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void captureSnapshots() {
+        if (!clusterLeadership.isLeader()) {
+            return;
+        }
+        LocalDateTime capturedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
+        int count = captureSafely(RedisLeaderboardRepository.MAIN_SCOPE, leaderboardRepository.mainKey(), null, capturedAt);
+        try {
+            for (Contest contest : contestRepository.findActiveContests(capturedAt)) {
+                count += captureSafely(RedisLeaderboardRepository.contestScope(contest.getContestId()),
+                        leaderboardRepository.contestKey(contest.getContestId(), RedisLeaderboardRepository.SORT_TOTAL_ASSETS),
+                        leaderboardRepository.contestKey(contest.getContestId(), RedisLeaderboardRepository.SORT_RETURN_RATE),
+                        capturedAt);
+            }
+        } catch (Exception e) {
+            log.error("진행 중인 대회 조회 실패 (대회 랭킹 스냅샷 생략)", e);
+        }
+        log.info("랭킹 스냅샷 기록 완료: {}건 ({})", count, capturedAt);
+    }
+
+    /**
+     * 보관 기간이 지난 스냅샷 삭제 (매일 04:30)
+     */
+    @Scheduled(cron = "0 30 4 * * *", zone = "Asia/Seoul")
+    @Transactional
+    public void purgeExpiredSnapshots() {
+        if (!clusterLeadership.isLeader()) {
+            return;
+        }
+        LocalDateTime threshold = LocalDateTime.now().minusDays(retentionDays);
+        int deleted = rankingSnapshotRepository.deleteByCapturedAtBefore(threshold);
+        log.info("만료된 랭킹 스냅샷 삭제: {}건 ({} 이전)", deleted, threshold);
+    }
+
+    // ==================== 조회 ====================
+
+    /**
+     * 회원의 순위 변화 조회
+     */
+    public RankHistoryDto getMemberHistory(Long memberId, Long contestId, LocalDateTime from, LocalDateTime to) {
+        List<RankHistoryDto.Point> points = rankingSnapshotRepository
+                .findByMemberIdAndScopeAndCapturedAtBetweenOrderByCapturedAtAsc(memberId, scopeOf(contestId), from, to)
+                .stream()
+                .map(snapshot -> RankHistoryDto.Point.builder()
+                        .capturedAt(snapshot.getCapturedAt())
+                        .totalAssetsRank(snapshot.getTotalAssetsRank())
+                        .returnRateRank(snapshot.getReturnRateRank())
+                        .totalAssets(snapshot.getTotalAssets())
+                        .returnRate(snapshot.getReturnRate())
+                        .build())
+                .toList();
+
+        return RankHistoryDto.builder()
+                .memberId(memberId)
+                .contestId(contestId)
+                .points(points)
+                .build();
+    }
+
+    /**
+     * 시점별 상위 N명 조회
+     */
+    public TopRankingHistoryDto getTopHistory(Long contestId, String sortBy, int limit, LocalDateTime from, LocalDateTime to) {
+        boolean isReturnRate = RedisLeaderboardRepository.SORT_RETURN_RATE.equalsIgnoreCase(sortBy);
+        if (isReturnRate && contestId == null) {
+            throw new IllegalArgumentException("Main 계좌는 수익률 랭킹을 제공하지 않습니다.");
+        }
+        int top = Math.max(1, Math.min(limit, maxTop));
+        String scope = scopeOf(contestId);
+
+        List<RankingSnapshot> snapshots = isReturnRate
+                ? rankingSnapshotRepository.findTopByReturnRate(scope, from, to, top)
+                : rankingSnapshotRepository.findTopByTotalAssets(scope, from, to, top);
+
+        // 쿼리가 시간순/순위순 정렬이므로 LinkedHashMap으로 묶어 순서 유지
+        Map<LocalDateTime, List<TopRankingHistoryDto.Entry>> byTime = new LinkedHashMap<>();
+        for (RankingSnapshot snapshot : snapshots) {
+            byTime.computeIfAbsent(snapshot.getCapturedAt(), t -> new ArrayList<>())
+                    .add(TopRankingHistoryDto.Entry.builder()
+                            .rank(isReturnRate ? snapshot.getReturnRateRank() : snapshot.getTotalAssetsRank())
+                            .memberId(snapshot.getMemberId())
+                            .totalAssets(snapshot.getTotalAssets())
+                            .returnRate(snapshot.getReturnRate())
+                            .build());
+        }
+
+        List<TopRankingHistoryDto.Frame> frames = byTime.entrySet().stream()
+                .map(entry -> TopRankingHistoryDto.Frame.builder()
+                        .capturedAt(entry.getKey())
+                        .entries(entry.getValue())
+                        .build())
+                .toList();
+
+        return TopRankingHistoryDto.builder()
+                .contestId(contestId)
+                .sortBy(isReturnRate ? RedisLeaderboardRepository.SORT_RETURN_RATE : RedisLeaderboardRepository.SORT_TOTAL_ASSETS)
+                .frames(frames)
+                .build();
+    }
+
+    // ==================== Private 헬퍼 메서드 ====================
+
+    // 범위 하나의 기록 실패는 로그만 남기고 다음 범위 진행
+    private int captureSafely(String scope, String totalAssetsKey, String returnRateKey, LocalDateTime capturedAt) {
+        try {
+            return capture(scope, totalAssetsKey, returnRateKey, capturedAt);
+        } catch (Exception e) {
+            log.error("랭킹 스냅샷 기록 실패. scope={}", scope, e);
+            return 0;
+        }
+    }
+
+    /**
+     * 한 범위(scope)의 리더보드를 스냅샷으로 저장
+     *
+     * @param returnRateKey 수익률 리더보드 키 (Main은 null)
+     * @return 저장한 건수
+     */
+    private int capture(String scope, String totalAssetsKey, String returnRateKey, LocalDateTime capturedAt) {
+        List<LeaderboardEntry> totalAssetsEntries = leaderboardRepository.range(totalAssetsKey, 0, -1);
+        if (totalAssetsEntries.isEmpty()) {
+            return 0;
+        }
+        Map<Long, Integer> totalAssetsRanks = competitionRanks(totalAssetsEntries);
+
+        Map<Long, Integer> returnRateRanks = Map.of();
+        Map<Long, Double> returnRates = Map.of();
+        if (returnRateKey != null) {
+            List<LeaderboardEntry> returnRateEntries = leaderboardRepository.range(returnRateKey, 0, -1);
+            returnRateRanks = competitionRanks(returnRateEntries);
+            returnRates = returnRateEntries.stream()
+                    .collect(Collectors.toMap(LeaderboardEntry::accountId, LeaderboardEntry::score));
+        }
+
+        Map<Long, AccountValuation> valuations = accountValuationService.getLoadedValuations(totalAssetsRanks.keySet());
+
+        List<RankingSnapshot> snapshots = new ArrayList<>(totalAssetsEntries.size());
+        for (LeaderboardEntry entry : totalAssetsEntries) {
+            AccountValuation valuation = valuations.get(entry.accountId());
+            if (valuation == null) {
+                continue;
+            }
+            Double returnRate = returnRates.get(entry.accountId());
+            snapshots.add(RankingSnapshot.builder()
+                    .scope(scope)
+                    .capturedAt(capturedAt)
+                    .accountId(entry.accountId())
+                    .memberId(valuation.memberId())
+                    .totalAssets(BigDecimal.valueOf(entry.score()).setScale(2, RoundingMode.HALF_UP))
+                    .totalAssetsRank(totalAssetsRanks.get(entry.accountId()))
+                    .returnRate(returnRate != null ? BigDecimal.valueOf(returnRate).setScale(2, RoundingMode.HALF_UP) : null)
+                    .returnRateRank(returnRateRanks.get(entry.accountId()))
+                    .build());
+        }
+
+        rankingSnapshotJdbcRepository.insertAll(snapshots);
+        return snapshots.size();
+    }
+
+    /**
+     * 계좌 ID -> 동률 공동 순위 (1, 1, 3 ...)
+     */
+    private Map<Long, Integer> competitionRanks(List<LeaderboardEntry> entries) {
+        int[] ranks = LeaderboardEntry.competitionRanks(entries);
+        Map<Long, Integer> ranksByAccount = new HashMap<>();
+        for (int i = 0; i < entries.size(); i++) {
+            ranksByAccount.put(entries.get(i).accountId(), ranks[i]);
+        }
+        return ranksByAccount;
+    }
+
+    private String scopeOf(Long contestId) {
+        return contestId == null ? RedisLeaderboardRepository.MAIN_SCOPE : RedisLeaderboardRepository.contestScope(contestId);
+    }
+}
@@ -1,19 +1,18 @@
 package grit.stockIt.domain.stock.analysis.repository;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import grit.stockIt.domain.stock.analysis.dto.DividendData;
 import grit.stockIt.domain.stock.analysis.dto.FinancialData;
 import grit.stockIt.domain.stock.analysis.dto.MarketData;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.dao.DataAccessException;
-import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
 import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
 
 import java.time.Duration;
-import java.util.Optional;
 
+// 종목분석 입력 데이터 캐시 (Mono 체인에서만 사용하므로 논블로킹 템플릿 사용)
 @Slf4j
 @Repository
 @RequiredArgsConstructor
@@ -27,106 +26,66 @@ public class RedisStockAnalysisRepository {
     private static final Duration FINANCIAL_DATA_TTL = Duration.ofHours(24);  // 24시간
     private static final Duration DIVIDEND_DATA_TTL = Duration.ofHours(24);   // 24시간
 
-    private final StringRedisTemplate redisTemplate;
+    private final ReactiveStringRedisTemplate reactiveRedisTemplate;
     private final ObjectMapper objectMapper;
 
     // 시장 데이터 (시가총액, PER, PBR)
-    public void saveMarketData(String stockCode, MarketData data) {
-        if (stockCode == null || data == null) {
-            return;
-        }
-        try {
-            String json = objectMapper.writeValueAsString(data);
-            redisTemplate.opsForValue().set(
-                    buildMarketDataKey(stockCode),
-                    json,
-                    MARKET_DATA_TTL
-            );
-        } catch (DataAccessException | JsonProcessingException e) {
-            log.error("Redis에 시장 데이터 저장 실패. stockCode={}", stockCode, e);
-        }
+    public Mono<Void> saveMarketData(String stockCode, MarketData data) {
+        return save(buildMarketDataKey(stockCode), stockCode, data, MARKET_DATA_TTL, "시장");
     }
 
-    public Optional<MarketData> getMarketData(String stockCode) {
-        if (stockCode == null) {
-            return Optional.empty();
-        }
-        try {
-            String json = redisTemplate.opsForValue().get(buildMarketDataKey(stockCode));
-            if (json == null) {
-                return Optional.empty();
-            }
-            return Optional.of(objectMapper.readValue(json, MarketData.class));
-        } catch (DataAccessException | JsonProcessingException e) {
-            log.error("Redis에서 시장 데이터 조회 실패. stockCode={}", stockCode, e);
-            return Optional.empty();
-        }
+    public Mono<MarketData> getMarketData(String stockCode) {
+        return find(buildMarketDataKey(stockCode), stockCode, MarketData.class, "시장");
     }
 
     // 재무 데이터 (ROE, 부채비율)
-    public void saveFinancialData(String stockCode, FinancialData data) {
-        if (stockCode == null || data == null) {
-            return;
-        }
-        try {
-            String json = objectMapper.writeValueAsString(data);
-            redisTemplate.opsForValue().set(
-                    buildFinancialDataKey(stockCode),
-                    json,
-                    FINANCIAL_DATA_TTL
-            );
-        } catch (DataAccessException | JsonProcessingException e) {
-            log.error("Redis에 재무 데이터 저장 실패. stockCode={}", stockCode, e);
-        }
+    public Mono<Void> saveFinancialData(String stockCode, FinancialData data) {
+        return save(buildFinancialDataKey(stockCode), stockCode, data, FINANCIAL_DATA_TTL, "재무");
     }
 
-    public Optional<FinancialData> getFinancialData(String stockCode) {
-        if (stockCode == null) {
-            return Optional.empty();
-        }
-        try {
-            String json = redisTemplate.opsForValue().get(buildFinancialDataKey(stockCode));
-            if (json == null) {
-                return Optional.empty();
-            }
-            return Optional.of(objectMapper.readValue(json, FinancialData.class));
-        } catch (DataAccessException | JsonProcessingException e) {
-            log.error("Redis에서 재무 데이터 조회 실패. stockCode={}", stockCode, e);
-            return Optional.empty();
-        }
+    public Mono<FinancialData> getFinancialData(String stockCode) {
+        return find(buildFinancialDataKey(stockCode), stockCode, FinancialData.class, "재무");
     }
 
     // 배당 데이터 (배당수익률)
-    public void saveDividendData(String stockCode, DividendData data) {
+    public Mono<Void> saveDividendData(String stockCode, DividendData data) {
+        return save(buildDividendDataKey(stockCode), stockCode, data, DIVIDEND_DATA_TTL, "배당");
+    }
+
+    public Mono<DividendData> getDividendData(String stockCode) {
+        return find(buildDividendDataKey(stockCode), stockCode, DividendData.class, "배당");
+    }
+
+    // 저장 실패는 로그만 남기고 무시 (캐시이므로)
+    private Mono<Void> save(String key, String stockCode, Object data, Duration ttl, String label) {
         if (stockCode == null || data == null) {
-            return;
-        }
-        try {
-            String json = objectMapper.writeValueAsString(data);
-            redisTemplate.opsForValue().set(
-                    buildDividendDataKey(stockCode),
-                    json,
-                    DIVIDEND_DATA_TTL
-            );
-        } catch (DataAccessException | JsonProcessingException e) {
-            log.error("Redis에 배당 데이터 저장 실패. stockCode={}", stockCode, e);
+            return Mono.empty();
         }
+        return Mono.fromCallable(() -> objectMapper.writeValueAsString(data))
+                .flatMap(json -> reactiveRedisTemplate.opsForValue().set(key, json, ttl))
+                .doOnError(e -> log.error("Redis에 {} 데이터 저장 실패. stockCode={}", label, stockCode, e))
+                .onErrorResume(e -> Mono.empty())
+                .then();
     }
 
-    public Optional<DividendData> getDividendData(String stockCode) {
+    // 값이 없거나 조회/파싱 실패 시 empty
+    private <T> Mono<T> find(String key, String stockCode, Class<T> type, String label) {
         if (stockCode == null) {
-            return Optional.empty();
-        }
-        try {
-            String json = redisTemplate.opsForValue().get(buildDividendDataKey(stockCode));
-            if (json == null) {
-                return Optional.empty();
-            }
-            return Optional.of(objectMapper.readValue(json, DividendData.class));
-        } catch (DataAccessException | JsonProcessingException e) {
-            log.error("Redis에서 배당 데이터 조회 실패. stockCode={}", stockCode, e);
-            return Optional.empty();
+            return Mono.empty();
         }
+        return reactiveRedisTemplate.opsForValue()
+                .get(key)
+                .map(json -> {
+                    try {
+                        return objectMapper.readValue(json, type);
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                })
+                .onErrorResume(e -> {
+                    log.error("Redis에서 {} 데이터 조회 실패. stockCode={}", label, stockCode, e);
+                    return Mono.empty();
+                });
     }
 
     private String buildMarketDataKey(String stockCode) {
@@ -141,4 +100,3 @@ public class RedisStockAnalysisRepository {
         return DIVIDEND_DATA_KEY_PATTERN.formatted(stockCode);
     }
 }
-
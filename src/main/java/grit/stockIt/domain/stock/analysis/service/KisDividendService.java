@@ -4,6 +4,7 @@ import grit.stockIt.domain.stock.analysis.dto.KisDividendOutput;
 import grit.stockIt.domain.stock.analysis.dto.KisDividendResponseDto;
 import grit.stockIt.global.auth.KisTokenManager;
 import grit.stockIt.global.config.KisApiProperties;
+import grit.stockIt.global.kis.KisApiGateway;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -25,6 +26,7 @@ public class KisDividendService {
     private final WebClient webClient;
     private final KisTokenManager kisTokenManager;
     private final KisApiProperties kisApiProperties;
+    private final KisApiGateway kisApiGateway;
 
     // KIS API에서 배당정보 조회
     public Mono<KisDividendOutput> getDividendInfo(String stockCode) {
@@ -39,24 +41,24 @@ public class KisDividendService {
         // 종목코드를 9자리로 맞춤 (공백으로 채움)
         String paddedStockCode = String.format("%-9s", stockCode);
 
-        return webClient.get()
-                .uri(uriBuilder -> uriBuilder
-                        .path("/uapi/domestic-stock/v1/ksdinfo/dividend")
-                        .queryParam("CTS", CTS_BLANK)  // 공백 17자
-                        .queryParam("GB1", "0")         // 0: 배당전체
-                        .queryParam("F_DT", fromDate)   // 조회시작일
-                        .queryParam("T_DT", toDate)     // 조회종료일
-                        .queryParam("SHT_CD", paddedStockCode)  // 종목코드 (9자)
-                        .queryParam("HIGH_GB", " ")     // 공백
-                        .build())
-                .header("content-type", "application/json; charset=utf-8")
-                .header("authorization", "Bearer " + accessToken)
-                .header("appkey", kisApiProperties.appkey())
-                .header("appsecret", kisApiProperties.appsecret())
-                .header("tr_id", TR_ID)
-                .header("custtype", "P")
-                .retrieve()
-                .bodyToMono(KisDividendResponseDto.class)
+        return kisApiGateway.execute("dividend", stockCode + ":" + fromDate + ":" + toDate, () -> webClient.get()
+                        .uri(uriBuilder -> uriBuilder
+                                .path("/uapi/domestic-stock/v1/ksdinfo/dividend")
+                                .queryParam("CTS", CTS_BLANK)  // 공백 17자
+                                .queryParam("GB1", "0")         // 0: 배당전체
+                                .queryParam("F_DT", fromDate)   // 조회시작일
+                                .queryParam("T_DT", toDate)     // 조회종료일
+                                .queryParam("SHT_CD", paddedStockCode)  // 종목코드 (9자)
+                                .queryParam("HIGH_GB", " ")     // 공백
+                                .build())
+                        .header("content-type", "application/json; charset=utf-8")
+                        .header("authorization", "Bearer " + accessToken)
+                        .header("appkey", kisApiProperties.appkey())
+                        .header("appsecret", kisApiProperties.appsecret())
+                        .header("tr_id", TR_ID)
+                        .header("custtype", "P")
+                        .retrieve()
+                        .bodyToMono(KisDividendResponseDto.class))
                 .map(response -> {
                     log.info("KIS 배당정보 API 응답 코드: {}, 메시지: {}", response.rtCd(), response.msg1());
 
@@ -4,6 +4,7 @@ import grit.stockIt.domain.stock.analysis.dto.KisFinancialRatioOutput;
 import grit.stockIt.domain.stock.analysis.dto.KisFinancialRatioResponseDto;
 import grit.stockIt.global.auth.KisTokenManager;
 import grit.stockIt.global.config.KisApiProperties;
+import grit.stockIt.global.kis.KisApiGateway;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -21,26 +22,27 @@ public class KisFinancialRatioService {
     private final WebClient webClient;
     private final KisTokenManager kisTokenManager;
     private final KisApiProperties kisApiProperties;
+    private final KisApiGateway kisApiGateway;
 
     // KIS API에서 재무비율 조회
     public Mono<KisFinancialRatioOutput> getFinancialRatio(String stockCode) {
         String accessToken = kisTokenManager.getAccessToken();
 
-        return webClient.get()
-                .uri(uriBuilder -> uriBuilder
-                        .path("/uapi/domestic-stock/v1/finance/financial-ratio")
-                        .queryParam("FID_DIV_CLS_CODE", "0")  // 0: 년, 1: 분기
-                        .queryParam("fid_cond_mrkt_div_code", "J")  // J: 주식
-                        .queryParam("fid_input_iscd", stockCode)
-                        .build())
-                .header("content-type", "application/json; charset=utf-8")
-                .header("authorization", "Bearer " + accessToken)
-                .header("appkey", kisApiProperties.appkey())
-                .header("appsecret", kisApiProperties.appsecret())
-                .header("tr_id", TR_ID)
-                .header("custtype", "P")
-                .retrieve()
-                .bodyToMono(KisFinancialRatioResponseDto.class)
+        return kisApiGateway.execute("financial-ratio", stockCode, () -> webClient.get()
+                        .uri(uriBuilder -> uriBuilder
+                                .path("/uapi/domestic-stock/v1/finance/financial-ratio")
+                                .queryParam("FID_DIV_CLS_CODE", "0")  // 0: 년, 1: 분기
+                                .queryParam("fid_cond_mrkt_div_code", "J")  // J: 주식
+                                .queryParam("fid_input_iscd", stockCode)
+                                .build())
+                        .header("content-type", "application/json; charset=utf-8")
+                        .header("authorization", "Bearer " + accessToken)
+                        .header("appkey", kisApiProperties.appkey())
+                        .header("appsecret", kisApiProperties.appsecret())
+                        .header("tr_id", TR_ID)
+                        .header("custtype", "P")
+                        .retrieve()
+                        .bodyToMono(KisFinancialRatioResponseDto.class))
                 .map(response -> {
                     log.info("KIS 재무비율 API 응답 코드: {}, 메시지: {}", response.rtCd(), response.msg1());
 
@@ -86,22 +86,16 @@ public class StockAnalysisService {
     // 시장 데이터 조회 (캐시 우선)
     public Mono<MarketData> getMarketData(String stockCode) {
         // 1. 캐시 확인
-        return Mono.fromCallable(() -> redisStockAnalysisRepository.getMarketData(stockCode))
-                .flatMap(cachedData -> {
-                    if (cachedData.isPresent()) {
-                        log.info("캐시에서 시장 데이터 조회: stockCode={}", stockCode);
-                        return Mono.just(cachedData.get());
-                    }
-
+        return redisStockAnalysisRepository.getMarketData(stockCode)
+                .doOnNext(cachedData -> log.info("캐시에서 시장 데이터 조회: stockCode={}", stockCode))
+                .switchIfEmpty(Mono.defer(() -> {
                     // 2. 캐시에 없으면 KIS API 호출 (순환 참조 방지를 위해 getMarketDataFromKis 사용)
                     log.info("캐시에 없어 KIS API 호출 (시장 데이터): stockCode={}", stockCode);
                     return stockDetailService.getMarketDataFromKis(stockCode)
-                            .map(data -> {
-                                // 3. 캐시 저장
-                                redisStockAnalysisRepository.saveMarketData(stockCode, data);
-                                return data;
-                            });
-                })
+                            // 3. 캐시 저장
+                            .flatMap(data -> redisStockAnalysisRepository.saveMarketData(stockCode, data)
+                                    .thenReturn(data));
+                }))
                 .onErrorResume(e -> {
                     log.error("시장 데이터 조회 실패: stockCode={}", stockCode, e);
                     // 기본값 반환
@@ -112,26 +106,21 @@ public class StockAnalysisService {
     // 재무 데이터 조회 (캐시 우선)
     public Mono<FinancialData> getFinancialData(String stockCode) {
         // 1. 캐시 확인
-        return Mono.fromCallable(() -> redisStockAnalysisRepository.getFinancialData(stockCode))
-                .flatMap(cachedData -> {
-                    if (cachedData.isPresent()) {
-                        log.info("캐시에서 재무 데이터 조회: stockCode={}", stockCode);
-                        return Mono.just(cachedData.get());
-                    }
-
+        return redisStockAnalysisRepository.getFinancialData(stockCode)
+                .doOnNext(cachedData -> log.info("캐시에서 재무 데이터 조회: stockCode={}", stockCode))
+                .switchIfEmpty(Mono.defer(() -> {
                     // 2. 캐시에 없으면 KIS API 호출
                     log.info("캐시에 없어 KIS API 호출 (재무 데이터): stockCode={}", stockCode);
                     return kisFinancialRatioService.getFinancialRatio(stockCode)
                             .map(output -> {
                                 Double roe = parseDoubleValue(output.roeVal());
                                 Double debtRatio = parseDoubleValue(output.lbltRate());
-
-                                FinancialData data = new FinancialData(roe, debtRatio);
-                                // 3. 캐시 저장
-                                redisStockAnalysisRepository.saveFinancialData(stockCode, data);
-                                return data;
-                            });
-                })
+                                return new FinancialData(roe, debtRatio);
+                            })
+                            // 3. 캐시 저장
+                            .flatMap(data -> redisStockAnalysisRepository.saveFinancialData(stockCode, data)
+                                    .thenReturn(data));
+                }))
                 .onErrorResume(e -> {
                     log.error("재무 데이터 조회 실패: stockCode={}", stockCode, e);
                     // 기본값 반환
@@ -142,32 +131,21 @@ public class StockAnalysisService {
     // 배당 데이터 조회 (캐시 우선)
     public Mono<DividendData> getDividendData(String stockCode) {
         // 1. 캐시 확인
-        return Mono.fromCallable(() -> redisStockAnalysisRepository.getDividendData(stockCode))
-                .flatMap(cachedData -> {
-                    if (cachedData.isPresent()) {
-                        log.info("캐시에서 배당 데이터 조회: stockCode={}", stockCode);
-                        return Mono.just(cachedData.get());
-                    }
-
+        return redisStockAnalysisRepository.getDividendData(stockCode)
+                .doOnNext(cachedData -> log.info("캐시에서 배당 데이터 조회: stockCode={}", stockCode))
+                .switchIfEmpty(Mono.defer(() -> {
                     // 2. 캐시에 없으면 KIS API 호출
                     log.info("캐시에 없어 KIS API 호출 (배당 데이터): stockCode={}", stockCode);
                     return kisDividendService.getDividendInfo(stockCode)
                             .map(output -> {
-                                if (output == null) {
-                                    // 배당 정보가 없는 경우
-                                    DividendData data = new DividendData(0.0);
-                                    redisStockAnalysisRepository.saveDividendData(stockCode, data);
-                                    return data;
-                                }
-
                                 Double dividendYield = parseDoubleValue(output.diviRate());
-                                DividendData data = new DividendData(dividendYield != null ? dividendYield : 0.0);
-                                // 3. 캐시 저장
-                                redisStockAnalysisRepository.saveDividendData(stockCode, data);
-                                return data;
+                                return new DividendData(dividendYield != null ? dividendYield : 0.0);
                             })
-                            .defaultIfEmpty(new DividendData(0.0));  // null인 경우 기본값
-                })
+                            .defaultIfEmpty(new DividendData(0.0))  // 배당 정보가 없는 경우 기본값
+                            // 3. 캐시 저장
+                            .flatMap(data -> redisStockAnalysisRepository.saveDividendData(stockCode, data)
+                                    .thenReturn(data));
+                }))
                 .onErrorResume(e -> {
                     log.error("배당 데이터 조회 실패: stockCode={}", stockCode, e);
                     // 기본값 반환
@@ -1,9 +1,14 @@
 package grit.stockIt.domain.stock.controller;
 
+import grit.stockIt.domain.stock.dto.IndicatorType;
+import grit.stockIt.domain.stock.dto.StockChartColumnarDto;
 import grit.stockIt.domain.stock.dto.StockChartDto;
 import grit.stockIt.domain.stock.dto.StockDetailDto;
+import grit.stockIt.domain.stock.dto.StockIndicatorDto;
+import grit.stockIt.domain.stock.service.ChartDownsampler;
 import grit.stockIt.domain.stock.service.StockChartService;
 import grit.stockIt.domain.stock.service.StockDetailService;
+import grit.stockIt.domain.stock.service.StockIndicatorService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -25,6 +30,7 @@ public class StockDetailController {
 
     private final StockDetailService stockDetailService;
     private final StockChartService stockChartService;
+    private final StockIndicatorService stockIndicatorService;
 
     /**
      * 주식 상세 정보 조회
@@ -49,23 +55,85 @@ public class StockDetailController {
      * 주식 차트 데이터 조회
      * @param stockCode 종목코드 (6자리)
      * @param periodType 기간 타입 (1day/1week/3month/1year/5year)
+     * @param maxPoints 최대 봉 수 (지정 시 LTTB로 모양을 유지하며 줄임)
      * @return 차트 데이터 리스트
      */
     @Operation(
             summary = "주식 차트 데이터 조회",
             description = "종목코드와 기간 타입으로 주식의 차트 데이터를 조회합니다. " +
                     "기간 타입: 1day(1일, 1분 간격), 1week(1주, 10분 간격), 3month(3달, 1일 간격), " +
-                    "1year(1년, 7일 간격), 5year(5년, 1달 간격)."
+                    "1year(1년, 7일 간격), 5year(5년, 1달 간격). " +
+                    "maxPoints를 지정하면 차트 모양을 유지하면서 봉 개수를 그 이하로 줄여서 응답합니다."
     )
     @GetMapping("/{stockCode}/chart")
     public Mono<List<StockChartDto>> getStockChart(
             @PathVariable String stockCode,
-            @RequestParam String periodType
+            @RequestParam String periodType,
+            @RequestParam(required = false) Integer maxPoints
     ) {
         return stockChartService.getStockChart(stockCode, periodType)
+                .map(chartData -> ChartDownsampler.downsample(chartData, maxPoints))
                 .doOnError(error ->
                     log.error("주식 차트 데이터 조회 중 오류 발생: {} - {}", stockCode, periodType, error)
                 );
     }
-}
 
+    /**
+     * 주식 차트 데이터 조회 (컬럼형)
+     * @param stockCode 종목코드 (6자리)
+     * @param periodType 기간 타입 (1day/1week/3month/1year/5year)
+     * @param maxPoints 최대 봉 수 (지정 시 LTTB로 모양을 유지하며 줄임)
+     * @return 항목별 배열로 묶은 차트 데이터
+     */
+    @Operation(
+            summary = "주식 차트 데이터 조회 (컬럼형)",
+            description = "차트 데이터 조회와 같은 데이터를 봉 단위 객체 대신 항목별 배열(일자, 시간, 시가, 고가, 저가, 종가, 거래량)로 응답합니다. " +
+                    "일자는 yyyyMMdd, 시간은 HHmm 정수이며 시간은 분봉일 때만 포함됩니다."
+    )
+    @GetMapping("/{stockCode}/chart/columnar")
+    public Mono<StockChartColumnarDto> getStockChartColumnar(
+            @PathVariable String stockCode,
+            @RequestParam String periodType,
+            @RequestParam(required = false) Integer maxPoints
+    ) {
+        return stockChartService.getStockChart(stockCode, periodType)
+                .map(chartData -> StockChartColumnarDto.from(stockCode, periodType,
+                        ChartDownsampler.downsample(chartData, maxPoints)))
+                .doOnError(error ->
+                    log.error("주식 차트 데이터(컬럼형) 조회 중 오류 발생: {} - {}", stockCode, periodType, error)
+                );
+    }
+
+    /**
+     * 기술적 지표 조회 (차트 보조지표)
+     * @param stockCode 종목코드 (6자리)
+     * @param periodType 기간 타입 (차트 조회와 동일)
+     * @param indicator 지표 (sma/ema/rsi/macd/bollinger/vwap)
+     * @return 차트 봉 순서에 맞춘 지표 값
+     */
+    @Operation(
+            summary = "기술적 지표 조회",
+            description = "차트 데이터 조회와 같은 봉을 기준으로 기술적 지표를 계산합니다. " +
+                    "지표: sma, ema (period, 기본 20), rsi (period, 기본 14), " +
+                    "macd (fastPeriod/slowPeriod/signalPeriod, 기본 12/26/9), " +
+                    "bollinger (period 기본 20, multiplier 기본 2.0), vwap (일자별 누적). " +
+                    "계산 구간이 부족한 앞부분 값은 null입니다."
+    )
+    @GetMapping("/{stockCode}/chart/indicators")
+    public Mono<StockIndicatorDto> getStockIndicator(
+            @PathVariable String stockCode,
+            @RequestParam String periodType,
+            @RequestParam String indicator,
+            @RequestParam(required = false) Integer period,
+            @RequestParam(required = false) Integer fastPeriod,
+            @RequestParam(required = false) Integer slowPeriod,
+            @RequestParam(required = false) Integer signalPeriod,
+            @RequestParam(required = false) Double multiplier
+    ) {
+        return stockIndicatorService.getIndicator(stockCode, periodType, IndicatorType.from(indicator),
+                        period, fastPeriod, slowPeriod, signalPeriod, multiplier)
+                .doOnError(error ->
+                    log.error("기술적 지표 조회 중 오류 발생: {} - {} {}", stockCode, periodType, indicator, error)
+                );
+    }
+}
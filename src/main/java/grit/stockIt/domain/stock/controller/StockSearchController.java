@@ -21,7 +21,7 @@ public class StockSearchController {
 
     private final StockSearchService stockSearchService;
 
-    @Operation(summary = "종목 검색", description = "종목명을 기준으로 자카드 유사도 내림차순으로 결과 반환(유사도 0 초과)")
+    @Operation(summary = "종목 검색", description = "종목명(자카드 유사도) 또는 종목코드를 기준으로 유사도 내림차순으로 결과 반환(유사도 0 초과)")
     @GetMapping("/search")
     public ResponseEntity<List<StockSearchDto>> searchStocks(@RequestParam(name = "q") String q) {
         List<StockSearchDto> results = stockSearchService.searchByName(q);
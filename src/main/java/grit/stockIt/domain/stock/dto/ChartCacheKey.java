@@ -0,0 +1,5 @@
+package grit.stockIt.domain.stock.dto;
+
+// 차트 캐시 단위 (종목코드 + 기간 타입)
+public record ChartCacheKey(String stockCode, String periodType) {
+}
@@ -0,0 +1,59 @@
+package grit.stockIt.domain.stock.dto;
+
+import grit.stockIt.global.exception.BadRequestException;
+
+import java.util.Arrays;
+
+/**
+ * 기술적 지표 종류 (기본 파라미터 포함)
+ */
+public enum IndicatorType {
+    SMA(20, 0, 0, 0, 0),                  // 단순이동평균 (기간)
+    EMA(20, 0, 0, 0, 0),                  // 지수이동평균 (기간)
+    RSI(14, 0, 0, 0, 0),                  // 상대강도지수 (기간, Wilder 평활)
+    MACD(0, 12, 26, 9, 0),                // MACD (단기, 장기, 시그널)
+    BOLLINGER(20, 0, 0, 0, 2.0),          // 볼린저 밴드 (기간, 표준편차 배수)
+    VWAP(0, 0, 0, 0, 0);                  // 거래량가중평균가 (일자별 누적)
+
+    private final int defaultPeriod;
+    private final int defaultFastPeriod;
+    private final int defaultSlowPeriod;
+    private final int defaultSignalPeriod;
+    private final double defaultMultiplier;
+
+    IndicatorType(int defaultPeriod, int defaultFastPeriod, int defaultSlowPeriod,
+                  int defaultSignalPeriod, double defaultMultiplier) {
+        this.defaultPeriod = defaultPeriod;
+        this.defaultFastPeriod = defaultFastPeriod;
+        this.defaultSlowPeriod = defaultSlowPeriod;
+        this.defaultSignalPeriod = defaultSignalPeriod;
+        this.defaultMultiplier = defaultMultiplier;
+    }
+
+    public int getDefaultPeriod() {
+        return defaultPeriod;
+    }
+
+    public int getDefaultFastPeriod() {
+        return defaultFastPeriod;
+    }
+
+    public int getDefaultSlowPeriod() {
+        return defaultSlowPeriod;
+    }
+
+    public int getDefaultSignalPeriod() {
+        return defaultSignalPeriod;
+    }
+
+    public double getDefaultMultiplier() {
+        return defaultMultiplier;
+    }
+
+    public static IndicatorType from(String value) {
+        return Arrays.stream(values())
+                .filter(type -> type.name().equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new BadRequestException("지원하지 않는 지표입니다: " + value));
+    }
+}
@@ -0,0 +1,25 @@
+package grit.stockIt.domain.stock.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 실시간 분봉 업데이트 DTO
+ * /topic/stock/{stockCode}/candles/{interval} 으로 전송
+ * 클라이언트는 차트 API로 당일 분봉을 한 번 받은 뒤, 같은 시각(time)의 봉은 교체하고 새 시각이면 추가
+ * closed=true 이면 확정된 봉 (이후 같은 봉에 대한 메시지는 오지 않음)
+ */
+public record StockCandleUpdateDto(
+        String stockCode,
+        int interval,
+        LocalDate date,
+        LocalTime time,
+        int openPrice,
+        int highPrice,
+        int lowPrice,
+        int closePrice,
+        long volume,
+        long amount,
+        boolean closed
+) {
+}
@@ -0,0 +1,69 @@
+package grit.stockIt.domain.stock.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * 주식 차트 데이터 DTO (컬럼형 응답용)
+ * 봉마다 필드명을 반복하는 StockChartDto 목록 대신 항목별 배열로 전달 (i번째 원소끼리 한 봉)
+ * - dates: 기준일자 (yyyyMMdd 정수)
+ * - times: 기준시간 (HHmm 정수, 분봉일 경우만 포함)
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record StockChartColumnarDto(
+        String stockCode,              // 종목코드
+        String periodType,             // 기간 타입
+        int count,                     // 봉 개수
+        int[] dates,                   // 기준일자
+        int[] times,                   // 기준시간 (일봉 이상이면 null)
+        int[] openPrices,              // 시가
+        int[] highPrices,              // 고가
+        int[] lowPrices,               // 저가
+        int[] closePrices,             // 종가
+        long[] volumes                 // 거래량
+) {
+
+    public static StockChartColumnarDto from(String stockCode, String periodType, List<StockChartDto> bars) {
+        int count = bars.size();
+        int[] dates = new int[count];
+        int[] times = new int[count];
+        int[] openPrices = new int[count];
+        int[] highPrices = new int[count];
+        int[] lowPrices = new int[count];
+        int[] closePrices = new int[count];
+        long[] volumes = new long[count];
+        boolean hasTime = false;
+
+        for (int i = 0; i < count; i++) {
+            StockChartDto bar = bars.get(i);
+            dates[i] = bar.date().getYear() * 10_000 + bar.date().getMonthValue() * 100 + bar.date().getDayOfMonth();
+            if (bar.time() != null) {
+                times[i] = bar.time().getHour() * 100 + bar.time().getMinute();
+                hasTime = true;
+            }
+            openPrices[i] = valueOf(bar.openPrice());
+            highPrices[i] = valueOf(bar.highPrice());
+            lowPrices[i] = valueOf(bar.lowPrice());
+            closePrices[i] = valueOf(bar.closePrice());
+            volumes[i] = bar.volume() != null ? bar.volume() : 0L;
+        }
+
+        return new StockChartColumnarDto(
+                stockCode,
+                periodType,
+                count,
+                dates,
+                hasTime ? times : null,
+                openPrices,
+                highPrices,
+                lowPrices,
+                closePrices,
+                volumes
+        );
+    }
+
+    private static int valueOf(Integer price) {
+        return price != null ? price : 0;
+    }
+}
@@ -0,0 +1,9 @@
+package grit.stockIt.domain.stock.dto;
+
+// 종목별 집계 쿼리 결과 (관심종목 수, 대기주문 수, 보유 계좌 수 등)
+public interface StockDemandCount {
+
+    String getStockCode();
+
+    Long getTotal();
+}
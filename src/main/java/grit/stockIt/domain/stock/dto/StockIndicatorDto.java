@@ -0,0 +1,22 @@
+package grit.stockIt.domain.stock.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.Map;
+
+/**
+ * 기술적 지표 응답 DTO
+ * 각 배열의 i번째 원소는 같은 기간 차트 응답의 i번째 봉에 대응 (계산 구간이 부족한 앞부분은 null)
+ * - lines: 지표별 선 이름 -> 값 (SMA/EMA/RSI/VWAP: value, MACD: macd/signal/histogram, BOLLINGER: middle/upper/lower)
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record StockIndicatorDto(
+        String stockCode,              // 종목코드
+        String periodType,             // 기간 타입
+        IndicatorType indicator,       // 지표 종류
+        Map<String, Number> params,    // 적용된 파라미터
+        int[] dates,                   // 기준일자 (yyyyMMdd 정수)
+        int[] times,                   // 기준시간 (HHmm 정수, 분봉일 경우만 포함)
+        Map<String, Double[]> lines    // 지표 값
+) {
+}
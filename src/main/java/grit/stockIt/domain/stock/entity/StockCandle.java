@@ -0,0 +1,99 @@
+package grit.stockIt.domain.stock.entity;
+
+import grit.stockIt.domain.stock.dto.StockChartDto;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 과거 캔들 (종목 + 봉 단위 + 일자별 1행)
+ * - intervalType: "D"(일봉), "M"(월봉, 기준일자 = 해당 월 1일)
+ * - 지난 봉은 바뀌지 않으므로 한 번 저장하면 다시 받지 않고, 마지막 봉(진행 중)만 갱신
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "stock_candle", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_stock_candle_code_interval_date",
+                columnNames = {"stock_code", "interval_type", "candle_date"})
+})
+public class StockCandle {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "stock_candle_id")
+    private Long id;
+
+    @Column(name = "stock_code", nullable = false, length = 20)
+    private String stockCode;
+
+    @Column(name = "interval_type", nullable = false, length = 2)
+    private String intervalType;
+
+    @Column(name = "candle_date", nullable = false)
+    private LocalDate candleDate;
+
+    @Column(name = "open_price", nullable = false)
+    private Integer openPrice;
+
+    @Column(name = "high_price", nullable = false)
+    private Integer highPrice;
+
+    @Column(name = "low_price", nullable = false)
+    private Integer lowPrice;
+
+    @Column(name = "close_price", nullable = false)
+    private Integer closePrice;
+
+    @Column(name = "volume", nullable = false)
+    private Long volume;
+
+    @Column(name = "amount", nullable = false)
+    private Long amount;
+
+    @Column(name = "change_amount", nullable = false)
+    private Integer changeAmount;
+
+    @Column(name = "change_rate", length = 16)
+    private String changeRate;
+
+    @Builder
+    private StockCandle(String stockCode, String intervalType, LocalDate candleDate) {
+        this.stockCode = stockCode;
+        this.intervalType = intervalType;
+        this.candleDate = candleDate;
+    }
+
+    // 차트 데이터로 OHLCV 갱신 (진행 중인 마지막 봉 덮어쓰기)
+    public void update(StockChartDto dto) {
+        this.openPrice = dto.openPrice();
+        this.highPrice = dto.highPrice();
+        this.lowPrice = dto.lowPrice();
+        this.closePrice = dto.closePrice();
+        this.volume = dto.volume() != null ? dto.volume() : 0L;
+        this.amount = dto.amount() != null ? dto.amount() : 0L;
+        this.changeAmount = dto.changeAmount() != null ? dto.changeAmount() : 0;
+        this.changeRate = dto.changeRate();
+    }
+
+    public StockChartDto toDto(String periodType) {
+        return new StockChartDto(
+                stockCode,
+                periodType,
+                candleDate,
+                null,
+                openPrice,
+                highPrice,
+                lowPrice,
+                closePrice,
+                volume,
+                amount,
+                changeAmount,
+                changeRate
+        );
+    }
+}
@@ -0,0 +1,61 @@
+package grit.stockIt.domain.stock.repository;
+
+import grit.stockIt.domain.stock.dto.StockChartDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 캔들 일괄 저장 (PostgreSQL upsert + JDBC 배치)
+ * - (stock_code, interval_type, candle_date) 유니크 인덱스 기준 INSERT ... ON CONFLICT DO UPDATE
+ * - 같은 종목을 동시에 저장해도(다른 기간 요청, 다른 노드) 중복 키 오류 없이 마지막 값으로 덮어씀
+ * - IDENTITY 키라 Hibernate saveAll은 배치가 되지 않으므로 JDBC로 직접 처리
+ */
+@Repository
+@RequiredArgsConstructor
+public class StockCandleJdbcRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO stock_candle (stock_code, interval_type, candle_date, open_price, high_price, low_price,
+                                      close_price, volume, amount, change_amount, change_rate)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (stock_code, interval_type, candle_date) DO UPDATE SET
+                open_price = EXCLUDED.open_price,
+                high_price = EXCLUDED.high_price,
+                low_price = EXCLUDED.low_price,
+                close_price = EXCLUDED.close_price,
+                volume = EXCLUDED.volume,
+                amount = EXCLUDED.amount,
+                change_amount = EXCLUDED.change_amount,
+                change_rate = EXCLUDED.change_rate
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 기준일자 -> 봉 (기준일자는 호출 측에서 봉 단위에 맞게 계산)
+    public void upsertAll(String stockCode, String intervalType, Map<LocalDate, StockChartDto> candles) {
+        List<Map.Entry<LocalDate, StockChartDto>> rows = new ArrayList<>(candles.entrySet());
+        jdbcTemplate.batchUpdate(UPSERT_SQL, rows, BATCH_SIZE, (ps, row) -> {
+            StockChartDto dto = row.getValue();
+            ps.setString(1, stockCode);
+            ps.setString(2, intervalType);
+            ps.setDate(3, Date.valueOf(row.getKey()));
+            ps.setInt(4, dto.openPrice());
+            ps.setInt(5, dto.highPrice());
+            ps.setInt(6, dto.lowPrice());
+            ps.setInt(7, dto.closePrice());
+            ps.setLong(8, dto.volume() != null ? dto.volume() : 0L);
+            ps.setLong(9, dto.amount() != null ? dto.amount() : 0L);
+            ps.setInt(10, dto.changeAmount() != null ? dto.changeAmount() : 0);
+            ps.setString(11, dto.changeRate());
+        });
+    }
+}
@@ -0,0 +1,21 @@
+package grit.stockIt.domain.stock.repository;
+
+import grit.stockIt.domain.stock.entity.StockCandle;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface StockCandleRepository extends JpaRepository<StockCandle, Long> {
+
+    // 기간 조회 (stock_code, interval_type, candle_date 인덱스 범위 스캔)
+    List<StockCandle> findByStockCodeAndIntervalTypeAndCandleDateBetweenOrderByCandleDateAsc(
+            String stockCode, String intervalType, LocalDate from, LocalDate to);
+
+    // 가장 최근에 저장된 봉 (증분 조회 시작점)
+    Optional<StockCandle> findTopByStockCodeAndIntervalTypeOrderByCandleDateDesc(String stockCode, String intervalType);
+
+    // 가장 오래된 봉 (앞쪽 공백 확인용)
+    Optional<StockCandle> findTopByStockCodeAndIntervalTypeOrderByCandleDateAsc(String stockCode, String intervalType);
+}
@@ -0,0 +1,64 @@
+package grit.stockIt.domain.stock.scheduler;
+
+import grit.stockIt.domain.stock.service.ChartPrewarmService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChartPrewarmScheduler {
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+    private static final LocalTime PREWARM_START = LocalTime.of(8, 50);
+    private static final LocalTime PREWARM_END = LocalTime.of(15, 40);
+
+    private final ChartPrewarmService chartPrewarmService;
+
+    // 장중 주기 갱신: 만료가 임박한 캐시만 (장 외 시간에는 데이터가 바뀌지 않으므로 생략)
+    @Scheduled(fixedDelayString = "${stock.chart.prewarm.interval-ms:30000}", initialDelayString = "${stock.chart.prewarm.interval-ms:30000}")
+    public void prewarmExpiringCharts() {
+        ZonedDateTime now = ZonedDateTime.now(SEOUL);
+        if (now.getDayOfWeek() == DayOfWeek.SATURDAY || now.getDayOfWeek() == DayOfWeek.SUNDAY) {
+            return;
+        }
+        LocalTime time = now.toLocalTime();
+        if (time.isBefore(PREWARM_START) || time.isAfter(PREWARM_END)) {
+            return;
+        }
+        try {
+            chartPrewarmService.prewarm(false);
+        } catch (Exception e) {
+            log.error("차트 사전 적재 중 오류 발생", e);
+        }
+    }
+
+    // 장 시작 직후 (평일 09:00:30): 전일 데이터가 담긴 캐시를 당일 기준으로 교체
+    @Scheduled(cron = "30 0 9 * * MON-FRI", zone = "Asia/Seoul")
+    public void prewarmAtMarketOpen() {
+        log.info("=== 장 시작 차트 사전 적재 ===");
+        try {
+            chartPrewarmService.prewarm(true);
+        } catch (Exception e) {
+            log.error("장 시작 차트 사전 적재 중 오류 발생", e);
+        }
+    }
+
+    // 장 마감 직후 (평일 15:30:30): 종가가 반영된 차트로 교체
+    @Scheduled(cron = "30 30 15 * * MON-FRI", zone = "Asia/Seoul")
+    public void prewarmAtMarketClose() {
+        log.info("=== 장 마감 차트 사전 적재 ===");
+        try {
+            chartPrewarmService.prewarm(true);
+        } catch (Exception e) {
+            log.error("장 마감 차트 사전 적재 중 오류 발생", e);
+        }
+    }
+}
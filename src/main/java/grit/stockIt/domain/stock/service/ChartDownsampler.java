@@ -0,0 +1,77 @@
+package grit.stockIt.domain.stock.service;
+
+import grit.stockIt.domain.stock.dto.StockChartDto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 차트 다운샘플링 (LTTB: Largest-Triangle-Three-Buckets)
+ * - 화면 폭보다 봉이 훨씬 많을 때 모양(고점/저점/추세)을 유지하면서 봉 수를 maxPoints로 줄임
+ * - 종가를 y, 봉 순번을 x로 보고 버킷마다 삼각형 넓이가 가장 큰 원본 봉 하나를 선택 (새 값을 만들지 않음)
+ * - 첫 봉과 마지막 봉은 항상 포함
+ */
+public final class ChartDownsampler {
+
+    private static final int MIN_POINTS = 3;
+
+    private ChartDownsampler() {
+    }
+
+    /**
+     * @param maxPoints 최대 봉 수 (null이거나 원본 이하로 충분하면 원본 그대로)
+     */
+    public static List<StockChartDto> downsample(List<StockChartDto> bars, Integer maxPoints) {
+        if (maxPoints == null || bars.size() <= Math.max(maxPoints, MIN_POINTS)) {
+            return bars;
+        }
+        int threshold = Math.max(maxPoints, MIN_POINTS);
+        int size = bars.size();
+
+        double[] closes = new double[size];
+        for (int i = 0; i < size; i++) {
+            Integer close = bars.get(i).closePrice();
+            closes[i] = close != null ? close : 0;
+        }
+
+        List<StockChartDto> sampled = new ArrayList<>(threshold);
+        sampled.add(bars.get(0));
+
+        // 첫/마지막 봉을 제외한 구간을 (threshold - 2)개 버킷으로 나눔
+        double bucketSize = (double) (size - 2) / (threshold - 2);
+        int selected = 0;
+        for (int bucket = 0; bucket < threshold - 2; bucket++) {
+            int start = (int) Math.floor(bucket * bucketSize) + 1;
+            int end = Math.min((int) Math.floor((bucket + 1) * bucketSize) + 1, size - 1);
+
+            // 다음 버킷 평균점 (마지막 버킷이면 마지막 봉)
+            int nextStart = end;
+            int nextEnd = Math.min((int) Math.floor((bucket + 2) * bucketSize) + 1, size);
+            double avgX = 0;
+            double avgY = 0;
+            for (int i = nextStart; i < nextEnd; i++) {
+                avgX += i;
+                avgY += closes[i];
+            }
+            int nextCount = nextEnd - nextStart;
+            avgX /= nextCount;
+            avgY /= nextCount;
+
+            double maxArea = -1;
+            int maxIndex = start;
+            for (int i = start; i < end; i++) {
+                double area = Math.abs((selected - avgX) * (closes[i] - closes[selected])
+                        - (selected - i) * (avgY - closes[selected]));
+                if (area > maxArea) {
+                    maxArea = area;
+                    maxIndex = i;
+                }
+            }
+            sampled.add(bars.get(maxIndex));
+            selected = maxIndex;
+        }
+
+        sampled.add(bars.get(size - 1));
+        return sampled;
+    }
+}
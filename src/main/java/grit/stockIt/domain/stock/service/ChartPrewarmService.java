@@ -0,0 +1,240 @@
+package grit.stockIt.domain.stock.service;
+
+import grit.stockIt.domain.account.repository.AccountStockRepository;
+import grit.stockIt.domain.member.repository.FavoriteStockRepository;
+import grit.stockIt.domain.order.entity.OrderStatus;
+import grit.stockIt.domain.order.repository.OrderRepository;
+import grit.stockIt.domain.stock.dto.ChartCacheKey;
+import grit.stockIt.domain.stock.dto.StockDemandCount;
+import grit.stockIt.global.kis.KisApiGateway;
+import grit.stockIt.global.kis.KisPriority;
+import grit.stockIt.global.websocket.manager.WebSocketSubscriptionManager;
+import grit.stockIt.global.websocket.relay.ClusterLeadership;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 차트 캐시 사전 적재 서비스
+ * - 수요(실시간 화면 구독자, 최근 차트 조회 수, 대기 주문, 보유 계좌, 관심종목) 점수가 높은 종목부터
+ *   만료가 임박한 차트 캐시를 KIS 호출 예산 안에서 미리 갱신
+ * - 1일 차트(호출 비용이 큼)는 최근에 차트를 본 사용자가 있는 종목만 갱신
+ * - 만료 여부는 후보 전체의 남은 TTL을 파이프라인 한 번으로 조회
+ * - 갱신은 사용자 요청과 같은 single-flight 경로를 사용하므로 동시에 들어온 요청과 중복 조회하지 않음
+ * - 릴레이 모드에서는 feed 리더 노드에서만 실행
+ * - KIS 호출은 BACKGROUND 우선순위라 사용자/주문 조회에 토큰을 양보
+ * - 대상 선정(DB/Redis 조회)은 전용 스레드에서 실행하여 @Scheduled 스레드를 점유하지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChartPrewarmService {
+
+    private static final List<OrderStatus> PENDING_STATUSES = List.of(OrderStatus.PENDING, OrderStatus.PARTIALLY_FILLED);
+    private static final LocalTime MARKET_OPEN = LocalTime.of(9, 0);
+
+    // 수요 점수 가중치 (화면을 보고 있는 사용자 > 대기 주문 > 보유 > 관심종목)
+    private static final double VIEWER_WEIGHT = 5.0;
+    private static final double RECENT_VIEW_WEIGHT = 1.0;
+    private static final double PENDING_ORDER_WEIGHT = 3.0;
+    private static final double HOLDER_WEIGHT = 1.0;
+    private static final double FAVORITE_WEIGHT = 1.0;
+
+    // 기간별 예상 KIS 호출 수 (1일: 30분 단위 분봉 조회, 1주: 5영업일 x 4구간, 나머지: 저장된 캔들 이후 증분 조회)
+    private static final Map<String, Integer> KIS_CALL_COST = Map.of(
+            "1day", 14,
+            "1week", 20,
+            "3month", 1,
+            "1year", 1,
+            "5year", 1
+    );
+
+    private final StockChartService stockChartService;
+    private final IntradayBarService intradayBarService;
+    private final ChartViewCounter chartViewCounter;
+    private final WebSocketSubscriptionManager subscriptionManager;
+    private final FavoriteStockRepository favoriteStockRepository;
+    private final OrderRepository orderRepository;
+    private final AccountStockRepository accountStockRepository;
+    private final ClusterLeadership clusterLeadership;
+
+    @Value("${stock.chart.prewarm.enabled:true}")
+    private boolean enabled;
+
+    @Value("${stock.chart.prewarm.max-stocks:30}")
+    private int maxStocks;
+
+    @Value("${stock.chart.prewarm.kis-budget:60}")
+    private int kisBudget;
+
+    @Value("${stock.chart.prewarm.lead-ratio:0.5}")
+    private double leadRatio;
+
+    @Value("${stock.chart.prewarm.concurrency:2}")
+    private int concurrency;
+
+    @Value("${stock.chart.prewarm.period-types:1day,1week,3month,1year,5year}")
+    private String[] periodTypes;
+
+    @Value("${stock.chart.prewarm.demand-refresh-ms:300000}")
+    private long demandRefreshMs;
+
+    // DB 기반 수요 점수 (종목코드 -> 점수), demandRefreshMs 마다 다시 집계
+    private volatile Map<String, Double> storedDemand = Map.of();
+    private volatile long storedDemandLoadedAt;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private ExecutorService prewarmExecutor;
+
+    @PostConstruct
+    public void start() {
+        prewarmExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "chart-prewarm");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void stop() {
+        prewarmExecutor.shutdownNow();
+    }
+
+    /**
+     * 수요 상위 종목의 차트 캐시 갱신 요청 (전용 스레드에서 비동기 실행, 이미 진행 중이면 무시)
+     *
+     * @param force true면 만료 여부와 관계없이 갱신 (장 시작/마감 직후처럼 데이터가 크게 바뀌는 시점)
+     */
+    public void prewarm(boolean force) {
+        if (!enabled || !clusterLeadership.isLeader()) {
+            return;
+        }
+        if (!running.compareAndSet(false, true)) {
+            log.debug("이전 차트 사전 적재가 진행 중이라 건너뜀");
+            return;
+        }
+        prewarmExecutor.execute(() -> run(force));
+    }
+
+    // ==================== Private 헬퍼 메서드 ====================
+
+    private void run(boolean force) {
+        List<ChartCacheKey> tasks;
+        try {
+            tasks = selectTasks(force);
+        } catch (Exception e) {
+            running.set(false);
+            log.error("차트 사전 적재 대상 선정 실패", e);
+            return;
+        }
+        if (tasks.isEmpty()) {
+            running.set(false);
+            return;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        Flux.fromIterable(tasks)
+                .flatMap(task -> stockChartService.refreshStockChart(task.stockCode(), task.periodType())
+                        .contextWrite(KisApiGateway.withPriority(KisPriority.BACKGROUND))
+                        .onErrorResume(e -> {
+                            log.warn("차트 사전 적재 실패: {} {} - {}", task.stockCode(), task.periodType(), e.getMessage());
+                            return Mono.empty();
+                        }), concurrency)
+                .doFinally(signal -> {
+                    running.set(false);
+                    log.info("차트 사전 적재 완료: {}건 (force={}, {}ms)",
+                            tasks.size(), force, System.currentTimeMillis() - startedAt);
+                })
+                .subscribe();
+    }
+
+    /**
+     * 수요 점수 내림차순으로 종목을 돌며, 갱신이 필요한 (종목, 기간)을 예산이 허용하는 만큼 선택
+     */
+    private List<ChartCacheKey> selectTasks(boolean force) {
+        Map<String, Double> recentViews = chartViewCounter.recentViews();
+
+        List<ChartCacheKey> candidates = new ArrayList<>();
+        for (String stockCode : rankByDemand(recentViews)) {
+            for (String periodType : periodTypes) {
+                if ("1day".equals(periodType)
+                        && (!recentViews.containsKey(stockCode) || isServedLocally(stockCode))) {
+                    continue; // 최근 조회가 없거나, 실시간 분봉으로 응답하므로 KIS 조회 불필요
+                }
+                candidates.add(new ChartCacheKey(stockCode, periodType));
+            }
+        }
+        Set<ChartCacheKey> expiring = force ? Set.copyOf(candidates) : stockChartService.findExpiringSoon(candidates, leadRatio);
+
+        List<ChartCacheKey> tasks = new ArrayList<>();
+        int budget = kisBudget;
+        for (ChartCacheKey candidate : candidates) {
+            if (budget <= 0) {
+                break;
+            }
+            int cost = KIS_CALL_COST.getOrDefault(candidate.periodType(), 1);
+            if (cost <= budget && expiring.contains(candidate)) {
+                tasks.add(candidate);
+                budget -= cost;
+            }
+        }
+        return tasks;
+    }
+
+    private List<String> rankByDemand(Map<String, Double> recentViews) {
+        Map<String, Double> scores = new HashMap<>(loadStoredDemand());
+        for (String stockCode : subscriptionManager.getAllSubscribedStocks()) {
+            scores.merge(stockCode, subscriptionManager.getSubscriberCount(stockCode) * VIEWER_WEIGHT, Double::sum);
+        }
+        recentViews.forEach((stockCode, views) -> scores.merge(stockCode, views * RECENT_VIEW_WEIGHT, Double::sum));
+        return scores.entrySet().stream()
+                .filter(entry -> entry.getValue() > 0)
+                .sorted(Map.Entry.<String, Double>comparingByValue(Comparator.reverseOrder()))
+                .limit(maxStocks)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    private Map<String, Double> loadStoredDemand() {
+        long now = System.currentTimeMillis();
+        if (now - storedDemandLoadedAt < demandRefreshMs) {
+            return storedDemand;
+        }
+        Map<String, Double> scores = new HashMap<>();
+        accumulate(scores, orderRepository.countPendingGroupByStockCode(PENDING_STATUSES), PENDING_ORDER_WEIGHT);
+        accumulate(scores, accountStockRepository.countHoldersGroupByStockCode(), HOLDER_WEIGHT);
+        accumulate(scores, favoriteStockRepository.countGroupByStockCode(), FAVORITE_WEIGHT);
+        storedDemand = scores;
+        storedDemandLoadedAt = now;
+        log.debug("차트 사전 적재 수요 집계: {}개 종목", scores.size());
+        return scores;
+    }
+
+    private void accumulate(Map<String, Double> scores, List<StockDemandCount> counts, double weight) {
+        for (StockDemandCount count : counts) {
+            scores.merge(count.getStockCode(), count.getTotal() * weight, Double::sum);
+        }
+    }
+
+    private boolean isServedLocally(String stockCode) {
+        return intradayBarService.getCoverageStart(stockCode)
+                .map(start -> !start.isAfter(MARKET_OPEN))
+                .orElse(false);
+    }
+}
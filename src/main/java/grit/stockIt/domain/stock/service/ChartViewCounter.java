@@ -0,0 +1,80 @@
+package grit.stockIt.domain.stock.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 종목별 최근 차트 조회 수 (클러스터 공용, Redis ZSET)
+ * - 5분 단위 버킷 키에 ZINCRBY로 누적하고, 조회 창이 지나면 키가 만료됨
+ * - 기록은 응답 경로를 막지 않도록 논블로킹(fire-and-forget)
+ * - 사전 적재 대상 선정 시 조회 창 안의 버킷을 ZUNION 한 번으로 합산
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChartViewCounter {
+
+    private static final String KEY_PREFIX = "stock:chart:views:";
+    private static final long BUCKET_MILLIS = Duration.ofMinutes(5).toMillis();
+
+    private final StringRedisTemplate redisTemplate;
+    private final ReactiveStringRedisTemplate reactiveRedisTemplate;
+
+    // 최근 조회로 인정하는 기간
+    @Value("${stock.chart.view.window-minutes:15}")
+    private long windowMinutes;
+
+    /**
+     * 차트 조회 1회 기록
+     */
+    public void recordView(String stockCode) {
+        String key = bucketKey(System.currentTimeMillis() / BUCKET_MILLIS);
+        reactiveRedisTemplate.opsForZSet().incrementScore(key, stockCode, 1)
+                .then(reactiveRedisTemplate.expire(key, Duration.ofMinutes(windowMinutes).plusMillis(BUCKET_MILLIS)))
+                .subscribe(
+                        result -> { },
+                        e -> log.debug("차트 조회 수 기록 실패: {} - {}", stockCode, e.getMessage())
+                );
+    }
+
+    /**
+     * 조회 창 안의 종목별 조회 수
+     */
+    public Map<String, Double> recentViews() {
+        long currentBucket = System.currentTimeMillis() / BUCKET_MILLIS;
+        long bucketCount = Math.max(1, Duration.ofMinutes(windowMinutes).toMillis() / BUCKET_MILLIS);
+
+        List<String> otherKeys = new ArrayList<>();
+        for (long bucket = currentBucket - 1; bucket > currentBucket - bucketCount; bucket--) {
+            otherKeys.add(bucketKey(bucket));
+        }
+
+        Set<ZSetOperations.TypedTuple<String>> tuples =
+                redisTemplate.opsForZSet().unionWithScores(bucketKey(currentBucket), otherKeys);
+        Map<String, Double> views = new HashMap<>();
+        if (tuples != null) {
+            for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+                if (tuple.getValue() != null && tuple.getScore() != null) {
+                    views.put(tuple.getValue(), tuple.getScore());
+                }
+            }
+        }
+        return views;
+    }
+
+    private String bucketKey(long bucket) {
+        return KEY_PREFIX + bucket;
+    }
+}
@@ -0,0 +1,175 @@
+package grit.stockIt.domain.stock.service;
+
+import java.util.Arrays;
+
+/**
+ * 기술적 지표 계산 (double 배열 기반, 한 번 순회하며 구간 합/평활값을 갱신)
+ * - 입력과 같은 길이의 배열을 반환하고, 계산에 필요한 구간이 부족한 앞부분은 NaN
+ */
+public final class IndicatorCalculator {
+
+    private IndicatorCalculator() {
+    }
+
+    /**
+     * 단순이동평균 - 구간 합에 새 값을 더하고 빠지는 값을 빼서 O(n)
+     */
+    public static double[] sma(double[] values, int period) {
+        double[] result = nanArray(values.length);
+        double sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+            if (i >= period) {
+                sum -= values[i - period];
+            }
+            if (i >= period - 1) {
+                result[i] = sum / period;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 지수이동평균 - 첫 period개의 단순평균으로 시작
+     */
+    public static double[] ema(double[] values, int period) {
+        return emaFrom(values, period, 0);
+    }
+
+    /**
+     * RSI (Wilder 평활)
+     */
+    public static double[] rsi(double[] closes, int period) {
+        double[] result = nanArray(closes.length);
+        if (closes.length <= period) {
+            return result;
+        }
+        double gainSum = 0;
+        double lossSum = 0;
+        for (int i = 1; i <= period; i++) {
+            double change = closes[i] - closes[i - 1];
+            gainSum += Math.max(change, 0);
+            lossSum += Math.max(-change, 0);
+        }
+        double averageGain = gainSum / period;
+        double averageLoss = lossSum / period;
+        result[period] = toRsi(averageGain, averageLoss);
+
+        for (int i = period + 1; i < closes.length; i++) {
+            double change = closes[i] - closes[i - 1];
+            averageGain = (averageGain * (period - 1) + Math.max(change, 0)) / period;
+            averageLoss = (averageLoss * (period - 1) + Math.max(-change, 0)) / period;
+            result[i] = toRsi(averageGain, averageLoss);
+        }
+        return result;
+    }
+
+    /**
+     * MACD
+     *
+     * @return [MACD선, 시그널선, 히스토그램]
+     */
+    public static double[][] macd(double[] closes, int fastPeriod, int slowPeriod, int signalPeriod) {
+        double[] fast = ema(closes, fastPeriod);
+        double[] slow = ema(closes, slowPeriod);
+        double[] macdLine = nanArray(closes.length);
+        for (int i = 0; i < closes.length; i++) {
+            macdLine[i] = fast[i] - slow[i]; // 어느 한쪽이 NaN이면 NaN
+        }
+
+        int firstValid = Math.max(fastPeriod, slowPeriod) - 1;
+        double[] signal = emaFrom(macdLine, signalPeriod, firstValid);
+        double[] histogram = nanArray(closes.length);
+        for (int i = 0; i < closes.length; i++) {
+            histogram[i] = macdLine[i] - signal[i];
+        }
+        return new double[][]{macdLine, signal, histogram};
+    }
+
+    /**
+     * 볼린저 밴드 - 구간 합과 제곱합으로 표준편차(모표준편차)를 O(n)에 계산
+     *
+     * @return [중심선, 상단, 하단]
+     */
+    public static double[][] bollinger(double[] closes, int period, double multiplier) {
+        double[] middle = nanArray(closes.length);
+        double[] upper = nanArray(closes.length);
+        double[] lower = nanArray(closes.length);
+        double sum = 0;
+        double sumOfSquares = 0;
+        for (int i = 0; i < closes.length; i++) {
+            sum += closes[i];
+            sumOfSquares += closes[i] * closes[i];
+            if (i >= period) {
+                double removed = closes[i - period];
+                sum -= removed;
+                sumOfSquares -= removed * removed;
+            }
+            if (i >= period - 1) {
+                double mean = sum / period;
+                double deviation = Math.sqrt(Math.max(sumOfSquares / period - mean * mean, 0));
+                middle[i] = mean;
+                upper[i] = mean + multiplier * deviation;
+                lower[i] = mean - multiplier * deviation;
+            }
+        }
+        return new double[][]{middle, upper, lower};
+    }
+
+    /**
+     * VWAP - 대표가격((고+저+종)/3) x 거래량 누적 / 거래량 누적, sessionKeys가 바뀌면(일자 변경) 초기화
+     */
+    public static double[] vwap(double[] highs, double[] lows, double[] closes, double[] volumes, int[] sessionKeys) {
+        double[] result = nanArray(closes.length);
+        double priceVolumeSum = 0;
+        double volumeSum = 0;
+        for (int i = 0; i < closes.length; i++) {
+            if (i > 0 && sessionKeys[i] != sessionKeys[i - 1]) {
+                priceVolumeSum = 0;
+                volumeSum = 0;
+            }
+            double typicalPrice = (highs[i] + lows[i] + closes[i]) / 3;
+            priceVolumeSum += typicalPrice * volumes[i];
+            volumeSum += volumes[i];
+            result[i] = volumeSum > 0 ? priceVolumeSum / volumeSum : typicalPrice;
+        }
+        return result;
+    }
+
+    // ==================== Private 헬퍼 메서드 ====================
+
+    // start 위치부터 period개의 단순평균으로 시작하는 지수이동평균
+    private static double[] emaFrom(double[] values, int period, int start) {
+        double[] result = nanArray(values.length);
+        int seedEnd = start + period - 1;
+        if (seedEnd >= values.length) {
+            return result;
+        }
+        double sum = 0;
+        for (int i = start; i <= seedEnd; i++) {
+            sum += values[i];
+        }
+        double alpha = 2.0 / (period + 1);
+        double current = sum / period;
+        result[seedEnd] = current;
+        for (int i = seedEnd + 1; i < values.length; i++) {
+            current = alpha * values[i] + (1 - alpha) * current;
+            result[i] = current;
+        }
+        return result;
+    }
+
+    private static double toRsi(double averageGain, double averageLoss) {
+        if (averageLoss == 0) {
+            return averageGain == 0 ? 50 : 100;
+        }
+        double relativeStrength = averageGain / averageLoss;
+        return 100 - 100 / (1 + relativeStrength);
+    }
+
+    private static double[] nanArray(int length) {
+        double[] array = new double[length];
+        Arrays.fill(array, Double.NaN);
+        return array;
+    }
+}
@@ -0,0 +1,410 @@
+package grit.stockIt.domain.stock.service;
+
+import grit.stockIt.domain.stock.dto.StockCandleUpdateDto;
+import grit.stockIt.domain.stock.dto.StockChartDto;
+import grit.stockIt.global.websocket.pipeline.KisInboundPipeline;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 실시간 체결 틱 기반 당일 분봉(OHLCV) 집계 서비스
+ * - KIS 실시간 체결(H0STCNT0)을 받는 종목만 1분봉을 메모리에서 갱신
+ * - 5/10/30분봉은 조회 시 1분봉을 묶어서 계산 (최대 391개라 비용 작음)
+ * - 분이 바뀌면 이전 1분봉은 확정(sealed), 확정된 봉은 이후 틱으로 바뀌지 않음
+ * - 구독이 끊기면 연속 구간이 깨지므로, 다시 틱이 들어온 분부터를 로컬 커버리지로 보고
+ *   그 이전 구간은 KIS 분봉 API로 한 번만 채움(backfill)
+ * - 틱마다 진행 중인 봉을, 봉이 끝나면 확정 봉을 /topic/stock/{code}/candles/{interval}로 전송
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IntradayBarService {
+
+    public static final Set<Integer> SUPPORTED_INTERVALS = Set.of(1, 5, 10, 30);
+    private static final int[] STREAM_INTERVALS = {1, 5, 10, 30};
+    private static final int MAX_INTERVAL = 30;
+
+    private static final int MARKET_OPEN_MINUTE = 9 * 60;        // 09:00
+    private static final int MARKET_CLOSE_MINUTE = 15 * 60 + 30; // 15:30
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final KisInboundPipeline inboundPipeline;
+
+    // 종목코드 -> 당일 분봉
+    private final Map<String, Series> seriesByStock = new ConcurrentHashMap<>();
+
+    // ==================== 틱 수신 ====================
+
+    /**
+     * 실시간 체결 1건 반영 (KIS 수신 스레드에서 호출)
+     *
+     * @param businessDate 영업일자 (yyyyMMdd, 없으면 오늘)
+     * @param tradeTime    체결시간 (HHmmss)
+     * @param price        체결가
+     * @param quantity     체결량
+     */
+    public void onTick(String stockCode, String businessDate, String tradeTime, int price, long quantity) {
+        if (stockCode == null || tradeTime == null || tradeTime.length() < 4 || price <= 0) {
+            return;
+        }
+        int minute;
+        LocalDate date;
+        try {
+            minute = Integer.parseInt(tradeTime.substring(0, 2)) * 60 + Integer.parseInt(tradeTime.substring(2, 4));
+            date = businessDate != null && !businessDate.isBlank()
+                    ? LocalDate.parse(businessDate.trim(), DATE_FORMAT)
+                    : LocalDate.now();
+        } catch (Exception e) {
+            log.debug("분봉 집계용 체결시간 파싱 실패: {} {} {}", stockCode, businessDate, tradeTime);
+            return;
+        }
+        if (minute < MARKET_OPEN_MINUTE || minute > MARKET_CLOSE_MINUTE) {
+            return;
+        }
+
+        List<StockCandleUpdateDto> updates = new ArrayList<>();
+        Series series = seriesByStock.computeIfAbsent(stockCode, code -> new Series(date));
+        synchronized (series) {
+            if (!series.date.equals(date)) {
+                series.reset(date);
+            }
+            if (!series.live) {
+                // 이 분의 이전 틱은 놓쳤을 수 있으므로 다음 분부터 연속 구간으로 간주
+                series.live = true;
+                series.coveredFrom = minute + 1;
+                // 수신 공백 이전 봉은 클라이언트가 차트 API로 받으므로 확정 메시지를 보내지 않음
+                series.closedThrough = Math.max(series.closedThrough, minute);
+            }
+            Bar bar = series.bars.computeIfAbsent(minute, m -> new Bar(price));
+            if (bar.sealed) {
+                return;
+            }
+            bar.apply(price, quantity);
+            sealBefore(series, minute);
+
+            // 이전 봉 확정 메시지가 진행 중 봉보다 먼저 나가도록 순서 유지
+            closeBuckets(stockCode, series, minute, updates);
+            for (int interval : STREAM_INTERVALS) {
+                int start = bucketStartOf(minute, interval);
+                updates.add(aggregate(series, start, interval)
+                        .toUpdate(stockCode, interval, series.date, start, false));
+            }
+        }
+        updates.forEach(inboundPipeline::publishCandle);
+    }
+
+    /**
+     * 실시간 체결 수신 중단 (구독 해제, 연결 종료) - 이후 재수신 시 공백 구간은 backfill 대상
+     */
+    public void markCoverageLost(String stockCode) {
+        Series series = seriesByStock.get(stockCode);
+        if (series != null) {
+            synchronized (series) {
+                series.live = false;
+            }
+        }
+    }
+
+    public void markAllCoverageLost() {
+        seriesByStock.keySet().forEach(this::markCoverageLost);
+    }
+
+    // ==================== 조회 ====================
+
+    /**
+     * 당일 장 시작부터 지금까지 로컬 분봉만으로 채워져 있으면 반환 (KIS 호출 불필요)
+     */
+    public Optional<List<StockChartDto>> getFullyCoveredBars(String stockCode, int interval, String periodType) {
+        Series series = seriesByStock.get(stockCode);
+        if (series == null) {
+            return Optional.empty();
+        }
+        synchronized (series) {
+            if (!isLiveToday(series) || series.coveredFrom > MARKET_OPEN_MINUTE) {
+                return Optional.empty();
+            }
+            return Optional.of(toChart(stockCode, series, interval, periodType));
+        }
+    }
+
+    /**
+     * 로컬 연속 구간 시작 시각 (당일 실시간 수신 중인 경우만)
+     * 이 시각 이전 구간만 KIS에서 가져오면 됨
+     */
+    public Optional<LocalTime> getCoverageStart(String stockCode) {
+        Series series = seriesByStock.get(stockCode);
+        if (series == null) {
+            return Optional.empty();
+        }
+        synchronized (series) {
+            if (!isLiveToday(series)) {
+                return Optional.empty();
+            }
+            return Optional.of(LocalTime.of(series.coveredFrom / 60, series.coveredFrom % 60));
+        }
+    }
+
+    /**
+     * KIS에서 받은 1분봉으로 로컬 연속 구간 이전의 공백을 채움
+     *
+     * @param until KIS 조회 종료 시각 (이 시각까지 KIS 데이터로 덮였다고 간주)
+     * @return 채운 뒤 당일 interval분봉 전체 (로컬 수신이 끊긴 경우 empty)
+     */
+    public Optional<List<StockChartDto>> backfill(String stockCode, List<StockChartDto> minuteBars,
+                                                  LocalTime until, int interval, String periodType) {
+        Series series = seriesByStock.get(stockCode);
+        if (series == null) {
+            return Optional.empty();
+        }
+        synchronized (series) {
+            if (!isLiveToday(series)) {
+                return Optional.empty();
+            }
+            LocalTime now = LocalTime.now();
+            int currentMinute = now.getHour() * 60 + now.getMinute();
+            for (StockChartDto dto : minuteBars) {
+                if (dto.time() == null || !series.date.equals(dto.date())) {
+                    continue;
+                }
+                int minute = dto.time().getHour() * 60 + dto.time().getMinute();
+                if (minute < series.coveredFrom) {
+                    // 진행 중인 분은 이후 틱이 이어서 반영되도록 확정하지 않음
+                    series.bars.put(minute, Bar.of(dto, minute < currentMinute));
+                }
+            }
+            int untilMinute = until.getHour() * 60 + until.getMinute();
+            if (untilMinute >= series.coveredFrom) {
+                series.coveredFrom = MARKET_OPEN_MINUTE;
+            }
+            return Optional.of(toChart(stockCode, series, interval, periodType));
+        }
+    }
+
+    // ==================== 봉 확정 / 정리 ====================
+
+    /**
+     * 매 분 경계에서 틱이 없던 종목의 지난 1분봉도 확정하고 끝난 봉의 확정 메시지 전송
+     * 장 마감 이후에는 마지막 봉까지 모두 확정
+     */
+    @Scheduled(cron = "1 * 9-15 * * MON-FRI", zone = "Asia/Seoul")
+    public void sealElapsedBars() {
+        LocalTime now = LocalTime.now();
+        int currentMinute = now.getHour() * 60 + now.getMinute();
+        int closeUpTo = currentMinute > MARKET_CLOSE_MINUTE ? MARKET_CLOSE_MINUTE + MAX_INTERVAL : currentMinute;
+        List<StockCandleUpdateDto> updates = new ArrayList<>();
+        for (Map.Entry<String, Series> entry : seriesByStock.entrySet()) {
+            Series series = entry.getValue();
+            synchronized (series) {
+                sealBefore(series, currentMinute);
+                if (isLiveToday(series)) {
+                    closeBuckets(entry.getKey(), series, closeUpTo, updates);
+                }
+            }
+        }
+        updates.forEach(inboundPipeline::publishCandle);
+    }
+
+    /**
+     * 지난 영업일 분봉 정리
+     */
+    @Scheduled(cron = "0 5 0 * * *", zone = "Asia/Seoul")
+    public void evictStaleSeries() {
+        LocalDate today = LocalDate.now();
+        seriesByStock.entrySet().removeIf(entry -> !entry.getValue().date.equals(today));
+    }
+
+    // ==================== Private 헬퍼 메서드 ====================
+
+    private boolean isLiveToday(Series series) {
+        return series.live && series.date.equals(LocalDate.now());
+    }
+
+    private void sealBefore(Series series, int minute) {
+        for (Bar bar : series.bars.headMap(minute, false).descendingMap().values()) {
+            if (bar.sealed) {
+                break; // 이전 봉은 이미 확정됨
+            }
+            bar.sealed = true;
+        }
+    }
+
+    /**
+     * upTo(분) 이전에 끝난 interval분봉 중 아직 확정 메시지를 보내지 않은 봉을 확정 메시지로 추가
+     */
+    private void closeBuckets(String stockCode, Series series, int upTo, List<StockCandleUpdateDto> updates) {
+        if (upTo <= series.closedThrough) {
+            return;
+        }
+        for (int interval : STREAM_INTERVALS) {
+            for (int start = bucketStartOf(series.closedThrough, interval); start + interval <= upTo; start += interval) {
+                Bar bucket = aggregate(series, start, interval);
+                if (bucket != null) {
+                    updates.add(bucket.toUpdate(stockCode, interval, series.date, start, true));
+                }
+            }
+        }
+        series.closedThrough = upTo;
+    }
+
+    private int bucketStartOf(int minute, int interval) {
+        return MARKET_OPEN_MINUTE + (minute - MARKET_OPEN_MINUTE) / interval * interval;
+    }
+
+    // [start, start + interval) 구간 1분봉 합산 (봉이 없으면 null)
+    private Bar aggregate(Series series, int start, int interval) {
+        Bar bucket = null;
+        for (Bar bar : series.bars.subMap(start, start + interval).values()) {
+            if (bucket == null) {
+                bucket = bar.copy();
+            } else {
+                bucket.merge(bar);
+            }
+        }
+        return bucket;
+    }
+
+    /**
+     * 1분봉을 interval분 단위로 묶어 차트 DTO로 변환 (시간 오름차순)
+     */
+    private List<StockChartDto> toChart(String stockCode, Series series, int interval, String periodType) {
+        List<StockChartDto> result = new ArrayList<>();
+        Bar bucket = null;
+        int bucketStart = -1;
+        for (Map.Entry<Integer, Bar> entry : series.bars.entrySet()) {
+            int start = MARKET_OPEN_MINUTE + (entry.getKey() - MARKET_OPEN_MINUTE) / interval * interval;
+            if (bucket != null && start != bucketStart) {
+                result.add(bucket.toDto(stockCode, periodType, series.date, bucketStart));
+                bucket = null;
+            }
+            if (bucket == null) {
+                bucket = entry.getValue().copy();
+                bucketStart = start;
+            } else {
+                bucket.merge(entry.getValue());
+            }
+        }
+        if (bucket != null) {
+            result.add(bucket.toDto(stockCode, periodType, series.date, bucketStart));
+        }
+        return result;
+    }
+
+    private static final class Series {
+        private LocalDate date;
+        private final TreeMap<Integer, Bar> bars = new TreeMap<>(); // 분(0시 기준) -> 1분봉
+        private boolean live;
+        private int coveredFrom = Integer.MAX_VALUE;                 // 로컬 연속 구간 시작 분
+        private int closedThrough = MARKET_OPEN_MINUTE;              // 이 분 이전에 끝난 봉은 확정 메시지 전송 완료
+
+        private Series(LocalDate date) {
+            this.date = date;
+        }
+
+        private void reset(LocalDate newDate) {
+            date = newDate;
+            bars.clear();
+            live = false;
+            coveredFrom = Integer.MAX_VALUE;
+            closedThrough = MARKET_OPEN_MINUTE;
+        }
+    }
+
+    private static final class Bar {
+        private int open;
+        private int high;
+        private int low;
+        private int close;
+        private long volume;
+        private long amount;
+        private boolean sealed;
+
+        private Bar(int price) {
+            this.open = price;
+            this.high = price;
+            this.low = price;
+            this.close = price;
+        }
+
+        private static Bar of(StockChartDto dto, boolean sealed) {
+            Bar bar = new Bar(dto.openPrice());
+            bar.high = dto.highPrice();
+            bar.low = dto.lowPrice();
+            bar.close = dto.closePrice();
+            bar.volume = dto.volume() != null ? dto.volume() : 0L;
+            bar.amount = dto.amount() != null ? dto.amount() : 0L;
+            bar.sealed = sealed;
+            return bar;
+        }
+
+        private void apply(int price, long quantity) {
+            high = Math.max(high, price);
+            low = Math.min(low, price);
+            close = price;
+            volume += quantity;
+            amount += (long) price * quantity;
+        }
+
+        private void merge(Bar next) {
+            high = Math.max(high, next.high);
+            low = Math.min(low, next.low);
+            close = next.close;
+            volume += next.volume;
+            amount += next.amount;
+        }
+
+        private Bar copy() {
+            Bar copy = new Bar(open);
+            copy.merge(this);
+            copy.volume = volume;
+            copy.amount = amount;
+            copy.sealed = sealed;
+            return copy;
+        }
+
+        private StockChartDto toDto(String stockCode, String periodType, LocalDate date, int minute) {
+            return new StockChartDto(
+                    stockCode,
+                    periodType,
+                    date,
+                    LocalTime.of(minute / 60, minute % 60),
+                    open,
+                    high,
+                    low,
+                    close,
+                    volume,
+                    amount,
+                    0, // 전일대비 (분봉에는 없음)
+                    "0" // 전일대비율 (분봉에는 없음)
+            );
+        }
+
+        private StockCandleUpdateDto toUpdate(String stockCode, int interval, LocalDate date, int minute, boolean closed) {
+            return new StockCandleUpdateDto(
+                    stockCode,
+                    interval,
+                    date,
+                    LocalTime.of(minute / 60, minute % 60),
+                    open,
+                    high,
+                    low,
+                    close,
+                    volume,
+                    amount,
+                    closed
+            );
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package grit.stockIt.domain.stock.service;
+
+import grit.stockIt.domain.stock.dto.StockChartDto;
+import grit.stockIt.domain.stock.entity.StockCandle;
+import grit.stockIt.domain.stock.repository.StockCandleJdbcRepository;
+import grit.stockIt.domain.stock.repository.StockCandleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 과거 캔들 저장소 (일봉/월봉)
+ * - 지난 봉은 바뀌지 않으므로 DB에 쌓아 두고, KIS에서는 마지막 저장 봉 이후만 증분 조회
+ * - 주봉은 저장된 일봉에서 직접 계산
+ * - 차트 조회는 (종목, 봉 단위, 일자) 인덱스 범위 스캔
+ * - 저장은 upsert라 같은 종목을 동시에 받아도(다른 기간 요청, 다른 노드) 충돌하지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class StockCandleStore {
+
+    public static final String DAILY = "D";
+    public static final String MONTHLY = "M";
+
+    // KIS 기간별 시세 API는 한 번에 최대 100개 → 일봉은 120일(약 80영업일) 단위로 나눠 조회
+    private static final int DAILY_CHUNK_DAYS = 120;
+    // 저장된 가장 오래된 봉이 요청 시작일보다 이 정도 늦으면 앞쪽 공백으로 판단 (연휴 감안)
+    private static final int FRONT_GAP_TOLERANCE_DAYS = 7;
+    // KIS가 봉을 하나도 주지 않은 종목(거래정지, 신규 상장 전 등)을 다시 조회하기까지의 시간
+    private static final Duration EMPTY_FETCH_TTL = Duration.ofHours(6);
+
+    private final StockCandleRepository stockCandleRepository;
+    private final StockCandleJdbcRepository stockCandleJdbcRepository;
+
+    // 저장된 봉이 없고 KIS 응답도 비어 있던 "종목:봉단위" -> 기록 시각 (epoch millis)
+    private final Map<String, Long> emptyFetches = new ConcurrentHashMap<>();
+
+    // 앞쪽 공백을 이미 조회해 본 "종목:봉단위:시작일" (상장일 이전처럼 원래 데이터가 없는 구간 반복 조회 방지)
+    private final Set<String> attemptedFrontFills = ConcurrentHashMap.newKeySet();
+
+    /**
+     * KIS에서 받아야 할 구간 계산
+     * - 저장된 봉이 없으면 요청 구간 전체
+     * - 있으면 마지막 저장 봉(진행 중일 수 있음)부터 오늘까지 + 요청 시작일 쪽 공백
+     */
+    public List<DateRange> findMissingRanges(String stockCode, String intervalType, LocalDate from, LocalDate to) {
+        Optional<StockCandle> latest = stockCandleRepository
+                .findTopByStockCodeAndIntervalTypeOrderByCandleDateDesc(stockCode, intervalType);
+        if (latest.isEmpty()) {
+            // 직전 조회에서 KIS 응답이 비어 있었으면 TTL 동안 다시 받지 않음
+            Long emptyAt = emptyFetches.get(stockCode + ":" + intervalType);
+            if (emptyAt != null && System.currentTimeMillis() - emptyAt < EMPTY_FETCH_TTL.toMillis()) {
+                return List.of();
+            }
+            return split(intervalType, from, to);
+        }
+
+        List<DateRange> ranges = new ArrayList<>();
+        LocalDate earliest = stockCandleRepository
+                .findTopByStockCodeAndIntervalTypeOrderByCandleDateAsc(stockCode, intervalType)
+                .map(StockCandle::getCandleDate)
+                .orElse(from);
+        if (earliest.isAfter(from.plusDays(FRONT_GAP_TOLERANCE_DAYS))
+                && attemptedFrontFills.add(stockCode + ":" + intervalType + ":" + from)) {
+            ranges.addAll(split(intervalType, from, earliest.minusDays(1)));
+        }
+
+        LocalDate latestDate = latest.get().getCandleDate();
+        if (!latestDate.isAfter(to)) {
+            ranges.addAll(split(intervalType, latestDate, to));
+        }
+        return ranges;
+    }
+
+    /**
+     * KIS에서 받은 봉 저장 (이미 있는 일자는 덮어쓰기, upsert)
+     * 받은 봉이 없고 저장된 봉도 없으면 빈 종목으로 기록해 반복 조회 방지
+     */
+    @Transactional
+    public void save(String stockCode, String intervalType, List<StockChartDto> candles) {
+        String key = stockCode + ":" + intervalType;
+        if (candles.isEmpty()) {
+            if (stockCandleRepository.findTopByStockCodeAndIntervalTypeOrderByCandleDateDesc(stockCode, intervalType).isEmpty()) {
+                emptyFetches.put(key, System.currentTimeMillis());
+            }
+            return;
+        }
+        emptyFetches.remove(key);
+
+        // 같은 기준일자가 여러 번 오면(월봉 등) 마지막 값 사용
+        TreeMap<LocalDate, StockChartDto> byDate = new TreeMap<>();
+        for (StockChartDto dto : candles) {
+            byDate.put(candleDateOf(intervalType, dto), dto);
+        }
+        stockCandleJdbcRepository.upsertAll(stockCode, intervalType, byDate);
+        log.debug("캔들 저장: {} {} {}개 ({} ~ {})", stockCode, intervalType, byDate.size(), byDate.firstKey(), byDate.lastKey());
+    }
+
+    /**
+     * 저장된 봉 기간 조회 (날짜 오름차순)
+     */
+    public List<StockChartDto> load(String stockCode, String intervalType, LocalDate from, LocalDate to, String periodType) {
+        return stockCandleRepository
+                .findByStockCodeAndIntervalTypeAndCandleDateBetweenOrderByCandleDateAsc(stockCode, intervalType, from, to)
+                .stream()
+                .map(candle -> candle.toDto(periodType))
+                .toList();
+    }
+
+    /**
+     * 일봉 → 주봉 (월~금 단위, 기준일자 = 그 주 첫 영업일)
+     * 전주대비는 직전 주봉 종가 기준 (첫 주는 첫 일봉의 전일 종가 기준)
+     */
+    public static List<StockChartDto> aggregateWeekly(List<StockChartDto> daily, String periodType) {
+        List<StockChartDto> result = new ArrayList<>();
+        if (daily.isEmpty()) {
+            return result;
+        }
+        StockChartDto first = daily.get(0);
+        int previousClose = first.closePrice() - (first.changeAmount() != null ? first.changeAmount() : 0);
+
+        int index = 0;
+        while (index < daily.size()) {
+            LocalDate weekStart = daily.get(index).date().with(DayOfWeek.MONDAY);
+            StockChartDto open = daily.get(index);
+            int high = open.highPrice();
+            int low = open.lowPrice();
+            long volume = 0L;
+            long amount = 0L;
+            StockChartDto close = open;
+            while (index < daily.size() && daily.get(index).date().with(DayOfWeek.MONDAY).equals(weekStart)) {
+                StockChartDto day = daily.get(index);
+                high = Math.max(high, day.highPrice());
+                low = Math.min(low, day.lowPrice());
+                volume += day.volume() != null ? day.volume() : 0L;
+                amount += day.amount() != null ? day.amount() : 0L;
+                close = day;
+                index++;
+            }
+
+            int changeAmount = close.closePrice() - previousClose;
+            String changeRate = previousClose != 0
+                    ? String.format("%.2f", changeAmount * 100.0 / previousClose)
+                    : "0";
+            result.add(new StockChartDto(
+                    open.stockCode(),
+                    periodType,
+                    open.date(),
+                    null,
+                    open.openPrice(),
+                    high,
+                    low,
+                    close.closePrice(),
+                    volume,
+                    amount,
+                    changeAmount,
+                    changeRate
+            ));
+            previousClose = close.closePrice();
+        }
+        return result;
+    }
+
+    // ==================== Private 헬퍼 메서드 ====================
+
+    // 월봉은 KIS 기준일자가 진행 중에 매일 바뀌므로 해당 월 1일로 고정
+    private LocalDate candleDateOf(String intervalType, StockChartDto dto) {
+        return MONTHLY.equals(intervalType) ? dto.date().withDayOfMonth(1) : dto.date();
+    }
+
+    private List<DateRange> split(String intervalType, LocalDate from, LocalDate to) {
+        List<DateRange> ranges = new ArrayList<>();
+        if (from.isAfter(to)) {
+            return ranges;
+        }
+        if (!DAILY.equals(intervalType)) {
+            ranges.add(new DateRange(from, to));
+            return ranges;
+        }
+        LocalDate cursor = from;
+        while (!cursor.isAfter(to)) {
+            LocalDate end = cursor.plusDays(DAILY_CHUNK_DAYS - 1L);
+            if (end.isAfter(to)) {
+                end = to;
+            }
+            ranges.add(new DateRange(cursor, end));
+            cursor = end.plusDays(1);
+        }
+        return ranges;
+    }
+
+    // KIS 조회 구간 (양 끝 포함)
+    public record DateRange(LocalDate from, LocalDate to) {
+    }
+}
@@ -1,18 +1,28 @@
 package grit.stockIt.domain.stock.service;
 
+import grit.stockIt.domain.stock.dto.ChartCacheKey;
 import grit.stockIt.domain.stock.dto.KisChartDataDto;
 import grit.stockIt.domain.stock.dto.KisChartResponseDto;
 import grit.stockIt.domain.stock.dto.KisMinuteChartDataDto;
 import grit.stockIt.domain.stock.dto.StockChartDto;
 import grit.stockIt.global.auth.KisTokenManager;
 import grit.stockIt.global.config.KisApiProperties;
+import grit.stockIt.global.kis.KisApiGateway;
+import grit.stockIt.global.kis.KisCallPriority;
+import grit.stockIt.global.kis.KisPriority;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -25,10 +35,15 @@ import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 /**
@@ -42,8 +57,13 @@ public class StockChartService {
     private final WebClient webClient;
     private final KisTokenManager kisTokenManager;
     private final KisApiProperties kisApiProperties;
+    private final KisApiGateway kisApiGateway;
     private final ObjectMapper objectMapper;
     private final StringRedisTemplate redisTemplate;
+    private final ReactiveStringRedisTemplate reactiveRedisTemplate;
+    private final IntradayBarService intradayBarService;
+    private final StockCandleStore stockCandleStore;
+    private final ChartViewCounter chartViewCounter;
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
     
@@ -57,6 +77,35 @@ public class StockChartService {
     private static final Duration CACHE_TTL_1YEAR = Duration.ofHours(1);       // 주봉: 1시간
     private static final Duration CACHE_TTL_5YEAR = Duration.ofHours(12);     // 월봉: 12시간
 
+    // 만료된 차트를 갱신 동안 대신 응답하기 위한 이전 값 (TTL = 기간별 TTL x 배수)
+    private static final String STALE_KEY_PREFIX = "stock:chart:stale:";
+    private static final long STALE_TTL_MULTIPLIER = 10;
+
+    // 노드 간 KIS 조회 임대 키 (임대를 가진 노드만 캐시 미스 시 KIS 조회)
+    private static final String LEASE_KEY_PREFIX = "stock:chart:lease:";
+    private static final DefaultRedisScript<Long> RELEASE_LEASE_SCRIPT = new DefaultRedisScript<>(
+            """
+                    if redis.call('get', KEYS[1]) == ARGV[1] then
+                        return redis.call('del', KEYS[1])
+                    else
+                        return 0
+                    end
+                    """,
+            Long.class
+    );
+
+    // 캐시 키 -> 진행 중인 KIS 조회 (동시 요청은 같은 결과를 공유)
+    private final Map<String, ChartFetch> inFlightFetches = new ConcurrentHashMap<>();
+
+    @Value("${stock.chart.lease-ttl-seconds:10}")
+    private long leaseTtlSeconds;
+
+    @Value("${stock.chart.lease-wait-timeout-ms:3000}")
+    private long leaseWaitTimeoutMs;
+
+    @Value("${stock.chart.lease-wait-interval-ms:200}")
+    private long leaseWaitIntervalMs;
+
     /**
      * 주식 차트 데이터 조회 (Redis 캐싱 적용)
      * @param stockCode 종목코드 (6자리)
@@ -68,37 +117,214 @@ public class StockChartService {
             String periodType
     ) {
         String normalizedType = periodType.toLowerCase();
+        chartViewCounter.recordView(stockCode);
+
+        // 1일(1분봉): 실시간 체결로 장 시작부터 집계된 분봉이 있으면 KIS/Redis 없이 바로 응답
+        if (isIntraday(normalizedType)) {
+            Optional<List<StockChartDto>> localBars = intradayBarService.getFullyCoveredBars(stockCode, 1, periodType);
+            if (localBars.isPresent()) {
+                log.debug("차트 데이터 로컬 분봉 응답: {} ({}개)", stockCode, localBars.get().size());
+                return Mono.just(localBars.get());
+            }
+        }
 
         String cacheKey = CACHE_KEY_PREFIX + stockCode + ":" + normalizedType;
+        String staleKey = STALE_KEY_PREFIX + stockCode + ":" + normalizedType;
 
-        String cachedData = redisTemplate.opsForValue().get(cacheKey);
-        if (cachedData != null) {
-            try {
-                List<StockChartDto> chartData = objectMapper.readValue(
-                        cachedData,
-                        new TypeReference<List<StockChartDto>>() {}
-                );
-                log.info("차트 데이터 캐시 히트: key={} ({}, {}개)", cacheKey, periodType, chartData.size());
-                return Mono.just(chartData);
-            } catch (Exception e) {
-                log.warn("캐시 데이터 파싱 실패, API 호출로 대체: {}", cacheKey, e);
+        // 최신 값과 이전(stale) 값을 한 번에 조회 (MGET, 논블로킹)
+        return reactiveRedisTemplate.opsForValue()
+                .multiGet(List.of(cacheKey, staleKey))
+                .onErrorResume(e -> {
+                    log.warn("차트 캐시 조회 실패, API 호출로 대체: {}", cacheKey, e);
+                    return Mono.just(Collections.emptyList());
+                })
+                .flatMap(values -> {
+                    Optional<List<StockChartDto>> cached = parseCache(cacheKey, valueAt(values, 0));
+                    if (cached.isPresent()) {
+                        log.info("차트 데이터 캐시 히트: key={} ({}, {}개)", cacheKey, periodType, cached.get().size());
+                        return Mono.just(cached.get());
+                    }
+
+                    // stale-while-revalidate: 만료 직후에는 이전 값을 바로 응답하고 갱신은 백그라운드에서 한 번만
+                    Optional<List<StockChartDto>> stale = parseCache(staleKey, valueAt(values, 1));
+                    if (stale.isPresent()) {
+                        log.info("차트 데이터 stale 응답 후 백그라운드 갱신: key={} ({}개)", cacheKey, stale.get().size());
+                        fetchSingleFlight(stockCode, normalizedType, cacheKey)
+                                .contextWrite(KisApiGateway.withPriority(KisPriority.BACKGROUND))
+                                .subscribe(
+                                        chartData -> { },
+                                        e -> log.warn("차트 데이터 백그라운드 갱신 실패: {}", cacheKey, e)
+                                );
+                        return Mono.just(stale.get());
+                    }
+
+                    return fetchSingleFlight(stockCode, normalizedType, cacheKey);
+                });
+    }
+
+    /**
+     * 캐시를 미리 갱신 (사전 적재 스케줄러용)
+     * 사용자 요청과 같은 single-flight 경로를 타므로 동시에 들어온 요청과 KIS 조회를 공유
+     */
+    public Mono<List<StockChartDto>> refreshStockChart(String stockCode, String periodType) {
+        String normalizedType = periodType.toLowerCase();
+        return fetchSingleFlight(stockCode, normalizedType, CACHE_KEY_PREFIX + stockCode + ":" + normalizedType);
+    }
+
+    /**
+     * 캐시가 곧 만료되는 차트 (캐시가 없거나 남은 TTL이 기간별 TTL x leadRatio 이하)
+     * - 남은 TTL은 파이프라인(PTTL) 한 번으로 조회
+     */
+    public Set<ChartCacheKey> findExpiringSoon(List<ChartCacheKey> charts, double leadRatio) {
+        if (charts.isEmpty()) {
+            return Set.of();
+        }
+        RedisSerializer<String> serializer = redisTemplate.getStringSerializer();
+        List<Object> remainings = redisTemplate.executePipelined((RedisConnection connection) -> {
+            for (ChartCacheKey chart : charts) {
+                connection.keyCommands().pTtl(serializer.serialize(
+                        CACHE_KEY_PREFIX + chart.stockCode() + ":" + chart.periodType().toLowerCase()));
+            }
+            return null;
+        });
+
+        Set<ChartCacheKey> expiring = new HashSet<>();
+        for (int i = 0; i < charts.size(); i++) {
+            ChartCacheKey chart = charts.get(i);
+            Object remaining = i < remainings.size() ? remainings.get(i) : null;
+            // -2: 키 없음, -1: TTL 없음(비정상)
+            if (!(remaining instanceof Long remainingMillis) || remainingMillis < 0
+                    || remainingMillis <= getCacheTtl(chart.periodType().toLowerCase()).toMillis() * leadRatio) {
+                expiring.add(chart);
             }
         }
+        return expiring;
+    }
 
-        return fetchStockChartFromApi(stockCode, normalizedType)
-                .doOnNext(chartData -> {
-                    try {
-                        String jsonData = objectMapper.writeValueAsString(chartData);
-                        Duration ttl = getCacheTtl(normalizedType);
-                        redisTemplate.opsForValue().set(cacheKey, jsonData, ttl);
-                        log.info("차트 데이터 캐시 저장: key={} ({}, {}개, TTL={}s)",
-                                cacheKey, periodType, chartData.size(), ttl.toSeconds());
-                    } catch (Exception e) {
-                        log.warn("캐시 저장 실패 (계속 진행): {}", cacheKey, e);
+    // ==================== 캐시 미스 단일 조회 (single-flight) ====================
+
+    /**
+     * 같은 캐시 키에 대한 KIS 조회를 노드 내/노드 간 하나로 합침
+     * - 노드 내: 진행 중인 조회 Mono를 cache()로 공유, 완료되면 레지스트리에서 제거
+     * - 노드 간: Redis 임대(lease)를 잡은 노드만 KIS 조회, 나머지는 캐시가 채워지길 잠시 대기
+     * - 공유 조회의 KIS 우선순위는 첫 구독자가 아니라 합류한 요청 중 가장 높은 것
+     *   (백그라운드 갱신 중에 사용자가 같은 차트를 요청하면 남은 KIS 호출은 INTERACTIVE 레인으로 이동)
+     */
+    private Mono<List<StockChartDto>> fetchSingleFlight(String stockCode, String normalizedType, String cacheKey) {
+        return Mono.deferContextual(context -> {
+            KisCallPriority requested = new KisCallPriority(KisApiGateway.priorityOf(context));
+            AtomicBoolean created = new AtomicBoolean(false);
+            ChartFetch fetch = inFlightFetches.computeIfAbsent(cacheKey, key -> {
+                created.set(true);
+                KisCallPriority shared = new KisCallPriority(requested.get());
+                return new ChartFetch(shared, fetchWithLease(stockCode, normalizedType, key)
+                        .doFinally(signal -> inFlightFetches.remove(key))
+                        .contextWrite(KisApiGateway.withPriority(shared))
+                        .cache());
+            });
+            if (!created.get()) {
+                fetch.priority().join(requested);
+            }
+            return fetch.result();
+        });
+    }
+
+    private Mono<List<StockChartDto>> fetchWithLease(String stockCode, String normalizedType, String cacheKey) {
+        String leaseKey = LEASE_KEY_PREFIX + stockCode + ":" + normalizedType;
+        String leaseToken = UUID.randomUUID().toString();
+
+        return tryAcquireLease(leaseKey, leaseToken)
+                .flatMap(acquired -> {
+                    if (acquired) {
+                        return fetchAndCache(stockCode, normalizedType, cacheKey)
+                                .doFinally(signal -> releaseLease(leaseKey, leaseToken));
                     }
+                    log.debug("다른 노드가 차트 조회 중, 캐시 대기: {}", cacheKey);
+                    return awaitCacheFill(cacheKey)
+                            .switchIfEmpty(Mono.defer(() -> {
+                                log.info("차트 캐시 대기 시간 초과, 직접 조회: {}", cacheKey);
+                                return fetchAndCache(stockCode, normalizedType, cacheKey);
+                            }));
                 });
     }
-    
+
+    private Mono<List<StockChartDto>> fetchAndCache(String stockCode, String normalizedType, String cacheKey) {
+        return fetchStockChartFromApi(stockCode, normalizedType)
+                .flatMap(chartData -> writeCache(stockCode, normalizedType, cacheKey, chartData)
+                        .thenReturn(chartData));
+    }
+
+    // 최신 값(기간별 TTL)과 이전 값(TTL x 배수) 저장, 실패해도 응답은 계속 진행
+    private Mono<Void> writeCache(String stockCode, String normalizedType, String cacheKey, List<StockChartDto> chartData) {
+        Duration ttl = getCacheTtl(normalizedType);
+        return Mono.fromCallable(() -> objectMapper.writeValueAsString(chartData))
+                .flatMap(jsonData -> reactiveRedisTemplate.opsForValue().set(cacheKey, jsonData, ttl)
+                        .then(reactiveRedisTemplate.opsForValue().set(STALE_KEY_PREFIX + stockCode + ":" + normalizedType,
+                                jsonData, ttl.multipliedBy(STALE_TTL_MULTIPLIER))))
+                .doOnSuccess(ignored -> log.info("차트 데이터 캐시 저장: key={} ({}개, TTL={}s)",
+                        cacheKey, chartData.size(), ttl.toSeconds()))
+                .onErrorResume(e -> {
+                    log.warn("캐시 저장 실패 (계속 진행): {}", cacheKey, e);
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    /**
+     * 임대를 가진 노드가 캐시를 채울 때까지 주기적으로 확인 (시간 초과 시 empty)
+     */
+    private Mono<List<StockChartDto>> awaitCacheFill(String cacheKey) {
+        return Flux.interval(Duration.ofMillis(leaseWaitIntervalMs))
+                .take(Math.max(1, leaseWaitTimeoutMs / leaseWaitIntervalMs))
+                .concatMap(tick -> readCache(cacheKey))
+                .next();
+    }
+
+    // Redis 장애 시에는 임대 없이 직접 조회 (노드 내 합치기는 유지)
+    private Mono<Boolean> tryAcquireLease(String leaseKey, String leaseToken) {
+        return reactiveRedisTemplate.opsForValue()
+                .setIfAbsent(leaseKey, leaseToken, Duration.ofSeconds(leaseTtlSeconds))
+                .onErrorResume(e -> {
+                    log.warn("차트 조회 임대 획득 실패, 직접 조회: {}", leaseKey, e);
+                    return Mono.just(true);
+                })
+                .defaultIfEmpty(true);
+    }
+
+    private void releaseLease(String leaseKey, String leaseToken) {
+        reactiveRedisTemplate.execute(RELEASE_LEASE_SCRIPT, List.of(leaseKey), List.of(leaseToken))
+                .subscribe(
+                        released -> { },
+                        e -> log.warn("차트 조회 임대 해제 실패 (TTL 만료로 정리됨): {}", leaseKey, e)
+                );
+    }
+
+    private Mono<List<StockChartDto>> readCache(String key) {
+        return reactiveRedisTemplate.opsForValue()
+                .get(key)
+                .flatMap(cachedData -> Mono.justOrEmpty(parseCache(key, cachedData)))
+                .onErrorResume(e -> {
+                    log.warn("캐시 데이터 조회 실패: {}", key, e);
+                    return Mono.empty();
+                });
+    }
+
+    private Optional<List<StockChartDto>> parseCache(String key, String cachedData) {
+        if (cachedData == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(objectMapper.readValue(cachedData, new TypeReference<List<StockChartDto>>() {}));
+        } catch (Exception e) {
+            log.warn("캐시 데이터 파싱 실패, API 호출로 대체: {}", key, e);
+            return Optional.empty();
+        }
+    }
+
+    private String valueAt(List<String> values, int index) {
+        return values != null && values.size() > index ? values.get(index) : null;
+    }
+
     /**
      * 기간 타입에 따른 캐시 TTL 반환
      */
@@ -123,7 +349,12 @@ public class StockChartService {
         String normalizedType = periodType.toLowerCase();
         
         // 1일 - 1분 간격 (390개)
-        if ("1day".equals(normalizedType) || "day".equals(normalizedType)) {
+        if (isIntraday(normalizedType)) {
+            // 실시간 분봉 집계 중이면 집계 시작 이전 구간만 KIS에서 채움
+            Optional<LocalTime> coverageStart = intradayBarService.getCoverageStart(stockCode);
+            if (coverageStart.isPresent()) {
+                return backfillIntradayBars(stockCode, periodType, coverageStart.get());
+            }
             return getMinuteChartDataFromKisMultiple(stockCode, 1) // 1분 간격
                     .map(chartDataList -> {
                         return chartDataList.stream()
@@ -173,89 +404,30 @@ public class StockChartService {
                     .onErrorResume(e -> Mono.error(new RuntimeException("주식 분봉 데이터 조회 실패: " + stockCode, e)));
         }
 
-        // 3달 - 1일 간격 (일봉)
+        // 3달 - 1일 간격 (일봉, 로컬 캔들 저장소)
         if ("3month".equals(normalizedType)) {
             LocalDate endDateLocal = LocalDate.now();
             LocalDate startDateLocal = endDateLocal.minusMonths(3);
-            return getChartDataFromKis(stockCode, "D", startDateLocal, endDateLocal) // 일봉
-                    .map(chartDataList -> {
-                        return chartDataList.stream()
-                                .sorted(Comparator.comparing(kisData -> parseDate(kisData.date()))) // 날짜 기준 오름차순 정렬 (과거 → 현재)
-                                .map(kisData -> mapToStockChartDto(stockCode, periodType, kisData))
-                                .toList();
-                    })
+            return getStoredCandles(stockCode, StockCandleStore.DAILY, startDateLocal, endDateLocal, periodType)
                     .doOnError(e -> log.error("주식 차트 데이터 조회 중 오류 발생: {}", stockCode, e))
                     .onErrorResume(e -> Mono.error(new RuntimeException("주식 차트 데이터 조회 실패: " + stockCode, e)));
         }
         
-        // 1년 - 7일 간격 (일봉, 7일 간격으로 필터링)
+        // 1년 - 주봉 (저장된 일봉에서 직접 계산)
         if ("1year".equals(normalizedType) || "year".equals(normalizedType)) {
             LocalDate endDateLocal = LocalDate.now();
             LocalDate startDateLocal = endDateLocal.minusYears(1);
-            
-            // KIS API 제한으로 인해 여러 번 호출하여 합치기 (6개월씩 나눠서)
-            List<Mono<List<KisChartDataDto>>> monos = new ArrayList<>();
-            
-            // 1년을 6개월씩 2번으로 나눠서 호출
-            LocalDate midDate = startDateLocal.plusMonths(6);
-            
-            monos.add(getChartDataFromKis(stockCode, "D", startDateLocal, midDate)); // 첫 6개월
-            monos.add(getChartDataFromKis(stockCode, "D", midDate.plusDays(1), endDateLocal)); // 나머지 6개월 (11월 포함)
-            
-            // 모든 Mono를 병렬로 실행하고 합치기
-            return Flux.merge(monos)
-                    .collectList()
-                    .map(listOfLists -> {
-                        // 모든 리스트를 하나로 합치기
-                        List<KisChartDataDto> allData = new ArrayList<>();
-                        for (List<KisChartDataDto> list : listOfLists) {
-                            allData.addAll(list);
-                        }
-                        
-                        // 날짜 기준 오름차순 정렬 (과거 → 현재)
-                        List<KisChartDataDto> sortedList = allData.stream()
-                                .sorted(Comparator.comparing(kisData -> parseDate(kisData.date())))
-                                .toList();
-                        
-                        // 날짜 기준으로 7일 간격 필터링 (과거부터 현재까지)
-                        List<StockChartDto> result = new ArrayList<>();
-                        LocalDate lastSelectedDate = null;
-                        
-                        for (int i = 0; i < sortedList.size(); i++) {
-                            KisChartDataDto kisData = sortedList.get(i);
-                            LocalDate currentDate = parseDate(kisData.date());
-                            
-                            // 첫 번째 데이터이거나, 마지막 선택된 날짜로부터 7일 이상 경과한 경우
-                            // 마지막 데이터 포인트는 항상 포함
-                            boolean isLastItem = (i == sortedList.size() - 1);
-                            if (lastSelectedDate == null || 
-                                currentDate.isAfter(lastSelectedDate.plusDays(6)) || 
-                                isLastItem) { // 7일 이상 차이 또는 마지막 데이터
-                                result.add(mapToStockChartDto(stockCode, periodType, kisData));
-                                lastSelectedDate = currentDate;
-                            }
-                        }
-                        
-                        // 날짜 기준 오름차순 정렬 (과거 → 현재) - 안전성을 위해 최종 정렬
-                        return result.stream()
-                                .sorted(Comparator.comparing(StockChartDto::date))
-                                .toList();
-                    })
+            return getStoredCandles(stockCode, StockCandleStore.DAILY, startDateLocal, endDateLocal, periodType)
+                    .map(daily -> StockCandleStore.aggregateWeekly(daily, periodType))
                     .doOnError(e -> log.error("주식 차트 데이터 조회 중 오류 발생: {}", stockCode, e))
                     .onErrorResume(e -> Mono.error(new RuntimeException("주식 차트 데이터 조회 실패: " + stockCode, e)));
         }
         
-        // 5년 - 1달 간격 (월봉)
+        // 5년 - 1달 간격 (월봉, 로컬 캔들 저장소)
         if ("5year".equals(normalizedType)) {
             LocalDate endDateLocal = LocalDate.now();
-            LocalDate startDateLocal = endDateLocal.minusYears(5);
-            return getChartDataFromKis(stockCode, "M", startDateLocal, endDateLocal) // 월봉
-                    .map(chartDataList -> {
-                        return chartDataList.stream()
-                                .sorted(Comparator.comparing(kisData -> parseDate(kisData.date()))) // 날짜 기준 오름차순 정렬 (과거 → 현재)
-                                .map(kisData -> mapToStockChartDto(stockCode, periodType, kisData))
-                                .toList();
-                    })
+            LocalDate startDateLocal = endDateLocal.minusYears(5).withDayOfMonth(1);
+            return getStoredCandles(stockCode, StockCandleStore.MONTHLY, startDateLocal, endDateLocal, periodType)
                     .doOnError(e -> log.error("주식 차트 데이터 조회 중 오류 발생: {}", stockCode, e))
                     .onErrorResume(e -> Mono.error(new RuntimeException("주식 차트 데이터 조회 실패: " + stockCode, e)));
         }
@@ -263,6 +435,32 @@ public class StockChartService {
         throw new IllegalArgumentException("Invalid period type: " + periodType + ". Supported: 1day, 1week, 3month, 1year, 5year");
     }
 
+    /**
+     * 로컬 캔들 저장소 기반 기간 조회
+     * - 저장소에 없는 구간(마지막 저장 봉 이후, 요청 시작일 쪽 공백)만 KIS에서 받아 저장
+     * - 이후 저장소 범위 스캔 결과로 응답 (DB 접근은 boundedElastic 스레드에서)
+     */
+    private Mono<List<StockChartDto>> getStoredCandles(
+            String stockCode,
+            String intervalType,
+            LocalDate from,
+            LocalDate to,
+            String periodType
+    ) {
+        return Mono.fromCallable(() -> stockCandleStore.findMissingRanges(stockCode, intervalType, from, to))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMapMany(Flux::fromIterable)
+                .concatMap(range -> getChartDataFromKis(stockCode, intervalType, range.from(), range.to()))
+                .flatMapIterable(chartDataList -> chartDataList)
+                .map(kisData -> mapToStockChartDto(stockCode, periodType, kisData))
+                .collectList()
+                .publishOn(Schedulers.boundedElastic())
+                .map(fetched -> {
+                    stockCandleStore.save(stockCode, intervalType, fetched);
+                    return stockCandleStore.load(stockCode, intervalType, from, to, periodType);
+                });
+    }
+
     /**
      * KIS API에서 차트 데이터 조회
      */
@@ -275,25 +473,26 @@ public class StockChartService {
         String accessToken = kisTokenManager.getAccessToken();
         String startDateStr = startDate.format(DATE_FORMATTER);
         String endDateStr = endDate.format(DATE_FORMATTER);
+        String requestKey = stockCode + ":" + periodCode + ":" + startDateStr + ":" + endDateStr;
 
-        return webClient.get()
-                .uri(uriBuilder -> uriBuilder
-                        .path("/uapi/domestic-stock/v1/quotations/inquire-daily-itemchartprice")
-                        .queryParam("FID_COND_MRKT_DIV_CODE", "J")  // J: 주식
-                        .queryParam("FID_INPUT_ISCD", stockCode)     // 종목코드
-                        .queryParam("FID_INPUT_DATE_1", startDateStr) // 시작일자
-                        .queryParam("FID_INPUT_DATE_2", endDateStr)  // 종료일자
-                        .queryParam("FID_PERIOD_DIV_CODE", periodCode) // 기간구분코드 (D/W/M/Y)
-                        .queryParam("FID_ORG_ADJ_PRC", "0")          // 0: 수정주가
-                        .build())
-                .header("content-type", "application/json; charset=utf-8")
-                .header("authorization", "Bearer " + accessToken)
-                .header("appkey", kisApiProperties.appkey())
-                .header("appsecret", kisApiProperties.appsecret())
-                .header("tr_id", "FHKST03010100")  // 국내주식기간별시세(일/주/월/년) TR ID
-                .header("custtype", "P")
-                .retrieve()
-                .bodyToMono(String.class)
+        return kisApiGateway.execute("inquire-daily-itemchartprice", requestKey, () -> webClient.get()
+                        .uri(uriBuilder -> uriBuilder
+                                .path("/uapi/domestic-stock/v1/quotations/inquire-daily-itemchartprice")
+                                .queryParam("FID_COND_MRKT_DIV_CODE", "J")  // J: 주식
+                                .queryParam("FID_INPUT_ISCD", stockCode)     // 종목코드
+                                .queryParam("FID_INPUT_DATE_1", startDateStr) // 시작일자
+                                .queryParam("FID_INPUT_DATE_2", endDateStr)  // 종료일자
+                                .queryParam("FID_PERIOD_DIV_CODE", periodCode) // 기간구분코드 (D/W/M/Y)
+                                .queryParam("FID_ORG_ADJ_PRC", "0")          // 0: 수정주가
+                                .build())
+                        .header("content-type", "application/json; charset=utf-8")
+                        .header("authorization", "Bearer " + accessToken)
+                        .header("appkey", kisApiProperties.appkey())
+                        .header("appsecret", kisApiProperties.appsecret())
+                        .header("tr_id", "FHKST03010100")  // 국내주식기간별시세(일/주/월/년) TR ID
+                        .header("custtype", "P")
+                        .retrieve()
+                        .bodyToMono(String.class))
                 .map(rawResponse -> {
                     try {
                         return objectMapper.readValue(rawResponse, KisChartResponseDto.class);
@@ -321,6 +520,27 @@ public class StockChartService {
                 .doOnError(e -> log.error("KIS API 차트 데이터 조회 중 오류 발생", e));
     }
 
+    private boolean isIntraday(String normalizedType) {
+        return "1day".equals(normalizedType) || "day".equals(normalizedType);
+    }
+
+    /**
+     * 로컬 분봉 집계 이전 구간(장 시작 ~ 집계 시작)만 KIS에서 조회하여 채운 뒤 로컬 분봉으로 응답
+     * 채운 이후 요청은 getStockChart에서 KIS 호출 없이 처리됨
+     */
+    private Mono<List<StockChartDto>> backfillIntradayBars(String stockCode, String periodType, LocalTime coverageStart) {
+        return getMinuteChartDataFromKisMultiple(stockCode, 1, coverageStart)
+                .map(chartDataList -> {
+                    List<StockChartDto> kisBars = chartDataList.stream()
+                            .map(kisData -> mapMinuteToStockChartDto(stockCode, periodType, kisData))
+                            .toList();
+                    return intradayBarService.backfill(stockCode, kisBars, coverageStart, 1, periodType)
+                            .orElse(kisBars); // 채우는 사이 실시간 수신이 끊긴 경우 KIS 분봉만 응답
+                })
+                .doOnError(e -> log.error("주식 분봉 backfill 중 오류 발생: {}", stockCode, e))
+                .onErrorResume(e -> Mono.error(new RuntimeException("주식 분봉 데이터 조회 실패: " + stockCode, e)));
+    }
+
     /**
      * KIS API에서 분봉 데이터 조회 (당일 분봉 - 여러 번 호출하여 합치기)
      * 장 시작 시간(09:00)부터 현재 시간까지 30분 단위로 나눠서 비동기 호출 후 합치기
@@ -328,6 +548,15 @@ public class StockChartService {
      * @param minuteInterval 분봉 간격 (1분 또는 10분)
      */
     private Mono<List<KisMinuteChartDataDto>> getMinuteChartDataFromKisMultiple(String stockCode, int minuteInterval) {
+        return getMinuteChartDataFromKisMultiple(stockCode, minuteInterval, LocalTime.MAX);
+    }
+
+    /**
+     * KIS API에서 분봉 데이터 조회 (장 시작 ~ until 구간만)
+     * @param until 조회 종료 시간 (현재 시간/장 종료 시간보다 늦으면 그 시간까지)
+     */
+    private Mono<List<KisMinuteChartDataDto>> getMinuteChartDataFromKisMultiple(String stockCode, int minuteInterval,
+                                                                                LocalTime until) {
         LocalTime now = LocalTime.now();
         LocalTime marketStart = LocalTime.of(9, 0); // 장 시작 시간
         LocalTime marketEnd = LocalTime.of(15, 30); // 장 종료 시간
@@ -339,6 +568,9 @@ public class StockChartService {
         
         // 조회할 시간 범위 계산 (30분 단위)
         LocalTime endTime = now.isAfter(marketEnd) ? marketEnd : now;
+        if (until.isBefore(endTime)) {
+            endTime = until.isBefore(marketStart) ? marketStart : until;
+        }
         List<String> timeRanges = calculateTimeRanges(marketStart, endTime);
         
         // 각 시간 범위마다 비동기로 호출
@@ -435,25 +667,25 @@ public class StockChartService {
         String accessToken = kisTokenManager.getAccessToken();
         String dateStr = targetDate.format(DATE_FORMATTER);
 
-        return webClient.get()
-                .uri(uriBuilder -> uriBuilder
-                        .path("/uapi/domestic-stock/v1/quotations/inquire-time-dailychartprice")
-                        .queryParam("FID_COND_MRKT_DIV_CODE", "J")
-                        .queryParam("FID_INPUT_ISCD", stockCode)
-                        .queryParam("FID_INPUT_DATE_1", dateStr)
-                        .queryParam("FID_INPUT_HOUR_1", requestHour)
-                        .queryParam("FID_PW_DATA_INCU_YN", "N")
-                        .queryParam("FID_FAKE_TICK_INCU_YN", "")
-                        .build())
-                .header("content-type", "application/json; charset=utf-8")
-                .header("authorization", "Bearer " + accessToken)
-                .header("appkey", kisApiProperties.appkey())
-                .header("appsecret", kisApiProperties.appsecret())
-                .header("tr_id", "FHKST03010230")
-                .header("custtype", "P")
-                .header("tr_cont", "")
-                .retrieve()
-                .bodyToMono(String.class)
+        return kisApiGateway.execute("inquire-time-dailychartprice", stockCode + ":" + dateStr + ":" + requestHour, () -> webClient.get()
+                        .uri(uriBuilder -> uriBuilder
+                                .path("/uapi/domestic-stock/v1/quotations/inquire-time-dailychartprice")
+                                .queryParam("FID_COND_MRKT_DIV_CODE", "J")
+                                .queryParam("FID_INPUT_ISCD", stockCode)
+                                .queryParam("FID_INPUT_DATE_1", dateStr)
+                                .queryParam("FID_INPUT_HOUR_1", requestHour)
+                                .queryParam("FID_PW_DATA_INCU_YN", "N")
+                                .queryParam("FID_FAKE_TICK_INCU_YN", "")
+                                .build())
+                        .header("content-type", "application/json; charset=utf-8")
+                        .header("authorization", "Bearer " + accessToken)
+                        .header("appkey", kisApiProperties.appkey())
+                        .header("appsecret", kisApiProperties.appsecret())
+                        .header("tr_id", "FHKST03010230")
+                        .header("custtype", "P")
+                        .header("tr_cont", "")
+                        .retrieve()
+                        .bodyToMono(String.class))
                 .flatMap(rawResponse -> {
                     if (rawResponse == null || rawResponse.isBlank()) {
                         log.warn("KIS 일별 분봉 원본 응답이 비어 있습니다. 날짜: {}, 종목: {}, hour={}", targetDate, stockCode, requestHour);
@@ -538,21 +770,10 @@ public class StockChartService {
             return Mono.just(List.of());
         }
 
+        // 호출 간격은 KisApiGateway 토큰 버킷이 조절
         return Flux.fromIterable(recentBusinessDays)
-                .index()
-                .concatMap(tuple -> {
-                    long index = tuple.getT1();
-                    LocalDate date = tuple.getT2();
-
-                    Flux<KisMinuteChartDataDto> dailyFlux = getMinuteChartDataFromKisDaily(stockCode, date)
-                            .flatMapMany(list -> Flux.fromIterable(list));
-
-                    // 가운데 지점(두 번째 인덱스)에서만 1초 지연 적용
-                    if (index == 2) {
-                        return Mono.delay(Duration.ofSeconds(1)).thenMany(dailyFlux);
-                    }
-                    return dailyFlux;
-                })
+                .concatMap(date -> getMinuteChartDataFromKisDaily(stockCode, date)
+                        .flatMapMany(Flux::fromIterable))
                 .collectList()
                 .map(this::deduplicateAndSort);
     }
@@ -564,23 +785,23 @@ public class StockChartService {
         // FID_ETC_CLS_CODE: 기타 구분 코드 (필수)
         // FID_PERIOD_DIV_CODE: 분봉 간격 (1분/5분/10분/30분 등) - KIS API 문서 확인 필요
 
-        return webClient.get()
-                .uri(uriBuilder -> uriBuilder
-                        .path("/uapi/domestic-stock/v1/quotations/inquire-time-itemchartprice")
-                        .queryParam("FID_COND_MRKT_DIV_CODE", "J")  // J: 주식
-                        .queryParam("FID_INPUT_ISCD", stockCode)     // 종목코드
-                        .queryParam("FID_INPUT_HOUR_1", startTime)  // 입력 시간1 (HHMMSS 형식)
-                        .queryParam("FID_PW_DATA_INCU_YN", "N")     // 과거 데이터 포함 여부
-                        .queryParam("FID_ETC_CLS_CODE", "0")         // 기타 구분 코드 (0: 기본값)
-                        .build())
-                .header("content-type", "application/json; charset=utf-8")
-                .header("authorization", "Bearer " + accessToken)
-                .header("appkey", kisApiProperties.appkey())
-                .header("appsecret", kisApiProperties.appsecret())
-                .header("tr_id", "FHKST03010200")  // 주식당일분봉조회 TR ID
-                .header("custtype", "P")
-                .retrieve()
-                .bodyToMono(String.class)
+        return kisApiGateway.execute("inquire-time-itemchartprice", stockCode + ":" + startTime, () -> webClient.get()
+                        .uri(uriBuilder -> uriBuilder
+                                .path("/uapi/domestic-stock/v1/quotations/inquire-time-itemchartprice")
+                                .queryParam("FID_COND_MRKT_DIV_CODE", "J")  // J: 주식
+                                .queryParam("FID_INPUT_ISCD", stockCode)     // 종목코드
+                                .queryParam("FID_INPUT_HOUR_1", startTime)  // 입력 시간1 (HHMMSS 형식)
+                                .queryParam("FID_PW_DATA_INCU_YN", "N")     // 과거 데이터 포함 여부
+                                .queryParam("FID_ETC_CLS_CODE", "0")         // 기타 구분 코드 (0: 기본값)
+                                .build())
+                        .header("content-type", "application/json; charset=utf-8")
+                        .header("authorization", "Bearer " + accessToken)
+                        .header("appkey", kisApiProperties.appkey())
+                        .header("appsecret", kisApiProperties.appsecret())
+                        .header("tr_id", "FHKST03010200")  // 주식당일분봉조회 TR ID
+                        .header("custtype", "P")
+                        .retrieve()
+                        .bodyToMono(String.class))
                 .map(rawResponse -> {
                     try {
                         return objectMapper.readValue(rawResponse, KisChartResponseDto.class);
@@ -803,5 +1024,7 @@ public class StockChartService {
             return 0L;
         }
     }
-}
 
+    private record ChartFetch(KisCallPriority priority, Mono<List<StockChartDto>> result) {
+    }
+}
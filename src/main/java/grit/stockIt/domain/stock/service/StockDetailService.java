@@ -12,6 +12,7 @@ import grit.stockIt.domain.stock.entity.Stock;
 import grit.stockIt.domain.stock.repository.StockRepository;
 import grit.stockIt.global.auth.KisTokenManager;
 import grit.stockIt.global.config.KisApiProperties;
+import grit.stockIt.global.kis.KisApiGateway;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -34,6 +35,7 @@ public class StockDetailService {
     private final WebClient webClient;
     private final KisTokenManager kisTokenManager;
     private final KisApiProperties kisApiProperties;
+    private final KisApiGateway kisApiGateway;
     private final StockRepository stockRepository;
     private final ObjectMapper objectMapper;
     private final RedisMarketDataRepository redisMarketDataRepository;
@@ -92,14 +94,10 @@ public class StockDetailService {
 
     // KIS API에서 현재가만 조회 (캐시 우선)
     public Mono<BigDecimal> getCurrentPrice(String stockCode) {
-        // 1. Redis 캐시에서 먼저 조회
-        return Mono.fromCallable(() -> redisMarketDataRepository.getLastPrice(stockCode))
-                .flatMap(cachedPrice -> {
-                    if (cachedPrice.isPresent()) {
-                        log.info("캐시에서 현재가 조회: stockCode={}, price={}", stockCode, cachedPrice.get());
-                        return Mono.just(cachedPrice.get());
-                    }
-                    
+        // 1. Redis 캐시에서 먼저 조회 (논블로킹)
+        return redisMarketDataRepository.findLastPrice(stockCode)
+                .doOnNext(cachedPrice -> log.info("캐시에서 현재가 조회: stockCode={}, price={}", stockCode, cachedPrice))
+                .switchIfEmpty(Mono.defer(() -> {
                     // 2. 캐시에 없으면 KIS API 호출
                     log.info("캐시에 없어 KIS API 호출: stockCode={}", stockCode);
                     return getStockPriceFromKis(stockCode)
@@ -109,17 +107,17 @@ public class StockDetailService {
                                     throw new RuntimeException("KIS API에서 현재가를 가져올 수 없습니다: " + stockCode);
                                 }
                                 try {
-                                    BigDecimal price = new BigDecimal(priceStr.trim());
-                                    // 3. Redis에 캐시 저장
-                                    redisMarketDataRepository.updateLastPrice(stockCode, price);
-                                    log.info("KIS API에서 현재가 조회 및 캐시 저장: stockCode={}, price={}", stockCode, price);
-                                    return price;
+                                    return new BigDecimal(priceStr.trim());
                                 } catch (NumberFormatException e) {
                                     log.error("현재가 파싱 실패: stockCode={}, price={}", stockCode, priceStr, e);
                                     throw new RuntimeException("현재가 파싱 실패: " + stockCode, e);
                                 }
-                            });
-                })
+                            })
+                            // 3. Redis에 캐시 저장
+                            .flatMap(price -> redisMarketDataRepository.saveLastPrice(stockCode, price)
+                                    .doOnSuccess(ignored -> log.info("KIS API에서 현재가 조회 및 캐시 저장: stockCode={}, price={}", stockCode, price))
+                                    .thenReturn(price));
+                }))
                 .doOnError(e -> log.error("현재가 조회 실패: stockCode={}", stockCode, e));
     }
 
@@ -139,20 +137,20 @@ public class StockDetailService {
     private Mono<KisStockDetailDto> getStockPriceFromKis(String stockCode) {
         String accessToken = kisTokenManager.getAccessToken();
         
-        return webClient.get()
-                .uri(uriBuilder -> uriBuilder
-                        .path("/uapi/domestic-stock/v1/quotations/inquire-price")
-                        .queryParam("FID_COND_MRKT_DIV_CODE", "J")  // J: 주식
-                        .queryParam("FID_INPUT_ISCD", stockCode)     // 종목코드
-                        .build())
-                .header("content-type", "application/json; charset=utf-8")
-                .header("authorization", "Bearer " + accessToken)
-                .header("appkey", kisApiProperties.appkey())
-                .header("appsecret", kisApiProperties.appsecret())
-                .header("tr_id", "FHKST01010100")  // 주식현재가 시세 조회 TR ID
-                .header("custtype", "P")
-                .retrieve()
-                .bodyToMono(KisStockDetailResponseDto.class)
+        return kisApiGateway.execute("inquire-price", stockCode, () -> webClient.get()
+                        .uri(uriBuilder -> uriBuilder
+                                .path("/uapi/domestic-stock/v1/quotations/inquire-price")
+                                .queryParam("FID_COND_MRKT_DIV_CODE", "J")  // J: 주식
+                                .queryParam("FID_INPUT_ISCD", stockCode)     // 종목코드
+                                .build())
+                        .header("content-type", "application/json; charset=utf-8")
+                        .header("authorization", "Bearer " + accessToken)
+                        .header("appkey", kisApiProperties.appkey())
+                        .header("appsecret", kisApiProperties.appsecret())
+                        .header("tr_id", "FHKST01010100")  // 주식현재가 시세 조회 TR ID
+                        .header("custtype", "P")
+                        .retrieve()
+                        .bodyToMono(KisStockDetailResponseDto.class))
                 .map(response -> {
                     log.info("KIS API 응답 코드: {}, 메시지: {}", response.rtCd(), response.msg1());
                     
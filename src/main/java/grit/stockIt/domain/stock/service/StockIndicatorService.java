@@ -0,0 +1,175 @@
+package grit.stockIt.domain.stock.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import grit.stockIt.domain.stock.dto.IndicatorType;
+import grit.stockIt.domain.stock.dto.StockChartColumnarDto;
+import grit.stockIt.domain.stock.dto.StockChartDto;
+import grit.stockIt.domain.stock.dto.StockIndicatorDto;
+import grit.stockIt.global.exception.BadRequestException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 기술적 지표 서비스
+ * - 차트 조회와 같은 데이터(로컬 캔들/분봉 + 차트 캐시)로 서버에서 직접 계산 (외부 분석 서버 호출 없음)
+ * - (종목, 기간, 지표, 파라미터, 차트 버전) 단위로 결과 캐시
+ *   차트 버전은 봉 개수 + 마지막 봉(시각/종가/거래량)이라 새 봉이 들어오면 자연히 다시 계산
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StockIndicatorService {
+
+    private static final int MAX_PERIOD = 200;
+
+    private final StockChartService stockChartService;
+
+    private final Cache<IndicatorCacheKey, StockIndicatorDto> indicatorCache = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofMinutes(30))
+            .maximumSize(2_000)
+            .build();
+
+    /**
+     * 지표 조회 (파라미터가 null이면 지표별 기본값)
+     */
+    public Mono<StockIndicatorDto> getIndicator(
+            String stockCode,
+            String periodType,
+            IndicatorType indicator,
+            Integer period,
+            Integer fastPeriod,
+            Integer slowPeriod,
+            Integer signalPeriod,
+            Double multiplier
+    ) {
+        Map<String, Number> params = resolveParams(indicator, period, fastPeriod, slowPeriod, signalPeriod, multiplier);
+
+        return stockChartService.getStockChart(stockCode, periodType)
+                .map(bars -> {
+                    IndicatorCacheKey key = new IndicatorCacheKey(
+                            stockCode, periodType.toLowerCase(), indicator, params, versionOf(bars));
+                    return indicatorCache.get(key, k -> calculate(stockCode, periodType, indicator, params, bars));
+                });
+    }
+
+    // ==================== Private 헬퍼 메서드 ====================
+
+    private StockIndicatorDto calculate(String stockCode, String periodType, IndicatorType indicator,
+                                        Map<String, Number> params, List<StockChartDto> bars) {
+        int size = bars.size();
+        double[] highs = new double[size];
+        double[] lows = new double[size];
+        double[] closes = new double[size];
+        double[] volumes = new double[size];
+        for (int i = 0; i < size; i++) {
+            StockChartDto bar = bars.get(i);
+            highs[i] = valueOf(bar.highPrice());
+            lows[i] = valueOf(bar.lowPrice());
+            closes[i] = valueOf(bar.closePrice());
+            volumes[i] = bar.volume() != null ? bar.volume() : 0;
+        }
+
+        // 일자/시간 배열은 컬럼형 차트 응답과 같은 형식
+        StockChartColumnarDto columns = StockChartColumnarDto.from(stockCode, periodType, bars);
+
+        Map<String, Double[]> lines = new LinkedHashMap<>();
+        switch (indicator) {
+            case SMA -> lines.put("value", toBoxed(IndicatorCalculator.sma(closes, params.get("period").intValue())));
+            case EMA -> lines.put("value", toBoxed(IndicatorCalculator.ema(closes, params.get("period").intValue())));
+            case RSI -> lines.put("value", toBoxed(IndicatorCalculator.rsi(closes, params.get("period").intValue())));
+            case MACD -> {
+                double[][] macd = IndicatorCalculator.macd(closes,
+                        params.get("fastPeriod").intValue(),
+                        params.get("slowPeriod").intValue(),
+                        params.get("signalPeriod").intValue());
+                lines.put("macd", toBoxed(macd[0]));
+                lines.put("signal", toBoxed(macd[1]));
+                lines.put("histogram", toBoxed(macd[2]));
+            }
+            case BOLLINGER -> {
+                double[][] bands = IndicatorCalculator.bollinger(closes,
+                        params.get("period").intValue(),
+                        params.get("multiplier").doubleValue());
+                lines.put("middle", toBoxed(bands[0]));
+                lines.put("upper", toBoxed(bands[1]));
+                lines.put("lower", toBoxed(bands[2]));
+            }
+            case VWAP -> lines.put("value", toBoxed(IndicatorCalculator.vwap(highs, lows, closes, volumes, columns.dates())));
+        }
+
+        log.debug("지표 계산: {} {} {} {} ({}개 봉)", stockCode, periodType, indicator, params, size);
+        return new StockIndicatorDto(stockCode, periodType, indicator, params, columns.dates(), columns.times(), lines);
+    }
+
+    private Map<String, Number> resolveParams(IndicatorType indicator, Integer period, Integer fastPeriod,
+                                              Integer slowPeriod, Integer signalPeriod, Double multiplier) {
+        Map<String, Number> params = new LinkedHashMap<>();
+        switch (indicator) {
+            case SMA, EMA, RSI -> params.put("period", validPeriod(period, indicator.getDefaultPeriod()));
+            case MACD -> {
+                int fast = validPeriod(fastPeriod, indicator.getDefaultFastPeriod());
+                int slow = validPeriod(slowPeriod, indicator.getDefaultSlowPeriod());
+                if (fast >= slow) {
+                    throw new BadRequestException("MACD 단기 기간은 장기 기간보다 짧아야 합니다.");
+                }
+                params.put("fastPeriod", fast);
+                params.put("slowPeriod", slow);
+                params.put("signalPeriod", validPeriod(signalPeriod, indicator.getDefaultSignalPeriod()));
+            }
+            case BOLLINGER -> {
+                double k = multiplier != null ? multiplier : indicator.getDefaultMultiplier();
+                if (k <= 0 || k > 10) {
+                    throw new BadRequestException("볼린저 밴드 배수는 0보다 크고 10 이하여야 합니다.");
+                }
+                params.put("period", validPeriod(period, indicator.getDefaultPeriod()));
+                params.put("multiplier", k);
+            }
+            case VWAP -> {
+                // 파라미터 없음
+            }
+        }
+        return params;
+    }
+
+    private int validPeriod(Integer value, int defaultValue) {
+        int period = value != null ? value : defaultValue;
+        if (period < 1 || period > MAX_PERIOD) {
+            throw new BadRequestException("지표 기간은 1 이상 " + MAX_PERIOD + " 이하여야 합니다.");
+        }
+        return period;
+    }
+
+    // 차트 버전: 봉 개수 + 마지막 봉 (진행 중인 봉이 갱신되면 바뀜)
+    private String versionOf(List<StockChartDto> bars) {
+        if (bars.isEmpty()) {
+            return "0";
+        }
+        StockChartDto last = bars.get(bars.size() - 1);
+        return bars.size() + ":" + last.date() + ":" + last.time() + ":" + last.closePrice() + ":" + last.volume();
+    }
+
+    private double valueOf(Integer price) {
+        return price != null ? price : 0;
+    }
+
+    // 계산 구간이 부족한 NaN은 null로 (JSON 숫자로 표현 불가)
+    private Double[] toBoxed(double[] values) {
+        Double[] boxed = new Double[values.length];
+        for (int i = 0; i < values.length; i++) {
+            boxed[i] = Double.isNaN(values[i]) ? null : Math.round(values[i] * 100) / 100.0;
+        }
+        return boxed;
+    }
+
+    private record IndicatorCacheKey(String stockCode, String periodType, IndicatorType indicator,
+                                     Map<String, Number> params, String version) {
+    }
+}
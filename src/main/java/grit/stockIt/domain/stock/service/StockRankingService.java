@@ -10,6 +10,7 @@ import grit.stockIt.domain.stock.entity.Stock;
 import grit.stockIt.domain.stock.repository.StockRepository;
 import grit.stockIt.global.auth.KisTokenManager;
 import grit.stockIt.global.config.KisApiProperties;
+import grit.stockIt.global.kis.KisApiGateway;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -30,6 +31,7 @@ public class StockRankingService {
     private final WebClient webClient;
     private final KisTokenManager kisTokenManager;
     private final KisApiProperties kisApiProperties;
+    private final KisApiGateway kisApiGateway;
     private final StockRepository stockRepository;
     private final IndustryRepository industryRepository;
 
@@ -37,29 +39,29 @@ public class StockRankingService {
     public Mono<List<StockRankingDto>> getAmountTopStocks(int limit) {
         String accessToken = kisTokenManager.getAccessToken();
 
-        return webClient.get()
-                .uri(uriBuilder -> uriBuilder
-                        .path("/uapi/domestic-stock/v1/quotations/volume-rank")
-                        .queryParam("FID_COND_MRKT_DIV_CODE", "J")
-                        .queryParam("FID_COND_SCR_DIV_CODE", "20171")
-                        .queryParam("FID_INPUT_ISCD", "0000")
-                        .queryParam("FID_DIV_CLS_CODE", "0")
-                        .queryParam("FID_BLNG_CLS_CODE", "3") // 거래금액순 (0:평균거래량, 1:거래증가율, 2:평균거래회전율, 3:거래금액순, 4:평균거래금액회전율)
-                        .queryParam("FID_TRGT_CLS_CODE", "111111111")
-                        .queryParam("FID_TRGT_EXLS_CLS_CODE", "0000000000")
-                        .queryParam("FID_INPUT_PRICE_1", "")
-                        .queryParam("FID_INPUT_PRICE_2", "")
-                        .queryParam("FID_VOL_CNT", "")
-                        .queryParam("FID_INPUT_DATE_1", "")
-                        .build())
-                .header("content-type", "application/json; charset=utf-8")
-                .header("authorization", "Bearer " + accessToken)
-                .header("appkey", kisApiProperties.appkey())
-                .header("appsecret", kisApiProperties.appsecret())
-                .header("tr_id", "FHPST01710000")
-                .header("custtype", "P")
-                .retrieve()
-                .bodyToMono(KisRankingResponseDto.class)
+        return kisApiGateway.execute("volume-rank", "amount", () -> webClient.get()
+                        .uri(uriBuilder -> uriBuilder
+                                .path("/uapi/domestic-stock/v1/quotations/volume-rank")
+                                .queryParam("FID_COND_MRKT_DIV_CODE", "J")
+                                .queryParam("FID_COND_SCR_DIV_CODE", "20171")
+                                .queryParam("FID_INPUT_ISCD", "0000")
+                                .queryParam("FID_DIV_CLS_CODE", "0")
+                                .queryParam("FID_BLNG_CLS_CODE", "3") // 거래금액순 (0:평균거래량, 1:거래증가율, 2:평균거래회전율, 3:거래금액순, 4:평균거래금액회전율)
+                                .queryParam("FID_TRGT_CLS_CODE", "111111111")
+                                .queryParam("FID_TRGT_EXLS_CLS_CODE", "0000000000")
+                                .queryParam("FID_INPUT_PRICE_1", "")
+                                .queryParam("FID_INPUT_PRICE_2", "")
+                                .queryParam("FID_VOL_CNT", "")
+                                .queryParam("FID_INPUT_DATE_1", "")
+                                .build())
+                        .header("content-type", "application/json; charset=utf-8")
+                        .header("authorization", "Bearer " + accessToken)
+                        .header("appkey", kisApiProperties.appkey())
+                        .header("appsecret", kisApiProperties.appsecret())
+                        .header("tr_id", "FHPST01710000")
+                        .header("custtype", "P")
+                        .retrieve()
+                        .bodyToMono(KisRankingResponseDto.class))
                 .map(response -> parseAmountRankingResponse(response, limit))
                 .doOnError(e -> log.error("거래대금 상위 종목 조회 중 오류 발생", e))
                 .onErrorResume(e -> Mono.error(new RuntimeException("거래대금 상위 종목 조회 실패", e)));
@@ -76,33 +78,33 @@ public class StockRankingService {
         String accessToken = kisTokenManager.getAccessToken();
         String trId = "FHPST01700000"; // 등락 순위 조회 TR ID
 
-        return webClient.get()
-                .uri(uriBuilder -> uriBuilder
-                        .path("/uapi/domestic-stock/v1/ranking/fluctuation")
-                        // 문서 기준 소문자 파라미터 & 기본값 매핑
-                        .queryParam("fid_cond_mrkt_div_code", "J")
-                        .queryParam("fid_cond_scr_div_code", "20170")
-                        .queryParam("fid_input_iscd", "0000")
-                        .queryParam("fid_rank_sort_cls_code", rise ? "0" : "1") // 0:상승율순, 1:하락율순
-                        .queryParam("fid_prc_cls_code", "1") // 종가대비
-                        .queryParam("fid_input_cnt_1", "0") // 0:전체
-                        .queryParam("fid_input_price_1", "")
-                        .queryParam("fid_input_price_2", "")
-                        .queryParam("fid_vol_cnt", "")
-                        .queryParam("fid_trgt_cls_code", "0") // 0:전체
-                        .queryParam("fid_trgt_exls_cls_code", "0") // 0:전체
-                        .queryParam("fid_div_cls_code", "0") // 0:전체
-                        .queryParam("fid_rsfl_rate1", "")
-                        .queryParam("fid_rsfl_rate2", "")
-                        .build())
-                .header("content-type", "application/json; charset=utf-8")
-                .header("authorization", "Bearer " + accessToken)
-                .header("appkey", kisApiProperties.appkey())
-                .header("appsecret", kisApiProperties.appsecret())
-                .header("tr_id", trId)
-                .header("custtype", "P")
-                .retrieve()
-                .bodyToMono(KisRankingResponseDto.class)
+        return kisApiGateway.execute("fluctuation", rise ? "rise" : "fall", () -> webClient.get()
+                        .uri(uriBuilder -> uriBuilder
+                                .path("/uapi/domestic-stock/v1/ranking/fluctuation")
+                                // 문서 기준 소문자 파라미터 & 기본값 매핑
+                                .queryParam("fid_cond_mrkt_div_code", "J")
+                                .queryParam("fid_cond_scr_div_code", "20170")
+                                .queryParam("fid_input_iscd", "0000")
+                                .queryParam("fid_rank_sort_cls_code", rise ? "0" : "1") // 0:상승율순, 1:하락율순
+                                .queryParam("fid_prc_cls_code", "1") // 종가대비
+                                .queryParam("fid_input_cnt_1", "0") // 0:전체
+                                .queryParam("fid_input_price_1", "")
+                                .queryParam("fid_input_price_2", "")
+                                .queryParam("fid_vol_cnt", "")
+                                .queryParam("fid_trgt_cls_code", "0") // 0:전체
+                                .queryParam("fid_trgt_exls_cls_code", "0") // 0:전체
+                                .queryParam("fid_div_cls_code", "0") // 0:전체
+                                .queryParam("fid_rsfl_rate1", "")
+                                .queryParam("fid_rsfl_rate2", "")
+                                .build())
+                        .header("content-type", "application/json; charset=utf-8")
+                        .header("authorization", "Bearer " + accessToken)
+                        .header("appkey", kisApiProperties.appkey())
+                        .header("appsecret", kisApiProperties.appsecret())
+                        .header("tr_id", trId)
+                        .header("custtype", "P")
+                        .retrieve()
+                        .bodyToMono(KisRankingResponseDto.class))
                 .map(response -> parseFluctuationRankingResponse(response, 30))
                 .doOnError(e -> log.error("급{} 순위 조회 중 오류 발생", rise ? "등" : "락", e))
                 .onErrorResume(e -> Mono.error(new RuntimeException("급" + (rise ? "등" : "락") + " 순위 조회 실패", e)));
@@ -0,0 +1,282 @@
+package grit.stockIt.domain.stock.service;
+
+import grit.stockIt.domain.stock.dto.StockSearchDto;
+import grit.stockIt.domain.stock.entity.Stock;
+import grit.stockIt.domain.stock.repository.StockRepository;
+import grit.stockIt.job.event.MasterFileUpdatedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+/**
+ * 종목 검색용 메모리 인덱스 (종목명 2-gram 역색인 + 종목코드)
+ * - 기동 시, 마스터 파일 업데이트 커밋 후 전체 재구성 (검색 시 DB 조회 없음)
+ * - 종목명은 정규화해 두고, 질의와 2-gram을 공유하는 종목만 후보로 유사도 계산
+ * - 유사도: 2-gram 집합 Jaccard, 질의나 종목명이 1글자면 문자 멀티셋 Jaccard
+ * - 종목코드: 완전 일치는 1.0, 3글자 이상 접두 일치는 (질의 길이 / 코드 길이)
+ *
+ * 재구성 중에도 검색은 이전 스냅샷으로 처리 (volatile 참조 교체)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockSearchIndex {
+
+    private static final int GRAM_SIZE = 2;
+    private static final int CODE_PREFIX_MIN_LENGTH = 3; // 이보다 짧은 질의는 코드 완전 일치만
+    private static final Pattern NON_SEARCHABLE = Pattern.compile("[^가-힣0-9a-zA-Z\\s]");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final StockRepository stockRepository;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * 애플리케이션 기동 시 인덱스 구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * 마스터 파일 업데이트로 종목 목록이 바뀐 경우 (커밋 후)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMasterFileUpdated(MasterFileUpdatedEvent event) {
+        rebuild();
+    }
+
+    /**
+     * DB의 상장 종목 전체로 인덱스 재구성
+     */
+    public synchronized void rebuild() {
+        long startedAt = System.nanoTime();
+        try {
+            Snapshot built = Snapshot.build(stockRepository.findAll());
+            snapshot = built;
+            log.info("종목 검색 인덱스 구성 완료: 종목 {}개, 2-gram {}개, {}ms",
+                    built.entries.length, built.gramPostings.size(), (System.nanoTime() - startedAt) / 1_000_000);
+        } catch (Exception e) {
+            // 실패하면 기존 스냅샷 유지
+            log.error("종목 검색 인덱스 구성 실패", e);
+        }
+    }
+
+    /**
+     * 유사도 내림차순 검색 결과 (유사도 0 초과)
+     */
+    public List<StockSearchDto> search(String query) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            rebuild(); // 기동 이벤트 전에 들어온 요청
+            current = snapshot;
+            if (current == null) {
+                return List.of();
+            }
+        }
+
+        String normalizedQuery = normalize(query);
+        if (normalizedQuery.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Integer, Double> scores = new HashMap<>();
+        scoreNames(current, normalizedQuery, scores);
+        scoreCodes(current, normalizedQuery, scores);
+
+        List<StockSearchDto> results = new ArrayList<>(scores.size());
+        for (Map.Entry<Integer, Double> score : scores.entrySet()) {
+            Entry entry = current.entries[score.getKey()];
+            results.add(new StockSearchDto(entry.code(), entry.name(), score.getValue()));
+        }
+        results.sort(Comparator.comparingDouble(StockSearchDto::similarity).reversed()
+                .thenComparing(StockSearchDto::stockCode));
+        return results;
+    }
+
+    static String normalize(String s) {
+        if (s == null) return "";
+        // 소문자화, 특수문자 제거(한글,영문,숫자,공백만 허용), 공백 제거(ngram 생성용)
+        String replaced = NON_SEARCHABLE.matcher(s).replaceAll("");
+        // 회사명 검색에서는 공백을 제거하여 'LG 화학'과 'LG화학'을 동일하게 처리
+        return WHITESPACE.matcher(replaced).replaceAll("").toLowerCase();
+    }
+
+    // ==================== 유사도 계산 ====================
+
+    private void scoreNames(Snapshot current, String normalizedQuery, Map<Integer, Double> scores) {
+        if (normalizedQuery.length() < GRAM_SIZE) {
+            // 1글자 질의: 해당 문자를 포함한 종목만 문자 기반 Jaccard
+            int[] postings = current.charPostings.get(normalizedQuery.charAt(0));
+            if (postings != null) {
+                for (int id : postings) {
+                    putScore(scores, id, jaccardSimilarity(normalizedQuery, current.entries[id].normalizedName()));
+                }
+            }
+            return;
+        }
+
+        // 질의 2-gram별 posting list를 따라가며 공유 gram 수 집계
+        Set<String> queryGrams = toNGrams(normalizedQuery, GRAM_SIZE);
+        Map<Integer, Integer> sharedGrams = new HashMap<>();
+        for (String gram : queryGrams) {
+            int[] postings = current.gramPostings.get(gram);
+            if (postings == null) continue;
+            for (int id : postings) {
+                sharedGrams.merge(id, 1, Integer::sum);
+            }
+        }
+        for (Map.Entry<Integer, Integer> shared : sharedGrams.entrySet()) {
+            int inter = shared.getValue();
+            int union = queryGrams.size() + current.entries[shared.getKey()].gramCount() - inter;
+            putScore(scores, shared.getKey(), (double) inter / union);
+        }
+
+        // 1글자 종목명은 2-gram이 없으므로 문자 기반 Jaccard
+        for (int id : current.shortNameIds) {
+            putScore(scores, id, jaccardSimilarity(normalizedQuery, current.entries[id].normalizedName()));
+        }
+    }
+
+    private void scoreCodes(Snapshot current, String normalizedQuery, Map<Integer, Double> scores) {
+        Integer exact = current.codeIndex.get(normalizedQuery);
+        if (exact != null) {
+            putScore(scores, exact, 1d);
+        }
+        if (normalizedQuery.length() < CODE_PREFIX_MIN_LENGTH) {
+            return;
+        }
+        for (Map.Entry<String, Integer> code : current.codeIndex
+                .subMap(normalizedQuery, false, normalizedQuery + Character.MAX_VALUE, false).entrySet()) {
+            putScore(scores, code.getValue(), (double) normalizedQuery.length() / code.getKey().length());
+        }
+    }
+
+    // 종목명/코드 중 높은 유사도 사용
+    private static void putScore(Map<Integer, Double> scores, int id, double similarity) {
+        if (similarity > 0d) {
+            scores.merge(id, similarity, Math::max);
+        }
+    }
+
+    // 문자 기반 멀티셋 Jaccard (교집합/합집합)
+    private static double jaccardSimilarity(String s1, String s2) {
+        if (s1.isEmpty() && s2.isEmpty()) return 0d;
+
+        Map<Character, Integer> m1 = new HashMap<>();
+        Map<Character, Integer> m2 = new HashMap<>();
+
+        for (char c : s1.toCharArray()) {
+            m1.merge(c, 1, Integer::sum);
+        }
+        for (char c : s2.toCharArray()) {
+            m2.merge(c, 1, Integer::sum);
+        }
+
+        Set<Character> union = new HashSet<>(m1.keySet());
+        union.addAll(m2.keySet());
+
+        double inter = 0d;
+        double uni = 0d;
+        for (Character c : union) {
+            int v1 = m1.getOrDefault(c, 0);
+            int v2 = m2.getOrDefault(c, 0);
+            inter += Math.min(v1, v2);
+            uni += Math.max(v1, v2);
+        }
+
+        if (uni == 0d) return 0d;
+        return inter / uni;
+    }
+
+    private static Set<String> toNGrams(String s, int n) {
+        Set<String> out = new LinkedHashSet<>();
+        for (int i = 0; i + n <= s.length(); i++) {
+            out.add(s.substring(i, i + n));
+        }
+        return out;
+    }
+
+    // ==================== 스냅샷 ====================
+
+    private record Entry(String code, String name, String normalizedName, int gramCount) {
+    }
+
+    /**
+     * 불변 인덱스 스냅샷 (posting list는 종목 번호 배열)
+     */
+    private static final class Snapshot {
+        private final Entry[] entries;
+        private final Map<String, int[]> gramPostings;     // 2-gram -> 종목 번호
+        private final Map<Character, int[]> charPostings;  // 문자 -> 종목 번호 (1글자 질의용)
+        private final int[] shortNameIds;                  // 정규화 후 1글자인 종목명
+        private final NavigableMap<String, Integer> codeIndex; // 소문자 종목코드 -> 종목 번호
+
+        private Snapshot(Entry[] entries, Map<String, int[]> gramPostings, Map<Character, int[]> charPostings,
+                         int[] shortNameIds, NavigableMap<String, Integer> codeIndex) {
+            this.entries = entries;
+            this.gramPostings = gramPostings;
+            this.charPostings = charPostings;
+            this.shortNameIds = shortNameIds;
+            this.codeIndex = codeIndex;
+        }
+
+        private static Snapshot build(List<Stock> stocks) {
+            Entry[] entries = new Entry[stocks.size()];
+            Map<String, List<Integer>> grams = new HashMap<>();
+            Map<Character, List<Integer>> chars = new HashMap<>();
+            List<Integer> shortNames = new ArrayList<>();
+            NavigableMap<String, Integer> codeIndex = new TreeMap<>();
+
+            for (int id = 0; id < entries.length; id++) {
+                Stock stock = stocks.get(id);
+                String normalizedName = normalize(stock.getName());
+                Set<String> nameGrams = toNGrams(normalizedName, GRAM_SIZE);
+                entries[id] = new Entry(stock.getCode(), stock.getName(), normalizedName, nameGrams.size());
+
+                for (String gram : nameGrams) {
+                    grams.computeIfAbsent(gram, k -> new ArrayList<>()).add(id);
+                }
+                Set<Character> nameChars = new HashSet<>();
+                for (char c : normalizedName.toCharArray()) {
+                    if (nameChars.add(c)) {
+                        chars.computeIfAbsent(c, k -> new ArrayList<>()).add(id);
+                    }
+                }
+                if (normalizedName.length() == 1) {
+                    shortNames.add(id);
+                }
+                if (stock.getCode() != null) {
+                    codeIndex.put(stock.getCode().toLowerCase(), id);
+                }
+            }
+
+            Map<String, int[]> gramPostings = new HashMap<>(grams.size() * 2);
+            grams.forEach((gram, ids) -> gramPostings.put(gram, toArray(ids)));
+            Map<Character, int[]> charPostings = new HashMap<>(chars.size() * 2);
+            chars.forEach((c, ids) -> charPostings.put(c, toArray(ids)));
+            return new Snapshot(entries, gramPostings, charPostings, toArray(shortNames), codeIndex);
+        }
+
+        private static int[] toArray(List<Integer> ids) {
+            return ids.stream().mapToInt(Integer::intValue).toArray();
+        }
+    }
+}
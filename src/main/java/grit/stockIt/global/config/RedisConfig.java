@@ -2,7 +2,9 @@ package grit.stockIt.global.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
 
 @Configuration
@@ -13,4 +15,10 @@ public class RedisConfig {
         // Redis와 통신할 때 사용할 기본 템플릿
         return new StringRedisTemplate(connectionFactory);
     }
+
+    @Bean
+    public ReactiveStringRedisTemplate reactiveStringRedisTemplate(ReactiveRedisConnectionFactory connectionFactory) {
+        // WebClient/Mono 체인 안에서 쓰는 논블로킹 템플릿 (Lettuce, 이벤트 루프 스레드를 막지 않음)
+        return new ReactiveStringRedisTemplate(connectionFactory);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,34 @@
+package grit.stockIt.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+/**
+ * @Scheduled 작업 전용 스레드 풀
+ * - STOMP heartbeat용 TaskScheduler(WebSocketConfig, 스레드 1개)와 분리하여
+ *   랭킹/스냅샷/사전 적재 같은 블로킹 작업이 서로를 오래 막지 않도록 함
+ */
+@Configuration
+public class SchedulingConfig implements SchedulingConfigurer {
+
+    @Value("${app.scheduling.pool-size:4}")
+    private int poolSize;
+
+    @Bean(destroyMethod = "shutdown")
+    public ThreadPoolTaskScheduler scheduledJobTaskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("scheduled-job-");
+        scheduler.initialize();
+        return scheduler;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        registrar.setTaskScheduler(scheduledJobTaskScheduler());
+    }
+}
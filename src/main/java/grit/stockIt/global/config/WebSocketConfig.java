@@ -1,7 +1,10 @@
 package grit.stockIt.global.config;
 
+import grit.stockIt.global.websocket.interceptor.StompAuthChannelInterceptor;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
@@ -10,12 +13,16 @@ import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
 
 @Configuration
+@RequiredArgsConstructor
 @EnableWebSocketMessageBroker // STOMP 기반의 웹소켓 메시지 브로커 기능을 활성화
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     private static final String STOCK_ENDPOINT = "/ws"; // 웹소켓 연결 엔드포인트
     private static final String CLIENT_PREFIX1 = "/topic"; // 클라이언트가 구독할 때 사용
     private static final String CLIENT_PREFIX2 = "/queue";
     private static final String SERVER_PREFIX = "/app";
+    private static final String USER_PREFIX = "/user"; // 개인 메시지 (convertAndSendToUser)
+
+    private final StompAuthChannelInterceptor stompAuthChannelInterceptor;
 
     // Heartbeat를 위한 TaskScheduler 빈 등록
     @Bean
@@ -37,6 +44,13 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         
         // 클라이언트가 메시지를 보낼 때의 prefix 설정, 컨트롤러의 @MessageMapping으로 전달
         config.setApplicationDestinationPrefixes(SERVER_PREFIX);
+        config.setUserDestinationPrefix(USER_PREFIX);
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        // CONNECT 시 JWT로 세션 사용자 설정 (개인 메시지용)
+        registration.interceptors(stompAuthChannelInterceptor);
     }
 
     @Override
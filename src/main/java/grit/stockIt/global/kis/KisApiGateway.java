@@ -0,0 +1,309 @@
+package grit.stockIt.global.kis;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * KIS REST 호출 게이트웨이 (시세/차트/순위/분석 조회는 모두 이 게이트웨이를 거침)
+ * - 토큰 버킷: 이 노드의 KIS 호출을 초당 permitsPerSecond 이하로 제한 (burst 만큼 순간 허용)
+ *   버킷은 노드마다 따로라 노드 N개면 클러스터 전체는 최대 N x permitsPerSecond
+ *   → 앱키 한도를 넘지 않도록 노드 수에 맞춰 kis.api.permits-per-second를 나눠 설정
+ * - 우선순위 레인: 토큰이 부족하면 ORDER > INTERACTIVE > BACKGROUND 순으로 대기열에서 꺼냄
+ * - 요청 합치기: 같은 (엔드포인트, 요청 키)로 진행 중인 호출이 있으면 결과를 공유하고,
+ *   합류한 요청의 우선순위가 더 높으면 진행 중인 호출의 우선순위를 올림 (대기 중이면 높은 레인으로 이동)
+ * - 우선순위는 Reactor Context로 전달 (withPriority), 지정하지 않으면 INTERACTIVE
+ *
+ * 토큰 발급(KisTokenManager)은 호출 제한이 별도라 대상이 아님
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KisApiGateway {
+
+    private static final String PRIORITY_CONTEXT_KEY = KisPriority.class.getName();
+
+    public static final String REQUEST_TIMER = "kis.api.request";      // 토큰 획득 후 KIS 응답까지
+    public static final String QUEUE_WAIT_TIMER = "kis.api.queue.wait"; // 토큰 대기
+    public static final String COALESCED_COUNTER = "kis.api.coalesced"; // 진행 중인 호출에 합쳐진 요청
+    public static final String REJECTED_COUNTER = "kis.api.rejected";   // 대기 시간 초과
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${kis.api.permits-per-second:20}")
+    private double permitsPerSecond;
+
+    @Value("${kis.api.burst:5}")
+    private int burst;
+
+    @Value("${kis.api.max-wait-ms:10000}")
+    private long maxWaitMs;
+
+    private final Map<KisPriority, Queue<PermitWaiter>> lanes = new EnumMap<>(KisPriority.class);
+
+    // "엔드포인트:요청 키" -> 진행 중인 호출
+    private final Map<String, InFlightCall> inFlightCalls = new ConcurrentHashMap<>();
+
+    // 메트릭 (호출마다 Timer를 등록/조회하지 않도록 보관)
+    private final Map<KisPriority, Timer> queueWaitTimers = new EnumMap<>(KisPriority.class);
+    // "엔드포인트:우선순위:결과" -> 요청 Timer
+    private final Map<String, Timer> requestTimers = new ConcurrentHashMap<>();
+
+    // 토큰 버킷 상태 (this로 동기화)
+    private double permits;
+    private long lastRefillNanos;
+
+    private ScheduledExecutorService dispatcher;
+
+    @PostConstruct
+    public void start() {
+        for (KisPriority priority : KisPriority.values()) {
+            Queue<PermitWaiter> lane = new ConcurrentLinkedQueue<>();
+            lanes.put(priority, lane);
+            meterRegistry.gaugeCollectionSize("kis.api.queue.size", List.of(Tag.of("priority", priority.name())), lane);
+            queueWaitTimers.put(priority, Timer.builder(QUEUE_WAIT_TIMER)
+                    .tag("priority", priority.name())
+                    .register(meterRegistry));
+        }
+        permits = burst;
+        lastRefillNanos = System.nanoTime();
+
+        // 토큰 하나가 채워지는 주기마다 대기열 처리
+        long intervalMicros = Math.max(1_000L, (long) (1_000_000 / permitsPerSecond));
+        dispatcher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "kis-api-gateway");
+            thread.setDaemon(true);
+            return thread;
+        });
+        dispatcher.scheduleWithFixedDelay(this::dispatch, intervalMicros, intervalMicros, TimeUnit.MICROSECONDS);
+        log.info("KIS API 게이트웨이 시작: 초당 {}건, burst={}, 최대 대기 {}ms", permitsPerSecond, burst, maxWaitMs);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (dispatcher != null) {
+            dispatcher.shutdownNow();
+        }
+        lanes.values().forEach(lane -> {
+            PermitWaiter waiter;
+            while ((waiter = lane.poll()) != null) {
+                waiter.sink().error(new IllegalStateException("KIS API 게이트웨이 종료"));
+            }
+        });
+    }
+
+    /**
+     * 우선순위 지정용 Context (호출 체인 끝에서 contextWrite로 사용)
+     */
+    public static Context withPriority(KisPriority priority) {
+        return withPriority(new KisCallPriority(priority));
+    }
+
+    /**
+     * 공유 호출용 Context (호출 도중 join으로 우선순위를 올릴 수 있음)
+     */
+    public static Context withPriority(KisCallPriority priority) {
+        return Context.of(PRIORITY_CONTEXT_KEY, priority);
+    }
+
+    /**
+     * Context에 지정된 우선순위 (없으면 INTERACTIVE)
+     */
+    public static KisPriority priorityOf(ContextView context) {
+        return context.<KisCallPriority>getOrEmpty(PRIORITY_CONTEXT_KEY)
+                .map(KisCallPriority::get)
+                .orElse(KisPriority.INTERACTIVE);
+    }
+
+    /**
+     * KIS 호출 실행
+     *
+     * @param endpoint   메트릭 태그용 엔드포인트 이름 (API 경로 마지막 부분)
+     * @param requestKey 같은 요청 판별 키 (종목코드, 조회 구간 등), null이면 합치지 않음
+     * @param call       실제 WebClient 호출 (토큰을 얻은 뒤에 구독)
+     */
+    public <T> Mono<T> execute(String endpoint, String requestKey, Supplier<Mono<T>> call) {
+        return Mono.deferContextual(context -> {
+            KisCallPriority priority = context.<KisCallPriority>getOrEmpty(PRIORITY_CONTEXT_KEY)
+                    .orElseGet(() -> new KisCallPriority(KisPriority.INTERACTIVE));
+            if (requestKey == null) {
+                return throttled(endpoint, priority, call);
+            }
+
+            String key = endpoint + ":" + requestKey;
+            AtomicBoolean created = new AtomicBoolean(false);
+            InFlightCall inFlight = inFlightCalls.computeIfAbsent(key, k -> {
+                created.set(true);
+                // 요청자와 이후 합류 요청 중 가장 높은 우선순위를 따름
+                KisCallPriority shared = new KisCallPriority(priority.get());
+                shared.join(priority);
+                return new InFlightCall(shared, throttled(endpoint, shared, call)
+                        .doFinally(signal -> inFlightCalls.remove(k))
+                        .cache());
+            });
+            if (!created.get()) {
+                inFlight.priority().join(priority);
+                meterRegistry.counter(COALESCED_COUNTER, "endpoint", endpoint).increment();
+            }
+            @SuppressWarnings("unchecked")
+            Mono<T> result = (Mono<T>) inFlight.result();
+            return result;
+        });
+    }
+
+    // ==================== 토큰 버킷 ====================
+
+    private <T> Mono<T> throttled(String endpoint, KisCallPriority priority, Supplier<Mono<T>> call) {
+        return acquire(priority)
+                .then(Mono.defer(() -> {
+                    long startedAt = System.nanoTime();
+                    return call.get()
+                            .doOnSuccess(result -> recordRequest(endpoint, priority.get(), "success", startedAt))
+                            .doOnError(e -> recordRequest(endpoint, priority.get(), "error", startedAt));
+                }));
+    }
+
+    /**
+     * 토큰 획득 (대기열이 비어 있고 토큰이 있으면 즉시, 아니면 레인에서 대기)
+     */
+    private Mono<Void> acquire(KisCallPriority priority) {
+        return Mono.<Void>create(sink -> {
+                    PermitWaiter waiter = new PermitWaiter(priority, sink, System.nanoTime(), new AtomicBoolean(false));
+                    sink.onCancel(() -> waiter.cancelled().set(true));
+                    if (acquireOrEnqueue(waiter)) {
+                        recordQueueWait(priority.get(), waiter.enqueuedAt());
+                        sink.success();
+                    }
+                })
+                .timeout(Duration.ofMillis(maxWaitMs), Mono.defer(() -> {
+                    KisPriority current = priority.get();
+                    meterRegistry.counter(REJECTED_COUNTER, "priority", current.name()).increment();
+                    log.warn("KIS API 호출 대기 시간 초과: priority={}, 대기열={}", current, lanes.get(current).size());
+                    return Mono.error(new RuntimeException("KIS API 호출 대기 시간 초과 (" + current + ")"));
+                }));
+    }
+
+    /**
+     * 자기보다 우선순위가 같거나 높은 레인에 대기 중인 요청이 없고 토큰이 있으면 바로 사용 (새치기 없음)
+     * 아니면 자기 레인에 대기
+     *
+     * @return 토큰을 바로 얻었으면 true
+     */
+    private synchronized boolean acquireOrEnqueue(PermitWaiter waiter) {
+        KisPriority priority = waiter.priority().get();
+        boolean waiting = false;
+        for (KisPriority other : KisPriority.values()) {
+            if (other.ordinal() > priority.ordinal()) {
+                break;
+            }
+            if (!lanes.get(other).isEmpty()) {
+                waiting = true;
+                break;
+            }
+        }
+        refill();
+        if (!waiting && permits >= 1) {
+            permits -= 1;
+            return true;
+        }
+        lanes.get(priority).add(waiter);
+        return false;
+    }
+
+    /**
+     * 채워진 토큰만큼 높은 우선순위 레인부터 대기 요청을 깨움 (sink 완료는 락 밖에서)
+     */
+    private void dispatch() {
+        List<PermitWaiter> granted = new ArrayList<>();
+        synchronized (this) {
+            promoteRaisedWaiters();
+            refill();
+            for (KisPriority priority : KisPriority.values()) {
+                Queue<PermitWaiter> lane = lanes.get(priority);
+                while (permits >= 1 && !lane.isEmpty()) {
+                    PermitWaiter waiter = lane.poll();
+                    if (waiter.cancelled().get()) {
+                        continue; // 대기 시간 초과/구독 취소된 요청은 토큰을 쓰지 않음
+                    }
+                    permits -= 1;
+                    granted.add(waiter);
+                }
+            }
+        }
+        for (PermitWaiter waiter : granted) {
+            try {
+                recordQueueWait(waiter.priority().get(), waiter.enqueuedAt());
+                waiter.sink().success();
+            } catch (Exception e) {
+                log.warn("KIS API 대기 요청 재개 실패", e);
+            }
+        }
+    }
+
+    // 대기 중에 우선순위가 올라간 요청을 해당 레인으로 옮김 (this로 동기화된 상태에서 호출)
+    private void promoteRaisedWaiters() {
+        for (KisPriority lanePriority : KisPriority.values()) {
+            Iterator<PermitWaiter> iterator = lanes.get(lanePriority).iterator();
+            while (iterator.hasNext()) {
+                PermitWaiter waiter = iterator.next();
+                KisPriority current = waiter.priority().get();
+                if (current.ordinal() < lanePriority.ordinal()) {
+                    iterator.remove();
+                    lanes.get(current).add(waiter);
+                }
+            }
+        }
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        permits = Math.min(burst, permits + (now - lastRefillNanos) / 1_000_000_000.0 * permitsPerSecond);
+        lastRefillNanos = now;
+    }
+
+    // ==================== Private 헬퍼 메서드 ====================
+
+    private void recordQueueWait(KisPriority priority, long enqueuedAt) {
+        queueWaitTimers.get(priority).record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+    }
+
+    private void recordRequest(String endpoint, KisPriority priority, String outcome, long startedAt) {
+        requestTimers.computeIfAbsent(endpoint + ":" + priority + ":" + outcome, k -> Timer.builder(REQUEST_TIMER)
+                        .tag("endpoint", endpoint)
+                        .tag("priority", priority.name())
+                        .tag("outcome", outcome)
+                        .register(meterRegistry))
+                .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    private record PermitWaiter(KisCallPriority priority, MonoSink<Void> sink, long enqueuedAt, AtomicBoolean cancelled) {
+    }
+
+    private record InFlightCall(KisCallPriority priority, Mono<?> result) {
+    }
+}
@@ -0,0 +1,42 @@
+package grit.stockIt.global.kis;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 여러 요청이 함께 기다리는 KIS 호출의 우선순위
+ * - 공유 호출에 합류한 요청의 우선순위를 join으로 연결하면, 그중 가장 높은 우선순위를 따름
+ * - 게이트웨이 대기열에서 기다리는 중에 올라가면 다음 배분 때 높은 레인으로 옮겨짐
+ */
+public final class KisCallPriority {
+
+    private final KisPriority base;
+    private final List<KisCallPriority> joined = new CopyOnWriteArrayList<>();
+
+    public KisCallPriority(KisPriority base) {
+        this.base = base;
+    }
+
+    /**
+     * 현재 우선순위 (자신과 합류한 요청 중 가장 높은 것)
+     */
+    public KisPriority get() {
+        KisPriority highest = base;
+        for (KisCallPriority other : joined) {
+            KisPriority priority = other.get();
+            if (priority.ordinal() < highest.ordinal()) {
+                highest = priority;
+            }
+        }
+        return highest;
+    }
+
+    /**
+     * 합류한 요청의 우선순위 연결 (이후 그 요청의 우선순위가 올라가도 반영됨)
+     */
+    public void join(KisCallPriority other) {
+        if (other != this) {
+            joined.add(other);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package grit.stockIt.global.kis;
+
+/**
+ * KIS REST 호출 우선순위 (선언 순서 = 처리 순서)
+ * - ORDER: 주문 처리 중 필요한 조회 (시장가 주문 홀딩 금액 등)
+ * - INTERACTIVE: 사용자가 화면에서 기다리는 조회 (기본값)
+ * - BACKGROUND: 사전 적재, stale 캐시 갱신, 계좌 평가처럼 늦어도 되는 조회
+ */
+public enum KisPriority {
+    ORDER,
+    INTERACTIVE,
+    BACKGROUND
+}
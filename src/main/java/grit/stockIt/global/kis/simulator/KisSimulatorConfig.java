@@ -0,0 +1,25 @@
+package grit.stockIt.global.kis.simulator;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+// KIS 웹소켓 시뮬레이터 엔드포인트 등록 (kis-sim 프로필, STOMP 엔드포인트 /ws와 별개인 raw 웹소켓)
+@Configuration
+@EnableWebSocket
+@Profile("kis-sim")
+@RequiredArgsConstructor
+public class KisSimulatorConfig implements WebSocketConfigurer {
+    private static final String SIMULATOR_ENDPOINT = "/kis-sim/ws";
+
+    private final KisSimulatorWebSocketHandler kisSimulatorWebSocketHandler;
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(kisSimulatorWebSocketHandler, SIMULATOR_ENDPOINT)
+                .setAllowedOriginPatterns("*");
+    }
+}
@@ -0,0 +1,383 @@
+package grit.stockIt.global.kis.simulator;
+
+import grit.stockIt.domain.stock.entity.Stock;
+import grit.stockIt.domain.stock.repository.StockRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * KIS REST API 시뮬레이터 (kis-sim 프로필)
+ * - 토큰/접속키 발급, 현재가, 기간별/분봉 차트, 순위, 배당, 재무비율 엔드포인트를 KIS와 같은 경로/응답 형식으로 제공
+ * - 응답마다 지연(기본 + 랜덤)을 주고, 초당 호출 한도를 넘으면 KIS처럼 HTTP 500 + EGW00201 응답
+ * - kis.api.url을 이 서버로 지정하면 서비스 코드는 그대로 동작
+ */
+@Slf4j
+@RestController
+@Profile("kis-sim")
+@RequiredArgsConstructor
+public class KisSimulatorController {
+
+    private static final String QUOTATIONS = "/uapi/domestic-stock/v1/quotations";
+    private static final int PERIOD_CHART_LIMIT = 100;     // 기간별 시세 1회 최대 건수
+    private static final int MINUTE_CHART_LIMIT = 30;      // 당일 분봉 1회 건수
+    private static final int DAILY_MINUTE_CHART_LIMIT = 120; // 일별 분봉 1회 건수
+    private static final int RANKING_LIMIT = 30;
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HHmmss");
+    private static final DateTimeFormatter EXPIRES_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final Map<String, Object> RATE_LIMITED = Map.of(
+            "rt_cd", "1",
+            "msg_cd", "EGW00201",
+            "msg1", "초당 거래건수를 초과하였습니다."
+    );
+
+    private final KisSimulatorMarket market;
+    private final StockRepository stockRepository;
+
+    @Value("${kis.simulator.rest.latency-ms:60}")
+    private long latencyMs;
+
+    @Value("${kis.simulator.rest.latency-jitter-ms:40}")
+    private long latencyJitterMs;
+
+    @Value("${kis.simulator.rest.rate-limit-per-second:20}")
+    private int rateLimitPerSecond;
+
+    // 초 단위 고정 윈도우 호출 수 (this로 동기화)
+    private long windowSecond;
+    private int windowCount;
+
+    // 종목코드 -> 종목명 (순위 응답용, 최초 조회 시 적재)
+    private volatile Map<String, String> stockNames;
+
+    // ==================== 인증 ====================
+
+    @PostMapping("/oauth2/tokenP")
+    public Map<String, Object> issueAccessToken() {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("access_token", "SIM-" + UUID.randomUUID());
+        body.put("token_type", "Bearer");
+        body.put("expires_in", 86_400);
+        body.put("access_token_token_expired", LocalDateTime.now().plusDays(1).format(EXPIRES_FORMAT));
+        return body;
+    }
+
+    @PostMapping("/oauth2/Approval")
+    public Map<String, Object> issueApprovalKey() {
+        return Map.of("approval_key", UUID.randomUUID().toString());
+    }
+
+    // ==================== 시세 ====================
+
+    @GetMapping(QUOTATIONS + "/inquire-price")
+    public Mono<ResponseEntity<Map<String, Object>>> inquirePrice(@RequestParam("FID_INPUT_ISCD") String stockCode) {
+        return respond(() -> {
+            KisSimulatorMarket.Tick tick = market.snapshot(stockCode);
+            int tickSize = KisSimulatorMarket.tickSize(tick.previousClose());
+            Map<String, Object> output = new LinkedHashMap<>();
+            output.put("hts_kor_isnm", stockNames().getOrDefault(stockCode, stockCode));
+            output.put("stck_prpr", str(tick.price()));
+            output.put("prdy_vrss_sign", tick.changeSign());
+            output.put("prdy_vrss", str(tick.changeAmount()));
+            output.put("prdy_ctrt", tick.changeRate());
+            output.put("acml_vol", str(tick.accumulatedVolume()));
+            output.put("acml_tr_pbmn", str(tick.accumulatedAmount()));
+            output.put("hts_avls", str(tick.price() * 10L)); // 시가총액(억) = 가격 x 가상 발행주식 1,000만주
+            output.put("per", "12.50");
+            output.put("eps", str(tick.previousClose() / 12));
+            output.put("pbr", "1.10");
+            output.put("stck_fcam", "100");
+            output.put("stck_hgpr", str(tick.high()));
+            output.put("stck_lwpr", str(tick.low()));
+            output.put("stck_oprc", str(tick.open()));
+            output.put("stck_prdy_clpr", str(tick.previousClose()));
+            output.put("stck_mxpr", str((int) (tick.previousClose() * 1.3) / tickSize * tickSize));
+            output.put("stck_llam", str((int) Math.ceil(tick.previousClose() * 0.7 / tickSize) * tickSize));
+            output.put("stck_sdpr", str(tick.previousClose()));
+            output.put("stck_sspr", str(tick.previousClose() * 7 / 10));
+            output.put("frgn_ntby_qty", "0");
+            output.put("orgn_ntby_qty", "0");
+            return success("output", output);
+        });
+    }
+
+    @GetMapping(QUOTATIONS + "/inquire-daily-itemchartprice")
+    public Mono<ResponseEntity<Map<String, Object>>> inquirePeriodChart(
+            @RequestParam("FID_INPUT_ISCD") String stockCode,
+            @RequestParam("FID_INPUT_DATE_1") String startDate,
+            @RequestParam("FID_INPUT_DATE_2") String endDate,
+            @RequestParam("FID_PERIOD_DIV_CODE") String periodCode
+    ) {
+        return respond(() -> {
+            List<KisSimulatorMarket.Bar> bars = market.periodBars(stockCode, periodCode,
+                    LocalDate.parse(startDate, DATE_FORMAT), LocalDate.parse(endDate, DATE_FORMAT), PERIOD_CHART_LIMIT);
+            List<Map<String, Object>> output2 = new ArrayList<>();
+            for (int i = 0; i < bars.size(); i++) {
+                KisSimulatorMarket.Bar bar = bars.get(i);
+                // 최신순이므로 다음 항목이 직전 봉
+                int previousClose = i + 1 < bars.size()
+                        ? bars.get(i + 1).close()
+                        : market.previousClose(stockCode, bar.date());
+                int change = bar.close() - previousClose;
+                Map<String, Object> row = new LinkedHashMap<>();
+                row.put("stck_bsop_date", bar.date().format(DATE_FORMAT));
+                row.put("stck_clpr", str(bar.close()));
+                row.put("stck_oprc", str(bar.open()));
+                row.put("stck_hgpr", str(bar.high()));
+                row.put("stck_lwpr", str(bar.low()));
+                row.put("acml_vol", str(bar.volume()));
+                row.put("acml_tr_pbmn", str(bar.amount()));
+                row.put("prdy_vrss", str(change));
+                row.put("prdy_vrss_sign", change > 0 ? "2" : change < 0 ? "5" : "3");
+                output2.add(row);
+            }
+            Map<String, Object> body = success("output1", currentPriceSummary(stockCode));
+            body.put("output2", output2);
+            return body;
+        });
+    }
+
+    @GetMapping(QUOTATIONS + "/inquire-time-itemchartprice")
+    public Mono<ResponseEntity<Map<String, Object>>> inquireTodayMinuteChart(
+            @RequestParam("FID_INPUT_ISCD") String stockCode,
+            @RequestParam(value = "FID_INPUT_HOUR_1", required = false) String hour
+    ) {
+        return respond(() -> minuteChart(stockCode, LocalDate.now(), hour, MINUTE_CHART_LIMIT));
+    }
+
+    @GetMapping(QUOTATIONS + "/inquire-time-dailychartprice")
+    public Mono<ResponseEntity<Map<String, Object>>> inquireDailyMinuteChart(
+            @RequestParam("FID_INPUT_ISCD") String stockCode,
+            @RequestParam("FID_INPUT_DATE_1") String date,
+            @RequestParam(value = "FID_INPUT_HOUR_1", required = false) String hour
+    ) {
+        return respond(() -> minuteChart(stockCode, LocalDate.parse(date, DATE_FORMAT), hour, DAILY_MINUTE_CHART_LIMIT));
+    }
+
+    // ==================== 순위 ====================
+
+    @GetMapping(QUOTATIONS + "/volume-rank")
+    public Mono<ResponseEntity<Map<String, Object>>> volumeRank() {
+        return respond(() -> success("output", ranking(
+                Comparator.comparingLong(RankingRow::amount).reversed(), "mksc_shrn_iscd")));
+    }
+
+    @GetMapping("/uapi/domestic-stock/v1/ranking/fluctuation")
+    public Mono<ResponseEntity<Map<String, Object>>> fluctuationRank(
+            @RequestParam(value = "fid_rank_sort_cls_code", defaultValue = "0") String sortCode
+    ) {
+        Comparator<RankingRow> byRate = Comparator.comparingDouble(RankingRow::changeRate);
+        return respond(() -> success("output", ranking(
+                "1".equals(sortCode) ? byRate : byRate.reversed(), "stck_shrn_iscd")));
+    }
+
+    // ==================== 분석 ====================
+
+    @GetMapping("/uapi/domestic-stock/v1/ksdinfo/dividend")
+    public Mono<ResponseEntity<Map<String, Object>>> dividend(@RequestParam("SHT_CD") String paddedStockCode) {
+        String stockCode = paddedStockCode.trim();
+        return respond(() -> {
+            List<Map<String, Object>> output1 = new ArrayList<>();
+            if (Math.floorMod(stockCode.hashCode(), 2) == 0) { // 절반 정도만 배당 종목
+                LocalDate recordDate = LocalDate.now().minusYears(1).withMonth(12).withDayOfMonth(31);
+                int price = market.previousClose(stockCode, LocalDate.now());
+                int dividend = Math.max(10, price / 50);
+                Map<String, Object> row = new LinkedHashMap<>();
+                row.put("record_date", recordDate.format(DATE_FORMAT));
+                row.put("sht_cd", stockCode);
+                row.put("isin_name", stockNames().getOrDefault(stockCode, stockCode));
+                row.put("divi_kind", "결산");
+                row.put("face_val", "100");
+                row.put("per_sto_divi_amt", str(dividend));
+                row.put("divi_rate", String.format("%.2f", dividend * 100.0 / 100));
+                row.put("stk_divi_rate", "0");
+                row.put("divi_pay_dt", recordDate.plusMonths(4).format(DATE_FORMAT));
+                row.put("stk_div_pay_dt", "");
+                row.put("odd_pay_dt", "");
+                row.put("stk_kind", "보통");
+                row.put("high_divi_gb", "N");
+                output1.add(row);
+            }
+            return success("output1", output1);
+        });
+    }
+
+    @GetMapping("/uapi/domestic-stock/v1/finance/financial-ratio")
+    public Mono<ResponseEntity<Map<String, Object>>> financialRatio(@RequestParam("fid_input_iscd") String stockCode) {
+        return respond(() -> {
+            Random random = new Random(stockCode.hashCode());
+            List<Map<String, Object>> output = new ArrayList<>();
+            int lastYear = LocalDate.now().getYear() - 1;
+            for (int year = lastYear; year > lastYear - 3; year--) {
+                Map<String, Object> row = new LinkedHashMap<>();
+                row.put("stac_yymm", year + "12");
+                row.put("grs", decimal(random.nextGaussian() * 10));
+                row.put("bsop_prfi_inrt", decimal(random.nextGaussian() * 20));
+                row.put("ntin_inrt", decimal(random.nextGaussian() * 25));
+                row.put("roe_val", decimal(2 + random.nextDouble() * 18));
+                row.put("eps", str(100 + random.nextInt(10_000)));
+                row.put("sps", str(1_000 + random.nextInt(100_000)));
+                row.put("bps", str(1_000 + random.nextInt(80_000)));
+                row.put("rsrv_rate", decimal(100 + random.nextDouble() * 3_000));
+                row.put("lblt_rate", decimal(20 + random.nextDouble() * 180));
+                output.add(row);
+            }
+            return success("output", output);
+        });
+    }
+
+    // ==================== Private 헬퍼 메서드 ====================
+
+    /**
+     * 초당 호출 한도 확인 후 지연을 두고 응답 (응답 생성은 boundedElastic 스레드에서)
+     */
+    private Mono<ResponseEntity<Map<String, Object>>> respond(Supplier<Map<String, Object>> body) {
+        if (!tryAcquire()) {
+            log.debug("KIS 시뮬레이터 초당 호출 한도 초과");
+            return Mono.just(ResponseEntity.internalServerError().body(RATE_LIMITED));
+        }
+        long jitter = latencyJitterMs > 0 ? ThreadLocalRandom.current().nextLong(latencyJitterMs + 1) : 0;
+        return Mono.delay(Duration.ofMillis(latencyMs + jitter))
+                .publishOn(Schedulers.boundedElastic())
+                .map(ignored -> ResponseEntity.ok(body.get()));
+    }
+
+    private synchronized boolean tryAcquire() {
+        long second = System.currentTimeMillis() / 1_000;
+        if (second != windowSecond) {
+            windowSecond = second;
+            windowCount = 0;
+        }
+        return ++windowCount <= rateLimitPerSecond;
+    }
+
+    private Map<String, Object> minuteChart(String stockCode, LocalDate date, String hour, int limit) {
+        LocalTime until = hour == null || hour.isBlank() ? LocalTime.now() : LocalTime.parse(hour, TIME_FORMAT);
+        List<Map<String, Object>> output2 = new ArrayList<>();
+        for (KisSimulatorMarket.Bar bar : market.minuteBars(stockCode, date, until, limit)) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("stck_bsop_date", bar.date().format(DATE_FORMAT));
+            row.put("stck_cntg_hour", bar.time().format(TIME_FORMAT));
+            row.put("stck_prpr", str(bar.close()));
+            row.put("stck_oprc", str(bar.open()));
+            row.put("stck_hgpr", str(bar.high()));
+            row.put("stck_lwpr", str(bar.low()));
+            row.put("cntg_vol", str(bar.volume()));
+            row.put("acml_tr_pbmn", str(bar.amount()));
+            output2.add(row);
+        }
+        Map<String, Object> body = success("output1", currentPriceSummary(stockCode));
+        body.put("output2", output2);
+        return body;
+    }
+
+    private Map<String, Object> currentPriceSummary(String stockCode) {
+        KisSimulatorMarket.Tick tick = market.snapshot(stockCode);
+        Map<String, Object> output1 = new LinkedHashMap<>();
+        output1.put("stck_prpr", str(tick.price()));
+        output1.put("prdy_vrss", str(tick.changeAmount()));
+        output1.put("prdy_vrss_sign", tick.changeSign());
+        output1.put("prdy_ctrt", tick.changeRate());
+        output1.put("acml_vol", str(tick.accumulatedVolume()));
+        return output1;
+    }
+
+    /**
+     * 상장 종목 전체의 당일(체결 전이면 직전 영업일) 시세로 순위 생성
+     */
+    private List<Map<String, Object>> ranking(Comparator<RankingRow> order, String codeField) {
+        List<RankingRow> rows = stockNames().keySet().stream()
+                .map(this::rankingRow)
+                .sorted(order)
+                .limit(RANKING_LIMIT)
+                .toList();
+
+        List<Map<String, Object>> output = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            RankingRow row = rows.get(i);
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put(codeField, row.stockCode());
+            item.put("hts_kor_isnm", stockNames().get(row.stockCode()));
+            item.put("data_rank", str(i + 1));
+            item.put("stck_prpr", str(row.price()));
+            item.put("prdy_vrss_sign", row.change() > 0 ? "2" : row.change() < 0 ? "5" : "3");
+            item.put("prdy_vrss", str(row.change()));
+            item.put("prdy_ctrt", String.format("%.2f", row.changeRate()));
+            item.put("acml_vol", str(row.volume()));
+            item.put("acml_tr_pbmn", str(row.amount()));
+            output.add(item);
+        }
+        return output;
+    }
+
+    private RankingRow rankingRow(String stockCode) {
+        KisSimulatorMarket.Tick live = market.snapshot(stockCode);
+        if (live.accumulatedVolume() > 0) {
+            return new RankingRow(stockCode, live.price(), live.changeAmount(),
+                    live.previousClose() != 0 ? live.changeAmount() * 100.0 / live.previousClose() : 0,
+                    live.accumulatedVolume(), live.accumulatedAmount());
+        }
+        LocalDate reference = KisSimulatorMarket.previousBusinessDay(LocalDate.now());
+        KisSimulatorMarket.Bar bar = market.dailyBar(stockCode, reference);
+        int previousClose = market.previousClose(stockCode, reference);
+        int change = bar.close() - previousClose;
+        return new RankingRow(stockCode, bar.close(), change,
+                previousClose != 0 ? change * 100.0 / previousClose : 0, bar.volume(), bar.amount());
+    }
+
+    private Map<String, String> stockNames() {
+        Map<String, String> names = stockNames;
+        if (names == null) {
+            names = stockRepository.findAll().stream()
+                    .collect(Collectors.toMap(Stock::getCode, Stock::getName, (first, second) -> first, LinkedHashMap::new));
+            stockNames = names;
+            log.info("KIS 시뮬레이터 종목 적재: {}개", names.size());
+        }
+        return names;
+    }
+
+    private Map<String, Object> success(String outputKey, Object output) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("rt_cd", "0");
+        body.put("msg_cd", "MCA00000");
+        body.put("msg1", "정상처리 되었습니다.");
+        body.put(outputKey, output);
+        return body;
+    }
+
+    private String str(long value) {
+        return String.valueOf(value);
+    }
+
+    private String decimal(double value) {
+        return String.format("%.2f", value);
+    }
+
+    private record RankingRow(String stockCode, int price, int change, double changeRate, long volume, long amount) {
+    }
+}
@@ -0,0 +1,382 @@
+package grit.stockIt.global.kis.simulator;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * KIS 시뮬레이터 가상 시장 (kis-sim 프로필)
+ * - 실시간 체결: 종목별 랜덤 워크 (전일 종가 ±30% 가격제한, 호가 단위 반올림), 재생 파일이 있으면 파일의 체결을 순환 재생
+ * - 과거 봉: (종목, 일자) 시드로 결정적으로 생성하므로 같은 구간은 항상 같은 값
+ * - 당일 일봉/분봉은 실시간 체결 상태(시가/고가/저가/현재가/누적 거래량)와 맞춤
+ */
+@Slf4j
+@Component
+@Profile("kis-sim")
+public class KisSimulatorMarket {
+
+    private static final LocalTime MARKET_OPEN = LocalTime.of(9, 0);
+    private static final int MINUTES_PER_SESSION = 390;
+    private static final LocalDate PRICE_EPOCH = LocalDate.of(2015, 1, 1);
+    private static final double PRICE_LIMIT_RATE = 0.3;
+
+    @Value("${kis.simulator.volatility:0.002}")
+    private double volatility; // 체결 1건당 가격 변동 표준편차 (비율)
+
+    @Value("${kis.simulator.replay-file:}")
+    private String replayFile; // "종목코드,가격,체결량" CSV (#으로 시작하는 줄은 주석)
+
+    private final Map<String, SimStock> stocks = new ConcurrentHashMap<>();
+    private final Map<String, List<ReplayTick>> replayTicks = new HashMap<>();
+
+    @PostConstruct
+    public void loadReplayFile() {
+        if (replayFile == null || replayFile.isBlank()) {
+            return;
+        }
+        try {
+            for (String line : Files.readAllLines(Path.of(replayFile))) {
+                String trimmed = line.trim();
+                if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                    continue;
+                }
+                String[] columns = trimmed.split(",");
+                if (columns.length < 3) {
+                    continue;
+                }
+                replayTicks.computeIfAbsent(columns[0].trim(), code -> new ArrayList<>())
+                        .add(new ReplayTick(Integer.parseInt(columns[1].trim()), Long.parseLong(columns[2].trim())));
+            }
+            log.info("KIS 시뮬레이터 재생 파일 적재: {} ({}개 종목)", replayFile, replayTicks.size());
+        } catch (IOException | NumberFormatException e) {
+            log.error("KIS 시뮬레이터 재생 파일 적재 실패, 합성 체결로 대체: {}", replayFile, e);
+            replayTicks.clear();
+        }
+    }
+
+    // ==================== 실시간 체결 ====================
+
+    /**
+     * 다음 체결 생성 (상태 갱신)
+     */
+    public Tick nextTick(String stockCode) {
+        SimStock stock = stockOf(stockCode);
+        synchronized (stock) {
+            LocalDateTime now = LocalDateTime.now();
+            stock.rollTo(now.toLocalDate());
+
+            int price;
+            long quantity;
+            List<ReplayTick> replay = replayTicks.get(stockCode);
+            if (replay != null && !replay.isEmpty()) {
+                ReplayTick tick = replay.get(stock.replayIndex++ % replay.size());
+                price = tick.price();
+                quantity = tick.quantity();
+            } else {
+                double move = stock.random.nextGaussian() * volatility;
+                price = clampToLimit(roundToTick(stock.price * (1 + move)), stock.previousClose);
+                quantity = 1 + stock.random.nextInt(500);
+            }
+
+            boolean buy = price >= stock.price;
+            stock.price = price;
+            stock.high = Math.max(stock.high, price);
+            stock.low = Math.min(stock.low, price);
+            stock.accumulatedVolume += quantity;
+            stock.accumulatedAmount += price * quantity;
+            return stock.toTick(now.toLocalTime().truncatedTo(ChronoUnit.SECONDS), quantity, buy);
+        }
+    }
+
+    /**
+     * 현재 상태 조회 (체결 없음)
+     */
+    public Tick snapshot(String stockCode) {
+        SimStock stock = stockOf(stockCode);
+        synchronized (stock) {
+            stock.rollTo(LocalDate.now());
+            return stock.toTick(LocalTime.now().truncatedTo(ChronoUnit.SECONDS), 0, true);
+        }
+    }
+
+    public static int tickSize(int price) {
+        if (price < 2_000) return 1;
+        if (price < 5_000) return 5;
+        if (price < 20_000) return 10;
+        if (price < 50_000) return 50;
+        if (price < 200_000) return 100;
+        if (price < 500_000) return 500;
+        return 1_000;
+    }
+
+    // ==================== 과거 봉 ====================
+
+    /**
+     * 기간별 봉 (최신순, KIS 기간별 시세와 같이 최대 limit개)
+     *
+     * @param periodCode D(일)/W(주)/M(월)/Y(년)
+     */
+    public List<Bar> periodBars(String stockCode, String periodCode, LocalDate from, LocalDate to, int limit) {
+        List<Bar> daily = new ArrayList<>();
+        LocalDate today = LocalDate.now();
+        for (LocalDate date = from; !date.isAfter(to) && !date.isAfter(today); date = date.plusDays(1)) {
+            if (isBusinessDay(date)) {
+                daily.add(dailyBar(stockCode, date));
+            }
+        }
+
+        List<Bar> bars = switch (periodCode) {
+            case "W" -> aggregate(daily, bar -> bar.date().with(DayOfWeek.MONDAY));
+            case "M" -> aggregate(daily, bar -> bar.date().withDayOfMonth(1));
+            case "Y" -> aggregate(daily, bar -> bar.date().withDayOfYear(1));
+            default -> daily;
+        };
+        List<Bar> latestFirst = new ArrayList<>(bars);
+        Collections.reverse(latestFirst);
+        return latestFirst.size() > limit ? latestFirst.subList(0, limit) : latestFirst;
+    }
+
+    /**
+     * 해당 일자 1분봉 중 until 이전 count개 (최신순)
+     */
+    public List<Bar> minuteBars(String stockCode, LocalDate date, LocalTime until, int count) {
+        List<Bar> session = sessionMinuteBars(stockCode, date);
+        List<Bar> result = new ArrayList<>();
+        for (int i = session.size() - 1; i >= 0 && result.size() < count; i--) {
+            if (!session.get(i).time().isAfter(until)) {
+                result.add(session.get(i));
+            }
+        }
+        return result;
+    }
+
+    public int previousClose(String stockCode, LocalDate date) {
+        return dailyClose(stockCode, previousBusinessDay(date));
+    }
+
+    /**
+     * 일봉 (당일은 실시간 체결 상태)
+     */
+    public Bar dailyBar(String stockCode, LocalDate date) {
+        if (date.equals(LocalDate.now())) {
+            Tick live = snapshot(stockCode);
+            return new Bar(date, null, live.open(), live.high(), live.low(), live.price(),
+                    live.accumulatedVolume(), live.accumulatedAmount());
+        }
+        Random random = seeded(stockCode, date, 0);
+        int close = dailyClose(stockCode, date);
+        int open = roundToTick(previousClose(stockCode, date) * (1 + random.nextGaussian() * 0.005));
+        int high = roundToTick(Math.max(open, close) * (1 + Math.abs(random.nextGaussian()) * 0.01));
+        int low = roundToTick(Math.min(open, close) * (1 - Math.abs(random.nextGaussian()) * 0.01));
+        long volume = 100_000L + random.nextInt(5_000_000);
+        return new Bar(date, null, open, high, low, close, volume, volume * close);
+    }
+
+    // ==================== Private 헬퍼 메서드 ====================
+
+    private SimStock stockOf(String stockCode) {
+        return stocks.computeIfAbsent(stockCode, code -> new SimStock(code, LocalDate.now()));
+    }
+
+    /**
+     * 일자별 종가: 종목별 기준가 주변의 완만한 추세 + 일자 시드 잡음 (이전 일자를 따라 계산할 필요 없는 닫힌 식)
+     */
+    private int dailyClose(String stockCode, LocalDate date) {
+        long days = ChronoUnit.DAYS.between(PRICE_EPOCH, date);
+        double phase = Math.floorMod(stockCode.hashCode(), 360) * Math.PI / 180;
+        double trend = 1 + 0.25 * Math.sin(days / 37.0 + phase);
+        double noise = 1 + seeded(stockCode, date, 1).nextGaussian() * 0.01;
+        return roundToTick(basePrice(stockCode) * trend * noise);
+    }
+
+    // 장 시작부터 1분 단위 (당일은 현재 시각까지, 종가는 실시간 현재가)
+    private List<Bar> sessionMinuteBars(String stockCode, LocalDate date) {
+        boolean today = date.equals(LocalDate.now());
+        Bar day = dailyBar(stockCode, date);
+        int minutes = MINUTES_PER_SESSION;
+        if (today) {
+            LocalTime now = LocalTime.now();
+            if (now.isBefore(MARKET_OPEN)) {
+                return List.of();
+            }
+            minutes = (int) Math.min(MINUTES_PER_SESSION, ChronoUnit.MINUTES.between(MARKET_OPEN, now) + 1);
+        }
+
+        Random random = seeded(stockCode, date, 2);
+        List<Bar> bars = new ArrayList<>(minutes);
+        long volumePerMinute = Math.max(1, day.volume() / Math.max(1, minutes));
+        int previous = day.open();
+        for (int minute = 0; minute < minutes; minute++) {
+            double progress = (minute + 1) / (double) minutes;
+            double target = day.open() + (day.close() - day.open()) * progress;
+            int close = minute == minutes - 1
+                    ? day.close()
+                    : roundToTick(target * (1 + random.nextGaussian() * 0.002));
+            int high = Math.max(previous, close) + tickSize(close) * random.nextInt(3);
+            int low = Math.max(1, Math.min(previous, close) - tickSize(close) * random.nextInt(3));
+            long volume = Math.max(1, (long) (volumePerMinute * (0.5 + random.nextDouble())));
+            bars.add(new Bar(date, MARKET_OPEN.plusMinutes(minute), previous, high, low, close, volume, volume * close));
+            previous = close;
+        }
+        return bars;
+    }
+
+    private List<Bar> aggregate(List<Bar> daily, Function<Bar, LocalDate> periodStart) {
+        Map<LocalDate, Bar> grouped = new LinkedHashMap<>();
+        for (Bar bar : daily) {
+            grouped.merge(periodStart.apply(bar), bar, (first, next) -> new Bar(
+                    first.date(), null, first.open(),
+                    Math.max(first.high(), next.high()), Math.min(first.low(), next.low()), next.close(),
+                    first.volume() + next.volume(), first.amount() + next.amount()));
+        }
+        return new ArrayList<>(grouped.values());
+    }
+
+    private int basePrice(String stockCode) {
+        return 1_000 + Math.floorMod(stockCode.hashCode(), 200) * 500;
+    }
+
+    private Random seeded(String stockCode, LocalDate date, int salt) {
+        return new Random(((long) stockCode.hashCode() << 32) ^ date.toEpochDay() * 31 + salt);
+    }
+
+    private static boolean isBusinessDay(LocalDate date) {
+        return date.getDayOfWeek() != DayOfWeek.SATURDAY && date.getDayOfWeek() != DayOfWeek.SUNDAY;
+    }
+
+    public static LocalDate previousBusinessDay(LocalDate date) {
+        LocalDate previous = date.minusDays(1);
+        return isBusinessDay(previous) ? previous : previous.with(TemporalAdjusters.previous(DayOfWeek.FRIDAY));
+    }
+
+    private static int roundToTick(double price) {
+        int rounded = (int) Math.max(1, Math.round(price));
+        int tick = tickSize(rounded);
+        return Math.max(tick, Math.round(rounded / (float) tick) * tick);
+    }
+
+    private static int clampToLimit(int price, int previousClose) {
+        int upper = (int) (previousClose * (1 + PRICE_LIMIT_RATE));
+        int lower = (int) Math.ceil(previousClose * (1 - PRICE_LIMIT_RATE));
+        return Math.min(upper, Math.max(lower, price));
+    }
+
+    private class SimStock {
+        private final String stockCode;
+        private final Random random;
+        private LocalDate date;
+        private int previousClose;
+        private int price;
+        private int open;
+        private int high;
+        private int low;
+        private long accumulatedVolume;
+        private long accumulatedAmount;
+        private int replayIndex;
+
+        private SimStock(String stockCode, LocalDate date) {
+            this.stockCode = stockCode;
+            this.random = new Random(stockCode.hashCode() ^ System.nanoTime());
+            reset(date);
+        }
+
+        // 일자가 바뀌면 전일 종가 기준으로 새 세션 시작
+        private void rollTo(LocalDate today) {
+            if (!today.equals(date)) {
+                reset(today);
+            }
+        }
+
+        private void reset(LocalDate today) {
+            date = today;
+            previousClose = previousClose(stockCode, today);
+            price = previousClose;
+            open = previousClose;
+            high = previousClose;
+            low = previousClose;
+            accumulatedVolume = 0;
+            accumulatedAmount = 0;
+        }
+
+        private Tick toTick(LocalTime time, long quantity, boolean buy) {
+            return new Tick(stockCode, date, time, price, previousClose, open, high, low,
+                    quantity, accumulatedVolume, accumulatedAmount, buy);
+        }
+    }
+
+    /**
+     * 체결 (quantity = 이번 체결량, 0이면 조회용 스냅샷)
+     */
+    public record Tick(
+            String stockCode,
+            LocalDate date,
+            LocalTime time,
+            int price,
+            int previousClose,
+            int open,
+            int high,
+            int low,
+            long quantity,
+            long accumulatedVolume,
+            long accumulatedAmount,
+            boolean buy
+    ) {
+        public int changeAmount() {
+            return price - previousClose;
+        }
+
+        public String changeRate() {
+            return previousClose != 0 ? String.format("%.2f", changeAmount() * 100.0 / previousClose) : "0.00";
+        }
+
+        // 1:상한 2:상승 3:보합 4:하한 5:하락
+        public String changeSign() {
+            if (changeAmount() > 0) {
+                return price >= (int) (previousClose * (1 + PRICE_LIMIT_RATE)) ? "1" : "2";
+            }
+            if (changeAmount() < 0) {
+                return price <= (int) Math.ceil(previousClose * (1 - PRICE_LIMIT_RATE)) ? "4" : "5";
+            }
+            return "3";
+        }
+    }
+
+    /**
+     * 봉 (time은 분봉만)
+     */
+    public record Bar(
+            LocalDate date,
+            LocalTime time,
+            int open,
+            int high,
+            int low,
+            int close,
+            long volume,
+            long amount
+    ) {
+    }
+
+    private record ReplayTick(int price, long quantity) {
+    }
+}
@@ -0,0 +1,307 @@
+package grit.stockIt.global.kis.simulator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import grit.stockIt.global.websocket.dto.KisWebSocketRequest;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * KIS 실시간 시세 웹소켓 시뮬레이터 (kis-sim 프로필)
+ * - KIS와 같은 JSON 구독/해제 요청을 받고 SUBSCRIBE SUCCESS/에러 응답
+ * - 구독 종목별로 H0STCNT0(체결)/H0STASP0(호가)를 KIS 파이프 형식("0|TR_ID|001|필드^필드...")으로 설정한 주기마다 전송
+ * - 세션당 구독 한도(KIS 41건)와 PINGPONG heartbeat도 재현
+ */
+@Slf4j
+@Component
+@Profile("kis-sim")
+@RequiredArgsConstructor
+public class KisSimulatorWebSocketHandler extends TextWebSocketHandler {
+
+    private static final String PRICE_TR_ID = "H0STCNT0";
+    private static final String ORDER_BOOK_TR_ID = "H0STASP0";
+    private static final int PRICE_FIELD_COUNT = 46;
+    private static final int ORDER_BOOK_FIELD_COUNT = 59;
+    private static final int ORDER_BOOK_LEVELS = 10;
+    private static final LocalTime MARKET_OPEN = LocalTime.of(9, 0);
+    private static final LocalTime MARKET_CLOSE = LocalTime.of(15, 30);
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HHmmss");
+    private static final DateTimeFormatter DATETIME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    private final KisSimulatorMarket market;
+    private final ObjectMapper objectMapper;
+
+    @Value("${kis.simulator.ws.ticks-per-second:5}")
+    private double ticksPerSecond; // 종목당 체결 전송 빈도
+
+    @Value("${kis.simulator.ws.order-books-per-second:2}")
+    private double orderBooksPerSecond; // 종목당 호가 전송 빈도
+
+    @Value("${kis.simulator.ws.heartbeat-seconds:10}")
+    private long heartbeatSeconds;
+
+    @Value("${kis.simulator.ws.max-subscriptions:41}")
+    private int maxSubscriptions; // 세션당 체결+호가 등록 한도
+
+    @Value("${kis.simulator.ws.market-hours-only:false}")
+    private boolean marketHoursOnly; // true면 09:00~15:30에만 전송 (기본은 시간과 관계없이 전송)
+
+    private final Map<String, SimSession> sessions = new ConcurrentHashMap<>();
+    private ScheduledExecutorService emitter;
+
+    @PostConstruct
+    public void start() {
+        emitter = Executors.newScheduledThreadPool(2, runnable -> {
+            Thread thread = new Thread(runnable, "kis-sim-ws");
+            thread.setDaemon(true);
+            return thread;
+        });
+        schedule(this::emitPrices, ticksPerSecond);
+        schedule(this::emitOrderBooks, orderBooksPerSecond);
+        emitter.scheduleAtFixedRate(this::sendHeartbeats, heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS);
+        log.info("KIS 시뮬레이터 웹소켓 시작: 체결 {}/s, 호가 {}/s (종목당)", ticksPerSecond, orderBooksPerSecond);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (emitter != null) {
+            emitter.shutdownNow();
+        }
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) {
+        // 전송 스레드와 응답 스레드가 동시에 보내므로 직렬화 데코레이터 사용 (느린 클라이언트는 KIS처럼 연결 종료)
+        sessions.put(session.getId(), new SimSession(new ConcurrentWebSocketSessionDecorator(session, 5_000, 1024 * 1024)));
+        log.info("KIS 시뮬레이터 웹소켓 접속: {}", session.getId());
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        sessions.remove(session.getId());
+        log.info("KIS 시뮬레이터 웹소켓 종료: {} ({})", session.getId(), status);
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
+        SimSession simSession = sessions.get(session.getId());
+        if (simSession == null) {
+            return;
+        }
+        KisWebSocketRequest request = objectMapper.readValue(message.getPayload(), KisWebSocketRequest.class);
+        if (request.header() == null || request.body() == null || request.body().input() == null
+                || request.body().input().trId() == null || request.body().input().trKey() == null) {
+            send(simSession, response(null, null, "1", "OPSP0001", "JSON PARSING ERROR : invalid request"));
+            return;
+        }
+
+        String trId = request.body().input().trId();
+        String trKey = request.body().input().trKey();
+        if (request.header().approvalKey() == null || request.header().approvalKey().isBlank()) {
+            send(simSession, response(trId, trKey, "1", "OPSP0011", "invalid approval : NOT FOUND"));
+            return;
+        }
+
+        Set<String> target = switch (trId) {
+            case PRICE_TR_ID -> simSession.priceCodes;
+            case ORDER_BOOK_TR_ID -> simSession.orderBookCodes;
+            default -> null;
+        };
+        if (target == null) {
+            send(simSession, response(trId, trKey, "1", "OPSP0003", "invalid tr_id"));
+            return;
+        }
+
+        if ("1".equals(request.header().trType())) {
+            if (simSession.subscriptionCount() >= maxSubscriptions && !target.contains(trKey)) {
+                send(simSession, response(trId, trKey, "1", "OPSP0008", "MAX SUBSCRIBE OVER"));
+                return;
+            }
+            target.add(trKey);
+            send(simSession, response(trId, trKey, "0", "OPSP0000", "SUBSCRIBE SUCCESS"));
+        } else if (target.remove(trKey)) {
+            send(simSession, response(trId, trKey, "0", "OPSP0001", "UNSUBSCRIBE SUCCESS"));
+        } else {
+            send(simSession, response(trId, trKey, "1", "OPSP0003", "UNSUBSCRIBE ERROR(not found!)"));
+        }
+    }
+
+    // ==================== 전송 ====================
+
+    // 종목마다 체결은 한 번만 생성해 구독한 모든 세션에 같은 값을 전송
+    private void emitPrices() {
+        if (!isEmitting()) {
+            return;
+        }
+        Map<String, String> messages = new LinkedHashMap<>();
+        for (SimSession session : sessions.values()) {
+            for (String stockCode : session.priceCodes) {
+                String payload = messages.computeIfAbsent(stockCode, code -> priceMessage(market.nextTick(code)));
+                send(session, payload);
+            }
+        }
+    }
+
+    private void emitOrderBooks() {
+        if (!isEmitting()) {
+            return;
+        }
+        Map<String, String> messages = new LinkedHashMap<>();
+        for (SimSession session : sessions.values()) {
+            for (String stockCode : session.orderBookCodes) {
+                String payload = messages.computeIfAbsent(stockCode, code -> orderBookMessage(market.snapshot(code)));
+                send(session, payload);
+            }
+        }
+    }
+
+    private void sendHeartbeats() {
+        String payload = "{\"header\":{\"tr_id\":\"PINGPONG\",\"datetime\":\""
+                + LocalDateTime.now().format(DATETIME_FORMAT) + "\"}}";
+        sessions.values().forEach(session -> send(session, payload));
+    }
+
+    private String priceMessage(KisSimulatorMarket.Tick tick) {
+        String[] fields = new String[PRICE_FIELD_COUNT];
+        Arrays.fill(fields, "0");
+        int tickSize = KisSimulatorMarket.tickSize(tick.price());
+        fields[0] = tick.stockCode();                       // MKSC_SHRN_ISCD
+        fields[1] = tick.time().format(TIME_FORMAT);        // STCK_CNTG_HOUR
+        fields[2] = String.valueOf(tick.price());           // STCK_PRPR
+        fields[3] = tick.changeSign();                      // PRDY_VRSS_SIGN
+        fields[4] = String.valueOf(tick.changeAmount());    // PRDY_VRSS
+        fields[5] = tick.changeRate();                      // PRDY_CTRT
+        fields[6] = String.valueOf(tick.accumulatedVolume() > 0
+                ? tick.accumulatedAmount() / tick.accumulatedVolume() : tick.price()); // WGHN_AVRG_STCK_PRC
+        fields[7] = String.valueOf(tick.open());            // STCK_OPRC
+        fields[8] = String.valueOf(tick.high());            // STCK_HGPR
+        fields[9] = String.valueOf(tick.low());             // STCK_LWPR
+        fields[10] = String.valueOf(tick.price() + tickSize); // ASKP1
+        fields[11] = String.valueOf(tick.price());          // BIDP1
+        fields[12] = String.valueOf(tick.quantity());       // CNTG_VOL
+        fields[13] = String.valueOf(tick.accumulatedVolume()); // ACML_VOL
+        fields[14] = String.valueOf(tick.accumulatedAmount()); // ACML_TR_PBMN
+        fields[21] = tick.buy() ? "1" : "5";                // CCLD_DVSN (1:매수, 5:매도)
+        fields[33] = tick.date().format(DATE_FORMAT);       // BSOP_DATE
+        fields[34] = "20";                                  // NEW_MKOP_CLS_CODE (장중)
+        fields[35] = "N";                                   // TRHT_YN
+        fields[43] = "0";                                   // HOUR_CLS_CODE
+        fields[44] = "0";                                   // MRKT_TRTM_CLS_CODE
+        return "0|" + PRICE_TR_ID + "|001|" + String.join("^", fields);
+    }
+
+    private String orderBookMessage(KisSimulatorMarket.Tick tick) {
+        String[] fields = new String[ORDER_BOOK_FIELD_COUNT];
+        Arrays.fill(fields, "0");
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int tickSize = KisSimulatorMarket.tickSize(tick.price());
+        long totalAsk = 0;
+        long totalBid = 0;
+        fields[0] = tick.stockCode();
+        fields[1] = tick.time().format(TIME_FORMAT);
+        fields[2] = "0";
+        for (int level = 0; level < ORDER_BOOK_LEVELS; level++) {
+            long askQuantity = 100 + random.nextInt(5_000);
+            long bidQuantity = 100 + random.nextInt(5_000);
+            fields[3 + level] = String.valueOf(tick.price() + tickSize * (level + 1));      // ASKP1~10
+            fields[13 + level] = String.valueOf(Math.max(1, tick.price() - tickSize * level)); // BIDP1~10
+            fields[23 + level] = String.valueOf(askQuantity);                                 // ASKP_RSQN1~10
+            fields[33 + level] = String.valueOf(bidQuantity);                                 // BIDP_RSQN1~10
+            totalAsk += askQuantity;
+            totalBid += bidQuantity;
+        }
+        fields[43] = String.valueOf(totalAsk);
+        fields[44] = String.valueOf(totalBid);
+        fields[51] = "3";
+        fields[52] = "0.00";
+        fields[53] = String.valueOf(tick.accumulatedVolume());
+        return "0|" + ORDER_BOOK_TR_ID + "|001|" + String.join("^", fields);
+    }
+
+    // ==================== Private 헬퍼 메서드 ====================
+
+    private void schedule(Runnable task, double perSecond) {
+        if (perSecond <= 0) {
+            return;
+        }
+        long periodMicros = Math.max(1_000L, (long) (1_000_000 / perSecond));
+        emitter.scheduleAtFixedRate(() -> {
+            try {
+                task.run();
+            } catch (Exception e) {
+                log.warn("KIS 시뮬레이터 전송 실패", e);
+            }
+        }, periodMicros, periodMicros, TimeUnit.MICROSECONDS);
+    }
+
+    private boolean isEmitting() {
+        if (!marketHoursOnly) {
+            return true;
+        }
+        LocalTime now = LocalTime.now();
+        return !now.isBefore(MARKET_OPEN) && now.isBefore(MARKET_CLOSE);
+    }
+
+    private void send(SimSession session, String payload) {
+        try {
+            if (session.socket.isOpen()) {
+                session.socket.sendMessage(new TextMessage(payload));
+            }
+        } catch (Exception e) {
+            log.debug("KIS 시뮬레이터 메시지 전송 실패: {}", session.socket.getId(), e);
+        }
+    }
+
+    private String response(String trId, String trKey, String rtCd, String msgCd, String msg1) {
+        Map<String, Object> header = new LinkedHashMap<>();
+        header.put("tr_id", trId);
+        header.put("tr_key", trKey);
+        header.put("encrypt", "N");
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("rt_cd", rtCd);
+        body.put("msg_cd", msgCd);
+        body.put("msg1", msg1);
+        try {
+            return objectMapper.writeValueAsString(Map.of("header", header, "body", body));
+        } catch (Exception e) {
+            throw new IllegalStateException("KIS 시뮬레이터 응답 생성 실패", e);
+        }
+    }
+
+    private static class SimSession {
+        private final WebSocketSession socket;
+        private final Set<String> priceCodes = ConcurrentHashMap.newKeySet();
+        private final Set<String> orderBookCodes = ConcurrentHashMap.newKeySet();
+
+        private SimSession(WebSocketSession socket) {
+            this.socket = socket;
+        }
+
+        private int subscriptionCount() {
+            return priceCodes.size() + orderBookCodes.size();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package grit.stockIt.global.metrics;
+
+import grit.stockIt.global.websocket.manager.WebSocketSubscriptionManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 실시간 체결 데이터가 사용자/주문 체결까지 도달하는 구간별 지연 시간 기록
+ * 각 타이머는 종목 tier 태그를 가지며, 히스토그램/백분위는 application.yml의
+ * management.metrics.distribution 설정(kis.tick, matching 접두사)으로 활성화한다.
+ *
+ * tier 기준 (실시간 화면 구독자 수)
+ * - hot: 구독자 수가 임계값 이상
+ * - watched: 구독자 1명 이상
+ * - order-only: 화면 구독자 없이 지정가 주문 때문에만 수신 중
+ *
+ * 타이머는 (이름, tier)별로 한 번만 등록하고 재사용 (체결마다 Timer.builder().register() 조회 없음)
+ */
+@Component
+@RequiredArgsConstructor
+public class TickLatencyMetrics {
+
+    public static final String KIS_RECEIVE_LAG = "kis.tick.receive.lag";       // KIS 체결시간(STCK_CNTG_HOUR) → 서버 수신
+    public static final String KIS_PARSE = "kis.tick.parse";                   // 수신 메시지 파싱
+    public static final String KIS_STOMP_SEND = "kis.tick.stomp.send";         // STOMP(또는 릴레이) 전송
+    public static final String KIS_BROADCAST_QUEUE_WAIT = "kis.tick.broadcast.queue"; // broadcast 단계 큐 대기
+    public static final String KIS_END_TO_END = "kis.tick.end.to.end";        // 서버 수신 → STOMP(또는 릴레이) 전송 완료
+    public static final String KIS_MATCH_QUEUE_WAIT = "kis.tick.match.queue";  // match 단계 큐 대기
+    public static final String MATCHING_EVENT_ENQUEUE = "matching.event.enqueue"; // 체결 이벤트 Redis 적재
+    public static final String MATCHING_LOCK_WAIT = "matching.lock.wait";      // 종목 매칭 락 획득 시도
+    public static final String MATCHING_DISTRIBUTE = "matching.distribute";    // distributeEvent 전체 (DB 처리 + Redis 주문장 갱신 + 커밋)
+    public static final String MATCHING_REDIS_UPDATE = "matching.redis.update"; // DB 반영 후 Redis 주문장 갱신
+
+    private final MeterRegistry meterRegistry;
+    private final WebSocketSubscriptionManager subscriptionManager;
+
+    // "이름:tier" -> 타이머
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    @Value("${metrics.tick.hot-viewer-threshold:20}")
+    private int hotViewerThreshold;
+
+    public void recordNanos(String name, String stockCode, long nanos) {
+        timer(name, stockCode).record(Math.max(nanos, 0), TimeUnit.NANOSECONDS);
+    }
+
+    public void recordMillis(String name, String stockCode, long millis) {
+        timer(name, stockCode).record(Math.max(millis, 0), TimeUnit.MILLISECONDS);
+    }
+
+    // 시작 시각(System.nanoTime)부터 현재까지
+    public void recordSince(String name, String stockCode, long startNanos) {
+        recordNanos(name, stockCode, System.nanoTime() - startNanos);
+    }
+
+    public String tierOf(String stockCode) {
+        int viewers = subscriptionManager.getSubscriberCount(stockCode);
+        if (viewers >= hotViewerThreshold) {
+            return "hot";
+        }
+        if (viewers > 0) {
+            return "watched";
+        }
+        return "order-only";
+    }
+
+    private Timer timer(String name, String stockCode) {
+        String tier = tierOf(stockCode);
+        return timers.computeIfAbsent(name + ":" + tier, key -> Timer.builder(name)
+                .tag("tier", tier)
+                .register(meterRegistry));
+    }
+}
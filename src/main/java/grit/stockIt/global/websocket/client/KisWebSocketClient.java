@@ -4,15 +4,17 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import grit.stockIt.domain.order.entity.OrderMethod;
 import grit.stockIt.domain.stock.dto.StockOrderBookDto;
 import grit.stockIt.domain.stock.dto.StockPriceUpdateDto;
+import grit.stockIt.domain.stock.service.IntradayBarService;
 import grit.stockIt.global.auth.KisTokenManager;
+import grit.stockIt.global.metrics.TickLatencyMetrics;
 import grit.stockIt.global.websocket.dto.KisWebSocketRequest;
 import grit.stockIt.global.websocket.dto.KisWebSocketResponse;
 import grit.stockIt.global.websocket.manager.WebSocketSubscriptionManager;
+import grit.stockIt.global.websocket.pipeline.KisInboundPipeline;
 import grit.stockIt.domain.matching.event.LimitOrderFillEventMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.CloseStatus;
 import org.springframework.web.socket.TextMessage;
@@ -40,10 +42,14 @@ import java.util.concurrent.atomic.AtomicInteger;
 public class KisWebSocketClient extends TextWebSocketHandler {
     
     private final KisTokenManager kisTokenManager;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final KisInboundPipeline inboundPipeline;
+    private final TickLatencyMetrics tickLatencyMetrics;
     private final ObjectMapper objectMapper;
     private final WebSocketSubscriptionManager subscriptionManager;
-    private final ApplicationEventPublisher applicationEventPublisher;
+    private final IntradayBarService intradayBarService;
+    
+    @Value("${kis.websocket.url:ws://ops.koreainvestment.com:21000}")
+    private String kisWsUrl;
     
     private WebSocketSession kisSession;
     private final Set<String> subscribedStocks = Collections.synchronizedSet(new HashSet<>()); // 체결가 구독 종목
@@ -67,7 +73,6 @@ public class KisWebSocketClient extends TextWebSocketHandler {
     private static final int FIELD_INDEX_TRADE_DIRECTION = 21; // 체결구분
     private static final int FIELD_INDEX_BIZ_DATE = 33;        // 영업일자
     
-    private static final String KIS_WS_URL = "ws://ops.koreainvestment.com:21000";
     private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
     private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HHmmss");
     
@@ -105,14 +110,10 @@ public class KisWebSocketClient extends TextWebSocketHandler {
             }
             
             subscribedStocks.remove(stockCode);
+            intradayBarService.markCoverageLost(stockCode);
             log.info("KIS 구독 해제: {} (남은 체결가 {}개, 호가 {}개)", 
                     stockCode, subscribedStocks.size(), subscribedOrderBooks.size());
-            
-            // 체결가와 호가 모두 구독 종목이 없으면 연결 해제
-            if (subscribedStocks.isEmpty() && subscribedOrderBooks.isEmpty()) {
-                log.info("구독 종목 없음. KIS 연결 해제");
-                disconnectFromKis();
-            }
+            // 연결 해제는 KisSubscriptionLingerManager가 세션 유지 시간 후 disconnectIfIdle()로 처리
             
         } catch (Exception e) {
             log.error("종목 구독 해제 실패: {}", stockCode, e);
@@ -154,12 +155,6 @@ public class KisWebSocketClient extends TextWebSocketHandler {
             subscribedOrderBooks.remove(stockCode);
             log.info("KIS 호가 구독 해제: {} (남은 {}개)", stockCode, subscribedOrderBooks.size());
             
-            // 체결가와 호가 모두 구독 종목이 없으면 연결 해제
-            if (subscribedStocks.isEmpty() && subscribedOrderBooks.isEmpty()) {
-                log.info("구독 종목 없음. KIS 연결 해제");
-                disconnectFromKis();
-            }
-            
         } catch (Exception e) {
             log.error("호가 구독 해제 실패: {}", stockCode, e);
         }
@@ -175,7 +170,7 @@ public class KisWebSocketClient extends TextWebSocketHandler {
             kisTokenManager.refreshApprovalKey();
             
             StandardWebSocketClient client = new StandardWebSocketClient();
-            kisSession = client.execute(this, KIS_WS_URL).get();
+            kisSession = client.execute(this, kisWsUrl).get();
             
             log.info("KIS 웹소켓 연결 완료");
             
@@ -330,10 +325,7 @@ public class KisWebSocketClient extends TextWebSocketHandler {
                         parseLongValue(output.volume())
                 );
                 
-                messagingTemplate.convertAndSend(
-                        "/topic/stock/" + updateDto.stockCode(),
-                        updateDto
-                );
+                inboundPipeline.publishPrice(updateDto);
                 
                 log.debug("체결가 초기 응답 전송: {} - {}원", updateDto.stockCode(), updateDto.currentPrice());
             } else if ("H0STASP0".equals(trId)) {
@@ -351,6 +343,8 @@ public class KisWebSocketClient extends TextWebSocketHandler {
     
     // 실시간 데이터 처리
     private void handleRealtimeData(String payload) {
+        long receivedNanos = System.nanoTime();
+        long receivedAtMillis = System.currentTimeMillis();
         try {
             // 파이프로 split (메타데이터 구분)
             String[] parts = payload.split("\\|");
@@ -376,9 +370,9 @@ public class KisWebSocketClient extends TextWebSocketHandler {
             
             // TR ID별 분기 처리
             if ("H0STCNT0".equals(trId)) {
-                handlePriceData(dataFields);
+                handlePriceData(dataFields, receivedNanos, receivedAtMillis);
             } else if ("H0STASP0".equals(trId)) {
-                handleOrderBookData(dataFields);
+                handleOrderBookData(dataFields, receivedNanos);
             } else {
                 log.warn("알 수 없는 TR ID: {}", trId);
             }
@@ -389,7 +383,7 @@ public class KisWebSocketClient extends TextWebSocketHandler {
     }
    
     // 체결가 데이터 처리
-    private void handlePriceData(String[] dataFields) {
+    private void handlePriceData(String[] dataFields, long receivedNanos, long receivedAtMillis) {
         try {
             if (dataFields.length < MIN_REALTIME_DATA_FIELDS) {
                 log.debug("KIS 체결가 데이터 필드 부족: {}개 (최소 {}개 필요)", 
@@ -427,12 +421,17 @@ public class KisWebSocketClient extends TextWebSocketHandler {
                     changeSign,
                     parseLongValue(volume)
             );
-            
-            // 클라이언트에게 브로드캐스트
-            messagingTemplate.convertAndSend(
-                    "/topic/stock/" + updateDto.stockCode(),
-                    updateDto
-            );
+            tickLatencyMetrics.recordSince(TickLatencyMetrics.KIS_PARSE, stockCode, receivedNanos);
+            // 체결시간은 초 단위이므로 수신 지연도 초 단위 정밀도
+            tickLatencyMetrics.recordMillis(TickLatencyMetrics.KIS_RECEIVE_LAG, stockCode,
+                    receivedAtMillis - resolveEventTimestamp(businessDate, tradeTime));
+            
+            // 당일 분봉 집계 (메모리 갱신만)
+            intradayBarService.onTick(stockCode, businessDate, tradeTime,
+                    updateDto.currentPrice(), parseLongValue(tradeVolume));
+
+            // 클라이언트에게 브로드캐스트 (broadcast 단계로 넘김, 수신 스레드는 I/O 대기 없음)
+            inboundPipeline.publishPrice(updateDto, receivedNanos);
             
             log.debug("시세 업데이트 전송: {} - {}원 ({})", 
                     updateDto.stockCode(), updateDto.currentPrice(), updateDto.changeSign());
@@ -452,7 +451,7 @@ public class KisWebSocketClient extends TextWebSocketHandler {
     }
     
     // 호가 데이터 처리
-    private void handleOrderBookData(String[] dataFields) {
+    private void handleOrderBookData(String[] dataFields, long receivedNanos) {
         try {
             if (dataFields.length < 3) {
                 log.debug("KIS 호가 데이터 필드 부족: {}개 (최소 3개 필요)", dataFields.length);
@@ -461,11 +460,8 @@ public class KisWebSocketClient extends TextWebSocketHandler {
             
             StockOrderBookDto orderBookDto = StockOrderBookDto.from(dataFields);
             
-            // 클라이언트에게 브로드캐스트
-            messagingTemplate.convertAndSend(
-                    "/topic/stock/" + orderBookDto.stockCode() + "/orderbook",
-                    orderBookDto
-            );
+            // 클라이언트에게 브로드캐스트 (broadcast 단계로 넘김, 수신 스레드는 I/O 대기 없음)
+            inboundPipeline.publishOrderBook(orderBookDto, receivedNanos);
             
             log.debug("호가 업데이트 전송: {} - 매도1: {}, 매수1: {}", 
                     orderBookDto.stockCode(),
@@ -483,6 +479,8 @@ public class KisWebSocketClient extends TextWebSocketHandler {
         log.warn("KIS 웹소켓 연결 종료: {} (코드: {}, 이유: {})", 
                 status, status.getCode(), status.getReason());
         kisSession = null;
+        // 재연결 전까지 놓친 체결은 분봉 backfill 대상
+        intradayBarService.markAllCoverageLost();
         
         // 구독 목록은 유지 (재연결 시 재구독에 사용)
         log.info("KIS 연결 종료 - 구독 목록 유지: 체결가 {}개, 호가 {}개", 
@@ -505,6 +503,16 @@ public class KisWebSocketClient extends TextWebSocketHandler {
         return !subscribedStocks.isEmpty() || !subscribedOrderBooks.isEmpty();
     }
     
+    // 체결가와 호가 모두 구독 종목이 없을 때만 연결 해제
+    public synchronized boolean disconnectIfIdle() {
+        if (hasSubscriptions() || !isConnected()) {
+            return false;
+        }
+        log.info("구독 종목 없음. KIS 연결 해제");
+        disconnectFromKis();
+        return true;
+    }
+    
     // KIS 웹소켓 연결 해제
     private void disconnectFromKis() {
         if (!isConnected()) {
@@ -708,7 +716,8 @@ public class KisWebSocketClient extends TextWebSocketHandler {
                 quantity,
                 eventTimestamp
         );
-        applicationEventPublisher.publishEvent(eventMessage);
+        // 매칭(Redis/DB)은 match 단계 스레드에서 처리
+        inboundPipeline.publishFill(eventMessage);
     }
 
     private OrderMethod resolveOrderMethod(String tradeDirection) {
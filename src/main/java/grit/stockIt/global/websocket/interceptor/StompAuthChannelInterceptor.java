@@ -0,0 +1,65 @@
+package grit.stockIt.global.websocket.interceptor;
+
+import grit.stockIt.domain.member.repository.MemberRepository;
+import grit.stockIt.global.jwt.JwtService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+import java.security.Principal;
+
+/**
+ * STOMP CONNECT 시 JWT로 사용자 식별
+ * - Authorization: Bearer <token> 네이티브 헤더가 있으면 세션 Principal을 회원 ID로 설정
+ * - 토큰이 없거나 유효하지 않아도 연결은 허용 (시세 구독은 비로그인도 가능)
+ * - /user/queue/** 개인 메시지는 Principal이 설정된 세션에만 전달됨
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StompAuthChannelInterceptor implements ChannelInterceptor {
+
+    private static final String AUTHORIZATION_HEADER = "Authorization";
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtService jwtService;
+    private final MemberRepository memberRepository;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() != StompCommand.CONNECT) {
+            return message;
+        }
+
+        String authHeader = accessor.getFirstNativeHeader(AUTHORIZATION_HEADER);
+        if (authHeader == null || !authHeader.startsWith(BEARER_PREFIX)) {
+            return message;
+        }
+
+        String token = authHeader.substring(BEARER_PREFIX.length());
+        if (!jwtService.validateToken(token)) {
+            log.warn("STOMP 연결: 유효하지 않은 JWT 토큰");
+            return message;
+        }
+
+        String email = jwtService.extractEmail(token);
+        memberRepository.findByEmail(email).ifPresent(member ->
+                accessor.setUser(new MemberPrincipal(String.valueOf(member.getMemberId()))));
+        return message;
+    }
+
+    // 세션 Principal (이름 = 회원 ID)
+    private record MemberPrincipal(String name) implements Principal {
+        @Override
+        public String getName() {
+            return name;
+        }
+    }
+}
@@ -1,6 +1,6 @@
 package grit.stockIt.global.websocket.listener;
 
-import grit.stockIt.global.websocket.client.KisWebSocketClient;
+import grit.stockIt.global.websocket.manager.KisSubscriptionLingerManager;
 import grit.stockIt.global.websocket.manager.WebSocketSubscriptionManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -12,15 +12,19 @@ import org.springframework.web.socket.messaging.SessionSubscribeEvent;
 import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
 
 // STOMP 구독 이벤트를 감지하여 KIS API 구독을 관리하는 리스너
-// 클라이언트가 /topic/stock/{stockCode} 또는 /topic/stock/{stockCode}/orderbook을 구독할 때
-// 필요시 KIS API에 구독을 요청하고, 마지막 구독자가 해제되면 KIS 구독도 해제
+// 클라이언트가 /topic/stock/{stockCode}, /topic/stock/{stockCode}/candles/{interval} 또는 /topic/stock/{stockCode}/orderbook을 구독할 때
+// 필요시 KIS API에 구독을 요청하고, 마지막 구독자가 해제되면 유지 시간(linger) 후 KIS 구독도 해제
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class StockSubscriptionEventListener {
     
-    private final KisWebSocketClient kisWebSocketClient;
+    private final KisSubscriptionLingerManager lingerManager;
     private final WebSocketSubscriptionManager subscriptionManager;
+
+    // /topic/stock/{stockCode}/candles/{interval} 분봉 스트림 (세션 구독 기록은 "종목:candles:분단위")
+    private static final String CANDLES_PATH = "/candles/";
+    private static final String CANDLES_SUFFIX = ":candles:";
     
 
     @EventListener
@@ -56,16 +60,22 @@ public class StockSubscriptionEventListener {
             }
         } else {
             // /topic/stock/005930 → 005930 추출
-            stockCode = destination.substring("/topic/stock/".length());
-            log.debug("세션 {}가 종목 {} 체결가 구독 요청 (subscriptionId: {})", sessionId, stockCode, subscriptionId);
+            // /topic/stock/005930/candles/1 → 005930 (분봉 스트림도 실시간 체결이 필요하므로 체결가 구독자로 집계)
+            String path = destination.substring("/topic/stock/".length());
+            int candlesIndex = path.indexOf(CANDLES_PATH);
+            stockCode = candlesIndex >= 0 ? path.substring(0, candlesIndex) : path;
+            String subscriptionKey = candlesIndex >= 0
+                    ? stockCode + CANDLES_SUFFIX + path.substring(candlesIndex + CANDLES_PATH.length())
+                    : stockCode;
+            log.debug("세션 {}가 종목 {} 체결가 구독 요청 (subscriptionId: {})", sessionId, subscriptionKey, subscriptionId);
             
             // subscriptionId → stockCode 매핑 저장 (구독 해제 시 필요)
             if (subscriptionId != null) {
-                subscriptionManager.addSubscriptionMapping(subscriptionId, stockCode);
+                subscriptionManager.addSubscriptionMapping(subscriptionId, subscriptionKey);
             }
             
             // 세션 구독 기록 (중복 체크)
-            boolean isNewSubscription = subscriptionManager.addSessionSubscription(sessionId, stockCode);
+            boolean isNewSubscription = subscriptionManager.addSessionSubscription(sessionId, subscriptionKey);
             
             // 새로운 구독인 경우에만 처리
             if (isNewSubscription) {
@@ -104,7 +114,7 @@ public class StockSubscriptionEventListener {
         
         // 호가 구독인지 체결가 구독인지 확인
         boolean isOrderBook = mappedValue.endsWith(":orderbook");
-        String stockCode = isOrderBook ? mappedValue.substring(0, mappedValue.length() - ":orderbook".length()) : mappedValue;
+        String stockCode = isOrderBook ? mappedValue.substring(0, mappedValue.length() - ":orderbook".length()) : stockCodeOf(mappedValue);
         
         if (isOrderBook) {
             log.info("종목 {} 호가 구독 해제 (세션: {})", stockCode, sessionId);
@@ -115,7 +125,7 @@ public class StockSubscriptionEventListener {
         } else {
             log.info("종목 {} 체결가 구독 해제 (세션: {})", stockCode, sessionId);
             // 세션 구독 목록에서 제거
-            subscriptionManager.removeSessionSubscription(sessionId, stockCode);
+            subscriptionManager.removeSessionSubscription(sessionId, mappedValue);
             subscriptionManager.decrementSubscribers(stockCode);
             
             if (!subscriptionManager.hasActiveReason(stockCode)) {
@@ -137,7 +147,7 @@ public class StockSubscriptionEventListener {
         subscribedStocks.forEach(mappedValue -> {
             // 호가 구독인지 체결가 구독인지 확인
             boolean isOrderBook = mappedValue.endsWith(":orderbook");
-            String stockCode = isOrderBook ? mappedValue.substring(0, mappedValue.length() - ":orderbook".length()) : mappedValue;
+            String stockCode = isOrderBook ? mappedValue.substring(0, mappedValue.length() - ":orderbook".length()) : stockCodeOf(mappedValue);
             
             if (isOrderBook) {
                 // 호가는 체결가와 독립적으로 관리
@@ -156,24 +166,30 @@ public class StockSubscriptionEventListener {
         subscriptionManager.removeSession(sessionId);
     }
     
-    // KIS 체결가 구독
+    // 체결가/분봉 구독 기록 → 종목코드
+    private String stockCodeOf(String mappedValue) {
+        int candlesIndex = mappedValue.indexOf(CANDLES_SUFFIX);
+        return candlesIndex >= 0 ? mappedValue.substring(0, candlesIndex) : mappedValue;
+    }
+    
+    // KIS 체결가 구독 (해제 대기 중이면 재사용)
     private void subscribeToKis(String stockCode) {
-        kisWebSocketClient.subscribe(stockCode);
+        lingerManager.acquirePrice(stockCode);
     }
     
-    // KIS 체결가 구독 해제
+    // KIS 체결가 구독 해제 (유지 시간 후)
     private void unsubscribeFromKis(String stockCode) {
-        kisWebSocketClient.unsubscribe(stockCode);
+        lingerManager.releasePrice(stockCode);
     }
     
-    // KIS 호가 구독
+    // KIS 호가 구독 (해제 대기 중이면 재사용)
     private void subscribeOrderBookToKis(String stockCode) {
-        kisWebSocketClient.subscribeOrderBook(stockCode);
+        lingerManager.acquireOrderBook(stockCode);
     }
     
-    // KIS 호가 구독 해제
+    // KIS 호가 구독 해제 (유지 시간 후)
     private void unsubscribeOrderBookFromKis(String stockCode) {
-        kisWebSocketClient.unsubscribeOrderBook(stockCode);
+        lingerManager.releaseOrderBook(stockCode);
     }
 }
 
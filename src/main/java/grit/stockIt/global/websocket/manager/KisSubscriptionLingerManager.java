@@ -0,0 +1,245 @@
+package grit.stockIt.global.websocket.manager;
+
+import grit.stockIt.global.websocket.client.KisWebSocketClient;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * KIS 실시간 구독/해제 요청을 지연(linger) 처리하는 관리자
+ * 참조가 0이 되어도 바로 해제하지 않고 일정 시간 유지한 뒤 해제하며,
+ * 유지 시간 안에 다시 구독되면 기존 KIS 구독을 그대로 재사용한다.
+ * 마지막 구독이 해제된 뒤에도 KIS 세션은 별도의 유지 시간 동안 열어 둔다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KisSubscriptionLingerManager {
+
+    private static final String PRICE = "price";
+    private static final String ORDER_BOOK = "orderbook";
+
+    private final KisWebSocketClient kisWebSocketClient;
+    private final WebSocketSubscriptionManager subscriptionManager;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${kis.websocket.unsubscribe-linger-seconds:30}")
+    private long unsubscribeLingerSeconds;
+
+    @Value("${kis.websocket.session-linger-seconds:60}")
+    private long sessionLingerSeconds;
+
+    // 릴레이 모드에서는 노드별 요청 대신 ClusterSubscriptionCoordinator가 합산 참조로 reconcile() 호출
+    @Value("${stream.relay.enabled:false}")
+    private boolean relayEnabled;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "kis-subscription-linger");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // "price:005930" / "orderbook:005930" -> 예약된 해제 작업
+    private final Map<String, PendingRelease> pendingReleases = new ConcurrentHashMap<>();
+    // reconcile()로 획득한 구독 키 (릴레이 모드 전용)
+    private final Set<String> reconciledKeys = new HashSet<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private ScheduledFuture<?> pendingDisconnect;
+
+    // 체결가 구독 획득
+    public synchronized void acquirePrice(String stockCode) {
+        if (relayEnabled) {
+            return;
+        }
+        acquire(PRICE, stockCode);
+    }
+
+    // 체결가 구독 반납 (유지 시간 후 해제)
+    public synchronized void releasePrice(String stockCode) {
+        if (relayEnabled) {
+            return;
+        }
+        release(PRICE, stockCode);
+    }
+
+    // 호가 구독 획득
+    public synchronized void acquireOrderBook(String stockCode) {
+        if (relayEnabled) {
+            return;
+        }
+        acquire(ORDER_BOOK, stockCode);
+    }
+
+    // 호가 구독 반납 (유지 시간 후 해제)
+    public synchronized void releaseOrderBook(String stockCode) {
+        if (relayEnabled) {
+            return;
+        }
+        release(ORDER_BOOK, stockCode);
+    }
+
+    // 클러스터 전체 참조 목록에 맞춰 KIS 구독을 획득/반납 (feed 리더 전용)
+    public synchronized void reconcile(Set<String> priceCodes, Set<String> orderBookCodes) {
+        Set<String> demanded = new HashSet<>();
+        priceCodes.forEach(code -> demanded.add(key(PRICE, code)));
+        orderBookCodes.forEach(code -> demanded.add(key(ORDER_BOOK, code)));
+
+        for (String key : demanded) {
+            if (reconciledKeys.add(key)) {
+                acquire(typeOf(key), codeOf(key));
+            }
+        }
+        for (String key : new HashSet<>(reconciledKeys)) {
+            if (!demanded.contains(key)) {
+                reconciledKeys.remove(key);
+                release(typeOf(key), codeOf(key));
+            }
+        }
+    }
+
+    // 유지 시간 없이 모든 KIS 구독을 즉시 해제 (feed 리더 지위 상실 시)
+    public synchronized void releaseAllNow() {
+        Set<String> keys = new HashSet<>(reconciledKeys);
+        keys.addAll(pendingReleases.keySet());
+        pendingReleases.values().forEach(pending -> pending.future().cancel(false));
+        pendingReleases.clear();
+        cancelPendingDisconnect();
+
+        for (String key : keys) {
+            if (PRICE.equals(typeOf(key))) {
+                kisWebSocketClient.unsubscribe(codeOf(key));
+            } else {
+                kisWebSocketClient.unsubscribeOrderBook(codeOf(key));
+            }
+            counter(typeOf(key), "unsubscribe").increment();
+        }
+        reconciledKeys.clear();
+        kisWebSocketClient.disconnectIfIdle();
+        log.info("KIS 구독 전체 즉시 해제 (feed 리더 아님)");
+    }
+
+    private void acquire(String type, String stockCode) {
+        cancelPendingDisconnect();
+
+        PendingRelease pending = pendingReleases.remove(key(type, stockCode));
+        if (pending != null) {
+            pending.future().cancel(false);
+            counter(type, "reuse").increment();
+            log.info("KIS {} 구독 재사용: {} (해제 대기 중 재구독)", type, stockCode);
+            return;
+        }
+
+        counter(type, "subscribe").increment();
+        if (PRICE.equals(type)) {
+            kisWebSocketClient.subscribe(stockCode);
+        } else {
+            kisWebSocketClient.subscribeOrderBook(stockCode);
+        }
+    }
+
+    private void release(String type, String stockCode) {
+        String key = key(type, stockCode);
+        if (pendingReleases.containsKey(key)) {
+            return;
+        }
+
+        long seq = sequence.incrementAndGet();
+        ScheduledFuture<?> future = scheduler.schedule(
+                () -> executeRelease(type, stockCode, seq), unsubscribeLingerSeconds, TimeUnit.SECONDS);
+        pendingReleases.put(key, new PendingRelease(seq, future));
+        log.debug("KIS {} 구독 해제 예약: {} ({}초 후)", type, stockCode, unsubscribeLingerSeconds);
+    }
+
+    private synchronized void executeRelease(String type, String stockCode, long seq) {
+        String key = key(type, stockCode);
+        PendingRelease pending = pendingReleases.get(key);
+        // 대기 중 재구독되었거나 새 해제 예약으로 대체된 경우 무시
+        if (pending == null || pending.seq() != seq) {
+            return;
+        }
+        pendingReleases.remove(key);
+
+        try {
+            if (PRICE.equals(type)) {
+                if (!relayEnabled && subscriptionManager.hasActiveReason(stockCode)) {
+                    log.debug("종목 {} 참조가 다시 생겨 구독 해제 취소", stockCode);
+                    return;
+                }
+                kisWebSocketClient.unsubscribe(stockCode);
+            } else {
+                kisWebSocketClient.unsubscribeOrderBook(stockCode);
+            }
+            counter(type, "unsubscribe").increment();
+        } catch (Exception e) {
+            log.error("KIS {} 구독 해제 실패: {}", type, stockCode, e);
+        }
+
+        scheduleDisconnectIfIdle();
+    }
+
+    // 남은 구독이 없으면 세션 유지 시간 후 연결 해제 예약
+    private void scheduleDisconnectIfIdle() {
+        if (!pendingReleases.isEmpty() || kisWebSocketClient.hasSubscriptions()) {
+            return;
+        }
+        cancelPendingDisconnect();
+        pendingDisconnect = scheduler.schedule(this::disconnectIfIdle, sessionLingerSeconds, TimeUnit.SECONDS);
+        log.info("구독 종목 없음. {}초 후 KIS 연결 해제 예약", sessionLingerSeconds);
+    }
+
+    private synchronized void disconnectIfIdle() {
+        pendingDisconnect = null;
+        if (!pendingReleases.isEmpty()) {
+            return;
+        }
+        if (kisWebSocketClient.disconnectIfIdle()) {
+            meterRegistry.counter("kis.session.disconnect", "reason", "idle").increment();
+        }
+    }
+
+    private void cancelPendingDisconnect() {
+        if (pendingDisconnect != null) {
+            pendingDisconnect.cancel(false);
+            pendingDisconnect = null;
+            log.debug("KIS 연결 해제 예약 취소 (새 구독 요청)");
+        }
+    }
+
+    private Counter counter(String type, String action) {
+        return meterRegistry.counter("kis.subscription.requests", "type", type, "action", action);
+    }
+
+    private String key(String type, String stockCode) {
+        return type + ":" + stockCode;
+    }
+
+    private String typeOf(String key) {
+        return key.substring(0, key.indexOf(':'));
+    }
+
+    private String codeOf(String key) {
+        return key.substring(key.indexOf(':') + 1);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    private record PendingRelease(long seq, ScheduledFuture<?> future) {
+    }
+}
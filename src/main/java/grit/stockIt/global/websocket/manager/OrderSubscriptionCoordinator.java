@@ -1,6 +1,5 @@
 package grit.stockIt.global.websocket.manager;
 
-import grit.stockIt.global.websocket.client.KisWebSocketClient;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -14,7 +13,7 @@ import org.springframework.stereotype.Component;
 public class OrderSubscriptionCoordinator {
 
     private final WebSocketSubscriptionManager subscriptionManager;
-    private final KisWebSocketClient kisWebSocketClient;
+    private final KisSubscriptionLingerManager lingerManager;
 
     // 지정가 주문이 등록될 때 호출
     public void registerLimitOrder(String stockCode) {
@@ -25,7 +24,7 @@ public class OrderSubscriptionCoordinator {
 
         if (!alreadyActive) {
             log.info("종목 {} 실시간 구독 시작 (주문 등록으로 인한 활성화)", stockCode);
-            kisWebSocketClient.subscribe(stockCode);
+            lingerManager.acquirePrice(stockCode);
         }
     }
 
@@ -36,8 +35,8 @@ public class OrderSubscriptionCoordinator {
                 stockCode, remaining, subscriptionManager.getSubscriberCount(stockCode));
 
         if (!subscriptionManager.hasActiveReason(stockCode)) {
-            log.info("종목 {} 실시간 구독 해제 (주문 참조 및 뷰어 모두 없음)", stockCode);
-            kisWebSocketClient.unsubscribe(stockCode);
+            log.info("종목 {} 실시간 구독 해제 예약 (주문 참조 및 뷰어 모두 없음)", stockCode);
+            lingerManager.releasePrice(stockCode);
         }
     }
 }
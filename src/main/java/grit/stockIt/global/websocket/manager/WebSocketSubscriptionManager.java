@@ -13,6 +13,8 @@ import java.util.concurrent.atomic.AtomicInteger;
 @Component
 public class WebSocketSubscriptionManager {
     
+    private static final String ORDER_BOOK_SUFFIX = ":orderbook";
+    
     // 종목코드 -> 실시간 화면 구독자 수
     private final Map<String, AtomicInteger> viewerCounts = new ConcurrentHashMap<>();
     
@@ -137,6 +139,16 @@ public class WebSocketSubscriptionManager {
         return allStocks;
     }
     
+    // 현재 호가를 구독 중인 모든 종목 코드 (세션 구독 기록 기준)
+    public Set<String> getAllOrderBookStocks() {
+        Set<String> orderBookStocks = ConcurrentHashMap.newKeySet();
+        sessionSubscriptions.values().forEach(stocks -> stocks.stream()
+                .filter(value -> value.endsWith(ORDER_BOOK_SUFFIX))
+                .map(value -> value.substring(0, value.length() - ORDER_BOOK_SUFFIX.length()))
+                .forEach(orderBookStocks::add));
+        return orderBookStocks;
+    }
+    
     // subscriptionId → stockCode 매핑 저장
     public void addSubscriptionMapping(String subscriptionId, String stockCode) {
         subscriptionIdToStockCode.put(subscriptionId, stockCode);
@@ -0,0 +1,302 @@
+package grit.stockIt.global.websocket.pipeline;
+
+import grit.stockIt.domain.matching.event.LimitOrderFillEventMessage;
+import grit.stockIt.domain.stock.dto.StockCandleUpdateDto;
+import grit.stockIt.domain.stock.dto.StockOrderBookDto;
+import grit.stockIt.domain.stock.dto.StockPriceUpdateDto;
+import grit.stockIt.global.metrics.TickLatencyMetrics;
+import grit.stockIt.global.websocket.relay.MarketDataBroadcaster;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * KIS 수신 데이터 처리 파이프라인 (parse → broadcast → match)
+ * 파싱은 웹소켓 수신 스레드에서 수행하고, I/O가 필요한 단계는 전용 스레드로 넘겨
+ * DB/Redis 지연이 KIS 소켓 수신을 막지 않도록 한다.
+ * - broadcast: 종목별 최신 시세/호가/진행 중 분봉만 유지 (밀리면 이전 값은 덮어씀), 확정 분봉은 버리지 않음
+ *   (큐 대기, 수신 → 전송 완료 지연을 함께 기록)
+ * - match: 종목코드 해시로 파티션을 나눠 순서를 유지하며, 체결 이벤트는 절대 버리지 않음
+ *   (bounded 큐 → 무제한 overflow 큐, 수신 스레드는 대기하지 않고 overflow가 경고 기준을 넘으면 알림)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KisInboundPipeline {
+
+    private static final String PRICE_KEY_PREFIX = "price:";
+    private static final String ORDER_BOOK_KEY_PREFIX = "orderbook:";
+    private static final String CANDLE_KEY_PREFIX = "candle:";
+    private static final String CLOSED_CANDLE_KEY = "candle-closed";
+    private static final long POLL_TIMEOUT_MILLIS = 200;
+
+    private final MarketDataBroadcaster marketDataBroadcaster;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final MeterRegistry meterRegistry;
+    private final TickLatencyMetrics tickLatencyMetrics;
+
+    @Value("${kis.pipeline.match-partitions:4}")
+    private int matchPartitions;
+
+    @Value("${kis.pipeline.match-queue-capacity:5000}")
+    private int matchQueueCapacity;
+
+    @Value("${kis.pipeline.match-overflow-alert-threshold:50000}")
+    private int matchOverflowAlertThreshold;
+
+    // broadcast 단계: 종목별 최신 값 (conflation, 값마다 수신 시각) + 전송 대기 키 (키마다 적재 시각)
+    private final Map<String, Pending<StockPriceUpdateDto>> pendingPrices = new ConcurrentHashMap<>();
+    private final Map<String, Pending<StockOrderBookDto>> pendingOrderBooks = new ConcurrentHashMap<>();
+    private final Map<String, Pending<StockCandleUpdateDto>> pendingCandles = new ConcurrentHashMap<>(); // "종목:분단위:봉시각" -> 진행 중 봉
+    private final Queue<Pending<StockCandleUpdateDto>> closedCandles = new ConcurrentLinkedQueue<>();
+    private final BlockingQueue<BroadcastKey> broadcastQueue = new LinkedBlockingQueue<>();
+
+    // match 단계: 파티션별 bounded 큐 + 넘친 이벤트 보관용 무제한 큐
+    // overflow에 이벤트가 있는 동안은 새 이벤트도 overflow로 보내므로 main 큐의 이벤트가 항상 더 오래됨 (main → overflow 순으로 꺼내면 FIFO)
+    private final List<BlockingQueue<QueuedFill>> matchQueues = new ArrayList<>();
+    private final List<BlockingQueue<QueuedFill>> overflowQueues = new ArrayList<>();
+
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running;
+
+    private Counter conflatedCounter;
+    private Counter broadcastCounter;
+    private Counter matchCounter;
+    private Counter overflowCounter;
+    private Counter overflowAlertCounter;
+
+    @PostConstruct
+    public void start() {
+        conflatedCounter = meterRegistry.counter("kis.pipeline.conflated", "stage", "broadcast");
+        broadcastCounter = meterRegistry.counter("kis.pipeline.processed", "stage", "broadcast");
+        matchCounter = meterRegistry.counter("kis.pipeline.processed", "stage", "match");
+        overflowCounter = meterRegistry.counter("kis.pipeline.overflow", "stage", "match");
+        overflowAlertCounter = meterRegistry.counter("kis.pipeline.overflow.alert", "stage", "match");
+        meterRegistry.gauge("kis.pipeline.queue.size", List.of(Tag.of("stage", "broadcast")),
+                broadcastQueue, BlockingQueue::size);
+        meterRegistry.gauge("kis.pipeline.queue.size", List.of(Tag.of("stage", "match")),
+                this, pipeline -> pipeline.pendingMatchCount());
+
+        running = true;
+        startWorker("kis-broadcast", this::runBroadcastLoop);
+        for (int i = 0; i < matchPartitions; i++) {
+            matchQueues.add(new LinkedBlockingQueue<>(matchQueueCapacity));
+            overflowQueues.add(new LinkedBlockingQueue<>());
+            int partition = i;
+            startWorker("kis-match-" + i, () -> runMatchLoop(partition));
+        }
+        log.info("KIS 수신 파이프라인 시작: match 파티션 {}개 (큐 용량 {}, overflow 경고 기준 {})",
+                matchPartitions, matchQueueCapacity, matchOverflowAlertThreshold);
+    }
+
+    // 체결가 전송 요청 (밀린 경우 최신 값으로 덮어씀)
+    public void publishPrice(StockPriceUpdateDto updateDto) {
+        publishPrice(updateDto, System.nanoTime());
+    }
+
+    // receivedNanos: KIS 메시지 수신 시각 (System.nanoTime)
+    public void publishPrice(StockPriceUpdateDto updateDto, long receivedNanos) {
+        if (pendingPrices.put(updateDto.stockCode(), new Pending<>(updateDto, receivedNanos)) == null) {
+            enqueueBroadcast(PRICE_KEY_PREFIX + updateDto.stockCode());
+        } else {
+            conflatedCounter.increment();
+        }
+    }
+
+    // 호가 전송 요청 (밀린 경우 최신 값으로 덮어씀)
+    public void publishOrderBook(StockOrderBookDto orderBookDto) {
+        publishOrderBook(orderBookDto, System.nanoTime());
+    }
+
+    // receivedNanos: KIS 메시지 수신 시각 (System.nanoTime)
+    public void publishOrderBook(StockOrderBookDto orderBookDto, long receivedNanos) {
+        if (pendingOrderBooks.put(orderBookDto.stockCode(), new Pending<>(orderBookDto, receivedNanos)) == null) {
+            enqueueBroadcast(ORDER_BOOK_KEY_PREFIX + orderBookDto.stockCode());
+        } else {
+            conflatedCounter.increment();
+        }
+    }
+
+    // 분봉 전송 요청 (진행 중 봉은 최신 값으로 덮어쓰고, 확정 봉은 순서대로 모두 전송)
+    // 진행 중 봉은 봉 시각별로 키를 잡아, 다음 봉의 진행 값이 이전 봉 확정 메시지보다 먼저 나가지 않도록 함
+    // 분봉은 체결 수신 스레드(또는 봉 확정 스케줄러)에서 바로 만들어지므로 요청 시각을 수신 시각으로 봄
+    public void publishCandle(StockCandleUpdateDto candle) {
+        String key = candle.stockCode() + ":" + candle.interval() + ":" + candle.time();
+        Pending<StockCandleUpdateDto> pending = new Pending<>(candle, System.nanoTime());
+        if (candle.closed()) {
+            // 아직 안 나간 같은 봉의 진행 값은 확정 값으로 대체
+            pendingCandles.remove(key);
+            closedCandles.add(pending);
+            enqueueBroadcast(CLOSED_CANDLE_KEY);
+            return;
+        }
+        if (pendingCandles.put(key, pending) == null) {
+            enqueueBroadcast(CANDLE_KEY_PREFIX + key);
+        } else {
+            conflatedCounter.increment();
+        }
+    }
+
+    // 체결 이벤트 매칭 요청 (KIS 수신 스레드를 대기시키지 않고, 체결 이벤트는 버리지 않음)
+    // - 큐가 가득 차면 overflow 큐에 보관 (overflow가 비기 전까지는 새 이벤트도 overflow로 → 파티션 내 FIFO 유지)
+    // - overflow는 무제한이며, 경고 기준의 배수에 도달할 때마다 알림 (매칭 단계가 수신 속도를 못 따라가는 상황)
+    public void publishFill(LimitOrderFillEventMessage message) {
+        int partition = Math.floorMod(message.stockCode().hashCode(), matchPartitions);
+        BlockingQueue<QueuedFill> overflow = overflowQueues.get(partition);
+        QueuedFill queuedFill = new QueuedFill(message, System.nanoTime());
+        int overflowSize;
+        synchronized (overflow) {
+            if (overflow.isEmpty() && matchQueues.get(partition).offer(queuedFill)) {
+                return;
+            }
+            overflow.add(queuedFill);
+            overflowSize = overflow.size();
+        }
+        overflowCounter.increment();
+        if (overflowSize % matchOverflowAlertThreshold == 0) {
+            overflowAlertCounter.increment();
+            log.warn("지정가 매칭 overflow 큐 적체 {}건. 매칭 단계 처리 지연: stockCode={}, partition={}",
+                    overflowSize, message.stockCode(), partition);
+        }
+    }
+
+    private void runBroadcastLoop() {
+        while (running) {
+            try {
+                BroadcastKey queued = broadcastQueue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (queued == null) {
+                    continue;
+                }
+                String key = queued.key();
+                if (key.startsWith(PRICE_KEY_PREFIX)) {
+                    Pending<StockPriceUpdateDto> pending = pendingPrices.remove(key.substring(PRICE_KEY_PREFIX.length()));
+                    if (pending != null) {
+                        send(queued, pending, pending.payload().stockCode(), marketDataBroadcaster::sendPrice);
+                    }
+                } else if (key.startsWith(ORDER_BOOK_KEY_PREFIX)) {
+                    Pending<StockOrderBookDto> pending = pendingOrderBooks.remove(key.substring(ORDER_BOOK_KEY_PREFIX.length()));
+                    if (pending != null) {
+                        send(queued, pending, pending.payload().stockCode(), marketDataBroadcaster::sendOrderBook);
+                    }
+                } else if (key.startsWith(CANDLE_KEY_PREFIX)) {
+                    Pending<StockCandleUpdateDto> pending = pendingCandles.remove(key.substring(CANDLE_KEY_PREFIX.length()));
+                    if (pending != null) {
+                        send(queued, pending, pending.payload().stockCode(), marketDataBroadcaster::sendCandle);
+                    }
+                } else {
+                    Pending<StockCandleUpdateDto> pending = closedCandles.poll();
+                    if (pending != null) {
+                        send(queued, pending, pending.payload().stockCode(), marketDataBroadcaster::sendCandle);
+                    }
+                }
+                broadcastCounter.increment();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("시세 브로드캐스트 실패", e);
+            }
+        }
+    }
+
+    private void enqueueBroadcast(String key) {
+        broadcastQueue.offer(new BroadcastKey(key, System.nanoTime()));
+    }
+
+    // 전송하며 큐 대기 / 전송 / 수신 → 전송 완료 지연 기록
+    private <T> void send(BroadcastKey queued, Pending<T> pending, String stockCode, Consumer<T> sender) {
+        long startNanos = System.nanoTime();
+        tickLatencyMetrics.recordNanos(TickLatencyMetrics.KIS_BROADCAST_QUEUE_WAIT, stockCode, startNanos - queued.enqueuedNanos());
+        sender.accept(pending.payload());
+        tickLatencyMetrics.recordSince(TickLatencyMetrics.KIS_STOMP_SEND, stockCode, startNanos);
+        tickLatencyMetrics.recordSince(TickLatencyMetrics.KIS_END_TO_END, stockCode, pending.receivedNanos());
+    }
+
+    private void runMatchLoop(int partition) {
+        BlockingQueue<QueuedFill> queue = matchQueues.get(partition);
+        BlockingQueue<QueuedFill> overflow = overflowQueues.get(partition);
+        while (running || !queue.isEmpty() || !overflow.isEmpty()) {
+            try {
+                // main 큐가 overflow보다 항상 오래된 이벤트이므로 main → overflow 순으로 대기 없이 꺼내고, 둘 다 비었을 때만 대기
+                QueuedFill queuedFill = queue.poll();
+                if (queuedFill == null) {
+                    queuedFill = overflow.poll();
+                }
+                if (queuedFill == null) {
+                    queuedFill = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                }
+                if (queuedFill == null) {
+                    continue;
+                }
+                tickLatencyMetrics.recordSince(TickLatencyMetrics.KIS_MATCH_QUEUE_WAIT,
+                        queuedFill.message().stockCode(), queuedFill.enqueuedNanos());
+                applicationEventPublisher.publishEvent(queuedFill.message());
+                matchCounter.increment();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("지정가 매칭 단계 처리 실패. partition={}", partition, e);
+            }
+        }
+    }
+
+    private int pendingMatchCount() {
+        int count = 0;
+        for (int i = 0; i < matchQueues.size(); i++) {
+            count += matchQueues.get(i).size() + overflowQueues.get(i).size();
+        }
+        return count;
+    }
+
+    private void startWorker(String name, Runnable loop) {
+        Thread thread = new Thread(loop, name);
+        thread.setDaemon(true);
+        thread.start();
+        workers.add(thread);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        for (Thread worker : workers) {
+            try {
+                // 남은 체결 이벤트를 처리할 시간을 준 뒤 종료
+                worker.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        log.info("KIS 수신 파이프라인 종료. 미처리 체결 이벤트 {}건", pendingMatchCount());
+    }
+
+    private record QueuedFill(LimitOrderFillEventMessage message, long enqueuedNanos) {
+    }
+
+    // 전송 대기 값 (receivedNanos: KIS 수신 시각, 덮어쓰면 최신 값의 수신 시각)
+    private record Pending<T>(T payload, long receivedNanos) {
+    }
+
+    // 전송 대기 키 (enqueuedNanos: broadcast 큐 적재 시각)
+    private record BroadcastKey(String key, long enqueuedNanos) {
+    }
+}
@@ -0,0 +1,22 @@
+package grit.stockIt.global.websocket.relay;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * 클러스터에서 한 노드만 실행해야 하는 주기 작업(스냅샷 기록, 순위 구간 감지, 차트 사전 적재 등)의 실행 여부
+ * - 릴레이 모드: feed 리더 노드만
+ * - 단일 노드(릴레이 비활성): 항상 실행
+ */
+@Component
+@RequiredArgsConstructor
+public class ClusterLeadership {
+
+    private final ObjectProvider<MarketFeedLeaderElector> leaderElectorProvider;
+
+    public boolean isLeader() {
+        MarketFeedLeaderElector leaderElector = leaderElectorProvider.getIfAvailable();
+        return leaderElector == null || leaderElector.isLeader();
+    }
+}
@@ -0,0 +1,155 @@
+package grit.stockIt.global.websocket.relay;
+
+import grit.stockIt.global.websocket.manager.KisSubscriptionLingerManager;
+import grit.stockIt.global.websocket.manager.WebSocketSubscriptionManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 노드별 구독 참조 수를 Redis에 모아 클러스터 전체 기준으로 KIS 구독을 관리
+ * 각 노드는 자신의 뷰어/주문 참조 수를 ws:feed:demand:{nodeId} 해시에 주기적으로 게시하고,
+ * feed 리더는 살아 있는 노드들의 참조를 합산하여 KIS 구독 목록을 맞춘다.
+ * 웹 노드가 늘어나도 KIS 구독은 종목당 하나로 유지된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "stream.relay.enabled", havingValue = "true")
+public class ClusterSubscriptionCoordinator {
+
+    private static final String NODES_KEY = "ws:feed:nodes";
+    private static final String DEMAND_KEY_PATTERN = "ws:feed:demand:%s";
+    private static final String PRICE_PREFIX = "price:";
+    private static final String ORDER_BOOK_PREFIX = "orderbook:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final MarketFeedLeaderElector leaderElector;
+    private final WebSocketSubscriptionManager subscriptionManager;
+    private final KisSubscriptionLingerManager lingerManager;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${stream.relay.demand-ttl-seconds:10}")
+    private long demandTtlSeconds;
+
+    private final Set<String> publishedFields = new HashSet<>();
+    private boolean wasLeader;
+    private final AtomicInteger clusterPriceDemand = new AtomicInteger();
+    private final AtomicInteger clusterOrderBookDemand = new AtomicInteger();
+
+    @Scheduled(fixedDelayString = "${stream.relay.sync-interval-ms:2000}")
+    public void synchronize() {
+        try {
+            // 임대 갱신은 MarketFeedLeaderElector 전용 스레드에서 수행, 여기서는 결과만 확인
+            boolean leader = leaderElector.isLeader();
+            if (wasLeader && !leader) {
+                // 리더 지위를 잃으면 즉시 KIS 구독을 모두 내려놓음 (새 리더와 중복 수신 방지)
+                lingerManager.releaseAllNow();
+            }
+            wasLeader = leader;
+
+            publishLocalDemand();
+
+            if (leader) {
+                reconcileClusterDemand();
+            }
+        } catch (Exception e) {
+            log.error("클러스터 구독 동기화 실패", e);
+        }
+    }
+
+    // 이 노드의 참조 수를 Redis에 게시
+    private void publishLocalDemand() {
+        Map<String, String> demand = new HashMap<>();
+        for (String stockCode : subscriptionManager.getAllSubscribedStocks()) {
+            int references = subscriptionManager.getSubscriberCount(stockCode)
+                    + subscriptionManager.getOrderReferenceCount(stockCode);
+            if (references > 0) {
+                demand.put(PRICE_PREFIX + stockCode, String.valueOf(references));
+            }
+        }
+        for (String stockCode : subscriptionManager.getAllOrderBookStocks()) {
+            demand.put(ORDER_BOOK_PREFIX + stockCode, "1");
+        }
+
+        String demandKey = String.format(DEMAND_KEY_PATTERN, leaderElector.getNodeId());
+        if (!demand.isEmpty()) {
+            redisTemplate.opsForHash().putAll(demandKey, demand);
+        }
+
+        Set<String> staleFields = new HashSet<>(publishedFields);
+        staleFields.removeAll(demand.keySet());
+        if (!staleFields.isEmpty()) {
+            redisTemplate.opsForHash().delete(demandKey, staleFields.toArray());
+        }
+        publishedFields.clear();
+        publishedFields.addAll(demand.keySet());
+
+        redisTemplate.expire(demandKey, Duration.ofSeconds(demandTtlSeconds));
+        redisTemplate.opsForSet().add(NODES_KEY, leaderElector.getNodeId());
+    }
+
+    // 살아 있는 노드의 참조를 합산하여 KIS 구독 목록을 맞춤 (리더 전용)
+    private void reconcileClusterDemand() {
+        Set<String> nodes = redisTemplate.opsForSet().members(NODES_KEY);
+        if (nodes == null) {
+            return;
+        }
+
+        Map<String, Integer> priceDemand = new HashMap<>();
+        Set<String> orderBookDemand = new HashSet<>();
+        for (String nodeId : nodes) {
+            String demandKey = String.format(DEMAND_KEY_PATTERN, nodeId);
+            Map<Object, Object> entries = redisTemplate.opsForHash().entries(demandKey);
+            if (entries.isEmpty()) {
+                // 참조가 없거나 TTL 만료(노드 종료)된 경우 노드 목록에서 제거
+                if (!Boolean.TRUE.equals(redisTemplate.hasKey(demandKey))) {
+                    redisTemplate.opsForSet().remove(NODES_KEY, nodeId);
+                }
+                continue;
+            }
+            entries.forEach((field, value) -> {
+                String key = field.toString();
+                if (key.startsWith(PRICE_PREFIX)) {
+                    priceDemand.merge(key.substring(PRICE_PREFIX.length()), parseCount(value), Integer::sum);
+                } else if (key.startsWith(ORDER_BOOK_PREFIX)) {
+                    orderBookDemand.add(key.substring(ORDER_BOOK_PREFIX.length()));
+                }
+            });
+        }
+
+        clusterPriceDemand.set(priceDemand.values().stream().mapToInt(Integer::intValue).sum());
+        clusterOrderBookDemand.set(orderBookDemand.size());
+        lingerManager.reconcile(priceDemand.keySet(), orderBookDemand);
+    }
+
+    private int parseCount(Object value) {
+        try {
+            return Integer.parseInt(value.toString());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    @PostConstruct
+    public void registerGauges() {
+        meterRegistry.gauge("ws.feed.cluster.demand", List.of(Tag.of("type", "price")), clusterPriceDemand);
+        meterRegistry.gauge("ws.feed.cluster.demand", List.of(Tag.of("type", "orderbook")), clusterOrderBookDemand);
+        meterRegistry.gauge("ws.feed.leader", leaderElector, elector -> elector.isLeader() ? 1 : 0);
+    }
+}
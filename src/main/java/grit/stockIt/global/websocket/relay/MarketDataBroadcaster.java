@@ -0,0 +1,87 @@
+package grit.stockIt.global.websocket.relay;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import grit.stockIt.domain.stock.dto.StockCandleUpdateDto;
+import grit.stockIt.domain.stock.dto.StockOrderBookDto;
+import grit.stockIt.domain.stock.dto.StockPriceUpdateDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * KIS 실시간 시세/호가를 STOMP 토픽으로 내보내는 창구
+ * 단일 노드 모드에서는 로컬 브로커로 바로 전송하고,
+ * 릴레이 모드(stream.relay.enabled=true)에서는 Redis Stream에 적재하여
+ * 모든 웹 노드의 MarketFeedRelayConsumer가 각자의 로컬 브로커로 전달한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MarketDataBroadcaster {
+
+    public static final String FEED_STREAM_KEY = "ws:feed:stream";
+    static final String FIELD_DESTINATION = "destination";
+    static final String FIELD_PAYLOAD = "payload";
+    private static final long TRIM_INTERVAL = 1000;
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${stream.relay.enabled:false}")
+    private boolean relayEnabled;
+
+    @Value("${stream.relay.max-length:10000}")
+    private long maxLength;
+
+    private final AtomicLong appendCount = new AtomicLong();
+
+    // 체결가 전송
+    public void sendPrice(StockPriceUpdateDto updateDto) {
+        send("/topic/stock/" + updateDto.stockCode(), updateDto);
+    }
+
+    // 호가 전송
+    public void sendOrderBook(StockOrderBookDto orderBookDto) {
+        send("/topic/stock/" + orderBookDto.stockCode() + "/orderbook", orderBookDto);
+    }
+
+    // 분봉 전송 (진행 중 봉 / 확정 봉)
+    public void sendCandle(StockCandleUpdateDto candle) {
+        send("/topic/stock/" + candle.stockCode() + "/candles/" + candle.interval(), candle);
+    }
+
+    public boolean isRelayEnabled() {
+        return relayEnabled;
+    }
+
+    private void send(String destination, Object payload) {
+        if (!relayEnabled) {
+            messagingTemplate.convertAndSend(destination, payload);
+            return;
+        }
+
+        try {
+            String json = objectMapper.writeValueAsString(payload);
+            MapRecord<String, String, String> record = StreamRecords.newRecord()
+                    .in(FEED_STREAM_KEY)
+                    .ofMap(Map.of(FIELD_DESTINATION, destination, FIELD_PAYLOAD, json));
+            redisTemplate.opsForStream().add(record);
+
+            // 스트림 길이 제한 (매 건마다 XTRIM 하지 않도록 일정 간격으로 근사 트리밍)
+            if (appendCount.incrementAndGet() % TRIM_INTERVAL == 0) {
+                redisTemplate.opsForStream().trim(FEED_STREAM_KEY, maxLength, true);
+            }
+        } catch (Exception e) {
+            log.error("시세 릴레이 적재 실패: {}", destination, e);
+        }
+    }
+}
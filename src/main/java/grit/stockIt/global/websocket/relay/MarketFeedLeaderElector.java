@@ -0,0 +1,129 @@
+package grit.stockIt.global.websocket.relay;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * KIS 세션을 소유할 feed 노드를 Redis 임대(lease)로 선출
+ * 리더만 KIS 웹소켓을 열고, 나머지 노드는 Redis Stream으로 시세를 받는다.
+ * 임대 갱신은 다른 @Scheduled 작업에 밀리지 않도록 전용 스레드에서 임대 시간의 1/3 주기로 수행하고,
+ * 마지막 갱신 성공 후 임대 시간이 지나면 갱신 스레드가 멈췄더라도 리더가 아닌 것으로 본다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "stream.relay.enabled", havingValue = "true")
+public class MarketFeedLeaderElector {
+
+    private static final String LEADER_KEY = "ws:feed:leader";
+    private static final DefaultRedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            """
+                    if redis.call('get', KEYS[1]) == ARGV[1] then
+                        return redis.call('pexpire', KEYS[1], ARGV[2])
+                    else
+                        return 0
+                    end
+                    """,
+            Long.class
+    );
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            """
+                    if redis.call('get', KEYS[1]) == ARGV[1] then
+                        return redis.call('del', KEYS[1])
+                    else
+                        return 0
+                    end
+                    """,
+            Long.class
+    );
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${stream.relay.leader-lease-seconds:15}")
+    private long leaseSeconds;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private volatile boolean leader;
+    private volatile long leaseExpiresAtNanos;
+
+    private ScheduledExecutorService leaseScheduler;
+
+    @PostConstruct
+    public void start() {
+        long intervalMillis = Math.max(1_000L, Duration.ofSeconds(leaseSeconds).toMillis() / 3);
+        leaseScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "feed-leader-lease");
+            thread.setDaemon(true);
+            return thread;
+        });
+        leaseScheduler.scheduleWithFixedDelay(this::renewOrAcquire, 0, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (leaseScheduler != null) {
+            leaseScheduler.shutdownNow();
+        }
+        if (leader) {
+            // 다음 리더가 임대 만료를 기다리지 않도록 반납
+            try {
+                redisTemplate.execute(RELEASE_SCRIPT, List.of(LEADER_KEY), nodeId);
+            } catch (Exception e) {
+                log.warn("feed 리더 임대 반납 실패. nodeId={}", nodeId, e);
+            }
+            leader = false;
+        }
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public boolean isLeader() {
+        return leader && System.nanoTime() < leaseExpiresAtNanos;
+    }
+
+    // 임대 갱신 또는 획득 시도. 리더 여부가 바뀌었으면 true 반환
+    public boolean renewOrAcquire() {
+        boolean wasLeader = leader;
+        long attemptedAt = System.nanoTime();
+        try {
+            if (wasLeader) {
+                Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(LEADER_KEY),
+                        nodeId, String.valueOf(Duration.ofSeconds(leaseSeconds).toMillis()));
+                leader = renewed != null && renewed > 0;
+            } else {
+                Boolean acquired = redisTemplate.opsForValue()
+                        .setIfAbsent(LEADER_KEY, nodeId, Duration.ofSeconds(leaseSeconds));
+                leader = Boolean.TRUE.equals(acquired);
+            }
+        } catch (Exception e) {
+            // Redis 장애 시 리더 지위를 유지하지 않음 (다른 노드와 중복 구독 방지)
+            log.error("feed 리더 임대 갱신 실패. nodeId={}", nodeId, e);
+            leader = false;
+        }
+        if (leader) {
+            leaseExpiresAtNanos = attemptedAt + Duration.ofSeconds(leaseSeconds).toNanos();
+        }
+
+        if (wasLeader != leader) {
+            log.info("feed 리더 상태 변경: {} → {} (nodeId={})", wasLeader, leader, nodeId);
+            return true;
+        }
+        return false;
+    }
+}
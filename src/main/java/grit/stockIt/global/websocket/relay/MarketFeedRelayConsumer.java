@@ -0,0 +1,68 @@
+package grit.stockIt.global.websocket.relay;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Redis Stream에 적재된 시세/호가를 로컬 STOMP 브로커로 전달
+ * 소비 그룹 없이 모든 노드가 같은 스트림을 각자 끝에서부터 읽는다 (fan-out).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "stream.relay.enabled", havingValue = "true")
+public class MarketFeedRelayConsumer {
+
+    private final RedisConnectionFactory connectionFactory;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectMapper objectMapper;
+
+    private StreamMessageListenerContainer<String, MapRecord<String, String, String>> container;
+
+    @PostConstruct
+    public void start() {
+        var options = StreamMessageListenerContainer.StreamMessageListenerContainerOptions.builder()
+                .pollTimeout(Duration.ofSeconds(1))
+                .batchSize(500)
+                .errorHandler(e -> log.error("시세 릴레이 스트림 수신 오류", e))
+                .build();
+        container = StreamMessageListenerContainer.create(connectionFactory, options);
+        container.receive(StreamOffset.latest(MarketDataBroadcaster.FEED_STREAM_KEY), this::relay);
+        container.start();
+        log.info("시세 릴레이 스트림 수신 시작: {}", MarketDataBroadcaster.FEED_STREAM_KEY);
+    }
+
+    private void relay(MapRecord<String, String, String> record) {
+        try {
+            String destination = record.getValue().get(MarketDataBroadcaster.FIELD_DESTINATION);
+            String payload = record.getValue().get(MarketDataBroadcaster.FIELD_PAYLOAD);
+            if (destination == null || payload == null) {
+                return;
+            }
+            JsonNode body = objectMapper.readTree(payload);
+            messagingTemplate.convertAndSend(destination, body);
+        } catch (Exception e) {
+            log.error("시세 릴레이 전달 실패: {}", record.getId(), e);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (container != null) {
+            container.stop();
+        }
+    }
+}
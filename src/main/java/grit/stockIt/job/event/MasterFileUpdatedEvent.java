@@ -0,0 +1,7 @@
+package grit.stockIt.job.event;
+
+// 종목 마스터 파일 업데이트 완료 이벤트 (종목 추가/변경/소프트 삭제 반영 후)
+public record MasterFileUpdatedEvent(
+        int activeStockCount // KOSPI + KOSDAQ 활성 종목 수
+) {
+}
@@ -5,10 +5,12 @@ import grit.stockIt.domain.industry.repository.IndustryRepository;
 import grit.stockIt.domain.stock.entity.Stock;
 import grit.stockIt.domain.stock.repository.StockRepository;
 import grit.stockIt.job.dto.MstRecord;
+import grit.stockIt.job.event.MasterFileUpdatedEvent;
 import grit.stockIt.job.util.MstFileDownloader;
 import grit.stockIt.job.util.MstFileParser;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.io.Resource;
 import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -35,6 +37,7 @@ public class MasterFileUpdateService {
 
     private final DataSource dataSource;
     private final ApplicationContext applicationContext;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 매일 새벽 4시에 실행
     @Scheduled(cron = "0 0 4 * * *")
@@ -49,6 +52,9 @@ public class MasterFileUpdateService {
             softDeleteInactiveStocks("KOSPI", activeKospiStocks);
             softDeleteInactiveStocks("KOSDAQ", activeKosdaqStocks);
 
+            // 종목 검색 인덱스 등 종목 목록 캐시 갱신 (커밋 후 처리)
+            eventPublisher.publishEvent(new MasterFileUpdatedEvent(activeKospiStocks.size() + activeKosdaqStocks.size()));
+
             log.info("종목 마스터 파일 업데이트 작업을 완료했습니다.");
         } catch (Exception e) {
             log.error("종목 마스터 파일 업데이트 작업 중 예상치 못한 오류 발생", e);
@@ -0,0 +1,7 @@
+-- Add denormalized tier snapshot column to member table (nullable, filled by application)
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM information_schema.columns WHERE table_name = 'member' AND column_name = 'tier') THEN
+        ALTER TABLE member ADD COLUMN tier VARCHAR(32);
+    END IF;
+END $$;
@@ -0,0 +1,24 @@
+-- =============================================
+-- 랭킹 스냅샷 테이블 (주기적 순위 기록, 보관 기간 경과 시 삭제)
+-- =============================================
+CREATE TABLE IF NOT EXISTS ranking_snapshot (
+    ranking_snapshot_id BIGSERIAL PRIMARY KEY,
+    scope               VARCHAR(32)    NOT NULL, -- 'main' | 'contest-{contestId}'
+    captured_at         TIMESTAMP      NOT NULL,
+    account_id          BIGINT         NOT NULL,
+    member_id           BIGINT         NOT NULL,
+    total_assets        NUMERIC(19, 2) NOT NULL,
+    total_assets_rank   INTEGER        NOT NULL,
+    return_rate         NUMERIC(9, 2),
+    return_rate_rank    INTEGER
+);
+
+-- 시점별 상위 N명 조회
+-- WHERE scope = ? AND captured_at BETWEEN ? AND ? AND total_assets_rank <= ?
+CREATE INDEX IF NOT EXISTS idx_ranking_snapshot_scope_time
+ON ranking_snapshot (scope, captured_at, total_assets_rank);
+
+-- 회원별 순위 변화 조회
+-- WHERE member_id = ? AND scope = ? AND captured_at BETWEEN ? AND ?
+CREATE INDEX IF NOT EXISTS idx_ranking_snapshot_member_time
+ON ranking_snapshot (member_id, scope, captured_at);
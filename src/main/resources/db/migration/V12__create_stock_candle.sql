@@ -0,0 +1,22 @@
+-- =============================================
+-- 과거 캔들 저장소 (종목/봉 단위/일자별 1행, 지난 봉은 다시 받지 않음)
+-- =============================================
+CREATE TABLE IF NOT EXISTS stock_candle (
+    stock_candle_id BIGSERIAL PRIMARY KEY,
+    stock_code      VARCHAR(20) NOT NULL,
+    interval_type   VARCHAR(2)  NOT NULL,
+    candle_date     DATE        NOT NULL,
+    open_price      INTEGER     NOT NULL,
+    high_price      INTEGER     NOT NULL,
+    low_price       INTEGER     NOT NULL,
+    close_price     INTEGER     NOT NULL,
+    volume          BIGINT      NOT NULL,
+    amount          BIGINT      NOT NULL,
+    change_amount   INTEGER     NOT NULL,
+    change_rate     VARCHAR(16)
+);
+
+-- 기간 조회 (범위 스캔) + 중복 저장 방지
+-- WHERE stock_code = ? AND interval_type = ? AND candle_date BETWEEN ? AND ?
+CREATE UNIQUE INDEX IF NOT EXISTS uk_stock_candle_code_interval_date
+ON stock_candle (stock_code, interval_type, candle_date);
@@ -19,6 +19,7 @@ import grit.stockIt.domain.order.entity.OrderStatus;
 import grit.stockIt.domain.order.repository.OrderHoldRepository;
 import grit.stockIt.domain.order.repository.OrderRepository;
 import grit.stockIt.domain.stock.entity.Stock;
+import grit.stockIt.global.metrics.TickLatencyMetrics;
 import grit.stockIt.global.websocket.manager.OrderSubscriptionCoordinator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -84,6 +85,9 @@ class LimitOrderExecutionServiceTest {
     @Mock
     private ObjectMapper objectMapper;
 
+    @Mock
+    private TickLatencyMetrics tickLatencyMetrics;
+
     @InjectMocks
     private LimitOrderExecutionService limitOrderExecutionService;
 
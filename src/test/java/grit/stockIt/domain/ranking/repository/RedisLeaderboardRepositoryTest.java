@@ -0,0 +1,243 @@
+package grit.stockIt.domain.ranking.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisZSetCommands;
+import org.springframework.data.redis.connection.zset.Tuple;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RedisLeaderboardRepository 테스트")
+class RedisLeaderboardRepositoryTest {
+
+    private static final String KEY = "ranking:zset:main:totalAssets";
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    private RedisConnection connection;
+
+    @Mock
+    private RedisZSetCommands zSetCommands;
+
+    private RedisLeaderboardRepository leaderboardRepository;
+
+    // member -> score, ZSET 역순 조회 순서 (점수 내림차순, 동점은 member 문자열 역순)로 유지
+    private final Map<String, Double> members = new LinkedHashMap<>();
+
+    // 파이프라인 안에서 실행된 명령의 결과 (executePipelined 반환값)
+    private final List<Object> pipelinedResults = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        leaderboardRepository = new RedisLeaderboardRepository(redisTemplate);
+        stubSortedSet();
+        stubPipeline();
+    }
+
+    // ==================== rankOf / ranksOf ====================
+
+    @Test
+    @DisplayName("동률은 공동 순위, 다음 순위는 동률 수만큼 건너뜀 (1, 2, 2, 4)")
+    void ranksTiesAsSharedRank() {
+        // Given
+        givenScores(Map.of(9L, 300.0, 5L, 200.0, 30L, 200.0, 7L, 100.0));
+
+        // When & Then
+        assertThat(leaderboardRepository.rankOf(KEY, 9L)).isEqualTo(1);
+        assertThat(leaderboardRepository.rankOf(KEY, 5L)).isEqualTo(2);
+        assertThat(leaderboardRepository.rankOf(KEY, 30L)).isEqualTo(2);
+        assertThat(leaderboardRepository.rankOf(KEY, 7L)).isEqualTo(4);
+        assertThat(leaderboardRepository.rankOf(KEY, 99L)).isNull();
+    }
+
+    @Test
+    @DisplayName("일괄 순위 조회도 단건 조회와 같은 공동 순위")
+    void ranksManyWithSameTieMath() {
+        // Given
+        givenScores(Map.of(9L, 300.0, 5L, 200.0, 30L, 200.0, 7L, 100.0));
+
+        // When
+        Map<Long, Long> ranks = leaderboardRepository.ranksOf(KEY, Map.of(5L, 200.0, 30L, 200.0, 7L, 100.0, 9L, 300.0));
+
+        // Then
+        assertThat(ranks).containsOnly(entry(9L, 1L), entry(5L, 2L), entry(30L, 2L), entry(7L, 4L));
+    }
+
+    // ==================== upsertAll ====================
+
+    @Test
+    @DisplayName("키마다 여러 계좌를 ZADD 한 번으로 기록")
+    @SuppressWarnings("unchecked")
+    void writesOneZaddPerKey() {
+        // Given
+        String contestKey = "ranking:zset:contest:7:totalAssets";
+        Map<String, Map<Long, Double>> scoresByKey = new HashMap<>();
+        scoresByKey.put(KEY, Map.of(1L, 100.0, 2L, 200.0, 3L, 300.0));
+        scoresByKey.put(contestKey, Map.of(2L, 200.0));
+
+        // When
+        leaderboardRepository.upsertAll(scoresByKey);
+
+        // Then
+        ArgumentCaptor<byte[]> keyCaptor = ArgumentCaptor.forClass(byte[].class);
+        ArgumentCaptor<Set<Tuple>> tuplesCaptor = ArgumentCaptor.forClass(Set.class);
+        verify(zSetCommands, times(2)).zAdd(keyCaptor.capture(), tuplesCaptor.capture());
+
+        Map<String, Map<String, Double>> written = new HashMap<>();
+        for (int i = 0; i < keyCaptor.getAllValues().size(); i++) {
+            Map<String, Double> members = new HashMap<>();
+            tuplesCaptor.getAllValues().get(i).forEach(tuple ->
+                    members.put(new String(tuple.getValue(), StandardCharsets.UTF_8), tuple.getScore()));
+            written.put(new String(keyCaptor.getAllValues().get(i), StandardCharsets.UTF_8), members);
+        }
+        assertThat(written).containsOnly(
+                entry(KEY, Map.of("1", 100.0, "2", 200.0, "3", 300.0)),
+                entry(contestKey, Map.of("2", 200.0)));
+    }
+
+    // ==================== positionAfter ====================
+
+    @Test
+    @DisplayName("커서 계좌가 같은 점수로 남아 있으면 그 계좌 바로 다음 위치")
+    void continuesAfterAnchor() {
+        // Given: 역순 정렬 9(300) 5(200) 30(200) 10(200) 7(100)
+        givenScores(Map.of(9L, 300.0, 5L, 200.0, 30L, 200.0, 10L, 200.0, 7L, 100.0));
+
+        // When & Then
+        assertThat(leaderboardRepository.positionAfter(KEY, 200.0, 30L)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("커서 계좌의 점수가 바뀌었으면 커서 점수 기준으로 이어서 조회 (이전 페이지 항목 중복 없음)")
+    void seeksByCursorScoreWhenAnchorMoved() {
+        // Given: 커서 (200, 30) 발급 후 30번 계좌가 1위로 올라감 → 30(500) 9(300) 5(200) 10(200) 7(100)
+        givenScores(Map.of(30L, 500.0, 9L, 300.0, 5L, 200.0, 10L, 200.0, 7L, 100.0));
+
+        // When
+        long position = leaderboardRepository.positionAfter(KEY, 200.0, 30L);
+
+        // Then: 커서 이전에 정렬되는 5(200)까지 건너뛰고 10번 계좌부터
+        assertThat(position).isEqualTo(3);
+        assertThat(orderedMembers().get((int) position)).isEqualTo("10");
+    }
+
+    @Test
+    @DisplayName("커서 계좌가 빠졌으면 동점 중 커서보다 뒤에 정렬되는 계좌부터 이어서 조회")
+    void skipsTiesSortedAtOrBeforeRemovedAnchor() {
+        // Given: 커서 (200, 30) 발급 후 30번 계좌 삭제 → 9(300) 5(200) 4(200) 10(200) 1(200) 7(100)
+        givenScores(Map.of(9L, 300.0, 5L, 200.0, 4L, 200.0, 10L, 200.0, 1L, 200.0, 7L, 100.0));
+
+        // When
+        long position = leaderboardRepository.positionAfter(KEY, 200.0, 30L);
+
+        // Then: "5", "4" 는 "30" 보다 문자열이 커서 커서 이전, "10" 부터 이어서 조회
+        assertThat(position).isEqualTo(3);
+        assertThat(orderedMembers().get((int) position)).isEqualTo("10");
+    }
+
+    @Test
+    @DisplayName("커서 점수와 같은 점수가 없으면 더 큰 점수 항목 수")
+    void countsHigherScoresWithoutTies() {
+        // Given
+        givenScores(Map.of(9L, 300.0, 5L, 250.0, 7L, 100.0));
+
+        // When & Then
+        assertThat(leaderboardRepository.positionAfter(KEY, 200.0, 30L)).isEqualTo(2);
+    }
+
+    private void givenScores(Map<Long, Double> scores) {
+        members.clear();
+        scores.entrySet().stream()
+                .map(entry -> Map.entry(String.valueOf(entry.getKey()), entry.getValue()))
+                .sorted(Comparator.<Map.Entry<String, Double>>comparingDouble(Map.Entry::getValue).reversed()
+                        .thenComparing(Map.Entry::getKey, Comparator.reverseOrder()))
+                .forEach(entry -> members.put(entry.getKey(), entry.getValue()));
+    }
+
+    private List<String> orderedMembers() {
+        return List.copyOf(members.keySet());
+    }
+
+    private long countBetween(double min, double max) {
+        return members.values().stream().filter(score -> score >= min && score <= max).count();
+    }
+
+    // ZSCORE, ZREVRANK, ZCOUNT, ZREVRANGE를 members 기준으로 응답
+    private void stubSortedSet() {
+        lenient().when(zSetOperations.score(eq(KEY), anyString()))
+                .thenAnswer(invocation -> members.get(invocation.<String>getArgument(1)));
+        lenient().when(zSetOperations.reverseRank(eq(KEY), anyString())).thenAnswer(invocation -> {
+            int index = orderedMembers().indexOf(invocation.<String>getArgument(1));
+            return index >= 0 ? (long) index : null;
+        });
+        lenient().when(zSetOperations.count(eq(KEY), anyDouble(), anyDouble())).thenAnswer(invocation -> {
+            double min = invocation.getArgument(1);
+            double max = invocation.getArgument(2);
+            return countBetween(min, max);
+        });
+        lenient().when(zSetOperations.reverseRange(eq(KEY), anyLong(), anyLong())).thenAnswer(invocation -> {
+            List<String> ordered = orderedMembers();
+            int start = (int) (long) invocation.<Long>getArgument(1);
+            int end = (int) Math.min((long) invocation.<Long>getArgument(2), ordered.size() - 1);
+            Set<String> result = new LinkedHashSet<>();
+            for (int i = start; i <= end; i++) {
+                result.add(ordered.get(i));
+            }
+            return result;
+        });
+    }
+
+    // 파이프라인 콜백을 모의 커넥션으로 실행하고, ZCOUNT 결과를 순서대로 모아 반환
+    private void stubPipeline() {
+        lenient().when(redisTemplate.getStringSerializer()).thenReturn(RedisSerializer.string());
+        lenient().when(connection.zSetCommands()).thenReturn(zSetCommands);
+        lenient().when(zSetCommands.zCount(any(byte[].class), anyDouble(), anyDouble())).thenAnswer(invocation -> {
+            double min = invocation.getArgument(1);
+            double max = invocation.getArgument(2);
+            pipelinedResults.add(countBetween(min, max));
+            return null;
+        });
+        lenient().when(redisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+            pipelinedResults.clear();
+            invocation.<RedisCallback<?>>getArgument(0).doInRedis(connection);
+            return new ArrayList<>(pipelinedResults);
+        });
+    }
+}
@@ -0,0 +1,162 @@
+package grit.stockIt.domain.ranking.service;
+
+import grit.stockIt.domain.account.dto.AccountValuation;
+import grit.stockIt.domain.account.service.AccountValuationService;
+import grit.stockIt.domain.ranking.event.LeaderboardChangedEvent;
+import grit.stockIt.domain.ranking.repository.RedisLeaderboardRepository;
+import grit.stockIt.global.websocket.relay.ClusterLeadership;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LeaderboardUpdateService 증분 갱신 테스트")
+class LeaderboardUpdateServiceTest {
+
+    private static final String MAIN_KEY = "ranking:zset:main:totalAssets";
+    private static final String CONTEST_TOTAL_KEY = "ranking:zset:contest:7:totalAssets";
+    private static final String CONTEST_RETURN_KEY = "ranking:zset:contest:7:returnRate";
+    private static final Long CONTEST_ID = 7L;
+
+    @Mock
+    private AccountValuationService accountValuationService;
+
+    @Mock
+    private RedisLeaderboardRepository leaderboardRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ClusterLeadership clusterLeadership;
+
+    private LeaderboardUpdateService leaderboardUpdateService;
+
+    @BeforeEach
+    void setUp() {
+        leaderboardUpdateService = new LeaderboardUpdateService(
+                accountValuationService, leaderboardRepository, eventPublisher, clusterLeadership);
+        lenient().when(leaderboardRepository.mainKey()).thenReturn(MAIN_KEY);
+        lenient().when(leaderboardRepository.contestKey(CONTEST_ID, RedisLeaderboardRepository.SORT_TOTAL_ASSETS))
+                .thenReturn(CONTEST_TOTAL_KEY);
+        lenient().when(leaderboardRepository.contestKey(CONTEST_ID, RedisLeaderboardRepository.SORT_RETURN_RATE))
+                .thenReturn(CONTEST_RETURN_KEY);
+    }
+
+    @Test
+    @DisplayName("체결 계좌는 재적재, 시세로 재평가된 계좌는 메모리 평가값으로 키별 한 번에 기록")
+    void writesDirtyAndRevaluedAccountsGroupedByKey() {
+        // Given: 1번 Main 계좌 체결, 005930 시세 변동으로 2번 대회 계좌 재평가
+        when(clusterLeadership.isLeader()).thenReturn(true);
+        when(accountValuationService.applyPrice("005930", BigDecimal.valueOf(71_000))).thenReturn(Set.of(2L));
+        givenValuations(Map.of(
+                1L, new AccountValuation(1L, 10L, null, null, true,
+                        BigDecimal.valueOf(500_000), Map.of(), BigDecimal.valueOf(1_200_000)),
+                2L, new AccountValuation(2L, 20L, CONTEST_ID, 1_000_000L, false,
+                        BigDecimal.valueOf(100_000), Map.of(), BigDecimal.valueOf(1_100_000))));
+
+        leaderboardUpdateService.markAccountDirty(1L);
+        leaderboardUpdateService.markPriceChanged("005930", BigDecimal.valueOf(71_000));
+
+        // When
+        leaderboardUpdateService.flushDirty();
+
+        // Then
+        verify(accountValuationService).reload(Set.of(1L));
+        Map<String, Map<Long, Double>> written = capturedUpsert();
+        assertThat(written).containsOnlyKeys(MAIN_KEY, CONTEST_TOTAL_KEY, CONTEST_RETURN_KEY);
+        assertThat(written.get(MAIN_KEY)).containsExactly(entry(1L, 1_200_000.0));
+        assertThat(written.get(CONTEST_TOTAL_KEY)).containsExactly(entry(2L, 1_100_000.0));
+        assertThat(written.get(CONTEST_RETURN_KEY)).containsExactly(entry(2L, 10.0));
+
+        ArgumentCaptor<LeaderboardChangedEvent> eventCaptor = ArgumentCaptor.forClass(LeaderboardChangedEvent.class);
+        verify(eventPublisher).publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().keys()).containsExactlyInAnyOrder(MAIN_KEY, CONTEST_TOTAL_KEY, CONTEST_RETURN_KEY);
+    }
+
+    @Test
+    @DisplayName("변경분이 없으면 기록하지 않음")
+    void skipsWhenNothingChanged() {
+        // Given
+        when(clusterLeadership.isLeader()).thenReturn(true);
+
+        // When
+        leaderboardUpdateService.flushDirty();
+
+        // Then
+        verify(leaderboardRepository, never()).upsertAll(any());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("리더가 아니면 점수를 쓰지 않고 바뀐 계좌만 리더에 넘김")
+    void forwardsToLeaderWhenNotLeader() {
+        // Given
+        when(clusterLeadership.isLeader()).thenReturn(false);
+        when(accountValuationService.applyPrice("005930", BigDecimal.valueOf(71_000))).thenReturn(Set.of(2L));
+        when(leaderboardRepository.addDirtyAccounts(anyCollection())).thenReturn(true);
+        leaderboardUpdateService.markAccountDirty(1L);
+        leaderboardUpdateService.markPriceChanged("005930", BigDecimal.valueOf(71_000));
+
+        // When
+        leaderboardUpdateService.flushDirty();
+
+        // Then
+        verify(leaderboardRepository).addDirtyAccounts(Set.of(1L, 2L));
+        verify(leaderboardRepository, never()).upsertAll(any());
+    }
+
+    @Test
+    @DisplayName("리더는 다른 노드가 넘긴 계좌를 재적재하여 기록")
+    void reloadsAccountsForwardedByOtherNodes() {
+        // Given
+        when(clusterLeadership.isLeader()).thenReturn(true);
+        when(leaderboardRepository.popDirtyAccounts(anyLong())).thenReturn(Set.of(1L));
+        givenValuations(Map.of(1L, new AccountValuation(1L, 10L, null, null, true,
+                BigDecimal.valueOf(900_000), Map.of(), BigDecimal.valueOf(900_000))));
+
+        // When
+        leaderboardUpdateService.flushDirty();
+
+        // Then
+        verify(accountValuationService).reload(Set.of(1L));
+        assertThat(capturedUpsert()).containsExactly(entry(MAIN_KEY, Map.of(1L, 900_000.0)));
+    }
+
+    private void givenValuations(Map<Long, AccountValuation> valuations) {
+        when(accountValuationService.getLoadedValuations(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> accountIds = invocation.getArgument(0);
+            Map<Long, AccountValuation> result = new HashMap<>();
+            accountIds.forEach(accountId -> result.put(accountId, valuations.get(accountId)));
+            return result;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Map<Long, Double>> capturedUpsert() {
+        ArgumentCaptor<Map<String, Map<Long, Double>>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(leaderboardRepository).upsertAll(captor.capture());
+        return captor.getValue();
+    }
+}
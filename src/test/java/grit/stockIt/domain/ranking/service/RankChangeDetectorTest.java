@@ -0,0 +1,222 @@
+package grit.stockIt.domain.ranking.service;
+
+import grit.stockIt.domain.account.dto.AccountValuation;
+import grit.stockIt.domain.account.service.AccountValuationService;
+import grit.stockIt.domain.ranking.dto.LeaderboardEntry;
+import grit.stockIt.domain.ranking.event.LeaderboardChangedEvent;
+import grit.stockIt.domain.ranking.event.RankThresholdCrossedEvent;
+import grit.stockIt.domain.ranking.repository.RedisLeaderboardRepository;
+import grit.stockIt.global.websocket.relay.ClusterLeadership;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RankChangeDetector 순위 구간 변화 테스트")
+class RankChangeDetectorTest {
+
+    private static final String KEY = "ranking:zset:main:totalAssets";
+
+    @Mock
+    private RedisLeaderboardRepository leaderboardRepository;
+
+    @Mock
+    private AccountValuationService accountValuationService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ClusterLeadership clusterLeadership;
+
+    private RankChangeDetector rankChangeDetector;
+
+    @BeforeEach
+    void setUp() {
+        rankChangeDetector = new RankChangeDetector(leaderboardRepository, accountValuationService, eventPublisher, clusterLeadership);
+        ReflectionTestUtils.setField(rankChangeDetector, "thresholds", new int[]{1, 3});
+        ReflectionTestUtils.setField(rankChangeDetector, "fullScanMs", 60_000L);
+    }
+
+    @Test
+    @DisplayName("첫 관측은 현재 구성원 전체를 initial 진입 이벤트로 발행")
+    void publishesInitialMembers() {
+        // Given
+        givenLeader();
+        givenValuations();
+        when(leaderboardRepository.range(KEY, 0, 2)).thenReturn(List.of(
+                new LeaderboardEntry(1L, 300), new LeaderboardEntry(2L, 200), new LeaderboardEntry(3L, 100)));
+
+        // When
+        detect();
+
+        // Then
+        assertThat(publishedEvents())
+                .extracting(RankThresholdCrossedEvent::threshold, RankThresholdCrossedEvent::accountId,
+                        RankThresholdCrossedEvent::entered, RankThresholdCrossedEvent::initial)
+                .containsExactlyInAnyOrder(
+                        tuple(1, 1L, true, true),
+                        tuple(3, 1L, true, true),
+                        tuple(3, 2L, true, true),
+                        tuple(3, 3L, true, true));
+    }
+
+    @Test
+    @DisplayName("1위가 바뀌면 Top 1 구간만 진입/이탈 이벤트 발행 (Top 3 구성원은 그대로)")
+    void publishesOnlyCrossedThreshold() {
+        // Given
+        givenLeader();
+        givenValuations();
+        when(leaderboardRepository.range(KEY, 0, 2)).thenReturn(
+                List.of(new LeaderboardEntry(1L, 300), new LeaderboardEntry(2L, 200), new LeaderboardEntry(3L, 100)),
+                List.of(new LeaderboardEntry(2L, 310), new LeaderboardEntry(1L, 300), new LeaderboardEntry(3L, 100)));
+        detect();
+        clearInvocations(eventPublisher);
+
+        // When
+        detect();
+
+        // Then
+        assertThat(publishedEvents())
+                .extracting(RankThresholdCrossedEvent::threshold, RankThresholdCrossedEvent::accountId,
+                        RankThresholdCrossedEvent::entered, RankThresholdCrossedEvent::rank,
+                        RankThresholdCrossedEvent::memberId, RankThresholdCrossedEvent::initial)
+                .containsExactlyInAnyOrder(
+                        tuple(1, 2L, true, 1L, 20L, false),
+                        tuple(1, 1L, false, 2L, 10L, false));
+    }
+
+    @Test
+    @DisplayName("동률 공동 1위는 둘 다 Top 1 구간에 포함")
+    void treatsTiesAsSharedRank() {
+        // Given
+        givenLeader();
+        givenValuations();
+        when(leaderboardRepository.range(KEY, 0, 2)).thenReturn(
+                List.of(new LeaderboardEntry(1L, 300), new LeaderboardEntry(2L, 200), new LeaderboardEntry(3L, 100)),
+                List.of(new LeaderboardEntry(1L, 300), new LeaderboardEntry(2L, 300), new LeaderboardEntry(3L, 100)));
+        detect();
+        clearInvocations(eventPublisher);
+
+        // When
+        detect();
+
+        // Then
+        assertThat(publishedEvents())
+                .extracting(RankThresholdCrossedEvent::threshold, RankThresholdCrossedEvent::accountId,
+                        RankThresholdCrossedEvent::entered, RankThresholdCrossedEvent::rank)
+                .containsExactly(tuple(1, 2L, true, 1L));
+    }
+
+    @Test
+    @DisplayName("상위 구간 밖으로 밀려난 계좌는 현재 순위를 조회해 이탈 이벤트 발행")
+    void looksUpRankOfAccountPushedOutOfRange() {
+        // Given
+        givenLeader();
+        givenValuations();
+        when(leaderboardRepository.range(KEY, 0, 2)).thenReturn(
+                List.of(new LeaderboardEntry(1L, 300), new LeaderboardEntry(2L, 200), new LeaderboardEntry(3L, 100)),
+                List.of(new LeaderboardEntry(1L, 300), new LeaderboardEntry(2L, 200), new LeaderboardEntry(4L, 150)));
+        when(leaderboardRepository.rankOf(KEY, 3L)).thenReturn(4L);
+        detect();
+        clearInvocations(eventPublisher);
+
+        // When
+        detect();
+
+        // Then
+        assertThat(publishedEvents())
+                .extracting(RankThresholdCrossedEvent::threshold, RankThresholdCrossedEvent::accountId,
+                        RankThresholdCrossedEvent::entered, RankThresholdCrossedEvent::rank)
+                .containsExactlyInAnyOrder(
+                        tuple(3, 4L, true, 3L),
+                        tuple(3, 3L, false, 4L));
+    }
+
+    @Test
+    @DisplayName("구간 구성원이 그대로면 이벤트 없음 (점수만 바뀐 경우 포함)")
+    void publishesNothingWithoutMembershipChange() {
+        // Given
+        givenLeader();
+        givenValuations();
+        when(leaderboardRepository.range(KEY, 0, 2)).thenReturn(
+                List.of(new LeaderboardEntry(1L, 300), new LeaderboardEntry(2L, 200), new LeaderboardEntry(3L, 100)),
+                List.of(new LeaderboardEntry(1L, 350), new LeaderboardEntry(2L, 180), new LeaderboardEntry(3L, 120)));
+        detect();
+        clearInvocations(eventPublisher);
+
+        // When
+        detect();
+
+        // Then
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("리더 노드가 아니면 리더보드를 읽지 않음")
+    void skipsWhenNotLeader() {
+        // Given
+        when(clusterLeadership.isLeader()).thenReturn(false);
+
+        // When
+        detect();
+
+        // Then
+        verify(leaderboardRepository, never()).range(anyString(), anyLong(), anyLong());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    private void detect() {
+        rankChangeDetector.handleLeaderboardChanged(new LeaderboardChangedEvent(Set.of(KEY)));
+        rankChangeDetector.detectChanges();
+    }
+
+    private void givenLeader() {
+        when(clusterLeadership.isLeader()).thenReturn(true);
+        when(leaderboardRepository.scopeOf(KEY)).thenReturn(RedisLeaderboardRepository.MAIN_SCOPE);
+    }
+
+    // 계좌 ID x 10 을 회원 ID로 하는 평가 스냅샷
+    private void givenValuations() {
+        when(accountValuationService.getLoadedValuations(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> accountIds = invocation.getArgument(0);
+            Map<Long, AccountValuation> valuations = new HashMap<>();
+            for (Long accountId : accountIds) {
+                valuations.put(accountId, new AccountValuation(accountId, accountId * 10, null, null, true,
+                        BigDecimal.ZERO, Map.of(), BigDecimal.ZERO));
+            }
+            return valuations;
+        });
+    }
+
+    private List<RankThresholdCrossedEvent> publishedEvents() {
+        ArgumentCaptor<RankThresholdCrossedEvent> captor = ArgumentCaptor.forClass(RankThresholdCrossedEvent.class);
+        verify(eventPublisher, atLeastOnce()).publishEvent(captor.capture());
+        return captor.getAllValues();
+    }
+}
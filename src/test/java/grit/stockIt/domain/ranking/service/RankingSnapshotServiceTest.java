@@ -0,0 +1,229 @@
+package grit.stockIt.domain.ranking.service;
+
+import grit.stockIt.domain.account.dto.AccountValuation;
+import grit.stockIt.domain.account.service.AccountValuationService;
+import grit.stockIt.domain.contest.entity.Contest;
+import grit.stockIt.domain.contest.repository.ContestRepository;
+import grit.stockIt.domain.ranking.dto.LeaderboardEntry;
+import grit.stockIt.domain.ranking.repository.RankingSnapshotJdbcRepository;
+import grit.stockIt.domain.ranking.repository.RankingSnapshotRepository;
+import grit.stockIt.domain.ranking.repository.RedisLeaderboardRepository;
+import grit.stockIt.global.websocket.relay.ClusterLeadership;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.when;
+
+/**
+ * 스냅샷 기록이 실제 트랜잭션 프록시를 거쳐 DB에 쓰이는지 확인
+ * (클래스 단위 읽기 전용 트랜잭션에 INSERT가 합류하면 PostgreSQL에서 거부되므로 트랜잭션 속성까지 검증)
+ */
+@SpringJUnitConfig(RankingSnapshotServiceTest.Config.class)
+@DisplayName("RankingSnapshotService 기록 테스트")
+class RankingSnapshotServiceTest {
+
+    private static final long CONTEST_ID = 7L;
+
+    @Autowired
+    private RankingSnapshotService rankingSnapshotService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private RecordingTransactionManager transactionManager;
+
+    @Autowired
+    private RedisLeaderboardRepository leaderboardRepository;
+
+    @Autowired
+    private ContestRepository contestRepository;
+
+    @Autowired
+    private AccountValuationService accountValuationService;
+
+    @Autowired
+    private ClusterLeadership clusterLeadership;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("DELETE FROM ranking_snapshot");
+        transactionManager.begun.clear();
+        reset(leaderboardRepository, contestRepository, accountValuationService, clusterLeadership);
+    }
+
+    @Test
+    @DisplayName("Main과 진행 중인 대회 리더보드를 범위별로 읽기 전용이 아닌 트랜잭션에서 저장")
+    void writesSnapshotRowsPerScope() {
+        // Given
+        String mainKey = "ranking:zset:main:totalAssets";
+        String contestTotalKey = "ranking:zset:contest:7:totalAssets";
+        String contestReturnKey = "ranking:zset:contest:7:returnRate";
+        Contest contest = mock(Contest.class);
+        when(contest.getContestId()).thenReturn(CONTEST_ID);
+
+        when(clusterLeadership.isLeader()).thenReturn(true);
+        when(leaderboardRepository.mainKey()).thenReturn(mainKey);
+        when(leaderboardRepository.contestKey(CONTEST_ID, RedisLeaderboardRepository.SORT_TOTAL_ASSETS)).thenReturn(contestTotalKey);
+        when(leaderboardRepository.contestKey(CONTEST_ID, RedisLeaderboardRepository.SORT_RETURN_RATE)).thenReturn(contestReturnKey);
+        when(leaderboardRepository.range(mainKey, 0, -1)).thenReturn(List.of(
+                new LeaderboardEntry(1L, 2_000_000), new LeaderboardEntry(2L, 2_000_000), new LeaderboardEntry(3L, 1_000_000)));
+        when(leaderboardRepository.range(contestTotalKey, 0, -1)).thenReturn(List.of(
+                new LeaderboardEntry(11L, 1_500_000), new LeaderboardEntry(12L, 900_000)));
+        when(leaderboardRepository.range(contestReturnKey, 0, -1)).thenReturn(List.of(
+                new LeaderboardEntry(11L, 50.0), new LeaderboardEntry(12L, -10.0)));
+        when(contestRepository.findActiveContests(any())).thenReturn(List.of(contest));
+        when(accountValuationService.getLoadedValuations(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> accountIds = invocation.getArgument(0);
+            Map<Long, AccountValuation> valuations = new HashMap<>();
+            for (Long accountId : accountIds) {
+                valuations.put(accountId, new AccountValuation(accountId, accountId * 10, null, null, true,
+                        BigDecimal.ZERO, Map.of(), BigDecimal.ZERO));
+            }
+            return valuations;
+        });
+
+        // When
+        rankingSnapshotService.captureSnapshots();
+
+        // Then
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "SELECT scope, account_id, member_id, total_assets_rank, return_rate_rank FROM ranking_snapshot ORDER BY account_id");
+        assertThat(rows).extracting(row -> row.get("SCOPE"))
+                .containsExactly("main", "main", "main", "contest-7", "contest-7");
+        assertThat(rows).extracting(row -> ((Number) row.get("TOTAL_ASSETS_RANK")).intValue())
+                .containsExactly(1, 1, 3, 1, 2);
+        assertThat(rows).extracting(row -> ((Number) row.get("MEMBER_ID")).longValue())
+                .containsExactly(10L, 20L, 30L, 110L, 120L);
+        assertThat(rows.get(0).get("RETURN_RATE_RANK")).isNull();
+        assertThat(((Number) rows.get(3).get("RETURN_RATE_RANK")).intValue()).isEqualTo(1);
+
+        // 범위마다 트랜잭션 1개, 모두 쓰기 가능
+        assertThat(transactionManager.begun).hasSize(2).noneMatch(TransactionDefinition::isReadOnly);
+    }
+
+    @Test
+    @DisplayName("리더 노드가 아니면 기록하지 않음")
+    void skipsWhenNotLeader() {
+        // Given
+        when(clusterLeadership.isLeader()).thenReturn(false);
+
+        // When
+        rankingSnapshotService.captureSnapshots();
+
+        // Then
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM ranking_snapshot", Long.class)).isZero();
+    }
+
+    // 시작한 트랜잭션의 속성 기록
+    static class RecordingTransactionManager extends DataSourceTransactionManager {
+
+        private final List<TransactionDefinition> begun = new CopyOnWriteArrayList<>();
+
+        RecordingTransactionManager(DataSource dataSource) {
+            super(dataSource);
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+            begun.add(definition);
+            super.doBegin(transaction, definition);
+        }
+    }
+
+    @Configuration
+    @EnableTransactionManagement
+    static class Config {
+
+        @Bean
+        DataSource dataSource() {
+            return new EmbeddedDatabaseBuilder()
+                    .setType(EmbeddedDatabaseType.H2)
+                    .generateUniqueName(true)
+                    .build();
+        }
+
+        @Bean
+        JdbcTemplate jdbcTemplate(DataSource dataSource) {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+            jdbcTemplate.execute("""
+                    CREATE TABLE ranking_snapshot (
+                        ranking_snapshot_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                        scope               VARCHAR(32)    NOT NULL,
+                        captured_at         TIMESTAMP      NOT NULL,
+                        account_id          BIGINT         NOT NULL,
+                        member_id           BIGINT         NOT NULL,
+                        total_assets        NUMERIC(19, 2) NOT NULL,
+                        total_assets_rank   INTEGER        NOT NULL,
+                        return_rate         NUMERIC(9, 2),
+                        return_rate_rank    INTEGER
+                    )
+                    """);
+            return jdbcTemplate;
+        }
+
+        @Bean
+        RecordingTransactionManager transactionManager(DataSource dataSource) {
+            return new RecordingTransactionManager(dataSource);
+        }
+
+        @Bean
+        RankingSnapshotJdbcRepository rankingSnapshotJdbcRepository(JdbcTemplate jdbcTemplate) {
+            return new RankingSnapshotJdbcRepository(jdbcTemplate);
+        }
+
+        @Bean
+        RedisLeaderboardRepository leaderboardRepository() {
+            return mock(RedisLeaderboardRepository.class);
+        }
+
+        @Bean
+        ContestRepository contestRepository() {
+            return mock(ContestRepository.class);
+        }
+
+        @Bean
+        AccountValuationService accountValuationService() {
+            return mock(AccountValuationService.class);
+        }
+
+        @Bean
+        ClusterLeadership clusterLeadership() {
+            return mock(ClusterLeadership.class);
+        }
+
+        @Bean
+        RankingSnapshotService rankingSnapshotService(RankingSnapshotJdbcRepository rankingSnapshotJdbcRepository,
+                                                      RedisLeaderboardRepository leaderboardRepository,
+                                                      ContestRepository contestRepository,
+                                                      AccountValuationService accountValuationService,
+                                                      ClusterLeadership clusterLeadership) {
+            return new RankingSnapshotService(mock(RankingSnapshotRepository.class), rankingSnapshotJdbcRepository,
+                    leaderboardRepository, contestRepository, accountValuationService, clusterLeadership);
+        }
+    }
+}
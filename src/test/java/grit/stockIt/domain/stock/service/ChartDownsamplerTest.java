@@ -0,0 +1,96 @@
+package grit.stockIt.domain.stock.service;
+
+import grit.stockIt.domain.stock.dto.StockChartDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ChartDownsampler 테스트")
+class ChartDownsamplerTest {
+
+    private static final LocalDate START_DATE = LocalDate.of(2024, 1, 2);
+
+    @Test
+    @DisplayName("maxPoints가 없거나 원본이 충분히 작으면 원본 그대로 반환")
+    void returnsOriginalWhenSmallEnough() {
+        // Given
+        List<StockChartDto> bars = bars(new int[]{100, 101, 102, 103});
+
+        // When & Then
+        assertThat(ChartDownsampler.downsample(bars, null)).isSameAs(bars);
+        assertThat(ChartDownsampler.downsample(bars, 4)).isSameAs(bars);
+        assertThat(ChartDownsampler.downsample(bars, 10)).isSameAs(bars);
+    }
+
+    @Test
+    @DisplayName("maxPoints개로 줄이고, 첫/마지막 봉 포함, 원본 순서 유지")
+    void keepsEndpointsAndOrder() {
+        // Given
+        int[] closes = new int[1000];
+        for (int i = 0; i < closes.length; i++) {
+            closes[i] = 10_000 + (int) (Math.sin(i / 20.0) * 500);
+        }
+        List<StockChartDto> bars = bars(closes);
+
+        // When
+        List<StockChartDto> sampled = ChartDownsampler.downsample(bars, 100);
+
+        // Then
+        assertThat(sampled).hasSize(100);
+        assertThat(sampled.get(0)).isSameAs(bars.get(0));
+        assertThat(sampled.get(sampled.size() - 1)).isSameAs(bars.get(bars.size() - 1));
+
+        int previousIndex = -1;
+        for (StockChartDto bar : sampled) {
+            int index = bars.indexOf(bar);
+            assertThat(index).isGreaterThan(previousIndex); // 원본 봉을 순서대로 선택 (새 값 없음)
+            previousIndex = index;
+        }
+    }
+
+    @Test
+    @DisplayName("평평한 구간의 급등 봉은 다운샘플링 후에도 남음")
+    void keepsSpike() {
+        // Given
+        int[] closes = new int[1000];
+        for (int i = 0; i < closes.length; i++) {
+            closes[i] = 10_000;
+        }
+        closes[537] = 15_000;
+        List<StockChartDto> bars = bars(closes);
+
+        // When
+        List<StockChartDto> sampled = ChartDownsampler.downsample(bars, 50);
+
+        // Then
+        assertThat(sampled).hasSize(50);
+        assertThat(sampled).contains(bars.get(537));
+    }
+
+    @Test
+    @DisplayName("maxPoints가 3보다 작아도 최소 3개 (첫/중간/마지막)")
+    void usesMinimumOfThreePoints() {
+        // Given
+        List<StockChartDto> bars = bars(new int[]{100, 90, 150, 95, 110});
+
+        // When
+        List<StockChartDto> sampled = ChartDownsampler.downsample(bars, 1);
+
+        // Then
+        assertThat(sampled).containsExactly(bars.get(0), bars.get(2), bars.get(4));
+    }
+
+    private List<StockChartDto> bars(int[] closes) {
+        List<StockChartDto> bars = new ArrayList<>(closes.length);
+        for (int i = 0; i < closes.length; i++) {
+            bars.add(new StockChartDto("005930", "day", START_DATE.plusDays(i), null,
+                    closes[i], closes[i], closes[i], closes[i], 1_000L, (long) closes[i] * 1_000, 0, "0.00"));
+        }
+        return bars;
+    }
+}
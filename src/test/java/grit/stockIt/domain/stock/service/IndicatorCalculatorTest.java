@@ -0,0 +1,144 @@
+package grit.stockIt.domain.stock.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("IndicatorCalculator 테스트")
+class IndicatorCalculatorTest {
+
+    private static final double EPSILON = 1e-9;
+
+    private static final double[] CLOSES = {
+            100, 102, 101, 105, 107, 106, 110, 108, 111, 115,
+            113, 112, 116, 118, 117, 120, 119, 123, 125, 124,
+            126, 122, 121, 127, 130, 128, 131, 133, 132, 135
+    };
+
+    @Test
+    @DisplayName("SMA - 구간이 부족한 앞부분은 NaN, 이후는 단순 평균과 같음")
+    void smaMatchesNaiveAverage() {
+        // When
+        double[] sma = IndicatorCalculator.sma(CLOSES, 5);
+
+        // Then
+        for (int i = 0; i < 4; i++) {
+            assertThat(sma[i]).isNaN();
+        }
+        for (int i = 4; i < CLOSES.length; i++) {
+            assertThat(sma[i]).isCloseTo(naiveAverage(CLOSES, i - 4, i), within(EPSILON));
+        }
+    }
+
+    @Test
+    @DisplayName("EMA - 첫 구간 단순 평균으로 시작하고 이후 평활 계수 2/(n+1) 적용")
+    void emaSeedsWithSimpleAverage() {
+        // When
+        double[] ema = IndicatorCalculator.ema(CLOSES, 3);
+
+        // Then
+        assertThat(ema[0]).isNaN();
+        assertThat(ema[1]).isNaN();
+        double expected = naiveAverage(CLOSES, 0, 2);
+        assertThat(ema[2]).isCloseTo(expected, within(EPSILON));
+        for (int i = 3; i < CLOSES.length; i++) {
+            expected = 0.5 * CLOSES[i] + 0.5 * expected;
+            assertThat(ema[i]).isCloseTo(expected, within(EPSILON));
+        }
+    }
+
+    @Test
+    @DisplayName("RSI - Wilder 평활 (직접 계산한 값과 비교)")
+    void rsiUsesWilderSmoothing() {
+        // Given: 변화량 +1, -1, +1
+        double[] closes = {1, 2, 1, 2};
+
+        // When
+        double[] rsi = IndicatorCalculator.rsi(closes, 2);
+
+        // Then: 첫 평균 이익/손실 0.5/0.5 → 50, 다음 (0.5+1)/2=0.75, 0.5/2=0.25 → RS 3 → 75
+        assertThat(rsi[0]).isNaN();
+        assertThat(rsi[1]).isNaN();
+        assertThat(rsi[2]).isCloseTo(50, within(EPSILON));
+        assertThat(rsi[3]).isCloseTo(75, within(EPSILON));
+    }
+
+    @Test
+    @DisplayName("RSI - 계속 오르면 100, 변화가 없으면 50")
+    void rsiEdgeCases() {
+        assertThat(IndicatorCalculator.rsi(new double[]{1, 2, 3, 4, 5}, 3)[4]).isEqualTo(100);
+        assertThat(IndicatorCalculator.rsi(new double[]{7, 7, 7, 7, 7}, 3)[4]).isEqualTo(50);
+        assertThat(IndicatorCalculator.rsi(new double[]{1, 2}, 3)).containsOnly(Double.NaN);
+    }
+
+    @Test
+    @DisplayName("MACD - MACD선은 EMA 차이, 시그널은 MACD선이 유효한 첫 위치부터의 EMA")
+    void macdUsesEmaDifferenceAndSignal() {
+        // When
+        double[][] macd = IndicatorCalculator.macd(CLOSES, 3, 6, 4);
+
+        // Then
+        double[] fast = IndicatorCalculator.ema(CLOSES, 3);
+        double[] slow = IndicatorCalculator.ema(CLOSES, 6);
+        for (int i = 5; i < CLOSES.length; i++) {
+            assertThat(macd[0][i]).isCloseTo(fast[i] - slow[i], within(EPSILON));
+        }
+        // 시그널: MACD선 유효 구간(5~) 첫 4개 평균으로 시작 → 8번째부터 값이 있음
+        assertThat(macd[1][7]).isNaN();
+        assertThat(macd[1][8]).isCloseTo(naiveAverage(macd[0], 5, 8), within(EPSILON));
+        for (int i = 8; i < CLOSES.length; i++) {
+            assertThat(macd[2][i]).isCloseTo(macd[0][i] - macd[1][i], within(EPSILON));
+        }
+    }
+
+    @Test
+    @DisplayName("볼린저 밴드 - 중심선 ± 배수 x 모표준편차")
+    void bollingerMatchesNaiveDeviation() {
+        // When
+        double[][] bands = IndicatorCalculator.bollinger(CLOSES, 20, 2);
+
+        // Then
+        assertThat(bands[0][18]).isNaN();
+        for (int i = 19; i < CLOSES.length; i++) {
+            double mean = naiveAverage(CLOSES, i - 19, i);
+            double variance = 0;
+            for (int j = i - 19; j <= i; j++) {
+                variance += (CLOSES[j] - mean) * (CLOSES[j] - mean);
+            }
+            double deviation = Math.sqrt(variance / 20);
+
+            assertThat(bands[0][i]).isCloseTo(mean, within(1e-6));
+            assertThat(bands[1][i]).isCloseTo(mean + 2 * deviation, within(1e-6));
+            assertThat(bands[2][i]).isCloseTo(mean - 2 * deviation, within(1e-6));
+        }
+    }
+
+    @Test
+    @DisplayName("VWAP - 대표가격 x 거래량 누적, 세션(일자)이 바뀌면 초기화")
+    void vwapResetsOnSessionChange() {
+        // Given
+        double[] highs = {11, 12, 21};
+        double[] lows = {9, 10, 19};
+        double[] closes = {10, 11, 20};
+        double[] volumes = {100, 300, 50};
+        int[] sessions = {20240102, 20240102, 20240103};
+
+        // When
+        double[] vwap = IndicatorCalculator.vwap(highs, lows, closes, volumes, sessions);
+
+        // Then
+        assertThat(vwap[0]).isCloseTo(10, within(EPSILON));
+        assertThat(vwap[1]).isCloseTo((10 * 100 + 11 * 300) / 400.0, within(EPSILON));
+        assertThat(vwap[2]).isCloseTo(20, within(EPSILON)); // 새 세션
+    }
+
+    private static double naiveAverage(double[] values, int from, int to) {
+        double sum = 0;
+        for (int i = from; i <= to; i++) {
+            sum += values[i];
+        }
+        return sum / (to - from + 1);
+    }
+}
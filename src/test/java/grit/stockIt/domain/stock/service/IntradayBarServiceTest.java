@@ -0,0 +1,173 @@
+package grit.stockIt.domain.stock.service;
+
+import grit.stockIt.domain.stock.dto.StockCandleUpdateDto;
+import grit.stockIt.global.websocket.pipeline.KisInboundPipeline;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IntradayBarService 분봉 전환 테스트")
+class IntradayBarServiceTest {
+
+    private static final String STOCK_CODE = "005930";
+    private static final String TODAY = LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE);
+
+    @Mock
+    private KisInboundPipeline inboundPipeline;
+
+    private IntradayBarService intradayBarService;
+
+    @BeforeEach
+    void setUp() {
+        intradayBarService = new IntradayBarService(inboundPipeline);
+    }
+
+    @Test
+    @DisplayName("분이 바뀌면 이전 1분봉 확정 메시지가 진행 중 봉보다 먼저 전송됨")
+    void closesPreviousMinuteBeforeInProgressBar() {
+        // Given: 09:00에 수신 시작, 09:01 봉에 틱 2건
+        intradayBarService.onTick(STOCK_CODE, TODAY, "090030", 99, 1);
+        intradayBarService.onTick(STOCK_CODE, TODAY, "090110", 100, 10);
+        intradayBarService.onTick(STOCK_CODE, TODAY, "090140", 105, 5);
+        clearInvocations(inboundPipeline);
+
+        // When: 09:02 첫 틱
+        intradayBarService.onTick(STOCK_CODE, TODAY, "090200", 103, 1);
+
+        // Then
+        List<StockCandleUpdateDto> updates = publishedCandles();
+        StockCandleUpdateDto closed = updates.get(0);
+        assertThat(closed.closed()).isTrue();
+        assertThat(closed.interval()).isEqualTo(1);
+        assertThat(closed.time()).isEqualTo(LocalTime.of(9, 1));
+        assertThat(List.of(closed.openPrice(), closed.highPrice(), closed.lowPrice(), closed.closePrice()))
+                .containsExactly(100, 105, 100, 105);
+        assertThat(closed.volume()).isEqualTo(15);
+        assertThat(closed.amount()).isEqualTo(100L * 10 + 105L * 5);
+
+        // 5분봉(09:00~09:05)은 아직 끝나지 않았으므로 확정되지 않음
+        assertThat(updates).noneMatch(update -> update.closed() && update.interval() == 5);
+
+        // 진행 중 봉: 1분봉은 09:02, 5분봉은 09:00부터 합산
+        StockCandleUpdateDto minute = inProgress(updates, 1);
+        assertThat(minute.time()).isEqualTo(LocalTime.of(9, 2));
+        assertThat(minute.volume()).isEqualTo(1);
+        StockCandleUpdateDto fiveMinute = inProgress(updates, 5);
+        assertThat(fiveMinute.time()).isEqualTo(LocalTime.of(9, 0));
+        assertThat(fiveMinute.openPrice()).isEqualTo(99);
+        assertThat(fiveMinute.highPrice()).isEqualTo(105);
+        assertThat(fiveMinute.closePrice()).isEqualTo(103);
+        assertThat(fiveMinute.volume()).isEqualTo(17);
+    }
+
+    @Test
+    @DisplayName("확정된 봉에 늦게 도착한 틱은 무시")
+    void ignoresLateTickForSealedBar() {
+        // Given
+        intradayBarService.onTick(STOCK_CODE, TODAY, "090030", 99, 1);
+        intradayBarService.onTick(STOCK_CODE, TODAY, "090110", 100, 10);
+        intradayBarService.onTick(STOCK_CODE, TODAY, "090200", 103, 1);
+        clearInvocations(inboundPipeline);
+
+        // When: 09:01 체결이 09:02 이후 도착
+        intradayBarService.onTick(STOCK_CODE, TODAY, "090159", 120, 3);
+
+        // Then
+        verify(inboundPipeline, never()).publishCandle(any());
+    }
+
+    @Test
+    @DisplayName("5분 구간이 끝나면 5분봉 확정 메시지 전송")
+    void closesFiveMinuteBucketAtBoundary() {
+        // Given
+        intradayBarService.onTick(STOCK_CODE, TODAY, "090030", 100, 1);
+        intradayBarService.onTick(STOCK_CODE, TODAY, "090330", 110, 2);
+        intradayBarService.onTick(STOCK_CODE, TODAY, "090430", 90, 3);
+        clearInvocations(inboundPipeline);
+
+        // When
+        intradayBarService.onTick(STOCK_CODE, TODAY, "090500", 95, 1);
+
+        // Then
+        List<StockCandleUpdateDto> updates = publishedCandles();
+        StockCandleUpdateDto fiveMinute = updates.stream()
+                .filter(update -> update.closed() && update.interval() == 5)
+                .findFirst()
+                .orElseThrow();
+        assertThat(fiveMinute.time()).isEqualTo(LocalTime.of(9, 0));
+        assertThat(List.of(fiveMinute.openPrice(), fiveMinute.highPrice(), fiveMinute.lowPrice(), fiveMinute.closePrice()))
+                .containsExactly(100, 110, 90, 90);
+        assertThat(fiveMinute.volume()).isEqualTo(6);
+        assertThat(inProgress(updates, 5).time()).isEqualTo(LocalTime.of(9, 5));
+    }
+
+    @Test
+    @DisplayName("첫 수신 분은 틱을 놓쳤을 수 있으므로 다음 분부터 로컬 커버리지")
+    void coverageStartsAfterFirstMinute() {
+        // When
+        intradayBarService.onTick(STOCK_CODE, TODAY, "093015", 100, 1);
+
+        // Then
+        assertThat(intradayBarService.getCoverageStart(STOCK_CODE)).contains(LocalTime.of(9, 31));
+        assertThat(intradayBarService.getFullyCoveredBars(STOCK_CODE, 1, "1day")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("영업일이 바뀌면 이전 날 분봉을 버리고 새로 집계")
+    void resetsSeriesOnNewBusinessDate() {
+        // Given: 전날 같은 분에 체결
+        String yesterday = LocalDate.now().minusDays(1).format(DateTimeFormatter.BASIC_ISO_DATE);
+        intradayBarService.onTick(STOCK_CODE, yesterday, "090010", 200, 50);
+        clearInvocations(inboundPipeline);
+
+        // When
+        intradayBarService.onTick(STOCK_CODE, TODAY, "090010", 100, 1);
+
+        // Then
+        StockCandleUpdateDto minute = inProgress(publishedCandles(), 1);
+        assertThat(minute.date()).isEqualTo(LocalDate.now());
+        assertThat(minute.openPrice()).isEqualTo(100);
+        assertThat(minute.volume()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("장 시간 밖 체결은 집계하지 않음")
+    void ignoresTicksOutsideMarketHours() {
+        // When
+        intradayBarService.onTick(STOCK_CODE, TODAY, "083000", 100, 1);
+        intradayBarService.onTick(STOCK_CODE, TODAY, "153100", 100, 1);
+
+        // Then
+        verify(inboundPipeline, never()).publishCandle(any());
+    }
+
+    private List<StockCandleUpdateDto> publishedCandles() {
+        ArgumentCaptor<StockCandleUpdateDto> captor = ArgumentCaptor.forClass(StockCandleUpdateDto.class);
+        verify(inboundPipeline, atLeastOnce()).publishCandle(captor.capture());
+        return captor.getAllValues();
+    }
+
+    private StockCandleUpdateDto inProgress(List<StockCandleUpdateDto> updates, int interval) {
+        return updates.stream()
+                .filter(update -> !update.closed() && update.interval() == interval)
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,219 @@
+package grit.stockIt.domain.stock.service;
+
+import grit.stockIt.domain.stock.dto.StockChartDto;
+import grit.stockIt.domain.stock.entity.StockCandle;
+import grit.stockIt.domain.stock.repository.StockCandleJdbcRepository;
+import grit.stockIt.domain.stock.repository.StockCandleRepository;
+import grit.stockIt.domain.stock.service.StockCandleStore.DateRange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StockCandleStore 테스트")
+class StockCandleStoreTest {
+
+    private static final String STOCK_CODE = "005930";
+
+    @Mock
+    private StockCandleRepository stockCandleRepository;
+
+    @Mock
+    private StockCandleJdbcRepository stockCandleJdbcRepository;
+
+    private StockCandleStore stockCandleStore;
+
+    @BeforeEach
+    void setUp() {
+        stockCandleStore = new StockCandleStore(stockCandleRepository, stockCandleJdbcRepository);
+    }
+
+    // ==================== aggregateWeekly ====================
+
+    @Test
+    @DisplayName("일봉을 월~금 단위로 묶고, 기준일자는 그 주 첫 영업일")
+    void aggregatesDailyIntoWeeks() {
+        // Given: 2024-01-02(화) ~ 01-05(금), 01-08(월) ~ 01-09(화)
+        List<StockChartDto> daily = List.of(
+                daily(LocalDate.of(2024, 1, 2), 100, 110, 95, 105, 10L, -5),
+                daily(LocalDate.of(2024, 1, 3), 105, 120, 104, 118, 20L, 13),
+                daily(LocalDate.of(2024, 1, 4), 118, 119, 90, 92, 30L, -26),
+                daily(LocalDate.of(2024, 1, 5), 92, 101, 91, 100, 40L, 8),
+                daily(LocalDate.of(2024, 1, 8), 100, 130, 99, 125, 5L, 25),
+                daily(LocalDate.of(2024, 1, 9), 125, 126, 110, 115, 6L, -10)
+        );
+
+        // When
+        List<StockChartDto> weekly = StockCandleStore.aggregateWeekly(daily, "week");
+
+        // Then
+        assertThat(weekly).hasSize(2);
+
+        StockChartDto first = weekly.get(0);
+        assertThat(first.periodType()).isEqualTo("week");
+        assertThat(first.date()).isEqualTo(LocalDate.of(2024, 1, 2));
+        assertThat(List.of(first.openPrice(), first.highPrice(), first.lowPrice(), first.closePrice()))
+                .containsExactly(100, 120, 90, 100);
+        assertThat(first.volume()).isEqualTo(100L);
+        assertThat(first.amount()).isEqualTo(105L * 10 + 118L * 20 + 92L * 30 + 100L * 40);
+        // 첫 주는 첫 일봉의 전일 종가(105 - (-5) = 110) 기준
+        assertThat(first.changeAmount()).isEqualTo(-10);
+        assertThat(first.changeRate()).isEqualTo(String.format("%.2f", -10 * 100.0 / 110));
+
+        StockChartDto second = weekly.get(1);
+        assertThat(second.date()).isEqualTo(LocalDate.of(2024, 1, 8));
+        assertThat(List.of(second.openPrice(), second.highPrice(), second.lowPrice(), second.closePrice()))
+                .containsExactly(100, 130, 99, 115);
+        assertThat(second.volume()).isEqualTo(11L);
+        // 이후 주는 직전 주봉 종가 기준
+        assertThat(second.changeAmount()).isEqualTo(15);
+        assertThat(second.changeRate()).isEqualTo(String.format("%.2f", 15 * 100.0 / 100));
+    }
+
+    @Test
+    @DisplayName("일봉이 없으면 주봉도 없음")
+    void aggregatesEmptyDaily() {
+        assertThat(StockCandleStore.aggregateWeekly(List.of(), "week")).isEmpty();
+    }
+
+    // ==================== findMissingRanges ====================
+
+    @Test
+    @DisplayName("저장된 봉이 없으면 요청 구간 전체를 일봉은 120일 단위로 나눔")
+    void splitsWholeRangeWhenNothingStored() {
+        // Given
+        LocalDate from = LocalDate.of(2024, 1, 1);
+        LocalDate to = LocalDate.of(2024, 12, 31);
+        when(stockCandleRepository.findTopByStockCodeAndIntervalTypeOrderByCandleDateDesc(STOCK_CODE, StockCandleStore.DAILY))
+                .thenReturn(Optional.empty());
+
+        // When
+        List<DateRange> ranges = stockCandleStore.findMissingRanges(STOCK_CODE, StockCandleStore.DAILY, from, to);
+
+        // Then
+        assertThat(ranges).hasSize(4);
+        assertThat(ranges.get(0).from()).isEqualTo(from);
+        assertThat(ranges.get(ranges.size() - 1).to()).isEqualTo(to);
+        for (int i = 0; i < ranges.size(); i++) {
+            DateRange range = ranges.get(i);
+            assertThat(ChronoUnit.DAYS.between(range.from(), range.to()) + 1).isLessThanOrEqualTo(120);
+            if (i > 0) {
+                assertThat(range.from()).isEqualTo(ranges.get(i - 1).to().plusDays(1)); // 빈틈/겹침 없음
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("월봉은 나누지 않고 한 구간으로 조회")
+    void doesNotSplitMonthlyRange() {
+        // Given
+        LocalDate from = LocalDate.of(2015, 1, 1);
+        LocalDate to = LocalDate.of(2024, 12, 31);
+        when(stockCandleRepository.findTopByStockCodeAndIntervalTypeOrderByCandleDateDesc(STOCK_CODE, StockCandleStore.MONTHLY))
+                .thenReturn(Optional.empty());
+
+        // When & Then
+        assertThat(stockCandleStore.findMissingRanges(STOCK_CODE, StockCandleStore.MONTHLY, from, to))
+                .containsExactly(new DateRange(from, to));
+    }
+
+    @Test
+    @DisplayName("저장된 봉이 있으면 마지막 저장 봉부터 오늘까지만 조회")
+    void fetchesFromLatestStoredCandle() {
+        // Given: 요청 시작일과 가장 오래된 봉의 차이가 연휴 허용치(7일) 이내
+        LocalDate from = LocalDate.of(2024, 1, 1);
+        LocalDate to = LocalDate.of(2024, 6, 20);
+        stubStored(LocalDate.of(2024, 1, 2), LocalDate.of(2024, 6, 10));
+
+        // When
+        List<DateRange> ranges = stockCandleStore.findMissingRanges(STOCK_CODE, StockCandleStore.DAILY, from, to);
+
+        // Then
+        assertThat(ranges).containsExactly(new DateRange(LocalDate.of(2024, 6, 10), to));
+    }
+
+    @Test
+    @DisplayName("앞쪽 공백은 같은 시작일에 대해 한 번만 조회")
+    void fetchesFrontGapOnlyOnce() {
+        // Given
+        LocalDate from = LocalDate.of(2024, 1, 1);
+        LocalDate to = LocalDate.of(2024, 6, 20);
+        stubStored(LocalDate.of(2024, 3, 4), LocalDate.of(2024, 6, 20));
+
+        // When
+        List<DateRange> first = stockCandleStore.findMissingRanges(STOCK_CODE, StockCandleStore.DAILY, from, to);
+        List<DateRange> second = stockCandleStore.findMissingRanges(STOCK_CODE, StockCandleStore.DAILY, from, to);
+
+        // Then
+        assertThat(first).containsExactly(
+                new DateRange(from, LocalDate.of(2024, 3, 3)),
+                new DateRange(to, to));
+        // 상장 전처럼 원래 데이터가 없는 구간은 반복 조회하지 않음
+        assertThat(second).containsExactly(new DateRange(to, to));
+    }
+
+    @Test
+    @DisplayName("마지막 저장 봉이 요청 종료일 이후면 조회할 구간 없음")
+    void returnsNothingWhenLatestIsAfterRange() {
+        // Given
+        LocalDate from = LocalDate.of(2024, 1, 1);
+        LocalDate to = LocalDate.of(2024, 3, 31);
+        stubStored(LocalDate.of(2023, 6, 1), LocalDate.of(2024, 6, 10));
+
+        // When & Then
+        assertThat(stockCandleStore.findMissingRanges(STOCK_CODE, StockCandleStore.DAILY, from, to)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("KIS 응답이 비어 있던 종목은 TTL 동안 다시 조회하지 않음")
+    void skipsRefetchAfterEmptyResponse() {
+        // Given
+        LocalDate from = LocalDate.of(2024, 1, 1);
+        LocalDate to = LocalDate.of(2024, 3, 31);
+        when(stockCandleRepository.findTopByStockCodeAndIntervalTypeOrderByCandleDateDesc(STOCK_CODE, StockCandleStore.DAILY))
+                .thenReturn(Optional.empty());
+        assertThat(stockCandleStore.findMissingRanges(STOCK_CODE, StockCandleStore.DAILY, from, to)).isNotEmpty();
+
+        // When
+        stockCandleStore.save(STOCK_CODE, StockCandleStore.DAILY, List.of());
+
+        // Then
+        assertThat(stockCandleStore.findMissingRanges(STOCK_CODE, StockCandleStore.DAILY, from, to)).isEmpty();
+        verify(stockCandleJdbcRepository, never()).upsertAll(anyString(), anyString(), any());
+    }
+
+    private void stubStored(LocalDate earliest, LocalDate latest) {
+        when(stockCandleRepository.findTopByStockCodeAndIntervalTypeOrderByCandleDateDesc(STOCK_CODE, StockCandleStore.DAILY))
+                .thenReturn(Optional.of(candle(latest)));
+        when(stockCandleRepository.findTopByStockCodeAndIntervalTypeOrderByCandleDateAsc(STOCK_CODE, StockCandleStore.DAILY))
+                .thenReturn(Optional.of(candle(earliest)));
+    }
+
+    private static StockCandle candle(LocalDate date) {
+        return StockCandle.builder()
+                .stockCode(STOCK_CODE)
+                .intervalType(StockCandleStore.DAILY)
+                .candleDate(date)
+                .build();
+    }
+
+    private static StockChartDto daily(LocalDate date, int open, int high, int low, int close, long volume, int change) {
+        return new StockChartDto(STOCK_CODE, "day", date, null, open, high, low, close,
+                volume, close * volume, change, "0.00");
+    }
+}
@@ -0,0 +1,171 @@
+package grit.stockIt.domain.stock.service;
+
+import grit.stockIt.domain.stock.dto.StockSearchDto;
+import grit.stockIt.domain.stock.entity.Stock;
+import grit.stockIt.domain.stock.repository.StockRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StockSearchIndex 테스트")
+class StockSearchIndexTest {
+
+    private static final List<Stock> STOCKS = List.of(
+            stock("005930", "삼성전자"),
+            stock("005935", "삼성전자우"),
+            stock("006400", "삼성SDI"),
+            stock("028260", "삼성물산"),
+            stock("051910", "LG화학"),
+            stock("066570", "LG전자"),
+            stock("003550", "LG"),
+            stock("035420", "NAVER"),
+            stock("035720", "카카오"),
+            stock("323410", "카카오뱅크"),
+            stock("000660", "SK하이닉스"),
+            stock("096770", "SK이노베이션"),
+            stock("000000", "우"),
+            stock("207940", "삼성바이오로직스")
+    );
+
+    @Mock
+    private StockRepository stockRepository;
+
+    private StockSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        when(stockRepository.findAll()).thenReturn(STOCKS);
+        index = new StockSearchIndex(stockRepository);
+        index.rebuild();
+    }
+
+    @Test
+    @DisplayName("종목명 유사도는 기존 전체 비교 Jaccard 결과와 같음")
+    void nameScoresMatchLegacyJaccard() {
+        for (String query : List.of("삼성전자", "삼성", "LG 화학", "lg", "카카오", "우", "전", "SK하이닉스", "네이버", "삼성 바이오")) {
+            // Given
+            Map<String, Double> legacy = legacySearch(query);
+
+            // When
+            Map<String, Double> indexed = index.search(query).stream()
+                    .collect(Collectors.toMap(StockSearchDto::stockCode, StockSearchDto::similarity));
+
+            // Then (코드 일치가 없는 질의이므로 종목명 유사도만 비교)
+            assertThat(indexed.keySet()).as("query=%s", query).isEqualTo(legacy.keySet());
+            legacy.forEach((code, similarity) ->
+                    assertThat(indexed.get(code)).as("query=%s code=%s", query, code).isCloseTo(similarity, within(1e-12)));
+        }
+    }
+
+    @Test
+    @DisplayName("유사도 내림차순, 동률은 종목코드 순")
+    void sortsBySimilarityThenCode() {
+        // When
+        List<StockSearchDto> results = index.search("삼성");
+
+        // Then
+        for (int i = 1; i < results.size(); i++) {
+            StockSearchDto previous = results.get(i - 1);
+            StockSearchDto current = results.get(i);
+            assertThat(previous.similarity()).isGreaterThanOrEqualTo(current.similarity());
+            if (previous.similarity() == current.similarity()) {
+                assertThat(previous.stockCode()).isLessThan(current.stockCode());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("종목코드 완전 일치는 1.0, 3글자 이상 접두 일치는 (질의 길이 / 코드 길이)")
+    void scoresCodeMatches() {
+        // When
+        Map<String, Double> exact = scores(index.search("005930"));
+        Map<String, Double> prefix = scores(index.search("035"));
+
+        // Then
+        assertThat(exact.get("005930")).isEqualTo(1.0);
+        assertThat(prefix).containsOnlyKeys("035420", "035720");
+        assertThat(prefix.get("035420")).isCloseTo(3.0 / 6, within(1e-12));
+        assertThat(index.search("03")).isEmpty(); // 짧은 질의는 접두 일치 안 함
+    }
+
+    @Test
+    @DisplayName("정규화 후 빈 질의는 결과 없음")
+    void returnsEmptyForBlankQuery() {
+        assertThat(index.search("  !! ")).isEmpty();
+        assertThat(index.search(null)).isEmpty();
+    }
+
+    // ==================== 기존 구현 (전체 종목 비교) ====================
+
+    private Map<String, Double> legacySearch(String query) {
+        String normalizedQuery = StockSearchIndex.normalize(query);
+        Map<String, Double> scores = new HashMap<>();
+        for (Stock stock : STOCKS) {
+            String normalizedName = StockSearchIndex.normalize(stock.getName());
+            double similarity = normalizedQuery.length() < 2 || normalizedName.length() < 2
+                    ? legacyCharJaccard(normalizedQuery, normalizedName)
+                    : legacyGramJaccard(normalizedQuery, normalizedName);
+            if (similarity > 0d) {
+                scores.put(stock.getCode(), similarity);
+            }
+        }
+        return scores;
+    }
+
+    private static double legacyCharJaccard(String s1, String s2) {
+        Map<Character, Integer> m1 = s1.chars().boxed()
+                .collect(Collectors.toMap(c -> (char) c.intValue(), c -> 1, Integer::sum));
+        Map<Character, Integer> m2 = s2.chars().boxed()
+                .collect(Collectors.toMap(c -> (char) c.intValue(), c -> 1, Integer::sum));
+        Set<Character> union = new HashSet<>(m1.keySet());
+        union.addAll(m2.keySet());
+        double inter = 0d;
+        double uni = 0d;
+        for (Character c : union) {
+            inter += Math.min(m1.getOrDefault(c, 0), m2.getOrDefault(c, 0));
+            uni += Math.max(m1.getOrDefault(c, 0), m2.getOrDefault(c, 0));
+        }
+        return uni == 0d ? 0d : inter / uni;
+    }
+
+    private static double legacyGramJaccard(String s1, String s2) {
+        Set<String> a = grams(s1);
+        Set<String> b = grams(s2);
+        Set<String> inter = new HashSet<>(a);
+        inter.retainAll(b);
+        Set<String> uni = new HashSet<>(a);
+        uni.addAll(b);
+        return uni.isEmpty() ? 0d : (double) inter.size() / uni.size();
+    }
+
+    private static Set<String> grams(String s) {
+        Set<String> out = new HashSet<>();
+        for (int i = 0; i + 2 <= s.length(); i++) {
+            out.add(s.substring(i, i + 2));
+        }
+        return out;
+    }
+
+    private static Map<String, Double> scores(List<StockSearchDto> results) {
+        return results.stream().collect(Collectors.toMap(StockSearchDto::stockCode, StockSearchDto::similarity));
+    }
+
+    private static Stock stock(String code, String name) {
+        return Stock.builder().code(code).name(name).marketType("KOSPI").build();
+    }
+}
@@ -0,0 +1,113 @@
+package grit.stockIt.global.kis;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("KisApiGateway 우선순위 테스트")
+class KisApiGatewayTest {
+
+    private static final long AWAIT_SECONDS = 5;
+
+    private SimpleMeterRegistry meterRegistry;
+    private KisApiGateway gateway;
+
+    // KIS 호출이 실제로 실행된 순서 (토큰을 얻은 순서)
+    private final List<String> calls = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        gateway = new KisApiGateway(meterRegistry);
+        // 토큰 1개로 시작, 250ms마다 1개 → 첫 호출 뒤 요청은 모두 대기열로
+        ReflectionTestUtils.setField(gateway, "permitsPerSecond", 4.0);
+        ReflectionTestUtils.setField(gateway, "burst", 1);
+        ReflectionTestUtils.setField(gateway, "maxWaitMs", 10_000L);
+        gateway.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        gateway.stop();
+    }
+
+    @Test
+    @DisplayName("토큰이 부족하면 ORDER > INTERACTIVE > BACKGROUND 순으로 실행")
+    void dispatchesHigherPriorityFirst() throws InterruptedException {
+        // Given: 첫 호출이 토큰을 모두 사용
+        CountDownLatch done = new CountDownLatch(4);
+        subscribe("first", null, KisPriority.INTERACTIVE, done);
+
+        // When: 낮은 우선순위부터 대기열에 들어감
+        subscribe("background", null, KisPriority.BACKGROUND, done);
+        subscribe("interactive", null, KisPriority.INTERACTIVE, done);
+        subscribe("order", null, KisPriority.ORDER, done);
+
+        // Then
+        assertThat(done.await(AWAIT_SECONDS, TimeUnit.SECONDS)).isTrue();
+        assertThat(calls).containsExactly("first", "order", "interactive", "background");
+    }
+
+    @Test
+    @DisplayName("같은 레인에서는 먼저 들어온 요청부터 실행")
+    void keepsFifoWithinLane() throws InterruptedException {
+        // Given
+        CountDownLatch done = new CountDownLatch(4);
+        subscribe("first", null, KisPriority.BACKGROUND, done);
+
+        // When
+        subscribe("background-1", null, KisPriority.BACKGROUND, done);
+        subscribe("background-2", null, KisPriority.BACKGROUND, done);
+        subscribe("background-3", null, KisPriority.BACKGROUND, done);
+
+        // Then
+        assertThat(done.await(AWAIT_SECONDS, TimeUnit.SECONDS)).isTrue();
+        assertThat(calls).containsExactly("first", "background-1", "background-2", "background-3");
+    }
+
+    @Test
+    @DisplayName("대기 중인 호출에 높은 우선순위 요청이 합류하면 높은 레인으로 옮겨 먼저 실행")
+    void promotesCoalescedCallToJoinerPriority() throws InterruptedException {
+        // Given
+        CountDownLatch done = new CountDownLatch(4);
+        subscribe("first", null, KisPriority.INTERACTIVE, done);
+        subscribe("shared", "005930", KisPriority.BACKGROUND, done);
+        subscribe("interactive", null, KisPriority.INTERACTIVE, done);
+
+        // When: ORDER 요청이 대기 중인 BACKGROUND 호출에 합류
+        subscribe("shared", "005930", KisPriority.ORDER, done);
+
+        // Then: 공유 호출은 한 번만 실행되고, 나중에 들어온 INTERACTIVE보다 먼저 실행됨
+        assertThat(done.await(AWAIT_SECONDS, TimeUnit.SECONDS)).isTrue();
+        assertThat(calls).containsExactly("first", "shared", "interactive");
+        assertThat(meterRegistry.counter(KisApiGateway.COALESCED_COUNTER, "endpoint", "test").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Context에 우선순위가 없으면 INTERACTIVE")
+    void defaultsToInteractive() {
+        assertThat(KisApiGateway.priorityOf(Context.empty())).isEqualTo(KisPriority.INTERACTIVE);
+        assertThat(KisApiGateway.priorityOf(KisApiGateway.withPriority(KisPriority.ORDER))).isEqualTo(KisPriority.ORDER);
+    }
+
+    private void subscribe(String name, String requestKey, KisPriority priority, CountDownLatch done) {
+        gateway.execute("test", requestKey, () -> {
+                    calls.add(name);
+                    return Mono.just(name);
+                })
+                .contextWrite(KisApiGateway.withPriority(priority))
+                .subscribe(result -> done.countDown());
+    }
+}
@@ -0,0 +1,244 @@
+package grit.stockIt.global.websocket.pipeline;
+
+import grit.stockIt.domain.matching.event.LimitOrderFillEventMessage;
+import grit.stockIt.domain.order.entity.OrderMethod;
+import grit.stockIt.domain.stock.dto.StockCandleUpdateDto;
+import grit.stockIt.domain.stock.dto.StockPriceUpdateDto;
+import grit.stockIt.global.metrics.TickLatencyMetrics;
+import grit.stockIt.global.websocket.relay.MarketDataBroadcaster;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("KisInboundPipeline 테스트")
+class KisInboundPipelineTest {
+
+    private static final String STOCK_CODE = "005930";
+    private static final String BLOCKING_STOCK_CODE = "000660";
+    private static final long VERIFY_TIMEOUT_MILLIS = 2_000;
+
+    @Mock
+    private MarketDataBroadcaster marketDataBroadcaster;
+
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    @Mock
+    private TickLatencyMetrics tickLatencyMetrics;
+
+    private SimpleMeterRegistry meterRegistry;
+    private KisInboundPipeline pipeline;
+
+    // 워커가 첫 메시지를 처리하는 동안 붙잡아 두고, 그 사이 쌓인 메시지가 어떻게 처리되는지 확인
+    private final CountDownLatch workerBlocked = new CountDownLatch(1);
+    private final CountDownLatch releaseWorker = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        pipeline = new KisInboundPipeline(marketDataBroadcaster, applicationEventPublisher, meterRegistry, tickLatencyMetrics);
+        ReflectionTestUtils.setField(pipeline, "matchPartitions", 1);
+        ReflectionTestUtils.setField(pipeline, "matchQueueCapacity", 2);
+        ReflectionTestUtils.setField(pipeline, "matchOverflowAlertThreshold", 3);
+        pipeline.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseWorker.countDown();
+        pipeline.stop();
+    }
+
+    @Test
+    @DisplayName("밀린 시세는 종목별 최신 값 하나만 전송")
+    void conflatesPendingPrices() throws InterruptedException {
+        // Given
+        blockBroadcastWorker();
+
+        // When
+        pipeline.publishPrice(price(STOCK_CODE, 70_000));
+        pipeline.publishPrice(price(STOCK_CODE, 70_100));
+        pipeline.publishPrice(price(STOCK_CODE, 70_200));
+        releaseWorker.countDown();
+
+        // Then
+        ArgumentCaptor<StockPriceUpdateDto> captor = ArgumentCaptor.forClass(StockPriceUpdateDto.class);
+        verify(marketDataBroadcaster, timeout(VERIFY_TIMEOUT_MILLIS).times(2)).sendPrice(captor.capture());
+        StockPriceUpdateDto sent = captor.getAllValues().get(1);
+        assertThat(sent.stockCode()).isEqualTo(STOCK_CODE);
+        assertThat(sent.currentPrice()).isEqualTo(70_200);
+        assertThat(meterRegistry.counter("kis.pipeline.conflated", "stage", "broadcast").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("전송 시 broadcast 큐 대기와 수신 → 전송 완료 지연을 기록 (덮어쓴 경우 최신 값의 수신 시각 기준)")
+    void recordsQueueWaitAndEndToEndLatency() throws InterruptedException {
+        // Given
+        blockBroadcastWorker();
+        long firstReceivedNanos = System.nanoTime();
+        long latestReceivedNanos = firstReceivedNanos + 1_000;
+
+        // When
+        pipeline.publishPrice(price(STOCK_CODE, 70_000), firstReceivedNanos);
+        pipeline.publishPrice(price(STOCK_CODE, 70_100), latestReceivedNanos);
+        releaseWorker.countDown();
+
+        // Then
+        verify(tickLatencyMetrics, timeout(VERIFY_TIMEOUT_MILLIS))
+                .recordSince(TickLatencyMetrics.KIS_END_TO_END, STOCK_CODE, latestReceivedNanos);
+        verify(tickLatencyMetrics, timeout(VERIFY_TIMEOUT_MILLIS))
+                .recordNanos(eq(TickLatencyMetrics.KIS_BROADCAST_QUEUE_WAIT), eq(STOCK_CODE), anyLong());
+        verify(tickLatencyMetrics, timeout(VERIFY_TIMEOUT_MILLIS))
+                .recordSince(eq(TickLatencyMetrics.KIS_STOMP_SEND), eq(STOCK_CODE), anyLong());
+    }
+
+    @Test
+    @DisplayName("확정 분봉은 같은 봉의 진행 값을 대체하고, 다음 봉 진행 값보다 먼저 전송")
+    void sendsClosedCandleBeforeNextInProgressCandle() throws InterruptedException {
+        // Given
+        blockBroadcastWorker();
+
+        // When
+        pipeline.publishCandle(candle(LocalTime.of(9, 1), 100, false));
+        pipeline.publishCandle(candle(LocalTime.of(9, 1), 101, false));
+        pipeline.publishCandle(candle(LocalTime.of(9, 1), 102, true));
+        pipeline.publishCandle(candle(LocalTime.of(9, 2), 103, false));
+        releaseWorker.countDown();
+
+        // Then
+        ArgumentCaptor<StockCandleUpdateDto> captor = ArgumentCaptor.forClass(StockCandleUpdateDto.class);
+        verify(marketDataBroadcaster, timeout(VERIFY_TIMEOUT_MILLIS).times(2)).sendCandle(captor.capture());
+        List<StockCandleUpdateDto> sent = captor.getAllValues();
+        assertThat(sent.get(0).closed()).isTrue();
+        assertThat(sent.get(0).time()).isEqualTo(LocalTime.of(9, 1));
+        assertThat(sent.get(0).closePrice()).isEqualTo(102);
+        assertThat(sent.get(1).closed()).isFalse();
+        assertThat(sent.get(1).time()).isEqualTo(LocalTime.of(9, 2));
+    }
+
+    @Test
+    @DisplayName("확정 분봉은 밀려도 버리지 않음")
+    void neverDropsClosedCandles() throws InterruptedException {
+        // Given
+        blockBroadcastWorker();
+
+        // When
+        pipeline.publishCandle(candle(LocalTime.of(9, 1), 100, true));
+        pipeline.publishCandle(candle(LocalTime.of(9, 2), 101, true));
+        pipeline.publishCandle(candle(LocalTime.of(9, 3), 102, true));
+        releaseWorker.countDown();
+
+        // Then
+        ArgumentCaptor<StockCandleUpdateDto> captor = ArgumentCaptor.forClass(StockCandleUpdateDto.class);
+        verify(marketDataBroadcaster, timeout(VERIFY_TIMEOUT_MILLIS).times(3)).sendCandle(captor.capture());
+        assertThat(captor.getAllValues())
+                .extracting(StockCandleUpdateDto::time)
+                .containsExactly(LocalTime.of(9, 1), LocalTime.of(9, 2), LocalTime.of(9, 3));
+    }
+
+    @Test
+    @DisplayName("체결 이벤트는 큐가 넘쳐 overflow로 가도 수신 순서대로 모두 매칭 단계에 전달")
+    void keepsFillOrderAcrossOverflow() throws InterruptedException {
+        // Given: 첫 이벤트 처리 중 매칭 워커를 붙잡아 둠
+        doAnswer(invocation -> {
+            workerBlocked.countDown();
+            releaseWorker.await(VERIFY_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            return null;
+        }).when(applicationEventPublisher).publishEvent(any(Object.class));
+        pipeline.publishFill(fill(0));
+        assertThat(workerBlocked.await(VERIFY_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)).isTrue();
+
+        // When: main 큐(용량 2)를 넘겨 overflow까지 쌓음
+        for (int i = 1; i <= 6; i++) {
+            pipeline.publishFill(fill(i));
+        }
+        releaseWorker.countDown();
+
+        // Then
+        ArgumentCaptor<LimitOrderFillEventMessage> captor = ArgumentCaptor.forClass(LimitOrderFillEventMessage.class);
+        verify(applicationEventPublisher, timeout(VERIFY_TIMEOUT_MILLIS).times(7)).publishEvent(captor.capture());
+        assertThat(captor.getAllValues())
+                .extracting(LimitOrderFillEventMessage::eventId)
+                .containsExactlyElementsOf(IntStream.rangeClosed(0, 6).mapToObj(i -> "event-" + i).toList());
+        assertThat(meterRegistry.counter("kis.pipeline.overflow", "stage", "match").count()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("overflow가 경고 기준을 넘어도 수신 스레드는 대기하지 않고, 체결 이벤트는 모두 전달")
+    void neverBlocksOrDropsFillsBeyondAlertThreshold() throws InterruptedException {
+        // Given
+        doAnswer(invocation -> {
+            workerBlocked.countDown();
+            releaseWorker.await(VERIFY_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            return null;
+        }).when(applicationEventPublisher).publishEvent(any(Object.class));
+        pipeline.publishFill(fill(0));
+        assertThat(workerBlocked.await(VERIFY_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)).isTrue();
+
+        // When: main 큐 2건 + overflow 18건 (경고 기준 3의 배수마다 알림)
+        for (int i = 1; i <= 20; i++) {
+            pipeline.publishFill(fill(i));
+        }
+        releaseWorker.countDown();
+
+        // Then
+        ArgumentCaptor<LimitOrderFillEventMessage> captor = ArgumentCaptor.forClass(LimitOrderFillEventMessage.class);
+        verify(applicationEventPublisher, timeout(VERIFY_TIMEOUT_MILLIS).times(21)).publishEvent(captor.capture());
+        assertThat(captor.getAllValues())
+                .extracting(LimitOrderFillEventMessage::eventId)
+                .containsExactlyElementsOf(IntStream.rangeClosed(0, 20).mapToObj(i -> "event-" + i).toList());
+        assertThat(meterRegistry.counter("kis.pipeline.overflow", "stage", "match").count()).isEqualTo(18);
+        assertThat(meterRegistry.counter("kis.pipeline.overflow.alert", "stage", "match").count()).isEqualTo(6);
+    }
+
+    // 다른 종목 시세 전송에서 broadcast 워커를 멈춰 둠
+    private void blockBroadcastWorker() throws InterruptedException {
+        doAnswer(invocation -> {
+            workerBlocked.countDown();
+            releaseWorker.await(VERIFY_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            return null;
+        }).when(marketDataBroadcaster).sendPrice(any());
+        pipeline.publishPrice(price(BLOCKING_STOCK_CODE, 200_000));
+        assertThat(workerBlocked.await(VERIFY_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)).isTrue();
+    }
+
+    private static StockPriceUpdateDto price(String stockCode, int currentPrice) {
+        return new StockPriceUpdateDto(stockCode, "종목", currentPrice, 0, "0.00", null, 1L, LocalDateTime.now());
+    }
+
+    private static StockCandleUpdateDto candle(LocalTime time, int closePrice, boolean closed) {
+        return new StockCandleUpdateDto(STOCK_CODE, 1, LocalDate.now(), time,
+                closePrice, closePrice, closePrice, closePrice, 1L, closePrice, closed);
+    }
+
+    private static LimitOrderFillEventMessage fill(int sequence) {
+        return new LimitOrderFillEventMessage(STOCK_CODE, "event-" + sequence, OrderMethod.BUY,
+                BigDecimal.valueOf(70_000), 1, sequence);
+    }
+}